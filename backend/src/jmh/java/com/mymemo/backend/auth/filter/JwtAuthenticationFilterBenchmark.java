@@ -0,0 +1,72 @@
+package com.mymemo.backend.auth.filter;
+
+import com.mymemo.backend.auth.service.TokenBlacklist;
+import com.mymemo.backend.auth.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증이 필요한 모든 요청이 거치는 JwtAuthenticationFilter 비용
+ *
+ * - Redis 없이 실행할 수 있도록 블랙리스트 SCAN 은 빈 결과를 돌려주는 템플릿을 사용한다.
+ *   (Bloom filter 가 "블랙리스트 아님"으로 판정하는 일반적인 경로를 측정)
+ * - 요청/응답 객체는 재사용하고, 호출마다 SecurityContext 를 비운다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtAuthenticationFilterBenchmark  (gc 프로파일러로 요청당 할당량 확인)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {};
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET, 60 * 60 * 1000L, 10_000);
+        TokenBlacklist tokenBlacklist = new TokenBlacklist(new EmptyRedisTemplate(), 100_000, 0.001);
+        tokenBlacklist.rebuild();       // 빈 블랙리스트로 필터 준비 완료 상태
+
+        filter = new JwtAuthenticationFilter(jwtUtil, tokenBlacklist);
+        request = new MockHttpServletRequest("GET", "/api/memos");
+        request.addHeader("Authorization", "Bearer " + jwtUtil.createAccessToken(1L, "bench@example.com"));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+
+    // SCAN 결과가 비어 있는 Redis 템플릿 (연결 없이 동작)
+    static class EmptyRedisTemplate extends StringRedisTemplate {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T execute(RedisCallback<T> action) {
+            return (T) List.of();
+        }
+    }
+}
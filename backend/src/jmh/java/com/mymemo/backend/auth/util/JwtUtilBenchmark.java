@@ -0,0 +1,83 @@
+package com.mymemo.backend.auth.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터 한 번에 해당하는 JWT 검증 비용 비교
+ *
+ * - legacyFilter: 기존 방식. 호출마다 parserBuilder 를 새로 만들고 isTokenValid + getEmailFromToken 으로 두 번 검증
+ * - verifyUncached: 파서를 재사용하고 한 번만 검증 (캐시 비활성화, max-size = 0)
+ * - verifyCached: 검증 결과 캐시 적중 (다이제스트 계산 + 맵 조회만 수행)
+ * - createAccessToken / isTokenValid / getEmailFromToken: 로그인, 재발급, 인증 필터에서 호출되는 공개 메서드
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtUtilBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+    private static final long VALIDITY_MS = 60 * 60 * 1000L;
+
+    private Key key;
+    private JwtUtil cachedJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        cachedJwtUtil = new JwtUtil(SECRET, VALIDITY_MS, 10_000);
+        uncachedJwtUtil = new JwtUtil(SECRET, VALIDITY_MS, 0);
+        token = cachedJwtUtil.createAccessToken(1L, "bench@example.com");
+        cachedJwtUtil.verify(token);    // 캐시 적재
+    }
+
+    @Benchmark
+    public String legacyFilter() {
+        // isTokenValid
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        // getEmailFromToken
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public TokenClaims verifyUncached() {
+        return uncachedJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public TokenClaims verifyCached() {
+        return cachedJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return cachedJwtUtil.createAccessToken(1L, "bench@example.com");
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return cachedJwtUtil.isTokenValid(token);
+    }
+
+    @Benchmark
+    public String getEmailFromToken() {
+        return cachedJwtUtil.getEmailFromToken(token);
+    }
+}
@@ -0,0 +1,88 @@
+package com.mymemo.backend.memo;
+
+import com.mymemo.backend.entity.Memo;
+import com.mymemo.backend.entity.User;
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+import com.mymemo.backend.memo.dto.MemoListResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모 요청마다 실행되는 엔티티/DTO 코드 비용
+ *
+ * - listItemFrom: MemoListResponseDto.from (엔티티 -> 목록 DTO)
+ * - previewOf: 목록 미리보기 생성 (contentLength 로 100자 이하/초과 비교)
+ * - updateUnchanged / updateChanged: Memo.update 의 변경 감지 (같은 값으로 수정 vs 내용 변경)
+ * - categoryFrom / visibilityFrom: 요청 JSON 의 enum 문자열 변환 (정상 값 / 잘못된 값)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=MemoDtoBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MemoDtoBenchmark {
+
+    @Param({"50", "2000"})
+    public int contentLength;
+
+    private Memo memo;
+    private String content;
+    private String otherContent;
+    private boolean toggle;
+
+    @Setup
+    public void setUp() {
+        User user = new User("{noop}bench", "bench", "bench@example.com", LocalDate.of(2000, 1, 1));
+        content = "가".repeat(contentLength);
+        otherContent = "나".repeat(contentLength);
+        memo = new Memo(user, "bench title", content, MemoCategory.WORK, Visibility.PRIVATE, false, false, 0);
+    }
+
+    @Benchmark
+    public MemoListResponseDto listItemFrom() {
+        return MemoListResponseDto.from(memo);
+    }
+
+    @Benchmark
+    public String previewOf() {
+        return Memo.previewOf(content);
+    }
+
+    @Benchmark
+    public Memo updateUnchanged() {
+        memo.update("bench title", content, MemoCategory.WORK, Visibility.PRIVATE, false);
+        return memo;
+    }
+
+    @Benchmark
+    public Memo updateChanged() {
+        toggle = !toggle;
+        memo.update("bench title", toggle ? otherContent : content, MemoCategory.WORK, Visibility.PRIVATE, false);
+        return memo;
+    }
+
+    @Benchmark
+    public MemoCategory categoryFrom() {
+        return MemoCategory.from("work");
+    }
+
+    @Benchmark
+    public MemoCategory categoryFromInvalid() {
+        return MemoCategory.from("unknown");     // valueOf 실패 -> 예외 생성 비용 포함
+    }
+
+    @Benchmark
+    public Visibility visibilityFrom() {
+        return Visibility.from("private");
+    }
+}
@@ -0,0 +1,154 @@
+package com.mymemo.backend.memo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모 INSERT 처리량 비교: createMemo N번 vs POST /api/memos/bulk 1번
+ *
+ * Hibernate 가 실제로 보내는 SQL 패턴을 JDBC 로 재현한다.
+ * - singleCreates: IDENTITY + 요청마다 트랜잭션 (INSERT 1건 + 생성 키 조회 + COMMIT 을 N번)
+ * - bulkCreate: pooled id (id 를 미리 할당) + 한 트랜잭션 안에서 batch_size 단위 배치 (rewriteBatchedStatements)
+ *
+ * 결과는 메모 1건당 시간이다. (OperationsPerInvocation = rows)
+ *
+ * 실행 (MySQL 필요, 스키마는 애플리케이션이 만든 memo 테이블 사용):
+ *   ./gradlew jmh -Pjmh.includes=MemoInsertBenchmark \
+ *       -Pjmh.jdbc.url=jdbc:mysql://localhost:3306/mymemo -Pjmh.jdbc.user=root -Pjmh.jdbc.password=...
+ * 비교 대상: 같은 rewriteBatchedStatements 값에서 singleCreates 와 bulkCreate 의 메모 1건당 시간.
+ * (아직 기록된 실행 결과가 없다 - 차이의 크기는 실행해서 확인한다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemoInsertBenchmark {
+
+    private static final int ROWS = 500;
+    private static final int BATCH_SIZE = 100;      // hibernate.jdbc.batch_size
+
+    private static final String INSERT_SQL =
+            "INSERT INTO memo (id, user_id, title, content, preview, is_pinned, is_deleted, visibility, category, " +
+            "pin_order, created_at, updated_at, uuid) VALUES (?, ?, ?, ?, ?, 0, 0, 2, 7, 0, ?, ?, ?)";
+    private static final String INSERT_IDENTITY_SQL =
+            "INSERT INTO bench_memo_identity (user_id, title, content, preview, is_pinned, is_deleted, visibility, category, " +
+            "pin_order, created_at, updated_at, uuid) VALUES (?, ?, ?, ?, 0, 0, 2, 7, 0, ?, ?, ?)";
+
+    @Param({"false", "true"})
+    public boolean rewriteBatchedStatements;
+
+    private Connection connection;
+    private long userId;
+    private long nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("jmh.jdbc.url", "jdbc:mysql://localhost:3306/mymemo");
+        connection = DriverManager.getConnection(
+                url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=" + rewriteBatchedStatements,
+                System.getProperty("jmh.jdbc.user", "root"),
+                System.getProperty("jmh.jdbc.password", ""));
+
+        try (Statement statement = connection.createStatement()) {
+            // IDENTITY 비교용 테이블 (memo 와 같은 구조 + AUTO_INCREMENT)
+            statement.execute("CREATE TABLE IF NOT EXISTS bench_memo_identity LIKE memo");
+            statement.execute("ALTER TABLE bench_memo_identity MODIFY COLUMN id BIGINT NOT NULL AUTO_INCREMENT");
+            statement.execute("INSERT INTO users (password, nickname, email, birth_date, created_at) " +
+                    "VALUES ('{noop}bench', 'bench', CONCAT('bench-insert-', UUID(), '@example.com'), '2000-01-01', NOW(6))");
+            try (var rs = statement.executeQuery("SELECT LAST_INSERT_ID()")) {
+                rs.next();
+                userId = rs.getLong(1);
+            }
+            try (var rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1000000 FROM memo")) {
+                rs.next();
+                nextId = rs.getLong(1);     // 실제 id 생성기 범위와 겹치지 않는 영역
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.execute("DELETE FROM memo WHERE user_id = " + userId);
+            statement.execute("DROP TABLE IF EXISTS bench_memo_identity");
+            statement.execute("DELETE FROM users WHERE id = " + userId);
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void singleCreates() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_IDENTITY_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                insert.setLong(1, userId);
+                insert.setString(2, "bench memo " + i);
+                insert.setString(3, "lorem ipsum");
+                insert.setString(4, "lorem ipsum");
+                insert.setTimestamp(5, now);
+                insert.setTimestamp(6, now);
+                insert.setBytes(7, uuidBytes());
+                insert.executeUpdate();
+                try (var keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                }
+                connection.commit();        // createMemo 호출마다 트랜잭션 1개
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void bulkCreate() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < ROWS; i++) {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                insert.setLong(1, nextId++);
+                insert.setLong(2, userId);
+                insert.setString(3, "bench memo " + i);
+                insert.setString(4, "lorem ipsum");
+                insert.setString(5, "lorem ipsum");
+                insert.setTimestamp(6, now);
+                insert.setTimestamp(7, now);
+                insert.setBytes(8, uuidBytes());
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();        // 요청 전체가 트랜잭션 1개
+        }
+    }
+
+    private static byte[] uuidBytes() {
+        UUID uuid = UUID.randomUUID();
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
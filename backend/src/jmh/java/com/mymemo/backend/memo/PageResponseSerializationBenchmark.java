@@ -0,0 +1,60 @@
+package com.mymemo.backend.memo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+import com.mymemo.backend.memo.dto.MemoListResponseDto;
+import com.mymemo.backend.memo.dto.PageResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답(PageResponseDto<MemoListResponseDto>) JSON 직렬화 비용
+ *
+ * Spring MVC 와 같은 방식(Jackson2ObjectMapperBuilder)으로 만든 ObjectMapper 를 사용한다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=PageResponseSerializationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageResponseSerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PageResponseDto<MemoListResponseDto> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<MemoListResponseDto> content = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            content.add(new MemoListResponseDto((long) i, "bench memo " + i, MemoCategory.WORK, Visibility.PRIVATE,
+                    i % 10 == 0, 0, UUID.randomUUID().toString(), now.minusDays(i), now.minusHours(i),
+                    "미리보기 ".repeat(20)));
+        }
+        page = new PageResponseDto<>(content, 0, pageSize, 10_000, 10_000 / pageSize, false);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
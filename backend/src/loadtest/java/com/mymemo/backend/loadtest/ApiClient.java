@@ -0,0 +1,88 @@
+package com.mymemo.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 부하 테스트용 HTTP 클라이언트 (java.net.http, JSON 요청/응답)
+ */
+public class ApiClient {
+
+    public record Response(int status, JsonNode body) {
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+    }
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    public ApiClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public Response get(String path, String accessToken) {
+        return send("GET", path, null, accessToken);
+    }
+
+    public Response post(String path, Object body, String accessToken) {
+        return send("POST", path, body, accessToken);
+    }
+
+    public Response put(String path, Object body, String accessToken) {
+        return send("PUT", path, body, accessToken);
+    }
+
+    public Response delete(String path, String accessToken) {
+        return send("DELETE", path, null, accessToken);
+    }
+
+    private Response send(String method, String path, Object body, String accessToken) {
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Accept", "application/json");
+            if (accessToken != null) {
+                request.header("Authorization", "Bearer " + accessToken);
+            }
+            if (body != null) {
+                request.header("Content-Type", "application/json");
+                request.method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            } else {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            }
+
+            HttpResponse<byte[]> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            JsonNode json = response.body().length == 0 ? null : readJson(response.body());
+            return new Response(response.statusCode(), json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonNode readJson(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return null;        // JSON 이 아닌 응답 (예: 로그아웃 메시지 문자열)
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.mymemo.backend.loadtest;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+
+/**
+ * SQL 문을 준비하거나 커밋할 때마다 일정 시간 대기하는 DataSource (인메모리 H2 를 원격 DB 처럼 보이게 한다)
+ *
+ * 대기하는 동안 커넥션을 쥐고 있으므로 실제 네트워크 왕복과 같이 풀 점유 시간이 늘어난다.
+ */
+public class LatencyInjectingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> ROUND_TRIPS = Set.of("prepareStatement", "createStatement", "prepareCall", "commit");
+
+    private final long latencyMs;
+
+    public LatencyInjectingDataSource(DataSource target, long latencyMs) {
+        super(target);
+        this.latencyMs = latencyMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return delayed(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return delayed(super.getConnection(username, password));
+    }
+
+    private Connection delayed(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals" -> {
+                            return proxy == args[0];
+                        }
+                        case "hashCode" -> {
+                            return System.identityHashCode(proxy);
+                        }
+                        default -> {
+                            if (ROUND_TRIPS.contains(method.getName())) {
+                                Thread.sleep(latencyMs);
+                            }
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                        }
+                    }
+                });
+    }
+}
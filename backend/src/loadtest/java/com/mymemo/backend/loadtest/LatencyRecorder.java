@@ -0,0 +1,70 @@
+package com.mymemo.backend.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업별 지연 시간(HdrHistogram, 마이크로초)과 오류 수 집계
+ *
+ * Recorder 는 여러 스레드가 락 없이 기록할 수 있고, reset() 으로 워밍업 구간을 버린 뒤 측정 구간만 꺼낼 수 있다.
+ */
+public class LatencyRecorder {
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public void record(Operation operation, long elapsedNanos, boolean success) {
+        recorders.get(operation).recordValue(Math.max(1, elapsedNanos / 1000));
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    // 워밍업 결과 버리기
+    public void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    public void report(PrintStream out, double seconds) {
+        out.printf("%-30s %9s %10s %9s %9s %9s %9s %7s%n",
+                "endpoint", "requests", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "errors");
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = recorders.get(operation).getIntervalHistogram();
+            long errorCount = errors.get(operation).sum();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(histogram);
+            totalErrors += errorCount;
+            print(out, operation.getEndpoint(), histogram, errorCount, seconds);
+        }
+        print(out, "TOTAL", total, totalErrors, seconds);
+    }
+
+    private static void print(PrintStream out, String name, Histogram histogram, long errorCount, double seconds) {
+        out.printf("%-30s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                name,
+                histogram.getTotalCount(),
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0,
+                errorCount);
+    }
+}
@@ -0,0 +1,82 @@
+package com.mymemo.backend.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (--key=value 인자, Gradle 에서는 -Ploadtest.key=value)
+ *
+ * @param concurrency 동시 가상 사용자 수 (가상 사용자마다 계정 하나)
+ * @param memosPerUser 시작 전 계정마다 만들어 둘 메모 수
+ * @param warmupSeconds 측정 전 워밍업 시간 (결과에서 제외)
+ * @param durationSeconds 측정 시간
+ * @param thinkMinMs 요청 사이 대기 시간 최솟값
+ * @param thinkMaxMs 요청 사이 대기 시간 최댓값
+ * @param publicRatio 미리 만드는 메모 중 공개 메모 비율 (공개 uuid 조회 대상)
+ * @param mix 작업별 가중치 (예: list=30,search=10,...)
+ * @param virtualThreads 애플리케이션을 가상 스레드 모드로 실행할지 (spring.threads.virtual.enabled)
+ * @param dbPoolSize Hikari 최대 풀 크기
+ * @param dbLatencyMs SQL 문마다 추가할 지연 시간 (원격 DB 왕복 시간 흉내, 0 이면 없음)
+ */
+public record LoadTestConfig(
+        int concurrency,
+        int memosPerUser,
+        int warmupSeconds,
+        int durationSeconds,
+        int thinkMinMs,
+        int thinkMaxMs,
+        double publicRatio,
+        Map<Operation, Integer> mix,
+        boolean virtualThreads,
+        int dbPoolSize,
+        int dbLatencyMs
+) {
+
+    static final String DEFAULT_MIX =
+            "list=25,cursor=10,search=10,detail=15,public=15,create=8,update=8,delete=4,login=3,reissue=2";
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return new LoadTestConfig(
+                Integer.parseInt(options.getOrDefault("concurrency", "32")),
+                Integer.parseInt(options.getOrDefault("memos-per-user", "200")),
+                Integer.parseInt(options.getOrDefault("warmup-seconds", "10")),
+                Integer.parseInt(options.getOrDefault("duration-seconds", "30")),
+                Integer.parseInt(options.getOrDefault("think-min-ms", "0")),
+                Integer.parseInt(options.getOrDefault("think-max-ms", "0")),
+                Double.parseDouble(options.getOrDefault("public-ratio", "0.3")),
+                parseMix(options.getOrDefault("mix", DEFAULT_MIX)),
+                Boolean.parseBoolean(options.getOrDefault("virtual-threads", "false")),
+                Integer.parseInt(options.getOrDefault("db-pool-size", "10")),
+                Integer.parseInt(options.getOrDefault("db-latency-ms", "0"))
+        );
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.fromKey(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("mix must contain at least one operation");
+        }
+        return mix;
+    }
+
+    @Override
+    public String toString() {
+        return "concurrency=" + concurrency + ", memosPerUser=" + memosPerUser +
+                ", warmup=" + warmupSeconds + "s, duration=" + durationSeconds + "s" +
+                ", think=" + thinkMinMs + "~" + thinkMaxMs + "ms, mix=" + mix +
+                ", virtualThreads=" + virtualThreads + ", dbPoolSize=" + dbPoolSize + ", dbLatency=" + dbLatencyMs + "ms";
+    }
+}
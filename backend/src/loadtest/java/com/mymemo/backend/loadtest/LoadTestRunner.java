@@ -0,0 +1,146 @@
+package com.mymemo.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mymemo.backend.BackendApplication;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 전체 Spring 컨텍스트를 띄워 실행하는 부하 테스트
+ *
+ * - DB: H2 인메모리 (MySQL 모드), Redis: 인프로세스 RESP 서버 (RespServer) - 외부 의존성 없이 같은 조건으로 반복 실행 가능
+ * - 가상 사용자(concurrency)마다 계정을 만들고 메모를 일괄 생성한 뒤, 워밍업 -> 측정 순서로 작업을 섞어 실행한다.
+ * - 작업(엔드포인트)별 처리량과 p50/p99/p999 지연 시간을 출력하고 build/reports/loadtest 에 저장한다.
+ *
+ * 실행: ./gradlew loadTest -Ploadtest.concurrency=64 -Ploadtest.duration-seconds=60
+ * (설정 항목은 LoadTestConfig 참고, 플랫폼/가상 스레드 비교는 docs/benchmarks/virtual-threads.md)
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        System.out.println("[loadtest] " + config);
+
+        try (RespServer redis = RedisScripts.register(new RespServer()).start()) {
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                    .initializers(applicationContext -> injectDbLatency(applicationContext, config.dbLatencyMs()))
+                    .run(applicationArgs(config, redis.getPort()));
+            try {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                ApiClient client = new ApiClient("http://127.0.0.1:" + port, context.getBean(ObjectMapper.class));
+                String report = run(config, client);
+
+                System.out.println(report);
+                Path file = Path.of("build", "reports", "loadtest",
+                        "loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".txt");
+                Files.createDirectories(file.getParent());
+                Files.writeString(file, config + System.lineSeparator() + report);
+                System.out.println("[loadtest] report: " + file.toAbsolutePath());
+            } finally {
+                context.close();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static String[] applicationArgs(LoadTestConfig config, int redisPort) {
+        return new String[]{
+                "--spring.threads.virtual.enabled=" + config.virtualThreads(),
+                "--spring.datasource.hikari.maximum-pool-size=" + config.dbPoolSize(),
+                "--spring.profiles.active=dev",     // dev 보안 설정 재사용
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.show-sql=false",
+                "--spring.data.redis.host=127.0.0.1",
+                "--spring.data.redis.port=" + redisPort,
+                "--jwt.secret=loadtest-secret-key-loadtest-secret-key-0123456789",
+                "--jwt.access-token-validity-in-ms=3600000",
+                "--jwt.refresh-token-validity-in-ms=1209600000",
+                "--load-data.enabled=false",
+                "--memo.export.fetch-size=500",     // H2 는 음수 fetch size 를 허용하지 않는다
+                "--logging.level.root=WARN",        // 요청마다 남는 INFO 로그가 측정에 섞이지 않도록
+        };
+    }
+
+    private static void injectDbLatency(ConfigurableApplicationContext context, long latencyMs) {
+        if (latencyMs <= 0) {
+            return;
+        }
+        context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof HikariDataSource hikari ? new LatencyInjectingDataSource(hikari, latencyMs) : bean;
+            }
+        });
+    }
+
+    private static String run(LoadTestConfig config, ApiClient client) throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<String> publicUuids = Collections.synchronizedList(new ArrayList<>());
+
+        List<VirtualUser> users = new ArrayList<>();
+        for (int i = 0; i < config.concurrency(); i++) {
+            users.add(new VirtualUser(i, client, config, recorder, running, publicUuids, 1_000_003L * (i + 1)));
+        }
+
+        // 클라이언트 쪽 스레드 수가 병목이 되지 않도록 가상 사용자는 가상 스레드에서 실행한다
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            // 1. 준비: 계정 + 메모 생성
+            long prepareStart = System.currentTimeMillis();
+            List<Future<?>> prepares = new ArrayList<>();
+            for (VirtualUser user : users) {
+                prepares.add(executor.submit(() -> user.prepare(publicUuids)));
+            }
+            for (Future<?> prepare : prepares) {
+                prepare.get();
+            }
+            System.out.printf("[loadtest] 준비 완료: 계정 %d개, 메모 %d건 (%d ms)%n",
+                    users.size(), (long) users.size() * config.memosPerUser(), System.currentTimeMillis() - prepareStart);
+
+            // 2. 워밍업 (결과 버림) -> 3. 측정
+            users.forEach(executor::submit);
+
+            TimeUnit.SECONDS.sleep(config.warmupSeconds());
+            recorder.reset();
+            long measureStart = System.nanoTime();
+            TimeUnit.SECONDS.sleep(config.durationSeconds());
+            double seconds = (System.nanoTime() - measureStart) / 1e9;
+
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (PrintStream out = new PrintStream(buffer, true, StandardCharsets.UTF_8)) {
+                recorder.report(out, seconds);
+            }
+            return buffer.toString(StandardCharsets.UTF_8);
+        } finally {
+            running.set(false);
+            executor.shutdown();
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.mymemo.backend.loadtest;
+
+/**
+ * 부하 테스트 작업 종류 (리포트는 작업별로 집계된다)
+ */
+public enum Operation {
+    LOGIN("login", "POST /api/auth/login"),
+    REISSUE("reissue", "POST /api/auth/reissue"),
+    LIST("list", "GET /api/memos"),
+    CURSOR("cursor", "GET /api/memos/cursor"),
+    SEARCH("search", "GET /api/memos/search"),
+    DETAIL("detail", "GET /api/memos/{id}"),
+    PUBLIC("public", "GET /api/memos/public/{uuid}"),
+    CREATE("create", "POST /api/memos"),
+    UPDATE("update", "PUT /api/memos/{id}"),
+    DELETE("delete", "DELETE /api/memos/{id}");
+
+    private final String key;
+    private final String endpoint;
+
+    Operation(String key, String endpoint) {
+        this.key = key;
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key);
+    }
+}
@@ -0,0 +1,65 @@
+package com.mymemo.backend.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 애플리케이션의 Lua 스크립트(src/main/resources/redis)를 RespServer 에서 실행할 Java 구현
+ *
+ * 스크립트 본문은 애플리케이션과 같은 classpath 리소스를 읽어 등록하므로, 스크립트를 고치면 SHA-1 이 달라져
+ * 이 구현도 함께 고치기 전까지 EVAL 이 오류를 낸다. (부하 테스트가 조용히 다른 동작을 재지 않도록)
+ */
+final class RedisScripts {
+
+    private RedisScripts() {}
+
+    static RespServer register(RespServer server) {
+        // PublicMemoCache.invalidate - 버전 증가 + TTL, 값 삭제
+        server.script(source("redis/public-memo-invalidate.lua"), (redis, keys, args) -> {
+            redis.incr(keys.get(1));
+            redis.pexpire(keys.get(1), Long.parseLong(args.get(0)));
+            return redis.del(keys.get(0));
+        });
+        // PublicMemoCache.writeRedis - 조회 전에 읽은 버전이 그대로일 때만 쓴다
+        server.script(source("redis/public-memo-write-if-unchanged.lua"), (redis, keys, args) -> {
+            String version = redis.get(keys.get(1));
+            if (!(version == null ? "" : version).equals(args.get(0))) {
+                return 0L;
+            }
+            redis.set(keys.get(0), args.get(1), Long.parseLong(args.get(2)));
+            return 1L;
+        });
+        // MemoListCache.readGeneration - 키가 없으면 서버 시각에서 시작
+        server.script(source("redis/memo-list-generation-read.lua"), (redis, keys, args) -> {
+            String generation = redis.get(keys.get(0));
+            if (generation == null) {
+                generation = String.valueOf(redis.timeMicros());
+                redis.set(keys.get(0), generation, Long.parseLong(args.get(0)));
+            }
+            return generation;
+        });
+        // MemoListCache.invalidate - 키가 없으면 서버 시각에서 증가
+        server.script(source("redis/memo-list-generation-increment.lua"), (redis, keys, args) -> {
+            if (!redis.exists(keys.get(0))) {
+                redis.set(keys.get(0), String.valueOf(redis.timeMicros()), 0);
+            }
+            long generation = redis.incr(keys.get(0));
+            redis.pexpire(keys.get(0), Long.parseLong(args.get(0)));
+            return generation;
+        });
+        return server;
+    }
+
+    private static String source(String path) {
+        try (InputStream in = RedisScripts.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("script not found: " + path);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,540 @@
+package com.mymemo.backend.loadtest;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트용 인프로세스 Redis 대체 서버 (RESP2 프로토콜)
+ *
+ * 애플리케이션이 사용하는 명령만 구현한다.
+ * - 문자열: GET, MGET, SET (EX/PX/NX/XX), SETEX, PSETEX, DEL, EXISTS, INCR, INCRBY, EXPIRE, PEXPIRE, TTL, PTTL
+ * - 키 탐색: SCAN (MATCH/COUNT, 한 번에 전체 반환), KEYS
+ * - pub/sub: PUBLISH, SUBSCRIBE, UNSUBSCRIBE
+ * - 스크립트: EVAL, EVALSHA - Lua 를 실행하지 않고, script() 로 등록한 Java 구현을 스크립트 본문의 SHA-1 로 찾아 실행한다.
+ *   (등록되지 않은 스크립트는 오류. 스크립트는 다른 명령과 섞이지 않게 단독으로 실행된다)
+ * - 연결: PING, SELECT, CLIENT, AUTH, QUIT (HELLO 는 거절해 Lettuce 가 RESP2 로 동작하게 한다)
+ *
+ * 만료는 조회 시점에 확인한다. 연결마다 스레드 하나를 사용한다.
+ */
+public class RespServer implements AutoCloseable {
+
+    private record Entry(byte[] value, long expireAtMs) {
+
+        boolean isExpired(long now) {
+            return expireAtMs > 0 && now >= expireAtMs;
+        }
+    }
+
+    private final Map<String, Entry> store = new ConcurrentHashMap<>();
+    private final Map<String, Set<Client>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, Script> scripts = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock atomicity = new ReentrantReadWriteLock();     // 스크립트는 write, 키 명령은 read
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "resp-server");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private ServerSocket serverSocket;
+
+    /**
+     * EVAL/EVALSHA 로 실행할 스크립트의 Java 구현
+     * 반환값: Long 은 정수 응답, String 은 bulk 응답, null 은 nil
+     */
+    @FunctionalInterface
+    public interface Script {
+
+        Object run(ScriptContext redis, List<String> keys, List<String> args);
+    }
+
+    /**
+     * 스크립트 구현이 쓰는 redis.call 대응 명령 (실행 중에는 다른 명령이 끼어들지 않는다)
+     */
+    public final class ScriptContext {
+
+        private final long now;
+
+        private ScriptContext(long now) {
+            this.now = now;
+        }
+
+        public String get(String key) {
+            Entry entry = live(key, now);
+            return entry == null ? null : text(entry.value());
+        }
+
+        // ttlMs 가 0 이면 만료 없음
+        public void set(String key, String value, long ttlMs) {
+            store.put(key, new Entry(value.getBytes(StandardCharsets.UTF_8), ttlMs > 0 ? now + ttlMs : 0));
+        }
+
+        public boolean exists(String key) {
+            return live(key, now) != null;
+        }
+
+        public long del(String key) {
+            Entry entry = store.remove(key);
+            return entry != null && !entry.isExpired(now) ? 1 : 0;
+        }
+
+        public long incr(String key) {
+            return incrementBy(key, 1, now);
+        }
+
+        public long pexpire(String key, long ttlMs) {
+            Entry updated = store.computeIfPresent(key,
+                    (k, entry) -> entry.isExpired(now) ? null : new Entry(entry.value(), now + ttlMs));
+            return updated == null ? 0 : 1;
+        }
+
+        // redis.call('TIME') 을 마이크로초로 (밀리초 정밀도면 충분하다)
+        public long timeMicros() {
+            return now * 1000;
+        }
+    }
+
+    /**
+     * 스크립트 본문(source)에 대한 Java 구현을 등록한다. EVAL 은 본문의 SHA-1 로, EVALSHA 는 전달된 SHA-1 로 찾는다.
+     */
+    public RespServer script(String source, Script script) {
+        scripts.put(sha1(source), script);
+        return this;
+    }
+
+    public RespServer start() throws IOException {
+        serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());     // 빈 포트 사용
+        executor.execute(this::acceptLoop);
+        return this;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                executor.execute(() -> new Client(socket).run());
+            } catch (IOException e) {
+                return;     // 서버 종료
+            }
+        }
+    }
+
+    private class Client implements Runnable {
+
+        private final Socket socket;
+        private final ReentrantLock writeLock = new ReentrantLock();   // 명령 응답과 pub/sub 메시지가 섞이지 않도록
+        private final Set<String> channels = ConcurrentHashMap.newKeySet();
+        private InputStream in;
+        private OutputStream out;
+
+        Client(Socket socket) {
+            this.socket = socket;
+        }
+
+        @Override
+        public void run() {
+            try (socket) {
+                in = new BufferedInputStream(socket.getInputStream());
+                out = new BufferedOutputStream(socket.getOutputStream());
+                while (true) {
+                    List<byte[]> command = readCommand();
+                    if (command == null) {
+                        return;
+                    }
+                    writeLock.lock();
+                    try {
+                        if (!execute(command)) {
+                            out.flush();
+                            return;
+                        }
+                        if (in.available() == 0) {
+                            out.flush();        // 파이프라이닝된 명령이 더 없으면 전송
+                        }
+                    } finally {
+                        writeLock.unlock();
+                    }
+                }
+            } catch (IOException e) {
+                // 연결 종료
+            } finally {
+                channels.forEach(channel -> unsubscribe(channel, this));
+            }
+        }
+
+        // 반환값이 false 면 연결을 닫는다 (QUIT)
+        // pub/sub 명령은 다른 연결의 writeLock 을 잡으므로 atomicity 잠금 밖에서 실행한다 (스크립트 대기와의 교착 방지)
+        private boolean execute(List<byte[]> command) throws IOException {
+            String name = text(command.get(0)).toUpperCase(Locale.ROOT);
+            Lock lock = switch (name) {
+                case "EVAL", "EVALSHA" -> atomicity.writeLock();
+                case "PUBLISH", "SUBSCRIBE", "UNSUBSCRIBE" -> null;
+                default -> atomicity.readLock();
+            };
+            if (lock == null) {
+                return execute(name, command, System.currentTimeMillis());
+            }
+            lock.lock();
+            try {
+                return execute(name, command, System.currentTimeMillis());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean execute(String name, List<byte[]> command, long now) throws IOException {
+            switch (name) {
+                case "PING" -> simple("PONG");
+                case "SELECT", "CLIENT", "AUTH" -> simple("OK");
+                case "QUIT" -> {
+                    simple("OK");
+                    return false;
+                }
+                case "GET" -> {
+                    Entry entry = live(text(command.get(1)), now);
+                    bulk(entry == null ? null : entry.value());
+                }
+                case "MGET" -> {
+                    arrayHeader(command.size() - 1);
+                    for (int i = 1; i < command.size(); i++) {
+                        Entry entry = live(text(command.get(i)), now);
+                        bulk(entry == null ? null : entry.value());
+                    }
+                }
+                case "SET" -> set(command, now);
+                case "SETEX" -> {
+                    store.put(text(command.get(1)), new Entry(command.get(3), now + Long.parseLong(text(command.get(2))) * 1000));
+                    simple("OK");
+                }
+                case "PSETEX" -> {
+                    store.put(text(command.get(1)), new Entry(command.get(3), now + Long.parseLong(text(command.get(2)))));
+                    simple("OK");
+                }
+                case "DEL", "UNLINK" -> {
+                    long removed = 0;
+                    for (int i = 1; i < command.size(); i++) {
+                        Entry entry = store.remove(text(command.get(i)));
+                        if (entry != null && !entry.isExpired(now)) {
+                            removed++;
+                        }
+                    }
+                    integer(removed);
+                }
+                case "EXISTS" -> {
+                    long count = 0;
+                    for (int i = 1; i < command.size(); i++) {
+                        if (live(text(command.get(i)), now) != null) {
+                            count++;
+                        }
+                    }
+                    integer(count);
+                }
+                case "INCR" -> integer(incrementBy(text(command.get(1)), 1, now));
+                case "INCRBY" -> integer(incrementBy(text(command.get(1)), Long.parseLong(text(command.get(2))), now));
+                case "EXPIRE", "PEXPIRE" -> {
+                    long amount = Long.parseLong(text(command.get(2)));
+                    long ttlMs = name.equals("EXPIRE") ? amount * 1000 : amount;
+                    Entry updated = store.computeIfPresent(text(command.get(1)),
+                            (key, entry) -> entry.isExpired(now) ? null : new Entry(entry.value(), now + ttlMs));
+                    integer(updated == null ? 0 : 1);
+                }
+                case "TTL", "PTTL" -> {
+                    Entry entry = live(text(command.get(1)), now);
+                    if (entry == null) {
+                        integer(-2);
+                    } else if (entry.expireAtMs() == 0) {
+                        integer(-1);
+                    } else {
+                        long remaining = entry.expireAtMs() - now;
+                        integer(name.equals("TTL") ? remaining / 1000 : remaining);
+                    }
+                }
+                case "EVAL", "EVALSHA" -> {
+                    String sha = name.equals("EVAL") ? sha1(text(command.get(1))) : text(command.get(1)).toLowerCase(Locale.ROOT);
+                    Script script = scripts.get(sha);
+                    if (script == null) {
+                        // EVALSHA 는 Spring 이 NOSCRIPT 를 받으면 EVAL 로 다시 보낸다
+                        error(name.equals("EVAL") ? "ERR unsupported script " + sha : "NOSCRIPT No matching script. Please use EVAL.");
+                    } else {
+                        eval(script, command, now);
+                    }
+                }
+                case "SCAN" -> {
+                    String pattern = "*";
+                    for (int i = 2; i + 1 < command.size(); i += 2) {
+                        if (text(command.get(i)).equalsIgnoreCase("MATCH")) {
+                            pattern = text(command.get(i + 1));
+                        }
+                    }
+                    List<String> keys = keys(pattern, now);
+                    arrayHeader(2);
+                    bulk("0".getBytes(StandardCharsets.UTF_8));     // 한 번에 전체를 돌려주고 커서 종료
+                    arrayHeader(keys.size());
+                    for (String key : keys) {
+                        bulk(key.getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+                case "KEYS" -> {
+                    List<String> keys = keys(text(command.get(1)), now);
+                    arrayHeader(keys.size());
+                    for (String key : keys) {
+                        bulk(key.getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+                case "PUBLISH" -> integer(publish(text(command.get(1)), command.get(2)));
+                case "SUBSCRIBE" -> {
+                    for (int i = 1; i < command.size(); i++) {
+                        String channel = text(command.get(i));
+                        channels.add(channel);
+                        subscribers.computeIfAbsent(channel, key -> ConcurrentHashMap.newKeySet()).add(this);
+                        arrayHeader(3);
+                        bulk("subscribe".getBytes(StandardCharsets.UTF_8));
+                        bulk(command.get(i));
+                        integer(channels.size());
+                    }
+                }
+                case "UNSUBSCRIBE" -> {
+                    List<String> targets = new ArrayList<>();
+                    for (int i = 1; i < command.size(); i++) {
+                        targets.add(text(command.get(i)));
+                    }
+                    if (targets.isEmpty()) {
+                        targets.addAll(channels);
+                    }
+                    if (targets.isEmpty()) {
+                        arrayHeader(3);
+                        bulk("unsubscribe".getBytes(StandardCharsets.UTF_8));
+                        bulk(null);
+                        integer(0);
+                    }
+                    for (String channel : targets) {
+                        channels.remove(channel);
+                        unsubscribe(channel, this);
+                        arrayHeader(3);
+                        bulk("unsubscribe".getBytes(StandardCharsets.UTF_8));
+                        bulk(channel.getBytes(StandardCharsets.UTF_8));
+                        integer(channels.size());
+                    }
+                }
+                default -> error("ERR unknown command '" + name + "'");      // HELLO 포함
+            }
+            return true;
+        }
+
+        private void eval(Script script, List<byte[]> command, long now) throws IOException {
+            int keyCount = Integer.parseInt(text(command.get(2)));
+            List<String> keys = new ArrayList<>(keyCount);
+            List<String> args = new ArrayList<>();
+            for (int i = 3; i < command.size(); i++) {
+                (i < 3 + keyCount ? keys : args).add(text(command.get(i)));
+            }
+            Object result = script.run(new ScriptContext(now), keys, args);
+            if (result instanceof Long value) {
+                integer(value);
+            } else {
+                bulk(result == null ? null : ((String) result).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        private void set(List<byte[]> command, long now) throws IOException {
+            String key = text(command.get(1));
+            long expireAt = 0;
+            boolean nx = false;
+            boolean xx = false;
+            for (int i = 3; i < command.size(); i++) {
+                String option = text(command.get(i)).toUpperCase(Locale.ROOT);
+                switch (option) {
+                    case "EX" -> expireAt = now + Long.parseLong(text(command.get(++i))) * 1000;
+                    case "PX" -> expireAt = now + Long.parseLong(text(command.get(++i)));
+                    case "NX" -> nx = true;
+                    case "XX" -> xx = true;
+                    default -> { }
+                }
+            }
+            boolean exists = live(key, now) != null;
+            if ((nx && exists) || (xx && !exists)) {
+                bulk(null);
+                return;
+            }
+            store.put(key, new Entry(command.get(2), expireAt));
+            simple("OK");
+        }
+
+        // 다른 연결(구독자)로 메시지를 보낸다
+        void push(String channel, byte[] message) {
+            writeLock.lock();
+            try {
+                arrayHeader(3);
+                bulk("message".getBytes(StandardCharsets.UTF_8));
+                bulk(channel.getBytes(StandardCharsets.UTF_8));
+                bulk(message);
+                out.flush();
+            } catch (IOException e) {
+                unsubscribe(channel, this);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        private List<byte[]> readCommand() throws IOException {
+            int type = in.read();
+            if (type == -1) {
+                return null;
+            }
+            if (type != '*') {
+                throw new IOException("RESP array expected");       // 인라인 명령은 지원하지 않음
+            }
+            int count = Integer.parseInt(readLine());
+            List<byte[]> args = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                if (in.read() != '$') {
+                    throw new IOException("RESP bulk string expected");
+                }
+                int length = Integer.parseInt(readLine());
+                byte[] arg = in.readNBytes(length);
+                if (arg.length != length) {
+                    throw new EOFException();
+                }
+                readLine();     // CRLF
+                args.add(arg);
+            }
+            return args;
+        }
+
+        private String readLine() throws IOException {
+            StringBuilder line = new StringBuilder();
+            int c;
+            while ((c = in.read()) != '\r') {
+                if (c == -1) {
+                    throw new EOFException();
+                }
+                line.append((char) c);
+            }
+            in.read();      // '\n'
+            return line.toString();
+        }
+
+        private void simple(String value) throws IOException {
+            out.write(('+' + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void error(String message) throws IOException {
+            out.write(('-' + message + "\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void integer(long value) throws IOException {
+            out.write((":" + value + "\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void arrayHeader(int size) throws IOException {
+            out.write(("*" + size + "\r\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void bulk(byte[] value) throws IOException {
+            if (value == null) {
+                out.write("$-1\r\n".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            out.write(("$" + value.length + "\r\n").getBytes(StandardCharsets.UTF_8));
+            out.write(value);
+            out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private Entry live(String key, long now) {
+        Entry entry = store.get(key);
+        if (entry != null && entry.isExpired(now)) {
+            store.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private long incrementBy(String key, long delta, long now) {
+        Entry updated = store.compute(key, (k, entry) -> {
+            long current = (entry == null || entry.isExpired(now)) ? 0 : Long.parseLong(text(entry.value()));
+            long expireAt = (entry == null || entry.isExpired(now)) ? 0 : entry.expireAtMs();
+            return new Entry(Long.toString(current + delta).getBytes(StandardCharsets.UTF_8), expireAt);
+        });
+        return Long.parseLong(text(updated.value()));
+    }
+
+    private List<String> keys(String glob, long now) {
+        Pattern pattern = globToRegex(glob);
+        List<String> keys = new ArrayList<>();
+        store.forEach((key, entry) -> {
+            if (!entry.isExpired(now) && pattern.matcher(key).matches()) {
+                keys.add(key);
+            }
+        });
+        return keys;
+    }
+
+    private long publish(String channel, byte[] message) {
+        Set<Client> clients = subscribers.getOrDefault(channel, Set.of());
+        clients.forEach(client -> client.push(channel, message));
+        return clients.size();
+    }
+
+    private void unsubscribe(String channel, Client client) {
+        Set<Client> clients = subscribers.get(channel);
+        if (clients != null) {
+            clients.remove(client);
+        }
+    }
+
+    private static String sha1(String source) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not supported", e);
+        }
+    }
+
+    private static Pattern globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static String text(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
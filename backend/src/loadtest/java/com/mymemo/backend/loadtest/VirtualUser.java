@@ -0,0 +1,234 @@
+package com.mymemo.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 계정 하나를 가진 가상 사용자. 설정된 가중치에 따라 작업을 골라 반복 실행한다.
+ */
+public class VirtualUser implements Runnable {
+
+    static final String[] WORDS = {
+            "meeting", "report", "idea", "travel", "study", "budget", "design", "review",
+            "회의", "정리", "아이디어", "여행", "공부", "일정", "설계", "독서"
+    };
+
+    private final int index;
+    private final ApiClient client;
+    private final LoadTestConfig config;
+    private final LatencyRecorder recorder;
+    private final AtomicBoolean running;
+    private final List<String> publicUuids;
+    private final SplittableRandom random;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+
+    // 계정 상태
+    private final String email;
+    private final String password = "password1234";
+    private String accessToken;
+    private String refreshToken;
+    private final List<Long> memoIds = new ArrayList<>();                  // 준비 단계에서 만든 메모 (삭제하지 않음)
+    private final Map<Long, String> visibilityById = new HashMap<>();     // 수정 시 공개 여부 유지용
+    private final Deque<Long> createdIds = new ArrayDeque<>();            // 측정 중 만든 메모 (삭제 대상)
+    private String nextCursor;
+
+    public VirtualUser(int index, ApiClient client, LoadTestConfig config, LatencyRecorder recorder,
+                       AtomicBoolean running, List<String> publicUuids, long seed) {
+        this.index = index;
+        this.client = client;
+        this.config = config;
+        this.recorder = recorder;
+        this.running = running;
+        this.publicUuids = publicUuids;
+        this.random = new SplittableRandom(seed);
+        this.email = "loadtest-vu" + index + "@example.com";
+
+        this.operations = config.mix().keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += config.mix().get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /**
+     * 회원가입, 로그인 후 메모를 일괄 생성한다. 만든 공개 메모의 uuid 는 publicSink 에 추가된다.
+     */
+    public void prepare(List<String> publicSink) {
+        check(client.post("/api/auth/signup", Map.of(
+                "email", email,
+                "password", password,
+                "passwordCheck", password,
+                "nickname", "vu" + index,
+                "birthDate", "2000-01-01"), null), "signup");
+        login(false);
+
+        int remaining = config.memosPerUser();
+        while (remaining > 0) {
+            int chunk = Math.min(remaining, 500);
+            List<Map<String, Object>> requests = new ArrayList<>(chunk);
+            for (int i = 0; i < chunk; i++) {
+                requests.add(memoRequest(random.nextDouble() < config.publicRatio() ? "PUBLIC" : "PRIVATE"));
+            }
+            JsonNode response = check(client.post("/api/memos/bulk", requests, accessToken), "bulk create");
+            JsonNode created = response.get("memos");
+            for (int i = 0; i < created.size(); i++) {
+                long id = created.get(i).get("id").asLong();
+                String visibility = (String) requests.get(i).get("visibility");
+                memoIds.add(id);
+                visibilityById.put(id, visibility);
+                if (visibility.equals("PUBLIC")) {
+                    publicSink.add(created.get(i).get("uuid").asText());
+                }
+            }
+            remaining -= chunk;
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running.get()) {
+            Operation operation = pick();
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = execute(operation);
+            } catch (RuntimeException e) {
+                success = false;
+            }
+            recorder.record(operation, System.nanoTime() - start, success);
+            think();
+        }
+    }
+
+    private boolean execute(Operation operation) {
+        return switch (operation) {
+            case LOGIN -> login(true);
+            case REISSUE -> reissue();
+            case LIST -> client.get("/api/memos?page=" + random.nextInt(Math.max(1, memoIds.size() / 10)) + "&size=10",
+                    accessToken).isSuccess();
+            case CURSOR -> cursor();
+            case SEARCH -> client.get("/api/memos/search?keyword=" + encode(WORDS[random.nextInt(WORDS.length)]) +
+                    "&page=0&size=10", accessToken).isSuccess();
+            case DETAIL -> client.get("/api/memos/" + randomMemoId(), accessToken).isSuccess();
+            case PUBLIC -> publicUuids.isEmpty()
+                    || client.get("/api/memos/public/" + publicUuids.get(random.nextInt(publicUuids.size())), null).isSuccess();
+            case CREATE -> create();
+            case UPDATE -> update();
+            case DELETE -> delete();
+        };
+    }
+
+    private boolean login(boolean measured) {
+        ApiClient.Response response = client.post("/api/auth/login", Map.of("email", email, "password", password), null);
+        if (!measured) {
+            check(response, "login");
+        }
+        if (response.isSuccess()) {
+            accessToken = response.body().get("accessToken").asText();
+            refreshToken = response.body().get("refreshToken").asText();
+        }
+        return response.isSuccess();
+    }
+
+    private boolean reissue() {
+        ApiClient.Response response = client.post("/api/auth/reissue",
+                Map.of("email", email, "refreshToken", refreshToken), null);
+        if (response.isSuccess()) {
+            accessToken = response.body().get("accessToken").asText();
+            refreshToken = response.body().get("refreshToken").asText();
+        }
+        return response.isSuccess();
+    }
+
+    private boolean cursor() {
+        String path = "/api/memos/cursor?size=20";
+        if (nextCursor != null && random.nextBoolean()) {
+            path += "&after=" + nextCursor;     // 절반은 다음 페이지
+        }
+        ApiClient.Response response = client.get(path, accessToken);
+        if (response.isSuccess()) {
+            JsonNode cursor = response.body().get("nextCursor");
+            nextCursor = (cursor == null || cursor.isNull()) ? null : cursor.asText();
+        }
+        return response.isSuccess();
+    }
+
+    private boolean create() {
+        ApiClient.Response response = client.post("/api/memos", memoRequest("PRIVATE"), accessToken);
+        if (response.isSuccess()) {
+            long id = response.body().get("id").asLong();
+            createdIds.addLast(id);
+            visibilityById.put(id, "PRIVATE");
+        }
+        return response.isSuccess();
+    }
+
+    private boolean update() {
+        long id = randomMemoId();
+        return client.put("/api/memos/" + id, memoRequest(visibilityById.get(id)), accessToken).isSuccess();
+    }
+
+    private boolean delete() {
+        Long id = createdIds.pollFirst();
+        if (id == null) {
+            return create();        // 지울 메모가 없으면 하나 만든다 (준비 데이터는 유지)
+        }
+        visibilityById.remove(id);
+        return client.delete("/api/memos/" + id, accessToken).isSuccess();
+    }
+
+    private Map<String, Object> memoRequest(String visibility) {
+        StringBuilder content = new StringBuilder();
+        int words = 20 + random.nextInt(200);
+        for (int i = 0; i < words; i++) {
+            content.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        Map<String, Object> request = new HashMap<>();
+        request.put("title", WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]);
+        request.put("content", content.toString());
+        request.put("memoCategory", "ETC");
+        request.put("visibility", visibility);
+        request.put("pinned", random.nextInt(50) == 0);
+        return request;
+    }
+
+    private long randomMemoId() {
+        return memoIds.get(random.nextInt(memoIds.size()));
+    }
+
+    private void think() {
+        int min = config.thinkMinMs();
+        int max = Math.max(min, config.thinkMaxMs());
+        if (max == 0) {
+            return;
+        }
+        try {
+            Thread.sleep(min + random.nextInt(max - min + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running.set(false);
+        }
+    }
+
+    private static String encode(String value) {
+        return java.net.URLEncoder.encode(value, java.nio.charset.StandardCharsets.UTF_8);
+    }
+
+    private static JsonNode check(ApiClient.Response response, String step) {
+        if (!response.isSuccess()) {
+            throw new IllegalStateException(step + " failed: HTTP " + response.status() + " " + response.body());
+        }
+        return response.body();
+    }
+}
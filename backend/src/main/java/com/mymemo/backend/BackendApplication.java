@@ -2,8 +2,12 @@ package com.mymemo.backend;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling      // 블랙리스트 필터 재구축 등 주기 작업
+@EnableAsync           // 로그인 시 메모 목록 캐시 예열 (applicationTaskExecutor)
 public class BackendApplication {
 
     public static void main(String[] args) {
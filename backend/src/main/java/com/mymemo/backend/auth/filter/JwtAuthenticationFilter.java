@@ -1,13 +1,15 @@
 package com.mymemo.backend.auth.filter;
 
+import com.mymemo.backend.auth.principal.AuthUser;
+import com.mymemo.backend.auth.service.TokenBlacklist;
 import com.mymemo.backend.auth.util.JwtUtil;
+import com.mymemo.backend.auth.util.TokenClaims;
 import com.mymemo.backend.global.exception.ErrorCode;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,12 +24,12 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
-    private final StringRedisTemplate redisTemplate;    // Redis 주입 필요
+    private final TokenBlacklist tokenBlacklist;    // 로그아웃 토큰 블랙리스트 (대부분 Redis 조회 없이 메모리에서 판정)
 
-    // 생성자를 통해 JwtUtil 주입
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, StringRedisTemplate redisTemplate) {
+    // 생성자를 통해 JwtUtil, TokenBlacklist 주입
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, TokenBlacklist tokenBlacklist) {
         this.jwtUtil = jwtUtil;
-        this.redisTemplate = redisTemplate;
+        this.tokenBlacklist = tokenBlacklist;
     }
 
     @Override
@@ -43,10 +45,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (StringUtils.hasText(authHeader) && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);     // "Bearer " 이후 토큰만 추출
-            if (jwtUtil.isTokenValid(token)) {      // 토큰 유효성 검사
+            TokenClaims claims = jwtUtil.verify(token);     // 토큰 유효성 검사 + 클레임 추출 (요청당 한 번만 검증)
+            if (claims != null) {
 
                 // 블랙리스트 확인
-                if (redisTemplate.hasKey("BL:" + token)) {
+                if (tokenBlacklist.isBlacklisted(claims.tokenId())) {
                     log.warn("로그아웃된 토큰으로 요청 시도 - 블랙리스트 차단");
 
                     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -56,14 +59,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     return;
                 }
 
-                String email = jwtUtil.getEmailFromToken(token);    // 이메일(subject) 추출
+                AuthUser authUser = claims.toAuthUser();    // 사용자 id(uid) + 이메일(subject)
 
-                log.info("유효한 JWT, 사용자 이메일: {}", email);
+                log.info("유효한 JWT, 사용자 이메일: {}", authUser.email());
 
-                // 인증 객체 생성 (권한 정보는 현재 null)
+                // 인증 객체 생성 (principal = AuthUser, 권한 정보는 현재 ROLE_USER 고정)
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                email,
+                                authUser,
                                 null,
                                 Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")));
 
@@ -0,0 +1,20 @@
+package com.mymemo.backend.auth.principal;
+
+import java.security.Principal;
+
+/**
+ * JWT 인증 후 SecurityContext 에 저장되는 사용자 정보 (Authentication 의 principal)
+ *
+ * - Access Token 의 클레임(uid, sub)만으로 만들어지므로 요청마다 users 테이블을 조회하지 않아도 된다.
+ * - getName() 은 이메일을 반환하므로 기존 SecurityUtil.getCurrentUserEmail() 도 그대로 동작한다.
+ *
+ * @param id 사용자 id (uid 클레임이 없는 이전 토큰이면 null)
+ * @param email 사용자 이메일 (subject)
+ */
+public record AuthUser(Long id, String email) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
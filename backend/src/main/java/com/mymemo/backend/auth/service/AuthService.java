@@ -5,10 +5,12 @@ import com.mymemo.backend.auth.dto.SignupRequestDto;
 import com.mymemo.backend.auth.dto.TokenReissueRequestDto;
 import com.mymemo.backend.auth.dto.TokenResponseDto;
 import com.mymemo.backend.auth.util.JwtUtil;
+import com.mymemo.backend.auth.util.TokenClaims;
 import com.mymemo.backend.entity.User;
 import com.mymemo.backend.global.exception.CustomException;
 import com.mymemo.backend.global.exception.ErrorCode;
 import com.mymemo.backend.global.util.SecurityUtil;
+import com.mymemo.backend.memo.service.MemoService;
 import com.mymemo.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -25,6 +27,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
     private final StringRedisTemplate redisTemplate;
+    private final TokenBlacklist tokenBlacklist;
+    private final MemoService memoService;
 
     public void signup(SignupRequestDto dto) {
         // 1. 이메일 중복 체크
@@ -76,7 +80,7 @@ public class AuthService {
         }
 
         // 5. 유효한 경우 새로운 Access Token과 Refresh Token 발급
-        String newAccessToken = jwtUtil.createAccessToken(email);
+        String newAccessToken = jwtUtil.createAccessToken(user.getId(), email);
         String newRefreshToken = jwtUtil.createRefreshToken(email);
 
         // 6. Redis에 새로운 Refresh Token을 저장 (기존 것 대체), 유효기간 설정
@@ -109,7 +113,7 @@ public class AuthService {
             }
         }
 
-        String accessToken = jwtUtil.createAccessToken(user.getEmail());    // 인증 성공 시 Access Token 생성
+        String accessToken = jwtUtil.createAccessToken(user.getId(), user.getEmail());    // 인증 성공 시 Access Token 생성
         String refreshToken = jwtUtil.createRefreshToken(user.getEmail());  // Refresh Token 생성
 
         // Refresh Token을 Redis에 저장 (키: RT:이메일, TTL: 14일)
@@ -120,6 +124,9 @@ public class AuthService {
                 TimeUnit.MILLISECONDS                   // 시간 단위
         );
 
+        // 로그인 직후 첫 목록 요청이 캐시에서 응답되도록 비동기로 예열 (응답을 기다리지 않음)
+        memoService.warmListCache(user.getId());
+
         // Access Token + Refresh Token 응답 객체로 반환
         return new TokenResponseDto(accessToken, refreshToken);
     }
@@ -128,12 +135,12 @@ public class AuthService {
         // 1. Access Token 추출
         String accessToken = SecurityUtil.getCurrentToken();
 
-        // 2. Access Token 남은 유효시간 계산
-        long expiration = jwtUtil.getTokenRemainingTime(accessToken);
+        // 2. Access Token 식별자(다이제스트)와 남은 유효시간 계산
+        TokenClaims claims = jwtUtil.parseToken(accessToken);
+        long expiration = claims.expiresAtMs() - System.currentTimeMillis();
 
-        // 3. Access Token 블랙리스트 등록
-        redisTemplate.opsForValue()
-                .set("BL:" + accessToken, "logout", expiration, TimeUnit.MILLISECONDS);
+        // 3. Access Token 블랙리스트 등록 (Redis 기록 + 다른 노드에 발행)
+        tokenBlacklist.add(claims.tokenId(), expiration);
 
         // 4. Redis에서 Refresh Token 제거
         Boolean result = redisTemplate.delete("RT:" + email);
@@ -0,0 +1,206 @@
+package com.mymemo.backend.auth.service;
+
+import com.mymemo.backend.auth.util.BloomFilter;
+import com.mymemo.backend.auth.util.TokenDigest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그아웃된 Access Token 블랙리스트 (Redis + 노드별 Bloom filter near-cache)
+ *
+ * - Redis 가 원본이다. 키는 "BL:" + 토큰 다이제스트(43자), 값은 "logout", TTL 은 토큰의 남은 유효시간.
+ * - 각 노드는 블랙리스트 다이제스트를 Bloom filter 로 들고 있어서, 대부분의 요청(= 블랙리스트가 아닌 토큰)은
+ *   Redis 를 거치지 않고 메모리에서 "확실히 아님"으로 판정한다. 필터가 "있을 수도 있음"이라고 할 때만 Redis 로 확인한다.
+ * - 로그아웃 시 Redis 에 기록한 뒤 CHANNEL 로 다이제스트를 발행하고, 모든 노드가 이를 받아 필터에 추가한다.
+ * - pub/sub 은 전달을 보장하지 않으므로 주기적으로(rebuild-interval-ms) Redis 를 SCAN 해서 필터를 새로 만든다.
+ *   이때 만료된 항목도 함께 정리된다. (Bloom filter 는 삭제를 지원하지 않음)
+ * - 시작 직후 첫 적재가 끝나기 전에는 모든 확인을 Redis 로 보낸다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    public static final String CHANNEL = "auth:blacklist";
+    private static final String KEY_PREFIX = "BL:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private volatile boolean ready = false;
+    private final ReentrantLock rebuildLock = new ReentrantLock();     // 재구축은 한 번에 하나만
+    private final ReentrantLock swapLock = new ReentrantLock();      // 로컬 추가와 필터 교체 사이에 항목을 잃지 않도록
+    private List<String> rebuilding;    // 재구축(SCAN 시작 ~ 교체) 중 들어온 항목 - 새 필터에도 넣는다 (swapLock)
+
+    public TokenBlacklist(
+            StringRedisTemplate redisTemplate,
+            @Value("${auth.blacklist.expected-insertions:100000}") long expectedInsertions,
+            @Value("${auth.blacklist.false-positive-rate:0.001}") double falsePositiveRate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    /**
+     * 토큰을 블랙리스트에 등록하고 다른 노드에 알린다.
+     *
+     * @param tokenId 토큰 다이제스트 (TokenClaims.tokenId())
+     * @param ttlMs 토큰의 남은 유효시간 (ms)
+     */
+    public void add(String tokenId, long ttlMs) {
+        if (ttlMs <= 0) {
+            return;     // 이미 만료된 토큰은 어차피 인증 필터를 통과하지 못한다
+        }
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "logout", ttlMs, TimeUnit.MILLISECONDS);
+        putLocal(tokenId);      // 현재 노드는 발행을 기다리지 않고 바로 반영
+        redisTemplate.convertAndSend(CHANNEL, tokenId);
+    }
+
+    /**
+     * 블랙리스트에 등록된 토큰인지 확인한다.
+     *
+     * @param tokenId 토큰 다이제스트 (TokenClaims.tokenId())
+     */
+    public boolean isBlacklisted(String tokenId) {
+        if (ready && !filter.mightContain(tokenId)) {
+            return false;       // 확실히 블랙리스트가 아님 (Redis 조회 생략)
+        }
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + tokenId));
+    }
+
+    // 다른 노드(또는 자기 자신)가 발행한 블랙리스트 등록 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String tokenId = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (TokenDigest.isDigest(tokenId)) {
+            putLocal(tokenId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * Redis 의 블랙리스트 키를 SCAN 해서 필터를 새로 만든 뒤 교체한다.
+     * (놓친 pub/sub 메시지 보정 + 만료 항목 정리)
+     */
+    @Scheduled(initialDelayString = "${auth.blacklist.rebuild-interval-ms:60000}",
+            fixedDelayString = "${auth.blacklist.rebuild-interval-ms:60000}")
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;     // 이미 다른 스레드가 재구축 중
+        }
+        try {
+            doRebuild();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private void doRebuild() {
+        long start = System.currentTimeMillis();
+        // SCAN 보다 먼저 열어 둔다 - SCAN 도중 등록된 토큰은 SCAN 결과에 없을 수 있다
+        swapLock.lock();
+        try {
+            rebuilding = new ArrayList<>();
+        } finally {
+            swapLock.unlock();
+        }
+        BloomFilter next;
+        List<String> keys;
+        try {
+            keys = scanKeys();
+
+            // 항목이 예상보다 많으면 거짓 양성 비율이 유지되도록 필터를 키운다
+            next = new BloomFilter(Math.max(expectedInsertions, keys.size() * 2L), falsePositiveRate);
+            for (String key : keys) {
+                String tokenId = key.substring(KEY_PREFIX.length());
+                if (!TokenDigest.isDigest(tokenId)) {
+                    tokenId = migrateLegacyKey(key, tokenId);
+                    if (tokenId == null) {
+                        continue;
+                    }
+                }
+                next.put(tokenId);
+            }
+        } catch (RuntimeException e) {
+            swapLock.lock();
+            try {
+                rebuilding = null;
+            } finally {
+                swapLock.unlock();
+            }
+            log.warn("[TokenBlacklist] 블랙리스트 적재 실패, 다음 주기에 재시도: {}", e.getMessage());
+            return;
+        }
+
+        // 재구축 중 들어온 항목을 넣고 교체 - putLocal 과 같은 잠금 안에서 하므로 교체 직전의 등록도 잃지 않는다
+        swapLock.lock();
+        try {
+            rebuilding.forEach(next::put);
+            rebuilding = null;
+            filter = next;
+            ready = true;
+        } finally {
+            swapLock.unlock();
+        }
+        log.debug("[TokenBlacklist] 필터 재구축 완료: {}건, {} bits, k={} ({} ms)",
+                keys.size(), next.bitSize(), next.hashCount(), System.currentTimeMillis() - start);
+    }
+
+    private void putLocal(String tokenId) {
+        swapLock.lock();
+        try {
+            filter.put(tokenId);
+            if (rebuilding != null) {
+                rebuilding.add(tokenId);
+            }
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    private List<String> scanKeys() {
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        return redisTemplate.execute((RedisCallback<List<String>>) connection -> {
+            List<String> keys = new ArrayList<>();
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                cursor.forEachRemaining(key -> keys.add(new String(key, StandardCharsets.UTF_8)));
+            }
+            return keys;
+        });
+    }
+
+    // 이전 형식("BL:" + 원본 토큰) 키를 다이제스트 키로 옮긴다. 남은 TTL 은 그대로 유지
+    private String migrateLegacyKey(String key, String rawToken) {
+        Long ttlMs = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        if (ttlMs == null || ttlMs <= 0) {
+            return null;
+        }
+        String tokenId = TokenDigest.of(rawToken);
+        redisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "logout", ttlMs, TimeUnit.MILLISECONDS);
+        redisTemplate.delete(key);
+        return tokenId;
+    }
+}
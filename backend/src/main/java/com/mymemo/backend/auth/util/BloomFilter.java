@@ -0,0 +1,86 @@
+package com.mymemo.backend.auth.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 다이제스트 전용 Bloom filter
+ *
+ * - mightContain() 이 false 이면 "확실히 없음", true 이면 "있을 수도 있음" 이다. (거짓 양성만 존재)
+ * - 입력이 이미 SHA-256 결과이므로 별도 해시 없이 앞 16바이트를 두 개의 64비트 값으로 나눠
+ *   double hashing (h1 + i * h2) 으로 k 개의 비트 위치를 만든다.
+ * - 비트 배열은 AtomicLongArray 로 관리하므로 락 없이 여러 스레드가 동시에 추가/조회할 수 있다.
+ * - 삭제는 지원하지 않는다. 만료된 항목을 정리하려면 새 필터를 만들어 교체한다.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 삽입 개수
+     * @param falsePositiveRate 목표 거짓 양성 비율 (0 < fpp < 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        // m = -n ln p / (ln 2)^2, k = m / n * ln 2
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = Math.max(64, (m + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitSize / 64));
+    }
+
+    /**
+     * @param digest TokenDigest.of() 로 만든 토큰 다이제스트
+     */
+    public void put(String digest) {
+        long[] h = hashes(digest);
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(h[0], h[1], i);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;      // 이미 설정된 비트
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String digest) {
+        long[] h = hashes(digest);
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(h[0], h[1], i);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    private long index(long h1, long h2, int i) {
+        return Math.floorMod(h1 + i * h2, bitSize);
+    }
+
+    // 다이제스트(Base64 URL-safe, SHA-256)의 앞 16바이트 -> 두 개의 long
+    private static long[] hashes(String digest) {
+        byte[] raw = TokenDigest.decode(digest);
+        long h1 = 0;
+        long h2 = 0;
+        for (int i = 0; i < 8; i++) {
+            h1 = (h1 << 8) | (raw[i] & 0xFF);
+            h2 = (h2 << 8) | (raw[i + 8] & 0xFF);
+        }
+        return new long[]{h1, h2 | 1};      // h2 는 홀수로 만들어 모든 위치가 같아지는 경우를 피한다
+    }
+}
@@ -1,6 +1,9 @@
 package com.mymemo.backend.auth.util;
 
+import com.mymemo.backend.auth.principal.AuthUser;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -15,13 +18,18 @@ import java.util.Date;
 @Component
 public class JwtUtil {
 
+    private static final String USER_ID_CLAIM = "uid";     // 사용자 id 클레임 이름
+
     private final Key key;    // JWT 서명을 위한 암호화 키
     private final long expirationMs;    // JWT 만료 시간 (밀리초 단위, yml에서 주입 받음)
+    private final JwtParser parser;     // 서명 검증용 파서 (thread-safe 하므로 한 번만 만들어 재사용)
+    private final VerifiedTokenCache verifiedTokenCache;    // 검증이 끝난 토큰의 클레임 캐시
 
     // 생성자에서 secret 키와 만료시간을 yml로부터 주입받아 초기화
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.access-token-validity-in-ms}") long expirationMs
+            @Value("${jwt.access-token-validity-in-ms}") long expirationMs,
+            @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize
     ) {
         // 시크릿 키 최소 길이 검증 (HMAC-SHA256은 256비트 이상 권장)
         if (secret.getBytes().length < 32) {
@@ -30,47 +38,88 @@ public class JwtUtil {
 
         this.key = Keys.hmacShaKeyFor(secret.getBytes());       // HS256에 맞는 Key 객체 생성
         this.expirationMs = expirationMs;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key)         // 서명 검증용 키 설정
+                .build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheMaxSize);     // 0 이면 캐시 사용 안 함
     }
 
-    // 액세스 토큰 생성: 이메일(subject) 포함, 현재 시간 발급, 만료 시각 설정
-    public String createAccessToken(String email) {
+    // 액세스 토큰 생성: 이메일(subject) + 사용자 id(uid 클레임) 포함, 현재 시간 발급, 만료 시각 설정
+    // uid 를 담아 두면 인증 필터가 DB 조회 없이 사용자 id 를 알 수 있다.
+    public String createAccessToken(Long userId, String email) {
         Date now = new Date();  // 현재 시간 생성
         Date expiry = new Date(now.getTime() + expirationMs);
 
         return Jwts.builder()
                 .setHeaderParam("typ", "JWT")                    // typ 명시 (선택적이지만 권장됨)
                 .setSubject(email)                                          // JWT의 subject 필드에 email 저장
+                .claim(USER_ID_CLAIM, userId)                               // 사용자 id
                 .setIssuedAt(now)                                           // 발급 시간
-                .setExpiration(new Date(now.getTime() + expirationMs))      // 만료 시간
+                .setExpiration(expiry)                                      // 만료 시간
                 .signWith(key, SignatureAlgorithm.HS256)                    // HS256 알고리즘 + 키로 서명
                 .compact();                                                 // JWT 문자열로 변환
     }
 
-    // 토큰에서 이메일(subject)을 추출
-    public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)         // 서명 검증용 키 설정
-                .build()
-                .parseClaimsJws(token)      // 서명 검증 및 claim 파싱
-                .getBody()
-                .getSubject();              // 이메일 반환
+    /**
+     * 토큰의 서명과 만료 여부를 검증하고 클레임을 반환한다.
+     *
+     * - 이미 검증된 토큰(같은 다이제스트)이면 캐시된 클레임을 바로 반환한다. (HMAC 검증, Base64/JSON 디코딩 생략)
+     * - 처음 보는 토큰이면 한 번 파싱/검증한 뒤 캐시에 넣는다.
+     *
+     * @param token JWT 문자열
+     * @return 검증된 클레임
+     * @throws JwtException 서명이 틀리거나, 만료됐거나, 형식이 이상한 경우
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우
+     */
+    public TokenClaims parseToken(String token) {
+        String digest = TokenDigest.of(token);
+        TokenClaims cached = verifiedTokenCache.get(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();     // 서명 검증 및 claim 파싱
+        TokenClaims verified = new TokenClaims(
+                digest,
+                claims.get(USER_ID_CLAIM, Long.class),      // uid 가 없는 토큰이면 null
+                claims.getSubject(),
+                claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE   // exp 가 없는 토큰은 발급하지 않지만 방어적으로 처리
+        );
+        verifiedTokenCache.put(digest, verified);
+        return verified;
     }
 
-    // 토큰 유효성 검사 (형식 및 서명 체크)
-    public boolean isTokenValid(String token) {
+    /**
+     * 토큰을 한 번만 검증하고 클레임을 반환한다. (인증 필터에서 사용)
+     *
+     * @param token JWT 문자열
+     * @return 검증된 클레임, 유효하지 않으면 null
+     */
+    public TokenClaims verify(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)         // 서명 검증용 키 설정
-                    .build()
-                    .parseClaimsJws(token);     // 예외 발생 없으면 유효함
-            return true;
+            return parseToken(token);
         } catch (JwtException | IllegalArgumentException e) {
-            // 서명이 틀리거나, 만료됐거나, 형식이 이상하면 false 반환
+            // 서명이 틀리거나, 만료됐거나, 형식이 이상하면 null 반환
             log.warn("JWT 유효성 검사 실패: {} - {}", e.getClass().getSimpleName(), e.getMessage());
-            return false;
+            return null;
         }
     }
 
+    // 토큰에서 인증 사용자 정보(uid, email)를 추출
+    public AuthUser getAuthUserFromToken(String token) {
+        return parseToken(token).toAuthUser();
+    }
+
+    // 토큰에서 이메일(subject)을 추출
+    public String getEmailFromToken(String token) {
+        return parseToken(token).email();
+    }
+
+    // 토큰 유효성 검사 (형식 및 서명 체크)
+    public boolean isTokenValid(String token) {
+        return verify(token) != null;
+    }
+
     @Value("${jwt.refresh-token-validity-in-ms}")
     private long refreshTokenValidityInMs;      // Refresh Token의 유효 기간 (application.yml에서 주입)
 
@@ -96,16 +145,8 @@ public class JwtUtil {
 
     // Access Token 남은 유효시간 반환 메서드
     public long getTokenRemainingTime(String token) {
-        // 1. JWT 파서 객체를 생성하고 서명 키를 설정함
-        //    -> 이 키를 이용해 토큰의 서명 유효성을 검증하면서 파싱 수행
-        Date expiration = Jwts.parserBuilder()
-                .setSigningKey(key)                    // JWT 검증을 위한 서명 키 설정
-                .build()
-                .parseClaimsJws(token)                 // 토큰 파싱 및 서명 검증 (Claims 추출)
-                .getBody()
-                .getExpiration();                      // Claims에서 만료 시간(Date) 추출
-
-        // 2. 만료 시각과 현재 시간의 차이를 계산 -> 남은 시간 (ms)
-        return expiration.getTime() - System.currentTimeMillis();
+        // 검증된 클레임의 만료 시각과 현재 시간의 차이 -> 남은 시간 (ms)
+        // (요청 초반 인증 필터에서 이미 검증했으므로 보통 캐시에서 바로 꺼낸다)
+        return parseToken(token).expiresAtMs() - System.currentTimeMillis();
     }
 }
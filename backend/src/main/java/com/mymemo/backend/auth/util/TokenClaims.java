@@ -0,0 +1,22 @@
+package com.mymemo.backend.auth.util;
+
+import com.mymemo.backend.auth.principal.AuthUser;
+
+/**
+ * 서명 검증이 끝난 JWT 에서 애플리케이션이 사용하는 클레임만 추린 값 객체
+ *
+ * @param tokenId 토큰 식별자 (TokenDigest.of(token), 블랙리스트 키로 사용)
+ * @param userId 사용자 id (uid 클레임, Refresh Token 이나 이전 Access Token 이면 null)
+ * @param email 사용자 이메일 (subject)
+ * @param expiresAtMs 만료 시각 (epoch ms)
+ */
+public record TokenClaims(String tokenId, Long userId, String email, long expiresAtMs) {
+
+    public boolean isExpired(long nowMs) {
+        return nowMs >= expiresAtMs;
+    }
+
+    public AuthUser toAuthUser() {
+        return new AuthUser(userId, email);
+    }
+}
@@ -0,0 +1,39 @@
+package com.mymemo.backend.auth.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * JWT 문자열을 고정 길이(43자) 식별자로 바꾸는 유틸 클래스
+ *
+ * 토큰 원문 대신 SHA-256 다이제스트(Base64 URL-safe)를 캐시 키로 사용해 메모리를 줄이고,
+ * 원문 토큰이 로그나 저장소 키에 남지 않도록 한다.
+ */
+public final class TokenDigest {
+
+    public static final int LENGTH = 43;
+
+    private TokenDigest() {}
+
+    public static String of(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));     // JWT 는 Base64URL + '.' 로만 구성
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);     // 모든 JVM 이 SHA-256 을 지원하므로 발생하지 않음
+        }
+    }
+
+    // of() 로 만든 다이제스트인지 여부 (SHA-256 = 32바이트 -> Base64 43자)
+    public static boolean isDigest(String value) {
+        return value != null && value.length() == LENGTH && value.indexOf('.') < 0;
+    }
+
+    // 다이제스트 문자열 -> SHA-256 원본 32바이트
+    public static byte[] decode(String digest) {
+        return Base64.getUrlDecoder().decode(digest);
+    }
+}
@@ -0,0 +1,69 @@
+package com.mymemo.backend.auth.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임을 보관하는 크기 제한 캐시
+ *
+ * - 키는 토큰의 SHA-256 다이제스트(TokenDigest)이다. 같은 다이제스트 = 같은 토큰이므로
+ *   한 번 검증된 토큰은 이후 요청에서 HMAC 검증과 Base64/JSON 디코딩을 생략할 수 있다.
+ * - 만료된 토큰은 조회 시점에 제거되어 절대 반환되지 않는다.
+ * - 최대 크기를 넘으면 만료된 항목부터 정리하고, 그래도 넘치면 임의의 항목을 일부 제거한다.
+ *   (정확한 LRU 는 아니지만 락 없이 동작하고, 제거된 토큰은 다시 검증하면 되므로 정확성에는 영향이 없다)
+ */
+public class VerifiedTokenCache {
+
+    private final Map<String, TokenClaims> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return 캐시된 클레임, 없거나 만료되었으면 null
+     */
+    public TokenClaims get(String digest) {
+        if (maxSize <= 0) {
+            return null;
+        }
+        TokenClaims claims = entries.get(digest);
+        if (claims == null) {
+            return null;
+        }
+        if (claims.isExpired(System.currentTimeMillis())) {
+            entries.remove(digest, claims);
+            return null;
+        }
+        return claims;
+    }
+
+    public void put(String digest, TokenClaims claims) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(digest, claims);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(claims -> claims.isExpired(now));
+
+        // 만료 항목 정리 후에도 가득 차 있으면 1/10 정도를 비운다
+        int toRemove = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (toRemove-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
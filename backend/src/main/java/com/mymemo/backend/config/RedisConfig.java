@@ -1,17 +1,30 @@
 package com.mymemo.backend.config;
 
+import com.mymemo.backend.auth.service.TokenBlacklist;
+import com.mymemo.backend.memo.cache.PublicMemoCache;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 public class RedisConfig {
 
+    @Value("${spring.data.redis.host:localhost}")
+    private String host;
+
+    @Value("${spring.data.redis.port:6379}")
+    private int port;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {    // Redis와의 연결을 위한 팩토리 객체 생성
-        return new LettuceConnectionFactory();      // host/port는 application.yml에서 자동 주입   => application.yml에 설정한 host, port를 자동으로 읽는다.
+        // 기본 생성자는 항상 localhost:6379 로 연결하므로 application.yml 의 host, port 를 직접 넘긴다.
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
     }
 
     @Bean
@@ -20,4 +33,14 @@ public class RedisConfig {
         template.setConnectionFactory(redisConnectionFactory());
         return template;
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(TokenBlacklist tokenBlacklist,
+                                                                        PublicMemoCache publicMemoCache) {   // Redis pub/sub 구독 (노드 간 캐시 동기화)
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.addMessageListener(tokenBlacklist, new ChannelTopic(TokenBlacklist.CHANNEL));     // 로그아웃 토큰 블랙리스트
+        container.addMessageListener(publicMemoCache, new ChannelTopic(PublicMemoCache.CHANNEL));   // 공개 메모 캐시 무효화
+        return container;
+    }
 }
@@ -1,12 +1,13 @@
 package com.mymemo.backend.config;
 
 import com.mymemo.backend.auth.filter.JwtAuthenticationFilter;
+import com.mymemo.backend.auth.service.TokenBlacklist;
 import com.mymemo.backend.auth.util.JwtUtil;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -23,7 +24,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
-    private final StringRedisTemplate redisTemplate;
+    private final TokenBlacklist tokenBlacklist;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -33,7 +34,7 @@ public class SecurityConfig {
     // JwtAuthenticationFilter는 공통이므로 따로 @Bean 등록
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtil, redisTemplate);
+        return new JwtAuthenticationFilter(jwtUtil, tokenBlacklist);
     }
 
     @Bean
@@ -43,6 +44,7 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // 스트리밍 응답(메모 내보내기)의 async 재디스패치 - 최초 요청에서 이미 인가됨
                         .requestMatchers(
                                 "/api/auth/**",     // 로그인, 회원가입 등은 인증 없이 허용
                                 "/api/memos/public/**",     // 비회원도 접근 가능하도록 허용
@@ -66,6 +68,7 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(sess -> sess.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/auth/**",
                                 "/api/memos/public/**"      // 공개 메모 조회 허용
@@ -73,7 +76,7 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 .formLogin(form -> form.disable())
-                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, redisTemplate), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, tokenBlacklist), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,55 @@
+package com.mymemo.backend.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 실행 모드 설정 (spring.threads.virtual.enabled=true, Java 21 이상일 때만 적용)
+ *
+ * - Tomcat 요청 처리, @Scheduled, 비동기 작업은 Spring Boot 가 가상 스레드로 전환한다.
+ * - 여기서는 DataSource 앞에 Hikari 풀 크기만큼의 세마포어를 둬서 DB 동시 사용량을 제한한다.
+ *   (스레드 수 상한이 사라져도 풀 대기열이 무한정 길어지지 않도록)
+ *
+ * 가상 스레드 고정(pinning) 주의:
+ * - synchronized 블록 안에서 블로킹하면 캐리어 스레드가 묶인다. 애플리케이션 코드의 락은 ReentrantLock /
+ *   ReentrantReadWriteLock 만 사용하고, 캐시/single-flight 는 ConcurrentHashMap.computeIfAbsent 안에서 I/O 를 하지 않는다.
+ * - Lettuce 는 Netty 위에서 동작하고 동기 호출은 Future 대기(파킹)라 고정되지 않는다.
+ * - MySQL 드라이버는 소켓 I/O 를 synchronized 안에서 수행하는 구간이 있어 고정될 수 있다.
+ *   세마포어 덕분에 동시에 고정되는 스레드는 풀 크기 이하로 제한된다. (-Djdk.tracePinnedThreads=short 로 확인)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        long acquireTimeoutMs = environment.getProperty("db.acquire-timeout-ms", Long.class, 30_000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitingDataSource) {
+                    return bean;
+                }
+                HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+                if (hikari == null) {
+                    return bean;
+                }
+                int poolSize = hikari.getMaximumPoolSize();
+                log.info("[VirtualThreadConfig] DataSource '{}' 동시 사용 상한 {} (Hikari maximum-pool-size)", beanName, poolSize);
+                return new ConcurrencyLimitingDataSource(dataSource, poolSize, acquireTimeoutMs);
+            }
+        };
+    }
+}
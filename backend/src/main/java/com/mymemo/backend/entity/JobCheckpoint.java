@@ -0,0 +1,53 @@
+package com.mymemo.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주기 작업의 진행 위치 (keyset 체크포인트)
+ *
+ * - 작업은 (lastTimestamp, lastId) 보다 뒤의 행부터 이어서 처리하므로, 재시작해도 처음부터 다시 훑지 않는다.
+ *   lastTimestamp 는 작업의 정렬 기준 시각이다. (정리 작업: deletedAt, 콜드 티어 이동: updatedAt)
+ * - 청크마다 이 행을 비관적 락으로 잡으므로 여러 노드에서 같은 작업이 돌아도 청크 단위로 직렬화된다.
+ */
+@Getter
+@Entity
+@Table(name = "job_checkpoint")
+public class JobCheckpoint {
+
+    // 아직 처리한 행이 없을 때의 위치 (DATETIME 범위 안의 충분히 이른 시각)
+    public static final LocalDateTime INITIAL_POSITION = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime lastTimestamp;
+
+    @Column(nullable = false)
+    private long lastId;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected JobCheckpoint() {}
+
+    public JobCheckpoint(String name) {
+        this.name = name;
+        this.lastTimestamp = INITIAL_POSITION;
+        this.lastId = 0;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 마지막으로 처리한 행의 위치로 체크포인트를 옮긴다.
+     */
+    public void advance(LocalDateTime lastTimestamp, long lastId) {
+        this.lastTimestamp = lastTimestamp;
+        this.lastId = lastId;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -1,22 +1,50 @@
 package com.mymemo.backend.entity;
 
+import com.mymemo.backend.entity.converter.MemoCategoryConverter;
+import com.mymemo.backend.entity.converter.UuidBinaryConverter;
+import com.mymemo.backend.entity.converter.VisibilityConverter;
 import com.mymemo.backend.entity.enums.MemoCategory;
 import com.mymemo.backend.entity.enums.Visibility;
 import com.mymemo.backend.global.exception.CustomException;
 import com.mymemo.backend.global.exception.ErrorCode;
+import com.mymemo.backend.global.util.UuidV7;
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.time.temporal.ChronoUnit;
 
 @Getter
 @Entity
-@Table(name = "memo")
+@Table(name = "memo", indexes = {
+        // 목록/검색/커서 조회: WHERE user_id = ? AND is_deleted = ? ORDER BY is_pinned DESC, pin_order, updated_at DESC, id DESC
+        @Index(name = "idx_memo_user_list", columnList = "user_id, is_deleted, is_pinned DESC, pin_order, updated_at DESC, id DESC"),
+        // 작성순 정렬(sort=createdAt,desc) 목록 조회
+        @Index(name = "idx_memo_user_created", columnList = "user_id, is_deleted, is_pinned DESC, pin_order, created_at DESC, id DESC"),
+        // 목록 패싯(카테고리별/공개 여부별 개수): WHERE user_id = ? AND is_deleted = false GROUP BY category, visibility, is_pinned
+        @Index(name = "idx_memo_user_facet", columnList = "user_id, is_deleted, category, visibility, is_pinned"),
+        // 변경 피드(MemoChangeService): WHERE user_id = ? AND (change_seq, id) > (?, ?) ORDER BY change_seq, id
+        @Index(name = "idx_memo_user_change", columnList = "user_id, change_seq, id"),
+        // 삭제된 메모 정리(MemoPurgeService): WHERE is_deleted = true AND deleted_at < ? ORDER BY deleted_at, id
+        @Index(name = "idx_memo_purge", columnList = "is_deleted, deleted_at, id"),
+        // 콜드 티어 이동(MemoColdTierService): WHERE cold_segment IS NULL AND updated_at < ? ORDER BY updated_at, id
+        @Index(name = "idx_memo_tier", columnList = "cold_segment, updated_at, id")
+})
 public class Memo {
 
+    // IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC 배치가 꺼진다.
+    // 테이블 기반 pooled 생성기로 id 를 100개씩 미리 할당받아 INSERT 를 배치로 묶는다. (application.yml 의 batch_size 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "memo_id_generator")
+    @TableGenerator(
+            name = "memo_id_generator",
+            table = "id_generator",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "memo",
+            allocationSize = Memo.ID_ALLOCATION_SIZE
+    )
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -30,18 +58,23 @@ public class Memo {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    // 목록 조회용 미리보기 (content 앞 100자). 목록 쿼리가 TEXT 컬럼을 읽지 않도록 쓰기 시점에 저장해 둔다.
+    @Column(nullable = false, length = PREVIEW_LENGTH + 3)
+    private String preview;
+
     @Column(nullable = false)
     private boolean isPinned;
 
     @Column(nullable = false)
     private boolean isDeleted;
 
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false, length = 10)
+    // enum 은 고정 코드(TINYINT, 1바이트)로 저장 - 코드 매핑은 각 enum 에 정의
+    @Convert(converter = VisibilityConverter.class)
+    @Column(nullable = false, columnDefinition = "TINYINT")
     private Visibility visibility;
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "category", nullable = false, length = 10)
+    @Convert(converter = MemoCategoryConverter.class)
+    @Column(name = "category", nullable = false, columnDefinition = "TINYINT")
     private MemoCategory memoCategory;
 
     @Column(nullable = false)
@@ -53,28 +86,89 @@ public class Memo {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
-    @Column(unique = true, nullable = false, updatable = false)
+    // 삭제(soft delete)된 시각 - 보존 기간이 지나면 MemoPurgeService 가 memo_archive 로 옮긴다. (삭제되지 않은 메모는 null)
+    private LocalDateTime deletedAt;
+
+    // 내용이 콜드 세그먼트 파일로 옮겨진 경우 그 세그먼트 번호 (content 는 빈 문자열) - memo/cold/ColdMemoStore 참고
+    private Integer coldSegment;
+
+    // 마지막으로 바뀐 시점의 사용자별 변경 순번 (users.change_seq 에서 할당) - 변경 피드(GET /api/memos/changes)의 정렬 키
+    // 일괄 처리는 UPDATE 문에서 직접 바꾼다. (MemoChangeService 참고)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long changeSeq;
+
+    // 시간순 UUIDv7 을 BINARY(16)으로 저장 (API/엔티티에서는 기존과 같은 문자열 형식)
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(unique = true, nullable = false, updatable = false, columnDefinition = "BINARY(16)")
     private String uuid;
 
+    public static final int PREVIEW_LENGTH = 100;   // 미리보기 최대 글자 수 (초과 시 "..." 추가)
+    public static final int ID_ALLOCATION_SIZE = 100;   // id 생성기가 한 번에 할당받는 id 개수
+
     protected Memo() {}     // protected를 하여 불필요한 객체 생성 가능성 방지
 
     @PrePersist
     protected void onCreate() {
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = this.createdAt;
+        // 가져오기(import)로 시각이 복원된 메모는 그대로 둔다
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+        if (this.updatedAt == null) {
+            this.updatedAt = this.createdAt;
+        }
+    }
+
+    /**
+     * 다른 곳에서 내보낸 메모의 작성/수정 시각을 복원한다. (저장 전에만 호출)
+     * null 인 값은 저장 시각으로 채워지고, 수정 시각이 작성 시각보다 앞서면 작성 시각으로 맞춘다.
+     */
+    public void restoreTimestamps(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.createdAt = createdAt;
+        this.updatedAt = (createdAt != null && updatedAt != null && updatedAt.isBefore(createdAt)) ? createdAt : updatedAt;
+        if (this.createdAt == null && this.updatedAt != null) {
+            this.createdAt = this.updatedAt;
+        }
     }
 
     public void softDelete() {
         this.isDeleted = true;
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public boolean isCold() {
+        return coldSegment != null;
+    }
+
+    /**
+     * 내용을 콜드 세그먼트에 기록한 뒤 호출한다. DB 행에는 내용 대신 세그먼트 번호만 남긴다.
+     * (수정 시각은 바꾸지 않는다)
+     */
+    public void moveToColdTier(int segmentId) {
+        this.content = "";
+        this.coldSegment = segmentId;
+    }
+
+    /**
+     * 콜드 세그먼트에서 읽은 내용을 다시 DB 행으로 되돌린다. (수정 전에 호출)
+     */
+    public void moveToHotTier(String content) {
+        this.content = content;
+        this.coldSegment = null;
     }
 
     public void updatePinOrder(int pinOrder) {
         this.pinOrder = pinOrder;
     }
 
+    // 이 메모를 바꾼 쓰기의 변경 순번 (같은 트랜잭션에서 MemoChangeService.next 로 할당받은 값)
+    public void markChanged(long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
     // 기존 생성자에 누락된 필드들 추가
     // -> visibility, isPinned, isDeleted, pinOrder 를 인자로 받아 초기화
-    public Memo(User user, String title, String content, MemoCategory memoCategory, Visibility visibility, boolean isPinned, boolean isDeleted, int pinOrder, String uuid) {
+    public Memo(User user, String title, String content, MemoCategory memoCategory, Visibility visibility, boolean isPinned, boolean isDeleted, int pinOrder) {
         if (user == null) {
             throw new CustomException(ErrorCode.UNAUTHORIZED_ACCESS);
         }
@@ -90,6 +184,7 @@ public class Memo {
             this.title = title;
         }
         this.content = content;
+        this.preview = previewOf(content);
 
         if (memoCategory == null) {
             this.memoCategory = MemoCategory.ETC;
@@ -106,7 +201,7 @@ public class Memo {
         this.isPinned = isPinned;
         this.isDeleted = isDeleted;
         this.pinOrder = pinOrder;
-        this.uuid = UUID.randomUUID().toString();
+        this.uuid = UuidV7.generate().toString();      // 시간순 UUID - 새 메모가 uuid 인덱스의 끝에 추가된다
     }
 
     // update 를 아래에서 조건부로 처리하고 있기 때문에 주석 처리
@@ -129,6 +224,9 @@ public class Memo {
         } else {
             this.title = title;
         }
+        if (contentChanged || content == null || this.preview == null) {
+            this.preview = previewOf(content);      // 내용이 그대로면 미리보기 문자열을 다시 만들지 않는다
+        }
         this.content = content;
 
         this.memoCategory = (memoCategory == null) ? MemoCategory.ETC : MemoCategory.from(memoCategory.name());
@@ -137,8 +235,26 @@ public class Memo {
         this.isPinned = isPinned;
 
         // 제목, 내용, 카테고리, 공개여부 중 하나라도 바뀌었으면 updatedAt 갱신 - pinned 여부만 바꿨으면 수정 시각은 변하지 않게 했다. UX 고려.
+        // DATETIME(6) 에 저장되는 값과 같도록 마이크로초까지만 남긴다 (수정 응답의 ETag 가 이후 조회와 일치해야 한다)
         if (titleChanged || contentChanged || categoryChanged || visibilityChanged) {
-            this.updatedAt = LocalDateTime.now();
+            this.updatedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        }
+    }
+
+    /**
+     * 메모 내용으로 목록용 미리보기 문자열을 만든다.
+     * 내용이 100자를 넘으면 앞 100자 뒤에 "..." 를 붙인다.
+     *
+     * @param content 메모 내용
+     * @return 미리보기 문자열 (내용이 비어 있으면 빈 문자열)
+     */
+    public static String previewOf(String content) {
+        if (content == null || content.isBlank()) {
+            return "";
+        }
+        if (content.length() <= PREVIEW_LENGTH) {
+            return content;
         }
+        return content.substring(0, PREVIEW_LENGTH) + "...";
     }
 }
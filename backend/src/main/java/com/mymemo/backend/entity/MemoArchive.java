@@ -0,0 +1,79 @@
+package com.mymemo.backend.entity;
+
+import com.mymemo.backend.entity.converter.MemoCategoryConverter;
+import com.mymemo.backend.entity.converter.UuidBinaryConverter;
+import com.mymemo.backend.entity.converter.VisibilityConverter;
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존 기간이 지난 삭제 메모의 보관 테이블 (휴지통)
+ *
+ * - 행은 MemoArchiveRepository 의 INSERT ... SELECT 로만 옮겨지므로 컬럼은 memo 테이블과 같은 이름/형식을 쓴다.
+ *   (id, uuid 도 그대로 유지되어 복원하면 원래 메모로 돌아간다)
+ * - 메모 목록 인덱스에 삭제된 행이 쌓이지 않도록 memo 테이블과 분리한다.
+ */
+@Getter
+@Entity
+@Table(name = "memo_archive", indexes = {
+        // 휴지통 조회: WHERE user_id = ? ORDER BY deleted_at DESC, id DESC
+        @Index(name = "idx_memo_archive_user", columnList = "user_id, deleted_at DESC, id DESC"),
+        // 콜드 세그먼트 정리: GROUP BY cold_segment / WHERE cold_segment IN (?)
+        @Index(name = "idx_memo_archive_cold", columnList = "cold_segment")
+})
+public class MemoArchive {
+
+    @Id
+    private Long id;    // 원래 memo.id
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(nullable = false, length = Memo.PREVIEW_LENGTH + 3)
+    private String preview;
+
+    @Column(nullable = false)
+    private boolean isPinned;
+
+    @Convert(converter = VisibilityConverter.class)
+    @Column(nullable = false, columnDefinition = "TINYINT")
+    private Visibility visibility;
+
+    @Convert(converter = MemoCategoryConverter.class)
+    @Column(name = "category", nullable = false, columnDefinition = "TINYINT")
+    private MemoCategory memoCategory;
+
+    @Column(nullable = false)
+    private int pinOrder;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;   // memo 테이블에서 옮겨진 시각
+
+    private Integer coldSegment;    // 콜드 티어로 옮겨진 메모였다면 세그먼트 번호 (content 는 빈 문자열)
+
+    @Convert(converter = UuidBinaryConverter.class)
+    @Column(unique = true, nullable = false, updatable = false, columnDefinition = "BINARY(16)")
+    private String uuid;
+
+    protected MemoArchive() {}
+}
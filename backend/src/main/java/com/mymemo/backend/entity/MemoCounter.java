@@ -0,0 +1,48 @@
+package com.mymemo.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 사용자별 메모 수 카운터의 줄무늬(stripe) 행 하나
+ *
+ * - 카운터 하나(name)는 stripe 0 ~ (memo.counter.stripes - 1) 행으로 나뉘고, 값은 모든 stripe 의 합이다.
+ *   쓰기는 임의의 stripe 행에 증감량을 더하므로(INSERT ... ON DUPLICATE KEY UPDATE) 같은 사용자의 동시 쓰기가
+ *   한 행의 잠금을 기다리지 않는다.
+ * - 이름은 MemoCounts 참고 (total, pinned, deleted, category:{code}, visibility:{code}, initialized)
+ * - 행은 네이티브 쿼리로만 쓰고 지운다. (MemoCounterRepository)
+ */
+@Getter
+@Entity
+@Table(name = "memo_counter")
+public class MemoCounter {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(nullable = false)
+    private long amount;
+
+    protected MemoCounter() {}
+
+    @Getter
+    @Embeddable
+    @EqualsAndHashCode
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    public static class Key implements Serializable {
+
+        @Column(name = "user_id", nullable = false)
+        private Long userId;
+
+        @Column(length = 32, nullable = false)
+        private String name;
+
+        @Column(nullable = false)
+        private int stripe;
+    }
+}
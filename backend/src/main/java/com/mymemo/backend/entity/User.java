@@ -3,6 +3,8 @@ package com.mymemo.backend.entity;
 import com.mymemo.backend.global.exception.CustomException;
 import com.mymemo.backend.global.exception.ErrorCode;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -29,6 +31,24 @@ public class User {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    // 다음에 고정할 메모의 pinOrder 를 정하는 카운터 (고정할 때마다 PinOrderService.GAP 씩 감소, 항상 고정 메모의 최소 pinOrder 이하)
+    // 엔티티로는 바꾸지 않고 UserRepository 의 UPDATE 로만 변경한다. (동시 고정 시 행 잠금으로 직렬화)
+    // updatable = false: 조회해 둔 User 의 변경 감지 UPDATE 가 오래된 값을 덮어쓰지 않도록 (아래 순번 컬럼도 같음)
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private int pinCounter;
+
+    // 마지막으로 할당한 메모 변경 순번 (메모를 바꾸는 쓰기마다 1 증가 - MemoChangeService.next)
+    // pinCounter 와 같이 UserRepository 의 UPDATE 로만 변경하며, 행 잠금 때문에 같은 사용자의 순번은 커밋 순서와 같다.
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long changeSeq;
+
+    // 정리 작업(MemoPurgeService)이 memo 테이블에서 치운 메모 중 가장 큰 변경 순번 - 이보다 오래된 변경 커서는 삭제를 놓칠 수 있다
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long purgedChangeSeq;
+
     protected User() {}     // protected를 하여 JPA는 호출 가능, 외부 코드에서는 직접 호출 제한됨 (불필요한 객체 생성 가능성 방지)
 
     @PrePersist
@@ -0,0 +1,22 @@
+package com.mymemo.backend.entity.converter;
+
+import com.mymemo.backend.entity.enums.MemoCategory;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * MemoCategory <-> TINYINT 코드 변환기 (코드는 MemoCategory 에 고정)
+ */
+@Converter
+public class MemoCategoryConverter implements AttributeConverter<MemoCategory, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(MemoCategory attribute) {
+        return attribute == null ? null : attribute.getCode();
+    }
+
+    @Override
+    public MemoCategory convertToEntityAttribute(Integer dbData) {
+        return dbData == null ? null : MemoCategory.fromCode(dbData);
+    }
+}
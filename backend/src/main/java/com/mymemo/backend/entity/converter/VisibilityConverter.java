@@ -0,0 +1,22 @@
+package com.mymemo.backend.entity.converter;
+
+import com.mymemo.backend.entity.enums.Visibility;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Visibility <-> TINYINT 코드 변환기 (코드는 Visibility 에 고정)
+ */
+@Converter
+public class VisibilityConverter implements AttributeConverter<Visibility, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(Visibility attribute) {
+        return attribute == null ? null : attribute.getCode();
+    }
+
+    @Override
+    public Visibility convertToEntityAttribute(Integer dbData) {
+        return dbData == null ? null : Visibility.fromCode(dbData);
+    }
+}
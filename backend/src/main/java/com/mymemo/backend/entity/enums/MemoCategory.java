@@ -2,16 +2,39 @@ package com.mymemo.backend.entity.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 
-import static com.mymemo.backend.entity.enums.Visibility.PUBLIC;
-
+/**
+ * 메모 카테고리
+ *
+ * DB 에는 code(TINYINT)로 저장된다. (MemoCategoryConverter)
+ * 이미 저장된 데이터의 의미가 바뀌므로 code 값은 변경하거나 재사용하지 않는다. 새 항목은 새 code 로 추가한다.
+ */
 public enum MemoCategory {
-    WORK,
-    HOBBY,
-    PERSONAL,
-    URGENT,
-    STUDY,
-    IDEA,
-    ETC;     // 기본값
+    WORK(1),
+    HOBBY(2),
+    PERSONAL(3),
+    URGENT(4),
+    STUDY(5),
+    IDEA(6),
+    ETC(7);     // 기본값
+
+    private final int code;
+
+    MemoCategory(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public static MemoCategory fromCode(int code) {
+        for (MemoCategory category : values()) {
+            if (category.code == code) {
+                return category;
+            }
+        }
+        throw new IllegalArgumentException("Unknown MemoCategory code: " + code);
+    }
 
     @JsonCreator
     public static MemoCategory from(String value) {
@@ -2,8 +2,35 @@ package com.mymemo.backend.entity.enums;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 
+/**
+ * 메모 공개 여부
+ *
+ * DB 에는 code(TINYINT)로 저장된다. (VisibilityConverter)
+ * 이미 저장된 데이터의 의미가 바뀌므로 code 값은 변경하거나 재사용하지 않는다.
+ */
 public enum Visibility {
-    PUBLIC, PRIVATE;
+    PUBLIC(1),
+    PRIVATE(2);
+
+    private final int code;
+
+    Visibility(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    // 알 수 없는 코드는 PUBLIC 으로 대체하지 않고 예외를 던진다. (비공개 메모가 노출되지 않도록)
+    public static Visibility fromCode(int code) {
+        for (Visibility visibility : values()) {
+            if (visibility.code == code) {
+                return visibility;
+            }
+        }
+        throw new IllegalArgumentException("Unknown Visibility code: " + code);
+    }
 
     @JsonCreator
     public static Visibility from(String value) {
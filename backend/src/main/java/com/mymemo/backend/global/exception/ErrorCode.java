@@ -24,7 +24,20 @@ public enum ErrorCode {
     REFRESH_TOKEN_MISMATCH("요청한 Refresh Token이 저장된 토큰과 일치하지 않습니다.", HttpStatus.UNAUTHORIZED),
     INVALID_REFRESH_TOKEN("Refresh Token이 유효하지 않습니다.", HttpStatus.UNAUTHORIZED),
     TOKEN_BLACKLISTED("로그아웃된 토큰입니다.", HttpStatus.UNAUTHORIZED),
-    MEMO_PRIVATE_ACCESS_DENIED("비공개 메모는 소유자만 조회할 수 있습니다.", HttpStatus.FORBIDDEN)
+    MEMO_PRIVATE_ACCESS_DENIED("비공개 메모는 소유자만 조회할 수 있습니다.", HttpStatus.FORBIDDEN),
+    INVALID_CURSOR("잘못된 페이지 커서입니다.", HttpStatus.BAD_REQUEST),
+    INVALID_SORT("지원하지 않는 정렬 기준입니다. (updatedAt,desc 또는 createdAt,desc)", HttpStatus.BAD_REQUEST),
+    INVALID_FILTER("잘못된 필터 값입니다. (카테고리, 공개 여부, 고정 여부, 기간을 확인해주세요)", HttpStatus.BAD_REQUEST),
+    INVALID_BULK_SIZE("한 번에 생성할 수 있는 메모 개수를 벗어났습니다. (1 ~ 1000개)", HttpStatus.BAD_REQUEST),
+    INVALID_IMPORT_RECORD("가져올 수 없는 메모 형식입니다.", HttpStatus.BAD_REQUEST),
+    IMPORT_SAVE_FAILED("메모를 저장하지 못했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    INVALID_BATCH_SIZE("한 번에 처리할 수 있는 메모 개수를 벗어났습니다. (1 ~ 1000개)", HttpStatus.BAD_REQUEST),
+    MEMO_NOT_PINNED("고정된 메모만 순서를 바꿀 수 있습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_PIN_POSITION("잘못된 고정 위치입니다. 목록을 새로 고친 뒤 다시 시도해주세요.", HttpStatus.BAD_REQUEST),
+    PIN_LIMIT_EXCEEDED("더 이상 메모를 고정할 수 없습니다. 고정된 메모를 일부 해제한 뒤 다시 시도해주세요.", HttpStatus.CONFLICT),
+    MEMO_CONTENT_UNAVAILABLE("메모 내용을 불러오지 못했습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    MEMO_VERSION_MISMATCH("다른 곳에서 먼저 수정된 메모입니다. 새로 고친 뒤 다시 시도해주세요.", HttpStatus.PRECONDITION_FAILED),
+    CHANGE_CURSOR_EXPIRED("동기화한 지 너무 오래되었습니다. 전체 메모를 다시 받아주세요. (since 없이 요청)", HttpStatus.GONE)
     // 필요한 항목 계속 추가 가능
     ;
 
@@ -1,6 +1,8 @@
 package com.mymemo.backend.global.util;
 
+import com.mymemo.backend.auth.principal.AuthUser;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -23,6 +25,21 @@ public class SecurityUtil {
         return SecurityContextHolder.getContext().getAuthentication().getName();
     }
 
+    /**
+     * 현재 SecurityContext에 저장된 인증 정보에서 사용자 id 를 반환한다.
+     *
+     * JwtAuthenticationFilter 가 Access Token 의 uid 클레임으로 만든 AuthUser 에서 꺼내므로 DB 조회가 없다.
+     *
+     * @return 로그인한 사용자의 id, 비로그인이거나 uid 클레임이 없는 이전 토큰이면 null
+     */
+    public static Long getCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.id();
+        }
+        return null;
+    }
+
     /**
      * 현재 HTTP 요청의 Authorization 헤더에서 Access Token 값을 추출한다.
      *
@@ -0,0 +1,43 @@
+package com.mymemo.backend.global.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후에 실행해야 하는 작업(인메모리 인덱스/캐시 갱신 등)을 등록하는 유틸 클래스.
+ *
+ * 롤백된 변경이 DB 밖의 상태에 반영되지 않도록, 활성화된 트랜잭션이 있으면 커밋 이후로 미루고
+ * 트랜잭션이 없으면 즉시 실행한다.
+ */
+@Slf4j
+public class TransactionUtil {
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 action 을 실행한다.
+     * action 에서 발생한 예외는 이미 커밋된 요청을 실패시키지 않도록 로그만 남긴다.
+     *
+     * @param action 커밋 이후 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runSafely(action);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runSafely(action);
+            }
+        });
+    }
+
+    private static void runSafely(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.error("커밋 이후 작업 실행 실패", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.mymemo.backend.init;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 성능 테스트용 합성 데이터 생성 설정 (application.yml 의 load-data.*)
+ *
+ * 예) 사용자 1,000명 x 평균 1,000건 = 메모 100만 건
+ *   load-data.enabled=true, load-data.users=1000, load-data.memos-per-user=1000
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "load-data")
+public class LoadDataProperties {
+
+    private boolean enabled = false;            // true 일 때만 애플리케이션 시작 시 생성
+    private int users = 10;                     // 생성(또는 재사용)할 사용자 수
+    private int memosPerUser = 1000;            // 사용자당 평균 메모 수 (전체 = users * memosPerUser)
+    private String emailPrefix = "loadtest-";   // 사용자 이메일: {prefix}{번호}@example.com, 비밀번호는 password
+    private double userSkew = 0.0;              // 사용자별 메모 수 편중 (Zipf 지수, 0 = 균등, 1 = 상위 사용자에 집중)
+    private double pinnedRatio = 0.02;          // 고정 메모 비율
+    private double publicRatio = 0.3;           // 공개 메모 비율
+    private double deletedRatio = 0.01;         // 삭제(soft delete)된 메모 비율
+    private int historyDays = 365;              // 작성 시각 분포 범위 (오늘부터 며칠 전까지)
+    private int threads = Runtime.getRuntime().availableProcessors();   // 생성/INSERT 스레드 수
+    private int batchSize = 1000;               // JDBC 배치 크기
+    private long seed = 42L;                    // 같은 설정 + 같은 seed = 같은 데이터
+    private Content content = new Content();
+
+    /**
+     * 메모 내용 길이 분포
+     */
+    @Getter
+    @Setter
+    public static class Content {
+        private Distribution distribution = Distribution.LOG_NORMAL;
+        private int medianLength = 300;         // FIXED: 고정 길이, UNIFORM: 평균 길이, LOG_NORMAL: 중앙값
+        private double sigma = 1.0;             // LOG_NORMAL 의 표준편차 (클수록 긴 메모가 많아진다)
+        private int maxLength = 20_000;         // 최대 길이
+    }
+
+    public enum Distribution {
+        FIXED, UNIFORM, LOG_NORMAL
+    }
+}
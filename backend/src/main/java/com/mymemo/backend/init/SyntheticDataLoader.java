@@ -0,0 +1,272 @@
+package com.mymemo.backend.init;
+
+import com.mymemo.backend.entity.Memo;
+import com.mymemo.backend.entity.converter.UuidBinaryConverter;
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+import com.mymemo.backend.global.util.UuidV7;
+import com.mymemo.backend.memo.service.PinOrderService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 성능 테스트용 합성 데이터 생성기 (사용자 N명 x 메모 M건)
+ *
+ * - load-data.enabled=true 일 때만 애플리케이션 시작 시 실행된다. (설정은 LoadDataProperties 참고)
+ * - JPA 를 거치지 않고 JdbcTemplate 배치 INSERT 로 직접 쓴다. (rewriteBatchedStatements 로 multi-row INSERT)
+ * - 사용자 단위로 작업을 나눠 여러 스레드가 동시에 생성/INSERT 하며, 스레드(작업)마다 seed 가 정해진
+ *   SplittableRandom 을 사용해 공유 락 없이 같은 설정이면 같은 데이터가 만들어진다.
+ * - 메모 id 는 id_generator 에서 전체 개수만큼 한 번에 예약하므로 애플리케이션의 id 생성기와 겹치지 않는다.
+ * - 이미 메모가 있는 사용자는 건너뛴다. (다시 실행해도 중복 생성되지 않음)
+ */
+@Slf4j
+@Component
+@Profile("dev")     // dev 환경에서만 실행됨
+@ConditionalOnProperty(prefix = "load-data", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(LoadDataProperties.class)
+@RequiredArgsConstructor
+public class SyntheticDataLoader implements CommandLineRunner {
+
+    private static final String INSERT_MEMO_SQL =
+            "INSERT INTO memo (id, user_id, title, content, preview, is_pinned, is_deleted, visibility, category, " +
+            "pin_order, created_at, updated_at, deleted_at, uuid) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String[] WORDS = {
+            "메모", "회의", "일정", "아이디어", "정리", "공부", "프로젝트", "할 일", "운동", "독서",
+            "여행", "점심", "코드", "리뷰", "배포", "버그", "설계", "문서", "발표", "주간",
+            "memo", "meeting", "todo", "idea", "review", "deploy", "design", "draft", "note", "plan"
+    };
+
+    private final LoadDataProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    @Override
+    public void run(String... args) throws Exception {
+        long start = System.currentTimeMillis();
+
+        List<Long> userIds = ensureUsers();
+        long[] counts = memoCountsPerUser(userIds);
+
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            log.info("[LoadData] 생성할 메모가 없습니다. (이미 메모가 있는 사용자는 건너뜀)");
+            return;
+        }
+
+        long firstId = reserveMemoIds(total);
+        log.info("[LoadData] 사용자 {}명, 메모 {}건 생성 시작 (threads={}, batch={})",
+                userIds.size(), total, properties.getThreads(), properties.getBatchSize());
+
+        AtomicLong inserted = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, properties.getThreads()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long nextId = firstId;
+            for (int i = 0; i < userIds.size(); i++) {
+                if (counts[i] == 0) {
+                    continue;
+                }
+                long userId = userIds.get(i);
+                long count = counts[i];
+                long idStart = nextId;
+                long seed = properties.getSeed() * 1_000_003L + i;      // 작업(사용자)마다 고정 seed
+                futures.add(executor.submit(() -> insertMemos(userId, count, idStart, new SplittableRandom(seed), inserted)));
+                nextId += count;
+            }
+            for (Future<?> future : futures) {
+                future.get();       // 실패한 작업이 있으면 예외 전파
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - start);
+        log.info("[LoadData] 메모 {}건 생성 완료: {} ms ({} rows/s)", inserted.get(), elapsed, inserted.get() * 1000 / elapsed);
+    }
+
+    // 사용자 N명을 만들고 (이미 있으면 재사용) 번호 순서대로 id 를 반환한다.
+    private List<Long> ensureUsers() {
+        String password = passwordEncoder.encode("password");       // BCrypt 는 느리므로 한 번만 계산해 공유
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(properties.getUsers());
+        for (int i = 0; i < properties.getUsers(); i++) {
+            rows.add(new Object[]{password, "loadtest" + i, email(i), LocalDate.of(2000, 1, 1), now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT IGNORE INTO users (password, nickname, email, birth_date, created_at) VALUES (?, ?, ?, ?, ?)", rows);
+
+        List<Long> ids = new ArrayList<>(properties.getUsers());
+        for (int i = 0; i < properties.getUsers(); i++) {
+            ids.add(jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email(i)));
+        }
+        return ids;
+    }
+
+    private String email(int index) {
+        return properties.getEmailPrefix() + index + "@example.com";
+    }
+
+    // 전체 메모 수(users * memosPerUser)를 Zipf(userSkew) 가중치로 나눈다. 이미 메모가 있는 사용자는 0건
+    private long[] memoCountsPerUser(List<Long> userIds) {
+        int users = userIds.size();
+        double[] weights = new double[users];
+        double weightSum = 0;
+        for (int i = 0; i < users; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, properties.getUserSkew());
+            weightSum += weights[i];
+        }
+
+        long total = (long) users * properties.getMemosPerUser();
+        long[] counts = new long[users];
+        for (int i = 0; i < users; i++) {
+            Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM memo WHERE user_id = ?", Long.class, userIds.get(i));
+            if (existing != null && existing > 0) {
+                log.info("[LoadData] {} 는 이미 메모 {}건이 있어 건너뜁니다.", email(i), existing);
+                continue;
+            }
+            counts[i] = Math.round(total * weights[i] / weightSum);
+        }
+        return counts;
+    }
+
+    /**
+     * id_generator 에서 count 개의 연속된 memo id 를 예약하고 첫 id 를 반환한다.
+     *
+     * Hibernate pooled 생성기는 읽은 값 v 에 대해 (v - 할당크기, v] 범위를 쓰므로,
+     * 값을 v -> v + count 로 올리면 [v - 할당크기 + 1, v - 할당크기 + count] 는 아무도 쓰지 않는 범위가 된다.
+     */
+    private long reserveMemoIds(long count) {
+        // 테이블/행이 아직 없으면 기존 최대 id 이후부터 시작하도록 만든다 (애플리케이션이 메모를 한 번도 저장하지 않은 경우)
+        jdbcTemplate.update("INSERT IGNORE INTO id_generator (sequence_name, next_val) " +
+                "SELECT 'memo', COALESCE(MAX(id), 0) + ? FROM memo", Memo.ID_ALLOCATION_SIZE);
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try (var update = connection.prepareStatement(
+                    "UPDATE id_generator SET next_val = LAST_INSERT_ID(next_val) + ? WHERE sequence_name = 'memo'");
+                 var select = connection.createStatement()) {
+                update.setLong(1, count);
+                update.executeUpdate();
+                try (var rs = select.executeQuery("SELECT LAST_INSERT_ID()")) {     // 같은 커넥션에서 읽어야 한다
+                    rs.next();
+                    return rs.getLong(1) - Memo.ID_ALLOCATION_SIZE + 1;
+                }
+            }
+        });
+    }
+
+    // 한 사용자의 메모 count 건을 만들어 batchSize 단위로 INSERT 한다. (작업 스레드에서 실행)
+    private void insertMemos(long userId, long count, long idStart, SplittableRandom random, AtomicLong inserted) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        long now = System.currentTimeMillis();
+        long historyMs = properties.getHistoryDays() * 86_400_000L;
+        int pinOrder = 0;
+
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (long i = 0; i < count; i++) {
+            long createdAt = now - random.nextLong(Math.max(1, historyMs));
+            long updatedAt = createdAt + random.nextLong(Math.max(1, now - createdAt));
+            boolean pinned = random.nextDouble() < properties.getPinnedRatio();
+            boolean deleted = random.nextDouble() < properties.getDeletedRatio();
+            Visibility visibility = random.nextDouble() < properties.getPublicRatio() ? Visibility.PUBLIC : Visibility.PRIVATE;
+            MemoCategory category = MemoCategory.values()[random.nextInt(MemoCategory.values().length)];
+            String content = content(random);
+
+            batch.add(new Object[]{
+                    idStart + i,
+                    userId,
+                    title(random),
+                    content,
+                    Memo.previewOf(content),
+                    pinned,
+                    deleted,
+                    visibility.getCode(),
+                    category.getCode(),
+                    pinned ? (pinOrder -= PinOrderService.GAP) : 0,     // 나중에 고정한 메모일수록 위 (PinOrderService 와 같은 규칙)
+                    new Timestamp(createdAt),
+                    new Timestamp(updatedAt),
+                    deleted ? new Timestamp(updatedAt) : null,      // 마지막 수정 시각에 삭제된 것으로 본다
+                    UuidBinaryConverter.toBytes(UuidV7.generate(createdAt, random))
+            });
+
+            if (batch.size() == batchSize) {
+                flush(batch, inserted);
+            }
+        }
+        flush(batch, inserted);
+
+        // 고정 순서 카운터를 최소 pinOrder 로 맞춘다 (이후 고정하는 메모가 맨 위에 오도록)
+        jdbcTemplate.update("UPDATE users SET pin_counter = LEAST(pin_counter, ?) WHERE id = ?", pinOrder, userId);
+    }
+
+    private void flush(List<Object[]> batch, AtomicLong inserted) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_MEMO_SQL, batch);
+        inserted.addAndGet(batch.size());
+        batch.clear();
+    }
+
+    private String title(SplittableRandom random) {
+        int words = 1 + random.nextInt(5);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                title.append(' ');
+            }
+            title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return title.toString();
+    }
+
+    private String content(SplittableRandom random) {
+        int length = contentLength(random);
+        StringBuilder content = new StringBuilder(length + 16);
+        while (content.length() < length) {
+            content.append(WORDS[random.nextInt(WORDS.length)]);
+            content.append(random.nextInt(12) == 0 ? '\n' : ' ');
+        }
+        content.setLength(length);
+        return content.toString();
+    }
+
+    private int contentLength(SplittableRandom random) {
+        LoadDataProperties.Content options = properties.getContent();
+        int median = Math.max(1, options.getMedianLength());
+        double length = switch (options.getDistribution()) {
+            case FIXED -> median;
+            case UNIFORM -> 1 + random.nextInt(2 * median);
+            case LOG_NORMAL -> median * Math.exp(options.getSigma() * gaussian(random));
+        };
+        return (int) Math.max(1, Math.min(options.getMaxLength(), Math.round(length)));
+    }
+
+    // 표준 정규분포 난수 (Box-Muller)
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1.0 - random.nextDouble();      // (0, 1]
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+}
@@ -0,0 +1,214 @@
+package com.mymemo.backend.memo.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mymemo.backend.memo.dto.FacetedPageResponseDto;
+import com.mymemo.backend.memo.dto.MemoListResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 메모 목록 앞쪽 페이지(GET /api/memos?page=0) 캐시
+ *
+ * - 완성된 응답(FacetedPageResponseDto, 패싯 포함)을 노드별 힙 캐시(Caffeine)와 Redis 에 저장한다. 적중하면 목록/COUNT 쿼리와 DB 커넥션을 쓰지 않는다.
+ * - 모든 키에 사용자별 세대(generation, Redis "MG:" + userId)가 들어간다. 목록에 영향을 주는 쓰기가 커밋되면
+ *   invalidate() 가 세대를 올리므로 이전 세대의 페이지는 더 이상 조회되지 않는다. (남은 항목은 TTL 로 사라진다)
+ * - 세대는 조회마다 Redis 에서 읽는다. Redis 를 쓸 수 없으면 캐시를 건너뛰고 DB 에서 조회한다.
+ * - 세대 키가 없으면(TTL 만료, eviction, FLUSH) Redis 서버 시각(마이크로초)으로 새로 시작한다.
+ *   0 같은 고정값에서 다시 시작하면 이전 세대의 페이지와 ETag 가 다시 유효해지기 때문이다.
+ *   조회/증가는 각각 Lua 스크립트 하나로 실행한다. (스크립트: resources/redis/memo-list-generation-*.lua)
+ * - 세대를 올리지 못한 경우(쓰기 직후 Redis 장애)에는 redis-ttl 동안 이전 목록이 보일 수 있다.
+ * - 같은 세대를 목록 응답의 ETag 로도 쓴다. (etag 참고)
+ */
+@Slf4j
+@Component
+public class MemoListCache {
+
+    private static final String GENERATION_PREFIX = "MG:";
+    private static final String KEY_PREFIX = "MLF:";     // 패싯을 포함한 페이지 (패싯이 없던 "ML:" 항목은 TTL 로 사라진다)
+    private static final Duration GENERATION_TTL = Duration.ofDays(7);     // 만료되면 그 시각부터 다시 시작한다
+
+    // 현재 세대 - 키가 없으면 시작 값으로 만든다
+    private static final RedisScript<String> READ_GENERATION =
+            RedisScript.of(new ClassPathResource("redis/memo-list-generation-read.lua"), String.class);
+    // 세대 증가 - 키가 없으면 시작 값에서 증가한다
+    private static final RedisScript<Long> INCREMENT_GENERATION =
+            RedisScript.of(new ClassPathResource("redis/memo-list-generation-increment.lua"), Long.class);
+
+    private record Key(long userId, long generation, String sort, int page, int size) {
+
+        String redisKey() {
+            return KEY_PREFIX + userId + ":" + generation + ":" + sort + ":" + page + ":" + size;
+        }
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JavaType pageType;
+    private final Cache<Key, FacetedPageResponseDto<MemoListResponseDto>> heap;
+    private final Duration redisTtl;
+    private final int maxPages;
+    private final int maxPageSize;
+
+    private final Counter heapHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Counter bypasses;
+    private final Counter invalidations;
+
+    public MemoListCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${memo.list-cache.max-size:10000}") long maxSize,
+            @Value("${memo.list-cache.heap-ttl-seconds:60}") long heapTtlSeconds,
+            @Value("${memo.list-cache.redis-ttl-seconds:600}") long redisTtlSeconds,
+            @Value("${memo.list-cache.max-pages:1}") int maxPages,
+            @Value("${memo.list-cache.max-page-size:50}") int maxPageSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        // 응답 DTO 는 getter 만 있으므로 필드 기준으로 (역)직렬화하는 전용 매퍼를 사용 (PublicMemoCache 와 같은 방식)
+        this.objectMapper = objectMapper.copy()
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        this.pageType = this.objectMapper.getTypeFactory()
+                .constructParametricType(FacetedPageResponseDto.class, MemoListResponseDto.class);
+        this.heap = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(heapTtlSeconds))
+                .recordStats()
+                .build();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.maxPages = maxPages;
+        this.maxPageSize = maxPageSize;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, heap, "memo.list.heap");
+        this.heapHits = lookupCounter(meterRegistry, "heap");
+        this.redisHits = lookupCounter(meterRegistry, "redis");
+        this.misses = lookupCounter(meterRegistry, "db");
+        this.bypasses = lookupCounter(meterRegistry, "bypass");
+        this.invalidations = Counter.builder("memo.list.cache.invalidations")
+                .description("목록 캐시 세대를 올린 횟수 (목록에 영향을 주는 쓰기 커밋)")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("memo.list.cache.lookups")
+                .description("메모 목록 첫 페이지 조회가 응답된 위치 (heap/redis 는 적중, db 는 미스, bypass 는 Redis 장애)")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 대상 페이지인지 확인한다. (앞쪽 max-pages 페이지, 크기 max-page-size 이하)
+     */
+    public boolean supports(Pageable pageable) {
+        return pageable.getPageNumber() < maxPages && pageable.getPageSize() <= maxPageSize;
+    }
+
+    /**
+     * 현재 세대의 캐시된 페이지를 찾고, 없으면 loader 로 조회해 두 캐시에 채운다.
+     *
+     * @param userId 목록 소유자
+     * @param sort 정렬 옵션 이름 (MemoSortOption)
+     * @param pageable 페이지 번호/크기
+     * @param loader DB 조회
+     */
+    public FacetedPageResponseDto<MemoListResponseDto> get(Long userId, String sort, Pageable pageable,
+                                                           Supplier<FacetedPageResponseDto<MemoListResponseDto>> loader) {
+        Long generation = readGeneration(userId);
+        if (generation == null) {
+            bypasses.increment();
+            return loader.get();
+        }
+
+        Key key = new Key(userId, generation, sort, pageable.getPageNumber(), pageable.getPageSize());
+        FacetedPageResponseDto<MemoListResponseDto> page = heap.getIfPresent(key);
+        if (page != null) {
+            heapHits.increment();
+            return page;
+        }
+
+        page = readRedis(key);
+        if (page != null) {
+            redisHits.increment();
+        } else {
+            misses.increment();
+            page = loader.get();
+            writeRedis(key, page);      // 조회 도중 세대가 올라갔다면 이 키는 다시 읽히지 않는다
+        }
+        heap.put(key, page);
+        return page;
+    }
+
+    /**
+     * 사용자의 목록 캐시 세대를 올린다. 목록에 영향을 주는 쓰기가 커밋된 뒤에 호출해야 한다.
+     */
+    public void invalidate(Long userId) {
+        try {
+            redisTemplate.execute(INCREMENT_GENERATION, List.of(GENERATION_PREFIX + userId),
+                    String.valueOf(GENERATION_TTL.toMillis()));
+            invalidations.increment();
+        } catch (RuntimeException e) {
+            log.warn("[MemoListCache] 세대 증가 실패 userId={}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자의 목록 응답 ETag - 현재 세대로 만든다. (Redis 를 쓸 수 없으면 null: 조건부 응답 없이 전체 조회)
+     * 세대는 목록에 영향을 주는 모든 쓰기의 커밋 이후에 올라가므로, 목록을 조회하기 전에 읽은 ETag 는 응답보다 오래되거나 같다.
+     * (ETag 가 오래된 쪽이면 다음 요청은 304 가 아닌 전체 응답을 받으므로 안전하다)
+     * 세대 키가 사라져도 이전 값으로 돌아가지 않으므로(시작 값 참고) 예전 ETag 가 다시 일치하는 일은 없다.
+     */
+    public String etag(Long userId) {
+        Long generation = readGeneration(userId);
+        return generation == null ? null : "\"l" + userId + "-" + generation + "\"";
+    }
+
+    // 현재 세대 (키가 없으면 새 시작 값, Redis 를 쓸 수 없으면 null)
+    private Long readGeneration(Long userId) {
+        try {
+            String value = redisTemplate.execute(READ_GENERATION, List.of(GENERATION_PREFIX + userId),
+                    String.valueOf(GENERATION_TTL.toMillis()));
+            return value == null ? null : Long.parseLong(value);
+        } catch (RuntimeException e) {
+            log.warn("[MemoListCache] 세대 조회 실패, DB 로 대체: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private FacetedPageResponseDto<MemoListResponseDto> readRedis(Key key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key.redisKey());
+            return value == null ? null : objectMapper.readValue(value, pageType);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[MemoListCache] 캐시 값 조회 실패 key={}: {}", key.redisKey(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Key key, FacetedPageResponseDto<MemoListResponseDto> page) {
+        try {
+            redisTemplate.opsForValue().set(key.redisKey(), objectMapper.writeValueAsString(page), redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[MemoListCache] Redis 저장 실패 key={}: {}", key.redisKey(), e.getMessage());     // 캐시 실패는 응답에 영향 X
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.mymemo.backend.memo.cache;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mymemo.backend.global.exception.ErrorCode;
+import com.mymemo.backend.memo.dto.MemoDetailResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 공개 메모(uuid) 조회용 2단계 read-through 캐시
+ *
+ * - 1단계: 노드별 힙 캐시 (Caffeine, W-TinyLFU, 최대 개수 제한)
+ * - 2단계: Redis ("PM:" + uuid, 모든 노드 공유)
+ * - 둘 다 없으면 loader(DB 조회)를 실행한다. 같은 uuid 에 대한 동시 미스는 하나의 조회로 합쳐진다. (single-flight)
+ * - 없는 메모/비공개 메모도 짧은 TTL 로 캐시해 존재하지 않는 링크로 DB 가 반복 조회되지 않게 한다.
+ * - 메모가 수정/삭제되면 커밋 이후 invalidate() 로 Redis 키를 지우고 CHANNEL 로 발행해 모든 노드의 힙 캐시를 비운다.
+ *   (발행이 유실돼도 힙 캐시는 heap-ttl, Redis 는 redis-ttl 이 지나면 다시 조회된다)
+ * - 무효화는 uuid 별 버전("PMV:" + uuid)을 올리고 캐시 값을 지운다. DB 에서 읽은 값은 읽기 전의 버전이 그대로일 때만
+ *   Redis 에 쓰므로(비교와 쓰기는 Lua 스크립트 하나), 다른 노드에서 조회 도중 수정/비공개 전환이 커밋되어도
+ *   이전 값이 redis-ttl 동안 남지 않는다. (스크립트: resources/redis/public-memo-*.lua)
+ * - 힙 캐시는 조회 도중 같은 uuid 의 무효화를 받았을 때만 채우지 않는다. (다른 메모의 무효화는 영향 없음)
+ */
+@Slf4j
+@Component
+public class PublicMemoCache implements MessageListener {
+
+    public static final String CHANNEL = "memo:public:invalidate";
+    private static final String KEY_PREFIX = "PM:";
+    private static final String VERSION_PREFIX = "PMV:";
+    private static final String NEGATIVE_PREFIX = "!";     // 음수 캐시 값: "!" + ErrorCode 이름
+
+    private static final RedisScript<Long> INVALIDATE =
+            RedisScript.of(new ClassPathResource("redis/public-memo-invalidate.lua"), Long.class);
+    private static final RedisScript<Long> WRITE_IF_UNCHANGED =
+            RedisScript.of(new ClassPathResource("redis/public-memo-write-if-unchanged.lua"), Long.class);
+
+    // 진행 중인 조회 (uuid 별 하나) - 조회 도중 같은 uuid 의 무효화를 받으면 invalidated 가 켜진다
+    private static final class Load {
+
+        private final CompletableFuture<Entry> future = new CompletableFuture<>();
+        private volatile boolean invalidated;
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<String, Entry> heap;
+    private final Map<String, Load> inFlight = new ConcurrentHashMap<>();
+    private final Duration redisTtl;
+    private final Duration negativeTtl;
+
+    private final Counter heapHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Counter coalesced;
+
+    /**
+     * 캐시 항목. memo 와 error 중 하나만 값을 가진다.
+     *
+     * @param memo 공개 메모 상세
+     * @param error 조회 실패 사유 (MEMO_NOT_FOUND, MEMO_PRIVATE_ACCESS_DENIED)
+     */
+    public record Entry(MemoDetailResponseDto memo, ErrorCode error) {
+
+        public static Entry of(MemoDetailResponseDto memo) {
+            return new Entry(memo, null);
+        }
+
+        public static Entry failure(ErrorCode error) {
+            return new Entry(null, error);
+        }
+
+        public boolean isNegative() {
+            return error != null;
+        }
+    }
+
+    public PublicMemoCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${memo.public-cache.max-size:10000}") long maxSize,
+            @Value("${memo.public-cache.heap-ttl-seconds:60}") long heapTtlSeconds,
+            @Value("${memo.public-cache.redis-ttl-seconds:600}") long redisTtlSeconds,
+            @Value("${memo.public-cache.negative-ttl-seconds:30}") long negativeTtlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        // 응답 DTO 는 getter 만 있으므로 필드 기준으로 (역)직렬화하는 전용 매퍼를 사용 (JavaTimeModule 등 설정은 그대로 복사)
+        this.objectMapper = objectMapper.copy()
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        this.heap = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(heapTtlSeconds))
+                .recordStats()
+                .build();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, heap, "memo.public.heap");     // cache.gets, cache.evictions 등
+        this.heapHits = lookupCounter(meterRegistry, "heap");
+        this.redisHits = lookupCounter(meterRegistry, "redis");
+        this.misses = lookupCounter(meterRegistry, "db");
+        this.coalesced = Counter.builder("memo.public.cache.coalesced")
+                .description("동시 미스가 진행 중인 조회에 합류한 횟수")
+                .register(meterRegistry);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("memo.public.cache.lookups")
+                .description("공개 메모 조회가 응답된 위치 (heap/redis 는 적중, db 는 미스)")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 공개 메모를 찾고, 없으면 loader 로 조회해 두 캐시에 채운다.
+     *
+     * @param uuid 메모 uuid
+     * @param loader DB 조회 (없는 메모/비공개 메모는 Entry.failure 로 반환)
+     */
+    public Entry get(String uuid, Function<String, Entry> loader) {
+        Entry cached = heap.getIfPresent(uuid);
+        if (cached != null) {
+            heapHits.increment();
+            return cached;
+        }
+
+        Load mine = new Load();
+        Load running = inFlight.putIfAbsent(uuid, mine);
+        if (running != null) {
+            coalesced.increment();
+            return join(running.future);       // 다른 요청이 조회 중이면 그 결과를 기다린다
+        }
+
+        try {
+            Entry entry = load(uuid, loader, mine);
+            mine.future.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            mine.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(uuid, mine);
+        }
+    }
+
+    /**
+     * 메모 변경(수정/삭제/공개 범위 변경)을 모든 노드의 캐시에 반영한다. 커밋 이후에 호출해야 한다.
+     */
+    public void invalidate(String uuid) {
+        redisTemplate.execute(INVALIDATE, List.of(KEY_PREFIX + uuid, VERSION_PREFIX + uuid),
+                String.valueOf(redisTtl.toMillis()));
+        evictLocal(uuid);
+        redisTemplate.convertAndSend(CHANNEL, uuid);
+    }
+
+    // 다른 노드(또는 자기 자신)가 발행한 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // 진행 중인 조회에 표시한 뒤 힙에서 지운다 (load 의 힙 채우기와 순서가 반대라 어느 쪽이 먼저여도 이전 값이 남지 않는다)
+    private void evictLocal(String uuid) {
+        Load running = inFlight.get(uuid);
+        if (running != null) {
+            running.invalidated = true;
+        }
+        heap.invalidate(uuid);
+    }
+
+    private Entry load(String uuid, Function<String, Entry> loader, Load load) {
+        List<String> values = readRedis(uuid);      // [캐시 값, 버전] - Redis 를 쓸 수 없으면 null
+        Entry entry = values == null ? null : decode(uuid, values.get(0));
+        if (entry != null) {
+            redisHits.increment();
+        } else {
+            misses.increment();
+            entry = loader.apply(uuid);
+            if (values != null && !load.invalidated) {
+                writeRedis(uuid, entry, values.get(1));     // Redis 쪽은 버전 비교로 다른 노드의 무효화도 걸러진다
+            }
+        }
+
+        // 힙에 넣은 뒤 다시 확인한다 - 조회 도중 이 uuid 가 무효화됐다면 읽은 값이 이미 오래됐을 수 있다
+        if (!load.invalidated) {
+            heap.put(uuid, entry);
+            if (load.invalidated) {
+                heap.invalidate(uuid);
+            }
+        }
+        return entry;
+    }
+
+    // 캐시 값과 버전을 한 번에 읽는다 (MGET)
+    private List<String> readRedis(String uuid) {
+        try {
+            return redisTemplate.opsForValue().multiGet(List.of(KEY_PREFIX + uuid, VERSION_PREFIX + uuid));
+        } catch (RuntimeException e) {
+            log.warn("[PublicMemoCache] Redis 조회 실패, DB 로 대체: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Entry decode(String uuid, String value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.startsWith(NEGATIVE_PREFIX)) {
+            return Entry.failure(ErrorCode.valueOf(value.substring(NEGATIVE_PREFIX.length())));
+        }
+        try {
+            return Entry.of(objectMapper.readValue(value, MemoDetailResponseDto.class));
+        } catch (JsonProcessingException e) {
+            log.warn("[PublicMemoCache] 캐시 값 역직렬화 실패 uuid={}: {}", uuid, e.getMessage());
+            return null;
+        }
+    }
+
+    // 조회 전에 읽은 버전이 그대로일 때만 쓴다 (그 사이 무효화가 있었다면 읽은 값은 이미 오래됐을 수 있다)
+    private void writeRedis(String uuid, Entry entry, String version) {
+        try {
+            String value = entry.isNegative()
+                    ? NEGATIVE_PREFIX + entry.error().name()
+                    : objectMapper.writeValueAsString(entry.memo());
+            Duration ttl = entry.isNegative() ? negativeTtl : redisTtl;
+            redisTemplate.execute(WRITE_IF_UNCHANGED, List.of(KEY_PREFIX + uuid, VERSION_PREFIX + uuid),
+                    version == null ? "" : version, value, String.valueOf(ttl.toMillis()));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[PublicMemoCache] Redis 저장 실패 uuid={}: {}", uuid, e.getMessage());     // 캐시 실패는 응답에 영향 X
+        }
+    }
+
+    private static Entry join(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
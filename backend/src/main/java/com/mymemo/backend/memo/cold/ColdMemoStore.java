@@ -0,0 +1,290 @@
+package com.mymemo.backend.memo.cold;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mymemo.backend.entity.Memo;
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 오랫동안 수정되지 않은 메모 내용을 보관하는 콜드 티어 저장소
+ *
+ * - 메모 내용(content)을 블록 단위로 압축한 append-only 세그먼트 파일(dir/segment-N.seg)에 쓰고,
+ *   DB 행에는 세그먼트 번호(memo.cold_segment)만 남긴다. 제목/미리보기 등 목록 컬럼은 DB 에 그대로 있다.
+ * - 읽기는 메모리 매핑된 세그먼트에서 블록 하나를 압축 해제해 찾는다. 해제한 블록은 block-cache-bytes 까지 캐시한다.
+ * - 세그먼트는 한 번 쓰면 바뀌지 않는다. 다시 수정된 메모는 DB 로 돌아가고, 세그먼트에 남은 이전 내용은 더 이상 읽히지 않는다.
+ * - 더 이상 읽히지 않는 내용(DB 로 돌아간 메모, 영구 삭제된 메모)은 compact 로 살아 있는 메모만 새 세그먼트에 옮겨 적어 없앤다.
+ *   DB 가 참조하지 않게 된 세그먼트는 retire 로 표시(segment-N.retired)해 두었다가, 그 전에 시작된 읽기가 끝날 만큼
+ *   시간이 지난 뒤 delete 로 지운다. 표시 파일은 지우지 않고 남겨 세그먼트 번호가 다시 쓰이지 않게 한다.
+ * - 여러 노드가 있으면 dir 는 모든 노드가 같은 파일을 보는 공유 볼륨이어야 한다.
+ */
+@Slf4j
+@Component
+public class ColdMemoStore {
+
+    private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d+)\\.seg");
+    private static final Pattern RETIRED_FILE = Pattern.compile("segment-(\\d+)\\.retired");
+
+    private record BlockKey(int segmentId, int block) {
+    }
+
+    private final Path dir;
+    private final int blockBytes;
+    private final Map<Integer, ColdSegment> segments = new ConcurrentHashMap<>();
+    private final Cache<BlockKey, byte[]> blocks;
+
+    public ColdMemoStore(
+            MeterRegistry meterRegistry,
+            @Value("${memo.cold.dir:./data/cold-segments}") String dir,
+            @Value("${memo.cold.block-bytes:65536}") int blockBytes,
+            @Value("${memo.cold.block-cache-bytes:33554432}") long blockCacheBytes
+    ) {
+        this.dir = Paths.get(dir);
+        this.blockBytes = Math.max(1024, blockBytes);
+        this.blocks = Caffeine.newBuilder()
+                .maximumWeight(blockCacheBytes)
+                .weigher((BlockKey key, byte[] raw) -> raw.length)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, blocks, "memo.cold.blocks");
+    }
+
+    /**
+     * 메모 내용을 반환한다. 콜드 티어에 있으면 세그먼트에서 읽는다.
+     */
+    public String contentOf(Memo memo) {
+        return memo.isCold() ? read(memo.getColdSegment(), memo.getId()) : memo.getContent();
+    }
+
+    /**
+     * 콜드 티어에 있는 메모를 수정하기 전에 내용을 DB 행으로 되돌린다. (변경은 트랜잭션 커밋 시 반영)
+     */
+    public void warm(Memo memo) {
+        if (memo.isCold()) {
+            memo.moveToHotTier(read(memo.getColdSegment(), memo.getId()));
+        }
+    }
+
+    /**
+     * 세그먼트에서 메모 내용을 읽는다.
+     *
+     * @throws CustomException MEMO_CONTENT_UNAVAILABLE: 세그먼트 파일이 없거나 손상되었거나, 메모가 세그먼트에 없는 경우
+     */
+    public String read(int segmentId, long memoId) {
+        try {
+            ColdSegment segment = segments.computeIfAbsent(segmentId, this::open);
+            int block = segment.blockOf(memoId);
+            if (block >= 0) {
+                byte[] raw = blocks.get(new BlockKey(segmentId, block), key -> readBlock(segment, key.block()));
+                String content = ColdSegment.find(raw, memoId);
+                if (content != null) {
+                    return content;
+                }
+            }
+            log.error("[ColdMemoStore] 세그먼트 {} 에 메모 {} 가 없습니다.", segmentId, memoId);
+        } catch (UncheckedIOException e) {
+            log.error("[ColdMemoStore] 세그먼트 {} 읽기 실패 (memoId={})", segmentId, memoId, e);
+        }
+        throw new CustomException(ErrorCode.MEMO_CONTENT_UNAVAILABLE);
+    }
+
+    /**
+     * 메모 내용을 새 세그먼트 파일로 쓴다. 임시 파일에 쓰고 fsync 한 뒤 이름을 바꾸므로
+     * 완성된 세그먼트만 segment-N.seg 이름으로 보인다. (호출 측은 이후 DB 에 세그먼트 번호를 기록한다)
+     *
+     * @param segmentId 새 세그먼트 번호 (nextSegmentId 로 정한 값)
+     * @param memos 옮길 메모 (content 가 로드된 상태)
+     */
+    public void write(int segmentId, List<Memo> memos) throws IOException {
+        SortedMap<Long, String> contents = new TreeMap<>();
+        memos.forEach(memo -> contents.put(memo.getId(), memo.getContent()));
+        writeFile(segmentId, contents);
+    }
+
+    /**
+     * 여러 세그먼트에 남은 메모 내용을 새 세그먼트 하나로 옮겨 적는다. (write 와 같은 방식, 원본 세그먼트는 그대로 둔다)
+     *
+     * @param segmentId 새 세그먼트 번호 (nextSegmentId 로 정한 값)
+     * @param live 원본 세그먼트 번호별로 옮길 메모 id (여기에 없는 메모는 버려진다)
+     * @throws CustomException MEMO_CONTENT_UNAVAILABLE: 옮길 메모를 원본 세그먼트에서 읽을 수 없는 경우 (아무것도 쓰지 않는다)
+     */
+    public void compact(int segmentId, Map<Integer, ? extends Collection<Long>> live) throws IOException {
+        SortedMap<Long, String> contents = new TreeMap<>();
+        live.forEach((source, memoIds) -> memoIds.forEach(memoId -> contents.put(memoId, read(source, memoId))));
+        writeFile(segmentId, contents);
+    }
+
+    /**
+     * 세그먼트에 들어 있는 메모 수 (DB 가 참조하는 수와 비교해 버려진 내용이 있는지 확인할 때 사용)
+     */
+    public int recordCount(int segmentId) throws IOException {
+        try {
+            return segments.computeIfAbsent(segmentId, this::open).records();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 사용 중인(retire 되지 않은) 세그먼트 번호 목록 (오름차순)
+     */
+    public List<Integer> segmentIds() throws IOException {
+        List<Integer> ids = new ArrayList<>();
+        for (int segmentId : list(SEGMENT_FILE)) {
+            if (!Files.exists(retiredPathOf(segmentId))) {
+                ids.add(segmentId);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * DB 가 더 이상 참조하지 않는 세그먼트로 표시한다. 파일은 delete 를 호출할 때까지 남아 있어 진행 중인 읽기는 계속된다.
+     */
+    public void retire(int segmentId) throws IOException {
+        try {
+            Files.createFile(retiredPathOf(segmentId));
+        } catch (FileAlreadyExistsException e) {
+            // 이미 표시됨 - 처음 표시한 시각을 유지한다
+        }
+    }
+
+    /**
+     * cutoff 이전에 retire 되었고 파일이 아직 남아 있는 세그먼트 번호 목록
+     */
+    public List<Integer> retiredBefore(Instant cutoff) throws IOException {
+        List<Integer> ids = new ArrayList<>();
+        for (int segmentId : list(RETIRED_FILE)) {
+            if (Files.exists(pathOf(segmentId))
+                    && Files.getLastModifiedTime(retiredPathOf(segmentId)).toInstant().isBefore(cutoff)) {
+                ids.add(segmentId);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * retire 된 세그먼트 파일을 지우고 이 노드의 매핑과 블록 캐시에서도 뺀다. (다른 노드는 releaseDeleted 가 정리한다)
+     */
+    public void delete(int segmentId) throws IOException {
+        Files.deleteIfExists(pathOf(segmentId));
+        release(segmentId);
+    }
+
+    /**
+     * 다른 노드가 지운 세그먼트의 매핑과 캐시된 블록을 버린다. (매핑이 남아 있으면 지운 파일의 디스크 공간이 반환되지 않는다)
+     */
+    @Scheduled(fixedDelayString = "${memo.cold.interval-ms:3600000}",
+            initialDelayString = "${memo.cold.interval-ms:3600000}")
+    public void releaseDeleted() {
+        for (int segmentId : List.copyOf(segments.keySet())) {
+            if (!Files.exists(pathOf(segmentId))) {
+                release(segmentId);
+            }
+        }
+    }
+
+    /**
+     * 새 세그먼트 번호 - 디렉터리에 있는 세그먼트와 DB 가 참조하는 세그먼트 번호보다 큰 값
+     * (같은 작업이 동시에 돌지 않도록 호출 측에서 직렬화한다)
+     *
+     * @param minimum DB 가 참조하는 최대 세그먼트 번호 + 1
+     */
+    public int nextSegmentId(int minimum) throws IOException {
+        int max = minimum - 1;
+        for (int segmentId : list(SEGMENT_FILE)) {
+            max = Math.max(max, segmentId);
+        }
+        for (int segmentId : list(RETIRED_FILE)) {      // 지운 세그먼트의 번호도 다시 쓰지 않는다
+            max = Math.max(max, segmentId);
+        }
+        return Math.max(1, max + 1);
+    }
+
+    // 디렉터리에서 이름이 pattern 에 맞는 파일의 세그먼트 번호 (오름차순)
+    private List<Integer> list(Pattern pattern) throws IOException {
+        List<Integer> ids = new ArrayList<>();
+        if (Files.isDirectory(dir)) {
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Matcher matcher = pattern.matcher(file.getFileName().toString());
+                    if (matcher.matches()) {
+                        ids.add(Integer.parseInt(matcher.group(1)));
+                    }
+                }
+            }
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    // 세그먼트 파일을 쓴다. 임시 파일에 쓰고 fsync 한 뒤 이름을 바꾼다
+    private void writeFile(int segmentId, SortedMap<Long, String> contents) throws IOException {
+        Files.createDirectories(dir);
+        Path target = pathOf(segmentId);
+        Path temp = dir.resolve(target.getFileName() + ".tmp");
+        Files.deleteIfExists(temp);     // 이전에 중단된 쓰기
+
+        try (ColdSegmentWriter writer = new ColdSegmentWriter(temp, blockBytes)) {
+            for (Map.Entry<Long, String> entry : contents.entrySet()) {
+                writer.append(entry.getKey(), entry.getValue());
+            }
+            writer.finish();
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void release(int segmentId) {
+        segments.remove(segmentId);
+        blocks.asMap().keySet().removeIf(key -> key.segmentId() == segmentId);
+    }
+
+    private ColdSegment open(int segmentId) {
+        try {
+            return ColdSegment.open(segmentId, pathOf(segmentId));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] readBlock(ColdSegment segment, int block) {
+        try {
+            return segment.readBlock(block);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path pathOf(int segmentId) {
+        return dir.resolve("segment-" + segmentId + ".seg");
+    }
+
+    private Path retiredPathOf(int segmentId) {
+        return dir.resolve("segment-" + segmentId + ".retired");
+    }
+}
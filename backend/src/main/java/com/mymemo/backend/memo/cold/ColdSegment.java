@@ -0,0 +1,157 @@
+package com.mymemo.backend.memo.cold;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 읽기 전용으로 메모리 매핑한 콜드 세그먼트 하나 (형식은 ColdSegmentWriter 참고)
+ *
+ * - 파일 전체를 MappedByteBuffer 로 매핑하고, 희소 인덱스(블록별 첫 id / 오프셋)만 힙에 올린다.
+ * - id 로 읽을 때는 인덱스를 이진 탐색해 블록 하나만 압축 해제한다.
+ * - 공유 버퍼의 position 을 바꾸지 않고 절대 위치로만 읽으므로 여러 스레드가 동시에 읽어도 된다.
+ * - 메모 수(recordCount)는 version 2 부터 헤더에 있다. version 1 세그먼트는 처음 물어볼 때 블록을 모두 풀어 센다.
+ */
+final class ColdSegment {
+
+    private final int id;
+    private final MappedByteBuffer buffer;
+    private final long[] firstIds;
+    private final int[] offsets;
+    private volatile int records;       // 모르면 -1
+
+    private ColdSegment(int id, MappedByteBuffer buffer, long[] firstIds, int[] offsets, int records) {
+        this.id = id;
+        this.buffer = buffer;
+        this.firstIds = firstIds;
+        this.offsets = offsets;
+        this.records = records;
+    }
+
+    static ColdSegment open(int id, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < ColdSegmentWriter.HEADER_BYTES + ColdSegmentWriter.TRAILER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("잘못된 세그먼트 크기: " + path);
+            }
+            // 매핑은 채널을 닫아도 유지된다
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            int trailer = (int) size - ColdSegmentWriter.TRAILER_BYTES;
+            long indexOffset = buffer.getLong(trailer);
+            int blockCount = buffer.getInt(trailer + 8);
+            if (buffer.getInt(0) != ColdSegmentWriter.MAGIC || buffer.getInt(trailer + 12) != ColdSegmentWriter.MAGIC
+                    || indexOffset + (long) blockCount * ColdSegmentWriter.INDEX_ENTRY_BYTES != trailer) {
+                throw new IOException("손상된 세그먼트: " + path);
+            }
+
+            long[] firstIds = new long[blockCount];
+            int[] offsets = new int[blockCount];
+            for (int i = 0; i < blockCount; i++) {
+                int entry = (int) indexOffset + i * ColdSegmentWriter.INDEX_ENTRY_BYTES;
+                firstIds[i] = buffer.getLong(entry);
+                offsets[i] = (int) buffer.getLong(entry + 8);
+            }
+            int records = buffer.getInt(4) >= 2 ? buffer.getInt(ColdSegmentWriter.RECORD_COUNT_OFFSET) : -1;
+            return new ColdSegment(id, buffer, firstIds, offsets, records);
+        }
+    }
+
+    int id() {
+        return id;
+    }
+
+    /**
+     * 세그먼트에 들어 있는 메모 수 (version 1 세그먼트는 처음 한 번 모든 블록을 풀어 센다)
+     */
+    int records() throws IOException {
+        if (records < 0) {
+            int count = 0;
+            for (int block = 0; block < offsets.length; block++) {
+                ByteBuffer raw = ByteBuffer.wrap(readBlock(block));
+                while (raw.remaining() >= 12) {
+                    raw.getLong();
+                    raw.position(raw.position() + raw.getInt());
+                    count++;
+                }
+            }
+            records = count;
+        }
+        return records;
+    }
+
+    /**
+     * memoId 가 들어 있을 수 있는 블록 번호 (첫 id 가 memoId 이하인 마지막 블록, 없으면 -1)
+     */
+    int blockOf(long memoId) {
+        int i = Arrays.binarySearch(firstIds, memoId);
+        return i >= 0 ? i : -i - 2;
+    }
+
+    /**
+     * 블록 하나를 압축 해제한다. (CRC 가 맞지 않으면 IOException)
+     */
+    byte[] readBlock(int block) throws IOException {
+        int offset = offsets[block];
+        int rawLength = buffer.getInt(offset);
+        int compressedLength = buffer.getInt(offset + 4);
+        int expectedCrc = buffer.getInt(offset + 8);
+        ByteBuffer compressed = buffer.slice(offset + ColdSegmentWriter.BLOCK_HEADER_BYTES, compressedLength);
+
+        byte[] raw = new byte[rawLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int read = 0;
+            while (read < rawLength && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, rawLength - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    // 압축 데이터가 중간에 끊겼거나 사전이 필요한 스트림 - 더 진행할 수 없다 (손상)
+                    throw new IOException("블록 압축 데이터 손상: segment=" + id + ", block=" + block);
+                }
+                read += n;
+            }
+            if (read != rawLength) {
+                throw new IOException("블록 길이 불일치: segment=" + id + ", block=" + block);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("블록 압축 해제 실패: segment=" + id + ", block=" + block, e);
+        } finally {
+            inflater.end();
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(raw);
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException("블록 체크섬 불일치: segment=" + id + ", block=" + block);
+        }
+        return raw;
+    }
+
+    /**
+     * 압축 해제된 블록에서 memoId 의 내용을 찾는다. (없으면 null)
+     */
+    static String find(byte[] raw, long memoId) {
+        ByteBuffer records = ByteBuffer.wrap(raw);
+        while (records.remaining() >= 12) {
+            long id = records.getLong();
+            int length = records.getInt();
+            if (id == memoId) {
+                return new String(raw, records.position(), length, StandardCharsets.UTF_8);
+            }
+            if (id > memoId) {
+                return null;    // id 오름차순
+            }
+            records.position(records.position() + length);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,130 @@
+package com.mymemo.backend.memo.cold;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 콜드 세그먼트 파일을 처음부터 끝까지 한 번에 쓴다. (쓰고 나면 수정하지 않는 append-only 파일)
+ *
+ * 파일 형식 (모든 정수는 big-endian)
+ * <pre>
+ * header  : magic(int) version(int) recordCount(int)    - version 1 에는 recordCount 가 없다 (8바이트)
+ * block*  : rawLength(int) compressedLength(int) crc32(int) deflate(raw)
+ *           raw = { id(long) length(int) utf8(content) }* - id 오름차순
+ * index   : { firstId(long) offset(long) }*    - 블록마다 하나 (희소 인덱스)
+ * trailer : indexOffset(long) blockCount(int) magic(int)
+ * </pre>
+ */
+final class ColdSegmentWriter implements Closeable {
+
+    static final int MAGIC = 0x4D454D4F;    // "MEMO"
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 12;
+    static final int RECORD_COUNT_OFFSET = 8;
+    static final int BLOCK_HEADER_BYTES = 12;
+    static final int INDEX_ENTRY_BYTES = 16;
+    static final int TRAILER_BYTES = 16;
+
+    private final FileChannel channel;
+    private final int blockBytes;
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    private final ByteArrayOutputStream block;
+    private final ByteArrayOutputStream index = new ByteArrayOutputStream();
+    private final byte[] compressBuffer = new byte[64 * 1024];
+
+    private long position;
+    private long blockFirstId = -1;
+    private long lastId = Long.MIN_VALUE;
+    private int blockCount;
+    private int recordCount;
+
+    ColdSegmentWriter(Path path, int blockBytes) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.blockBytes = blockBytes;
+        this.block = new ByteArrayOutputStream(blockBytes + 1024);
+        write(ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).putInt(0).flip());     // recordCount 는 finish 에서
+    }
+
+    /**
+     * 메모 내용 하나를 추가한다. id 는 이전에 추가한 것보다 커야 한다.
+     */
+    void append(long id, String content) throws IOException {
+        if (id <= lastId) {
+            throw new IllegalArgumentException("id 는 오름차순이어야 합니다: " + id);
+        }
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (blockFirstId < 0) {
+            blockFirstId = id;
+        }
+        block.write(ByteBuffer.allocate(12).putLong(id).putInt(bytes.length).array());
+        block.write(bytes);
+        lastId = id;
+        recordCount++;
+
+        if (block.size() >= blockBytes) {
+            flushBlock();
+        }
+    }
+
+    /**
+     * 남은 블록과 희소 인덱스, trailer 를 쓰고 디스크에 강제로 기록(fsync)한다.
+     */
+    void finish() throws IOException {
+        flushBlock();
+        long indexOffset = position;
+        write(ByteBuffer.wrap(index.toByteArray()));
+        write(ByteBuffer.allocate(TRAILER_BYTES).putLong(indexOffset).putInt(blockCount).putInt(MAGIC).flip());
+        ByteBuffer count = ByteBuffer.allocate(4).putInt(0, recordCount);
+        while (count.hasRemaining()) {
+            channel.write(count, RECORD_COUNT_OFFSET + count.position());
+        }
+        channel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        deflater.end();
+        channel.close();
+    }
+
+    private void flushBlock() throws IOException {
+        if (block.size() == 0) {
+            return;
+        }
+        byte[] raw = block.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(raw);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 2 + 64);
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        while (!deflater.finished()) {
+            int n = deflater.deflate(compressBuffer);
+            compressed.write(compressBuffer, 0, n);
+        }
+
+        index.write(ByteBuffer.allocate(INDEX_ENTRY_BYTES).putLong(blockFirstId).putLong(position).array());
+        write(ByteBuffer.allocate(BLOCK_HEADER_BYTES)
+                .putInt(raw.length).putInt(compressed.size()).putInt((int) crc.getValue()).flip());
+        write(ByteBuffer.wrap(compressed.toByteArray()));
+
+        block.reset();
+        blockFirstId = -1;
+        blockCount++;
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer);
+        }
+    }
+}
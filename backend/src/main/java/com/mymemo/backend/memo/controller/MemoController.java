@@ -6,7 +6,12 @@ import com.mymemo.backend.global.exception.CustomException;
 import com.mymemo.backend.global.exception.ErrorCode;
 import com.mymemo.backend.global.util.SecurityUtil;
 import com.mymemo.backend.memo.dto.*;
+import com.mymemo.backend.memo.service.MemoChangeService;
+import com.mymemo.backend.memo.service.MemoExportService;
+import com.mymemo.backend.memo.service.MemoImportService;
 import com.mymemo.backend.memo.service.MemoService;
+import com.mymemo.backend.memo.service.MemoSortOption;
+import com.mymemo.backend.memo.service.MemoTrashService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,10 +23,19 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
 
 @Slf4j
 @Tag(name = "Memo API", description = "메모 관련 API 문서입니다.")
@@ -31,6 +45,10 @@ import org.springframework.web.bind.annotation.*;
 public class MemoController {
 
     private final MemoService memoService;
+    private final MemoExportService memoExportService;
+    private final MemoImportService memoImportService;
+    private final MemoTrashService memoTrashService;
+    private final MemoChangeService memoChangeService;
 
     /**
      * [POST] /api/memos
@@ -50,41 +68,85 @@ public class MemoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
     }
 
+    /**
+     * [POST] /api/memos/bulk
+     * 메모 일괄 생성 API (다른 도구에서 가져오기 등)
+     * @param requestDtos 생성할 메모 목록 (최대 1000개, 하나라도 잘못되면 전체 실패)
+     * @return 요청 순서대로 생성된 메모의 id / uuid
+     */
+    @Operation(summary = "메모 일괄 생성", description = "여러 메모를 한 번에 작성합니다. 최대 1000개까지 가능하며 하나라도 유효하지 않으면 아무것도 저장되지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "메모 일괄 생성 성공"),
+            @ApiResponse(responseCode = "400", description = "요청 값 유효성 실패 또는 개수 초과"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<MemoBulkCreateResponseDto> createMemos(@RequestBody List<MemoCreateRequestDto> requestDtos) {
+        MemoBulkCreateResponseDto responseDto = memoService.createMemos(requestDtos);
+        return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
+    }
+
     /**
      * [GET] /api/memos
      * 페이징 처리된 메모 목록을 조회하는 API
      * @PageableDefault: 기본 페이지 크기와 정렬 기준 지정 (10개씩, 최신순)
+     * 정렬은 updatedAt,desc / createdAt,desc 만 허용된다. (그 외는 400 - MemoSortOption 참고)
+     * 필터(category, visibility, pinned, 기간)는 모두 선택이며, 응답의 facets 에 카테고리별/공개 여부별 개수가 함께 내려간다.
+     * 응답의 ETag 를 If-None-Match 로 보내면, 그 사이 목록에 영향을 주는 쓰기가 없었을 때 304 를 받는다.
      * @ParameterObject: Swagger UI에 pageable 파라미터 자동 반영
      */
-    @Operation(summary = "모든 메모 조회", description = "로그인한 사용자의 모든 메모 목록을 반환합니다.")
+    @Operation(summary = "모든 메모 조회", description = "로그인한 사용자의 메모 목록을 필터와 함께 조회하고, 카테고리별/공개 여부별 개수를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 와 같은 목록 (변경 없음)"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 정렬 기준 또는 잘못된 필터 값"),
             @ApiResponse(responseCode = "401", description = "로그인 필요")
     })
     @GetMapping
-    public ResponseEntity<PageResponseDto<MemoListResponseDto>> getMemos(
-            @ParameterObject @PageableDefault(size = 10, sort = "updatedAt", direction = Sort.Direction.DESC) Pageable pageable) {
+    public ResponseEntity<FacetedPageResponseDto<MemoListResponseDto>> getMemos(
+            @ParameterObject @PageableDefault(size = 10, sort = "updatedAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @Parameter(description = "카테고리 (여러 개 가능: category=WORK&category=IDEA)") @RequestParam(required = false) List<String> category,
+            @Parameter(description = "공개 여부 (PUBLIC / PRIVATE)") @RequestParam(required = false) String visibility,
+            @Parameter(description = "고정 여부 (true / false)") @RequestParam(required = false) String pinned,
+            @Parameter(description = "작성일 시작 (이상, yyyy-MM-dd 또는 yyyy-MM-ddTHH:mm:ss)") @RequestParam(required = false) String createdFrom,
+            @Parameter(description = "작성일 끝 (미만)") @RequestParam(required = false) String createdTo,
+            @Parameter(description = "수정일 시작 (이상)") @RequestParam(required = false) String updatedFrom,
+            @Parameter(description = "수정일 끝 (미만)") @RequestParam(required = false) String updatedTo,
+            WebRequest webRequest) {
 //        long start = System.currentTimeMillis();
 
+        // 잘못된 필터 값은 기본값으로 바꾸지 않고 400 (INVALID_FILTER)
+        MemoListFilter filter = MemoListFilter.of(category, visibility, pinned, createdFrom, createdTo, updatedFrom, updatedTo);
+        // 정렬도 ETag 비교 전에 검증한다 (잘못된 요청이 304 를 받지 않도록 - INVALID_SORT)
+        MemoSortOption.of(pageable);
+
+        // 목록이 바뀌지 않았으면 목록/카운터를 읽지 않고 304
+        String etag = memoService.getMemosEtag();
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         // MemoService를 통해 페이징 처리된 메모 목록 응답을 받음
-        PageResponseDto<MemoListResponseDto> response = memoService.getMemos(pageable);
+        FacetedPageResponseDto<MemoListResponseDto> response = memoService.getMemos(pageable, filter);
 
 //        long end = System.currentTimeMillis();
 //        log.info("[getAllMemos] 메모 조회 소요 시간: {} ms", (end - start));
 
-        return ResponseEntity.ok(response);
+        return conditional(ResponseEntity.ok(), etag).body(response);
     }
 
     /**
      * [GET] /api/memos/search
-     * 제목에 키워드가 포함된 메모들을 페이징 처리하여 조회
-     * @param keyword 검색 키워드 (제목 기준, 대소문자 무시)
-     * @param pageable 페이징 및 정렬 정보
+     * 제목 또는 내용에 키워드가 포함된 메모들을 관련도 순으로 페이징 처리하여 조회
+     * (한 글자 검색어는 제목 기준 검색 + 정렬 파라미터 적용)
+     * @param keyword 검색 키워드 (제목 + 내용 기준, 대소문자 무시)
+     * @param pageable 페이징 및 정렬 정보 (updatedAt,desc / createdAt,desc 만 허용)
      * @return 페이징된 메모 응답
      */
     @Operation(summary = "메모 키워드로 검색", description = "키워드를 통해 사용자의 메모 중 일치하는 항목을 검색합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 정렬 기준"),
             @ApiResponse(responseCode = "401", description = "로그인 필요")
     })
     @GetMapping("/search")
@@ -102,14 +164,298 @@ public class MemoController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * [GET] /api/memos/cursor
+     * 커서(keyset) 기반 메모 목록 조회 API
+     * - COUNT 쿼리 없이 after 토큰 이후의 메모만 조회하므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회된다.
+     * - If-None-Match 는 GET /api/memos 와 같이 처리한다.
+     * @param after 이전 응답의 nextCursor (첫 페이지 요청 시 생략)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 커서 페이징된 메모 응답
+     */
+    @Operation(summary = "메모 목록 커서 조회", description = "after 커서 이후의 메모 목록을 반환합니다. 응답의 nextCursor를 다음 요청의 after로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 와 같은 목록 (변경 없음)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponseDto<MemoListResponseDto>> getMemosByCursor(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+
+        // 잘못된 커서는 ETag 비교 전에 거절한다 (304 가 아닌 400 - INVALID_CURSOR)
+        if (after != null && !after.isBlank()) {
+            MemoCursor.decode(after);
+        }
+
+        // GET /api/memos 와 같은 목록 세대 ETag
+        String etag = memoService.getMemosEtag();
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        CursorPageResponseDto<MemoListResponseDto> response = memoService.getMemosByCursor(after, clampCursorPageSize(size));
+
+        return conditional(ResponseEntity.ok(), etag).body(response);
+    }
+
+    /**
+     * [GET] /api/memos/search/cursor
+     * 키워드가 포함된 메모들을 커서(keyset) 기반으로 조회 (검색 대상은 GET /api/memos/search 와 같고, 순서는 목록 순서)
+     * @param keyword 검색 키워드 (제목 + 내용 기준, 대소문자 무시 / 한 글자 검색어는 제목 기준)
+     * @param after 이전 응답의 nextCursor (첫 페이지 요청 시 생략)
+     * @param size 페이지 크기 (1 ~ 100)
+     * @return 커서 페이징된 메모 응답
+     */
+    @Operation(summary = "메모 키워드 커서 검색", description = "키워드가 포함된 메모를 after 커서 이후부터 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @GetMapping("/search/cursor")
+    public ResponseEntity<CursorPageResponseDto<MemoListResponseDto>> searchMemosByCursor(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPageResponseDto<MemoListResponseDto> response = memoService.getKeywordMemoByCursor(keyword, after, clampCursorPageSize(size));
+
+        return ResponseEntity.ok(response);
+    }
+
+    // 커서 페이지 크기를 1 ~ 100 범위로 제한
+    private int clampCursorPageSize(int size) {
+        return Math.max(1, Math.min(size, 100));
+    }
+
+    // 조건부 조회 응답 헤더 - 사용자별 응답이므로 공유 캐시에 저장하지 않고, 클라이언트는 매번 ETag 로 재검증한다
+    private ResponseEntity.BodyBuilder conditional(ResponseEntity.BodyBuilder builder, String etag) {
+        builder.cacheControl(CacheControl.noCache().cachePrivate());
+        return etag == null ? builder : builder.eTag(etag);
+    }
+
+    /**
+     * [PUT] /api/memos/{id}/pin-order
+     * 고정 메모 순서 변경 API (드래그 앤 드롭)
+     * @param memoId 옮길 고정 메모 id
+     * @param requestDto prevId / nextId: 놓은 위치의 바로 위 / 아래 고정 메모 (맨 위/맨 아래면 null)
+     */
+    @Operation(summary = "고정 메모 순서 변경", description = "고정 메모를 prevId 와 nextId 사이로 옮깁니다. 맨 위로 옮기면 prevId, 맨 아래로 옮기면 nextId 를 생략합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "순서 변경 성공"),
+            @ApiResponse(responseCode = "400", description = "고정되지 않은 메모이거나 잘못된 위치"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요"),
+            @ApiResponse(responseCode = "404", description = "메모를 찾을 수 없음")
+    })
+    @PutMapping("/{id}/pin-order")
+    public ResponseEntity<Void> movePinnedMemo(@PathVariable("id") Long memoId, @RequestBody MemoPinMoveRequestDto requestDto) {
+        memoService.movePinnedMemo(memoId, requestDto);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * [POST] /api/memos/batch/delete
+     * 메모 일괄 삭제 API (soft delete, UPDATE 한 번)
+     * @param requestDto ids: 삭제할 메모 id 목록 (최대 1000개)
+     * @return 요청 수 / 실제 삭제된 수
+     */
+    @Operation(summary = "메모 일괄 삭제", description = "여러 메모를 한 번에 삭제합니다. 본인 메모가 아니거나 이미 삭제된 메모는 건너뜁니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "삭제 성공"),
+            @ApiResponse(responseCode = "400", description = "id 목록이 비었거나 1000개 초과"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @PostMapping("/batch/delete")
+    public ResponseEntity<MemoBatchResponseDto> deleteMemos(@RequestBody MemoBatchRequestDto requestDto) {
+        return ResponseEntity.ok(memoService.deleteMemos(requestDto));
+    }
+
+    /**
+     * [POST] /api/memos/batch/pin
+     * 메모 일괄 고정/고정 해제 API
+     * @param requestDto ids: 대상 메모 id 목록 (고정 시 이 순서대로 위에 배치), pinned: 고정 여부
+     * @return 요청 수 / 고정 상태가 바뀐 수
+     */
+    @Operation(summary = "메모 일괄 고정", description = "여러 메모를 한 번에 고정하거나 고정 해제합니다. 새로 고정되는 메모는 요청 순서대로 맨 위에 배치됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "변경 성공"),
+            @ApiResponse(responseCode = "400", description = "id 목록이 비었거나 1000개 초과"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @PostMapping("/batch/pin")
+    public ResponseEntity<MemoBatchResponseDto> pinMemos(@RequestBody MemoBatchRequestDto requestDto) {
+        return ResponseEntity.ok(memoService.pinMemos(requestDto));
+    }
+
+    /**
+     * [POST] /api/memos/batch/category
+     * 메모 카테고리 일괄 변경 API
+     * @param requestDto ids: 대상 메모 id 목록, memoCategory: 변경할 카테고리
+     * @return 요청 수 / 카테고리가 바뀐 수
+     */
+    @Operation(summary = "메모 카테고리 일괄 변경", description = "여러 메모의 카테고리를 한 번에 변경합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "변경 성공"),
+            @ApiResponse(responseCode = "400", description = "id 목록이 비었거나 1000개 초과, 카테고리 누락"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @PostMapping("/batch/category")
+    public ResponseEntity<MemoBatchResponseDto> changeCategory(@RequestBody MemoBatchRequestDto requestDto) {
+        return ResponseEntity.ok(memoService.changeCategory(requestDto));
+    }
+
+    /**
+     * [POST] /api/memos/batch/visibility
+     * 메모 공개 여부 일괄 변경 API
+     * @param requestDto ids: 대상 메모 id 목록, visibility: 변경할 공개 여부
+     * @return 요청 수 / 공개 여부가 바뀐 수
+     */
+    @Operation(summary = "메모 공개 여부 일괄 변경", description = "여러 메모의 공개 여부를 한 번에 변경합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "변경 성공"),
+            @ApiResponse(responseCode = "400", description = "id 목록이 비었거나 1000개 초과, 공개 여부 누락"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @PostMapping("/batch/visibility")
+    public ResponseEntity<MemoBatchResponseDto> changeVisibility(@RequestBody MemoBatchRequestDto requestDto) {
+        return ResponseEntity.ok(memoService.changeVisibility(requestDto));
+    }
+
+    /**
+     * [GET] /api/memos/stats
+     * 메모 수 통계 API (전체 / 고정 / 휴지통 / 카테고리별 / 공개 여부별)
+     * COUNT 쿼리 없이 사용자 카운터에서 읽으므로, 다른 서버에서 방금 쓴 내용은 몇 초 늦게 반영될 수 있다.
+     * @return 메모 수 통계
+     */
+    @Operation(summary = "메모 통계", description = "로그인한 사용자의 메모 수를 카테고리, 공개 여부, 고정 여부별로 반환합니다. 휴지통의 메모 수도 포함합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<MemoStatsResponseDto> getStats() {
+        return ResponseEntity.ok(memoService.getStats());
+    }
+
+    /**
+     * [GET] /api/memos/changes
+     * 메모 변경 피드 API - since 커서 이후에 생성 / 수정 / 삭제 / 복원된 메모를 변경 순서대로 반환
+     * 삭제된 메모는 id 와 deleted = true 만 담은 툼스톤으로 내려간다. 내용(content)은 상세 조회로 받는다.
+     * @param since 이전 응답의 nextCursor (처음 동기화 시 생략 - 전체 메모부터)
+     * @param size 한 번에 받을 변경 수 (1 ~ 500)
+     * @return 변경 목록과 다음 커서
+     */
+    @Operation(summary = "메모 변경 피드", description = "since 커서 이후에 바뀐 메모를 변경 순서대로 반환합니다. hasMore 가 false 가 될 때까지 nextCursor 를 since 로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요"),
+            @ApiResponse(responseCode = "410", description = "정리된 삭제 기록 이전의 커서 (전체 다시 동기화 필요)")
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<MemoChangesResponseDto> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(memoChangeService.getChanges(since, Math.max(1, Math.min(size, 500))));
+    }
+
+    /**
+     * [GET] /api/memos/trash
+     * 휴지통(삭제된 메모) 목록 조회 - 삭제 시각 최신순
+     * 보존 기간이 지나 보관(archive)된 메모도 함께 조회된다. (archived = true)
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return 페이징된 휴지통 목록
+     */
+    @Operation(summary = "휴지통 조회", description = "삭제된 메모 목록을 삭제 시각 최신순으로 조회합니다. 보관된 오래된 메모도 포함됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 페이지 번호/크기"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @GetMapping("/trash")
+    public ResponseEntity<PageResponseDto<MemoTrashItemDto>> getTrash(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(memoTrashService.getTrash(page, size));
+    }
+
+    /**
+     * [POST] /api/memos/trash/{id}/restore
+     * 휴지통의 메모 복원 API (보관된 메모도 같은 id / uuid 로 복원)
+     * @param memoId 복원할 메모 id
+     */
+    @Operation(summary = "휴지통 메모 복원", description = "삭제된 메모를 복원합니다. 고정 메모였다면 맨 위에 다시 고정됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "복원 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요"),
+            @ApiResponse(responseCode = "404", description = "휴지통에 없는 메모")
+    })
+    @PostMapping("/trash/{id}/restore")
+    public ResponseEntity<Void> restoreMemo(@PathVariable("id") Long memoId) {
+        memoTrashService.restore(memoId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * [GET] /api/memos/export
+     * 로그인한 사용자의 전체 메모를 NDJSON(한 줄에 메모 하나)으로 내려받는 API
+     * 메모를 메모리에 모으지 않고 DB 에서 읽는 대로 응답에 쓴다. (MemoExportService 참고)
+     * @param gzip true 면 gzip 압축 파일(memos.ndjson.gz)로 내려준다
+     * @return NDJSON 스트림
+     */
+    @Operation(summary = "메모 내보내기", description = "로그인한 사용자의 삭제되지 않은 모든 메모를 NDJSON 형식으로 내려받습니다. gzip=true 면 압축해서 내려줍니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMemos(@RequestParam(defaultValue = "false") boolean gzip) {
+        StreamingResponseBody body = memoExportService.exportMemos(gzip);
+        String filename = gzip ? "memos.ndjson.gz" : "memos.ndjson";
+        return ResponseEntity.ok()
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    /**
+     * [POST] /api/memos/import
+     * NDJSON(한 줄에 메모 하나) 본문으로 메모를 가져오는 API (export 결과를 그대로 올릴 수 있다)
+     * 본문을 한 번에 읽지 않고 배치 단위로 읽어 저장한다. (MemoImportService 참고)
+     * @param body 요청 본문 스트림
+     * @param contentEncoding gzip 이면 압축된 본문으로 처리
+     * @return 읽은/저장한/실패한 레코드 수와 실패한 줄 목록
+     */
+    @Operation(summary = "메모 가져오기", description = "NDJSON 형식(한 줄에 메모 하나)의 본문으로 메모를 가져옵니다. 잘못된 줄은 건너뛰고 결과에 줄 번호를 남깁니다. Content-Encoding: gzip 을 지원합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "가져오기 완료 (일부 실패 포함 가능)"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요")
+    })
+    @PostMapping("/import")
+    public ResponseEntity<MemoImportResponseDto> importMemos(
+            InputStream body,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding) {
+        MemoImportResponseDto responseDto = memoImportService.importMemos(body, "gzip".equalsIgnoreCase(contentEncoding));
+        return ResponseEntity.ok(responseDto);
+    }
+
     /**
      * [GET] /api/memos/{id}
      * 단일 메모 상세 조회 API
      *
      * 로그인한 사용자가 작성한 메모 중, 주어진 ID에 해당하는 메모의 상세 정보를 반환한다.
      * - 삭제된 메모 또는 타인의 메모일 경우 예외가 발생한다.
+     * - If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 를 반환한다.
+     * - Last-Modified/If-Modified-Since 는 지원하지 않는다. 고정 여부만 바꾸면 updatedAt 이 그대로라서
+     *   (MemoVersion 참고) updatedAt 만으로는 변경을 놓친다.
      *
      * @param id 조회할 메모의 고유 ID (PathVariable)
+     * @param ifNoneMatch 이전 조회 응답에서 받은 ETag (없으면 null)
      * @return MemoDetailResponseDto 메모의 상세 정보 응답 객체
      * @throws CustomException USER_NOT_FOUND: 로그인한 사용자가 존재하지 않을 경우
      * @throws CustomException MEMO_NOT_FOUND: 해당 메모가 없거나 접근 권한이 없는 경우
@@ -117,15 +463,28 @@ public class MemoController {
     @Operation(summary = "단일 메모 상세 조회", description = "로그인한 사용자의 메모 중, 주어진 ID에 해당하는 메모의 상세 정보를 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match 와 같은 버전 (변경 없음)"),
             @ApiResponse(responseCode = "404", description = "메모를 찾을 수 없음"),
             @ApiResponse(responseCode = "401", description = "로그인 필요 (토큰 없음 또는 만료)")
     })
     @Parameter(name = "id", description = "조회할 메모의 ID", required = true)
     @GetMapping("/{id}")
-    public ResponseEntity<MemoDetailResponseDto> getMemoById(@PathVariable Long id) {
+    public ResponseEntity<MemoDetailResponseDto> getMemoById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        // 버전(id, updatedAt, 고정 여부)만 먼저 조회해서, 같으면 본문을 읽지 않고 304
+        String current = memoService.getMemoDetailEtag(id);
+        if (ifNoneMatch != null && MemoVersion.matches(ifNoneMatch, current)) {
+            return conditional(ResponseEntity.status(HttpStatus.NOT_MODIFIED), current).build();
+        }
+
         MemoDetailResponseDto response = memoService.getMemoDetail(id);
 
-        return ResponseEntity.ok(response);
+        // ETag 는 실제로 내려주는 본문의 버전으로 붙인다 (위에서 읽은 버전과 본문 조회 사이에 수정되었을 수 있다)
+        // WebRequest.checkNotModified 는 비교한 ETag 를 응답 헤더에 먼저 써 버리므로 여기서는 직접 비교한다
+        String etag = MemoVersion.etag(response.getId(), response.getUpdatedAt(), response.isPinned());
+        return conditional(ResponseEntity.ok(), etag).body(response);
     }
 
     /**
@@ -134,24 +493,30 @@ public class MemoController {
      *
      * @param id 수정할 메모의 ID
      * @param requestDto 수정할 제목, 내용, 카테고리, 공개 여부, 고정 여부 등의 정보
-     * @return 수정된 메모에 대한 응답 DTO
+     * @param ifMatch 조회 응답에서 받은 ETag (있으면 그 사이 다른 수정이 있었을 때 412, 없으면 무조건 수정)
+     * @return 수정된 메모에 대한 응답 DTO (ETag 헤더 포함)
      */
     @Operation(summary = "메모 수정", description = "ID에 해당하는 메모를 수정합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "수정 성공"),
             @ApiResponse(responseCode = "400", description = "요청 값 유효성 실패"),
             @ApiResponse(responseCode = "401", description = "로그인 필요"),
-            @ApiResponse(responseCode = "404", description = "메모를 찾을 수 없음")
+            @ApiResponse(responseCode = "404", description = "메모를 찾을 수 없음"),
+            @ApiResponse(responseCode = "412", description = "If-Match 와 현재 버전이 다름 (다른 곳에서 먼저 수정됨)")
     })
     @Parameter(name = "id", description = "수정할 메모의 ID", required = true)
     @PutMapping("/{id}")
     public ResponseEntity<MemoUpdateResponseDto> updateMemoById(
             @PathVariable Long id,
-            @RequestBody MemoUpdateRequestDto requestDto
+            @RequestBody MemoUpdateRequestDto requestDto,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        MemoUpdateResponseDto response = memoService.updateMemo(id, requestDto);
+        MemoUpdateResponseDto response = memoService.updateMemo(id, requestDto, ifMatch);
 
-        return ResponseEntity.ok(response);
+        // 수정된 메모의 ETag - 다음 수정의 If-Match 로 그대로 쓸 수 있다
+        return ResponseEntity.ok()
+                .eTag(MemoVersion.etag(response.getId(), response.getUpdatedAt(), response.isPinned()))
+                .body(response);
     }
 
     /**
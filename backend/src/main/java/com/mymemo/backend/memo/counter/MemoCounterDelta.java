@@ -0,0 +1,87 @@
+package com.mymemo.backend.memo.counter;
+
+import com.mymemo.backend.entity.Memo;
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 메모 쓰기 하나(또는 일괄 처리 하나)가 사용자의 카운터에 더할 증감량
+ * 쓰기 메서드가 바뀐 메모를 기준으로 만들고, MemoCounterService.apply 로 메모 쓰기와 같은 트랜잭션에서 반영한다.
+ */
+public class MemoCounterDelta {
+
+    private final Map<String, Long> deltas = new HashMap<>();
+
+    // 삭제되지 않은 메모가 생겼다 (생성/가져오기/복원)
+    public MemoCounterDelta added(Memo memo) {
+        return added(memo.getMemoCategory(), memo.getVisibility(), memo.isPinned(), 1);
+    }
+
+    // 삭제되지 않은 메모가 없어졌다 (삭제)
+    public MemoCounterDelta removed(Memo memo) {
+        return added(memo.getMemoCategory(), memo.getVisibility(), memo.isPinned(), -1);
+    }
+
+    public MemoCounterDelta removed(MemoCategory category, Visibility visibility, boolean pinned) {
+        return added(category, visibility, pinned, -1);
+    }
+
+    // 휴지통의 메모 수 변화 (삭제 +, 복원/영구 삭제 -)
+    public MemoCounterDelta trashed(long count) {
+        return add(MemoCounts.DELETED, count);
+    }
+
+    public MemoCounterDelta pinned(long count) {
+        return add(MemoCounts.PINNED, count);
+    }
+
+    public MemoCounterDelta category(MemoCategory from, MemoCategory to) {
+        if (!Objects.equals(from, to)) {
+            add(MemoCounts.categoryName(from), -1);
+            add(MemoCounts.categoryName(to), 1);
+        }
+        return this;
+    }
+
+    public MemoCounterDelta visibility(Visibility from, Visibility to) {
+        if (!Objects.equals(from, to)) {
+            add(MemoCounts.visibilityName(from), -1);
+            add(MemoCounts.visibilityName(to), 1);
+        }
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return deltas.values().stream().allMatch(amount -> amount == 0);
+    }
+
+    // 0 이 아닌 증감량만
+    public Map<String, Long> values() {
+        Map<String, Long> nonZero = new HashMap<>();
+        deltas.forEach((name, amount) -> {
+            if (amount != 0) {
+                nonZero.put(name, amount);
+            }
+        });
+        return nonZero;
+    }
+
+    private MemoCounterDelta added(MemoCategory category, Visibility visibility, boolean pinned, int sign) {
+        add(MemoCounts.TOTAL, sign);
+        add(MemoCounts.categoryName(category), sign);
+        add(MemoCounts.visibilityName(visibility), sign);
+        if (pinned) {
+            add(MemoCounts.PINNED, sign);
+        }
+        return this;
+    }
+
+    private MemoCounterDelta add(String name, long amount) {
+        deltas.merge(name, amount, Long::sum);
+        return this;
+    }
+}
@@ -0,0 +1,129 @@
+package com.mymemo.backend.memo.counter;
+
+import com.mymemo.backend.entity.MemoCounter;
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+import com.mymemo.backend.memo.dto.MemoCountRow;
+import com.mymemo.backend.memo.dto.MemoCounterSum;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 사용자의 메모 수 (memo_counter 의 카운터별 합계)
+ *
+ * - total / pinned / category:{code} / visibility:{code} 는 삭제되지 않은 메모 기준이다.
+ * - deleted 는 휴지통의 메모 수다. (memo 테이블의 삭제 메모 + memo_archive 로 보관된 메모)
+ * - initialized 는 재계산(MemoCounterService.reconcile)으로 한 번이라도 맞춰진 사용자에게만 있다.
+ *   이 값이 없으면 카운터 행이 있더라도 배포 이전 메모가 빠진 값이므로 믿지 않는다.
+ * - 카테고리/공개 여부는 DB 와 같이 이름 대신 code 로 저장한다. (enum 이름이 바뀌어도 카운터가 유지되도록)
+ */
+public final class MemoCounts {
+
+    public static final String TOTAL = "total";
+    public static final String PINNED = "pinned";
+    public static final String DELETED = "deleted";
+    public static final String INITIALIZED = "initialized";
+
+    private final Map<String, Long> values;     // 0 이 아닌 값만
+
+    private MemoCounts(Map<String, Long> values) {
+        Map<String, Long> nonZero = new HashMap<>();
+        values.forEach((name, amount) -> {
+            if (amount != null && amount != 0) {
+                nonZero.put(name, amount);
+            }
+        });
+        this.values = Map.copyOf(nonZero);
+    }
+
+    public static String categoryName(MemoCategory category) {
+        return "category:" + category.getCode();
+    }
+
+    public static String visibilityName(Visibility visibility) {
+        return "visibility:" + visibility.getCode();
+    }
+
+    /**
+     * 저장된 카운터 합계
+     */
+    public static MemoCounts of(List<MemoCounterSum> sums) {
+        Map<String, Long> values = new HashMap<>();
+        sums.forEach(sum -> values.merge(sum.name(), sum.amount(), Long::sum));
+        return new MemoCounts(values);
+    }
+
+    /**
+     * 잠근 stripe 행들의 합계 (재계산에서 저장된 값과 실제 값을 비교할 때)
+     */
+    public static MemoCounts ofRows(List<MemoCounter> rows) {
+        Map<String, Long> values = new HashMap<>();
+        rows.forEach(row -> values.merge(row.getKey().getName(), row.getAmount(), Long::sum));
+        return new MemoCounts(values);
+    }
+
+    /**
+     * 실제 메모 수로 만든 카운터 값 (재계산 결과 - initialized 포함)
+     *
+     * @param active 삭제되지 않은 메모의 조합별 개수
+     * @param deleted 휴지통의 메모 수
+     */
+    public static MemoCounts of(List<MemoCountRow> active, long deleted) {
+        Map<String, Long> values = new HashMap<>();
+        for (MemoCountRow row : active) {
+            values.merge(TOTAL, row.count(), Long::sum);
+            values.merge(categoryName(row.memoCategory()), row.count(), Long::sum);
+            values.merge(visibilityName(row.visibility()), row.count(), Long::sum);
+            if (row.pinned()) {
+                values.merge(PINNED, row.count(), Long::sum);
+            }
+        }
+        values.put(DELETED, deleted);
+        values.put(INITIALIZED, 1L);
+        return new MemoCounts(values);
+    }
+
+    public boolean isInitialized() {
+        return values.containsKey(INITIALIZED);
+    }
+
+    public long total() {
+        return get(TOTAL);
+    }
+
+    public long pinned() {
+        return get(PINNED);
+    }
+
+    public long deleted() {
+        return get(DELETED);
+    }
+
+    public long category(MemoCategory category) {
+        return get(categoryName(category));
+    }
+
+    public long visibility(Visibility visibility) {
+        return get(visibilityName(visibility));
+    }
+
+    public Map<String, Long> values() {
+        return values;
+    }
+
+    private long get(String name) {
+        return Math.max(0, values.getOrDefault(name, 0L));      // 재계산 전의 일시적인 음수는 0 으로
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof MemoCounts other && values.equals(other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+}
@@ -0,0 +1,8 @@
+package com.mymemo.backend.memo.dto;
+
+/**
+ * 콜드 세그먼트별 참조 행 수 (JPQL 생성자 표현식으로 생성)
+ * 세그먼트에 든 메모 수보다 적으면 버려진 내용이 있다. (MemoColdTierService.compact)
+ */
+public record ColdSegmentUsage(Integer segment, Long count) {
+}
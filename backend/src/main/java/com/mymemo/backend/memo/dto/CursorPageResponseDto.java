@@ -0,0 +1,20 @@
+package com.mymemo.backend.memo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서(keyset) 기반 페이징 응답 DTO
+ * - 전체 개수(COUNT) 없이 다음 페이지를 가리키는 커서만 내려준다.
+ * @param <T> 페이지 내용의 DTO 타입
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageResponseDto<T> {
+    private List<T> content;        // 실제 응답 리스트
+    private int size;               // 요청한 페이지 크기
+    private String nextCursor;      // 다음 페이지 요청 시 after 로 전달할 토큰 (마지막 페이지면 null)
+    private boolean hasNext;        // 다음 페이지 존재 여부
+}
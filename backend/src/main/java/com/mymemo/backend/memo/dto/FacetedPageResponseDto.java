@@ -0,0 +1,23 @@
+package com.mymemo.backend.memo.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 패싯(카테고리별 / 공개 여부별 개수)을 함께 내려주는 페이징 응답 DTO
+ * - PageResponseDto 의 필드는 그대로 두고 facets 만 추가하므로 기존 클라이언트는 영향을 받지 않는다.
+ * - 기본 생성자는 목록 캐시(MemoListCache)의 Redis 역직렬화용
+ * @param <T> 페이지 내용의 DTO 타입
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FacetedPageResponseDto<T> extends PageResponseDto<T> {
+
+    private MemoFacetsDto facets;
+
+    public FacetedPageResponseDto(PageResponseDto<T> page, MemoFacetsDto facets) {
+        super(page.getContent(), page.getPage(), page.getSize(), page.getTotalElements(), page.getTotalPages(), page.isLast());
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,30 @@
+package com.mymemo.backend.memo.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 메모 일괄 처리(삭제/고정/카테고리/공개 여부) 요청 DTO
+ * - ids 는 공통, 나머지 필드는 엔드포인트마다 필요한 것만 사용한다.
+ */
+@Getter
+public class MemoBatchRequestDto {
+
+    @Schema(description = "대상 메모 id 목록 (최대 1000개, 고정 시 이 순서대로 위에 배치)", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    @Schema(description = "고정 여부 (/batch/pin)", example = "true")
+    @JsonProperty("pinned")
+    private boolean isPinned;
+
+    @Schema(description = "변경할 카테고리 (/batch/category)", example = "WORK")
+    private MemoCategory memoCategory;
+
+    @Schema(description = "변경할 공개 여부 (/batch/visibility)", example = "PRIVATE")
+    private Visibility visibility;
+}
@@ -0,0 +1,19 @@
+package com.mymemo.backend.memo.dto;
+
+import lombok.Getter;
+
+/**
+ * 메모 일괄 처리 응답 DTO
+ * - 요청한 id 중 본인 메모가 아니거나, 없거나, 이미 같은 상태인 메모는 affectedCount 에 포함되지 않는다.
+ */
+@Getter
+public class MemoBatchResponseDto {
+
+    private int requestedCount;     // 요청한 id 수 (중복 제외)
+    private int affectedCount;      // 실제로 변경된 메모 수
+
+    public MemoBatchResponseDto(int requestedCount, int affectedCount) {
+        this.requestedCount = requestedCount;
+        this.affectedCount = affectedCount;
+    }
+}
@@ -0,0 +1,11 @@
+package com.mymemo.backend.memo.dto;
+
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+
+/**
+ * 일괄 처리 대상 메모의 키 (JPQL 생성자 표현식으로 생성)
+ * 커밋 이후 검색 인덱스/공개 메모 캐시를 갱신할 때, 그리고 메모 수 카운터의 증감량을 계산할 때 사용한다.
+ */
+public record MemoBatchTarget(Long id, String uuid, boolean pinned, MemoCategory memoCategory, Visibility visibility) {
+}
@@ -0,0 +1,33 @@
+package com.mymemo.backend.memo.dto;
+
+import com.mymemo.backend.entity.Memo;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 메모 일괄 생성 응답 DTO
+ * - 요청 목록과 같은 순서로 생성된 메모의 id / uuid 를 내려준다.
+ */
+@Getter
+public class MemoBulkCreateResponseDto {
+
+    private int createdCount;       // 생성된 메모 수
+    private List<Item> memos;       // 요청 순서와 같은 순서
+
+    public MemoBulkCreateResponseDto(List<Memo> memos) {
+        this.createdCount = memos.size();
+        this.memos = memos.stream().map(Item::new).toList();
+    }
+
+    @Getter
+    public static class Item {
+        private Long id;
+        private String uuid;
+
+        public Item(Memo memo) {
+            this.id = memo.getId();
+            this.uuid = memo.getUuid();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.mymemo.backend.memo.dto;
+
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 변경 피드에서 "마지막으로 내려준 변경의 위치"를 나타내는 값 객체
+ *
+ * - 일괄 처리는 여러 메모에 같은 변경 순번을 주므로 (changeSeq, id) 를 함께 담는다.
+ * - id 가 Long.MAX_VALUE 이면 changeSeq 까지의 변경을 모두 받았다는 뜻이다. (더 받을 변경이 없을 때의 커서)
+ * - 클라이언트에는 MemoCursor 와 같이 Base64(URL-safe) 문자열로 인코딩된 불투명(opaque) 토큰으로 전달된다.
+ */
+public class MemoChangeCursor {
+
+    public static final MemoChangeCursor START = new MemoChangeCursor(0, 0);
+
+    private static final String DELIMITER = "|";
+
+    private final long changeSeq;
+    private final long id;
+
+    public MemoChangeCursor(long changeSeq, long id) {
+        this.changeSeq = changeSeq;
+        this.id = id;
+    }
+
+    public static MemoChangeCursor from(MemoChangeDto change) {
+        return new MemoChangeCursor(change.getChangeSeq(), change.getId());
+    }
+
+    // changeSeq 까지의 변경을 모두 받은 위치
+    public static MemoChangeCursor upTo(long changeSeq) {
+        return new MemoChangeCursor(changeSeq, Long.MAX_VALUE);
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 토큰 문자열로 변환한다.
+     * 형식: base64url("changeSeq|id")
+     */
+    public String encode() {
+        String raw = changeSeq + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 since 토큰을 커서로 복원한다.
+     *
+     * @param token encode()로 만들어진 토큰
+     * @return 복원된 커서
+     * @throws CustomException INVALID_CURSOR: 형식이 잘못된 토큰인 경우
+     */
+    public static MemoChangeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new MemoChangeCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            // Base64 디코딩 실패, 숫자 파싱 실패(NumberFormatException 포함)
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 이 커서 이후의 변경 중 정리 작업이 치운 메모(툼스톤)가 있었을 수 있는지 확인한다.
+     *
+     * @param purgedChangeSeq users.purged_change_seq
+     */
+    public boolean isBefore(long purgedChangeSeq) {
+        if (purgedChangeSeq == 0) {
+            return false;       // 아직 치운 메모 없음
+        }
+        return changeSeq < purgedChangeSeq || (changeSeq == purgedChangeSeq && id != Long.MAX_VALUE);
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
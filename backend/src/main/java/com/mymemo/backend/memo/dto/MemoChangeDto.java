@@ -0,0 +1,55 @@
+package com.mymemo.backend.memo.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 피드(GET /api/memos/changes)의 항목 하나
+ * - 살아 있는 메모는 목록 항목(MemoListResponseDto)과 같은 필드를 내려준다. (content 는 상세 조회로 받는다)
+ * - 삭제된 메모는 툼스톤으로 id 와 deleted = true 만 내려준다. 클라이언트는 로컬 사본에서 지우면 된다.
+ * - MemoRepository.findChanges 가 JPQL 생성자 표현식으로 직접 만든다.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MemoChangeDto {
+
+    private final Long id;
+    private final boolean deleted;
+    private final String title;
+    private final MemoCategory memoCategory;
+    private final Visibility visibility;
+    @JsonProperty("pinned")     // 툼스톤에서 생략하려고 Boolean 이라 getter 가 getIsPinned() - 목록 항목과 같은 이름으로 맞춘다
+    private final Boolean isPinned;
+    private final Integer pinOrder;
+    private final String uuid;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final String preview;
+
+    @JsonIgnore
+    private final long changeSeq;       // 다음 커서 생성용 - 응답 JSON 에는 포함하지 않음
+
+    // JPQL 생성자 표현식에서 사용하는 생성자 (파라미터 순서 변경 시 MemoRepository.findChanges 도 함께 수정)
+    public MemoChangeDto(Long id, boolean deleted, String title, MemoCategory memoCategory, Visibility visibility,
+                         boolean isPinned, int pinOrder, String uuid,
+                         LocalDateTime createdAt, LocalDateTime updatedAt, String preview, long changeSeq) {
+        this.id = id;
+        this.deleted = deleted;
+        this.title = deleted ? null : title;
+        this.memoCategory = deleted ? null : memoCategory;
+        this.visibility = deleted ? null : visibility;
+        this.isPinned = deleted ? null : isPinned;
+        this.pinOrder = deleted ? null : pinOrder;
+        this.uuid = deleted ? null : uuid;
+        this.createdAt = deleted ? null : createdAt;
+        this.updatedAt = deleted ? null : updatedAt;
+        this.preview = deleted ? null : preview;
+        this.changeSeq = changeSeq;
+    }
+}
@@ -0,0 +1,18 @@
+package com.mymemo.backend.memo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 변경 피드 응답 DTO (GET /api/memos/changes)
+ * - nextCursor 는 항상 내려간다. 다음 동기화(또는 hasMore 면 바로 다음 요청)의 since 로 저장해두면 된다.
+ */
+@Getter
+@AllArgsConstructor
+public class MemoChangesResponseDto {
+    private List<MemoChangeDto> changes;    // 변경 순서대로 정렬된 메모 / 툼스톤
+    private String nextCursor;              // 다음 요청의 since
+    private boolean hasMore;                // 아직 내려주지 않은 변경이 있는지 여부
+}
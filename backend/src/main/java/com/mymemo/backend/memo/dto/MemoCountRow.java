@@ -0,0 +1,11 @@
+package com.mymemo.backend.memo.dto;
+
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+
+/**
+ * 삭제되지 않은 메모의 (카테고리, 공개 여부, 고정 여부) 조합별 개수 (JPQL 생성자 표현식으로 생성)
+ * 카운터 재계산(MemoCounterService.reconcile)과 목록 패싯(MemoFacetsDto) 계산에 사용한다.
+ */
+public record MemoCountRow(MemoCategory memoCategory, Visibility visibility, boolean pinned, Long count) {
+}
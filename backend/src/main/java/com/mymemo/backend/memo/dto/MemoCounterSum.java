@@ -0,0 +1,7 @@
+package com.mymemo.backend.memo.dto;
+
+/**
+ * 카운터 하나의 모든 stripe 합 (JPQL 생성자 표현식으로 생성)
+ */
+public record MemoCounterSum(String name, Long amount) {
+}
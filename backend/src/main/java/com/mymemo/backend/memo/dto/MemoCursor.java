@@ -0,0 +1,87 @@
+package com.mymemo.backend.memo.dto;
+
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 기반 페이징에서 "마지막으로 내려준 메모의 위치"를 나타내는 값 객체
+ *
+ * - 목록 정렬 기준(isPinned DESC, pinOrder ASC, updatedAt DESC, id DESC)의 키를 그대로 담는다.
+ * - 클라이언트에는 Base64(URL-safe) 문자열로 인코딩된 불투명(opaque) 토큰으로 전달된다.
+ */
+public class MemoCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final boolean pinned;
+    private final int pinOrder;
+    private final LocalDateTime updatedAt;
+    private final long id;
+
+    public MemoCursor(boolean pinned, int pinOrder, LocalDateTime updatedAt, long id) {
+        this.pinned = pinned;
+        this.pinOrder = pinOrder;
+        this.updatedAt = updatedAt;
+        this.id = id;
+    }
+
+    public static MemoCursor from(MemoListResponseDto memo) {
+        return new MemoCursor(memo.isPinned(), memo.getPinOrder(), memo.getUpdatedAt(), memo.getId());
+    }
+
+    /**
+     * 커서를 클라이언트에 전달할 토큰 문자열로 변환한다.
+     * 형식: base64url("pinned|pinOrder|updatedAt|id")
+     */
+    public String encode() {
+        String raw = (pinned ? "1" : "0") + DELIMITER + pinOrder + DELIMITER + updatedAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 클라이언트가 보낸 after 토큰을 커서로 복원한다.
+     *
+     * @param token encode()로 만들어진 토큰
+     * @return 복원된 커서
+     * @throws CustomException INVALID_CURSOR: 형식이 잘못된 토큰인 경우
+     */
+    public static MemoCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 4) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            return new MemoCursor(
+                    "1".equals(parts[0]),
+                    Integer.parseInt(parts[1]),
+                    LocalDateTime.parse(parts[2]),
+                    Long.parseLong(parts[3])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64 디코딩 실패, 숫자 파싱 실패(NumberFormatException 포함), 날짜 파싱 실패
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public boolean isPinned() {
+        return pinned;
+    }
+
+    public int getPinOrder() {
+        return pinOrder;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
@@ -3,11 +3,14 @@ package com.mymemo.backend.memo.dto;
 import com.mymemo.backend.entity.Memo;
 import com.mymemo.backend.entity.enums.MemoCategory;
 import com.mymemo.backend.entity.enums.Visibility;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)     // 공개 메모 캐시(Redis) 역직렬화용
 public class MemoDetailResponseDto {
     private Long id;
     private String title;
@@ -19,10 +22,13 @@ public class MemoDetailResponseDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    public MemoDetailResponseDto(Memo memo) {
+    /**
+     * @param content 메모 내용 (콜드 티어 메모는 세그먼트에서 읽은 내용 - ColdMemoStore.contentOf)
+     */
+    public MemoDetailResponseDto(Memo memo, String content) {
         this.id = memo.getId();
         this.title = memo.getTitle();
-        this.content = memo.getContent();
+        this.content = content;
         this.memoCategory = memo.getMemoCategory();
         this.visibility = memo.getVisibility();
         this.isPinned = memo.isPinned();
@@ -0,0 +1,32 @@
+package com.mymemo.backend.memo.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메모 내보내기(NDJSON) 한 줄에 해당하는 메모 한 건 (JPQL 생성자 표현식으로 생성)
+ *
+ * 파라미터 순서 변경 시 MemoExportService.EXPORT_QUERY 도 함께 수정한다.
+ * id / coldSegment 는 콜드 세그먼트의 내용을 읽기 위한 값으로 내보내지 않는다.
+ */
+public record MemoExportDto(
+        String uuid,
+        String title,
+        String content,
+        MemoCategory memoCategory,
+        Visibility visibility,
+        boolean pinned,
+        int pinOrder,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        @JsonIgnore Long id,
+        @JsonIgnore Integer coldSegment
+) {
+
+    public MemoExportDto withContent(String content) {
+        return new MemoExportDto(uuid, title, content, memoCategory, visibility, pinned, pinOrder, createdAt, updatedAt, id, null);
+    }
+}
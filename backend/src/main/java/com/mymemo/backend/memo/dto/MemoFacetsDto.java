@@ -0,0 +1,63 @@
+package com.mymemo.backend.memo.dto;
+
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+import com.mymemo.backend.memo.counter.MemoCounts;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메모 목록의 카테고리별 / 공개 여부별 개수 (패싯)
+ *
+ * - 각 패싯은 자기 차원의 필터만 빼고 나머지 필터를 모두 적용한 개수다.
+ *   (category=WORK 로 거른 목록에서도 다른 카테고리를 골랐을 때의 개수를 보여줄 수 있도록)
+ * - 메모가 없는 항목도 0 으로 모두 포함한다.
+ * - 기본 생성자는 목록 캐시(MemoListCache)의 Redis 역직렬화에도 쓰인다.
+ */
+@Getter
+public class MemoFacetsDto {
+
+    private Map<MemoCategory, Long> categories = new EnumMap<>(MemoCategory.class);
+    private Map<Visibility, Long> visibilities = new EnumMap<>(Visibility.class);
+
+    private MemoFacetsDto() {
+        for (MemoCategory category : MemoCategory.values()) {
+            categories.put(category, 0L);
+        }
+        for (Visibility visibility : Visibility.values()) {
+            visibilities.put(visibility, 0L);
+        }
+    }
+
+    /**
+     * 필터가 없는 목록의 패싯 - 사용자 카운터 값 (쿼리 없음)
+     */
+    public static MemoFacetsDto of(MemoCounts counts) {
+        MemoFacetsDto facets = new MemoFacetsDto();
+        facets.categories.replaceAll((category, zero) -> counts.category(category));
+        facets.visibilities.replaceAll((visibility, zero) -> counts.visibility(visibility));
+        return facets;
+    }
+
+    /**
+     * 필터가 있는 목록의 패싯 - 카테고리/공개 여부를 뺀 필터로 묶은 GROUP BY 결과 하나에서 두 패싯을 모두 계산한다.
+     *
+     * @param rows 카테고리/공개 여부 외의 필터를 적용한 (카테고리, 공개 여부, 고정 여부)별 개수
+     * @param filter 목록 필터
+     */
+    public static MemoFacetsDto of(List<MemoCountRow> rows, MemoListFilter filter) {
+        MemoFacetsDto facets = new MemoFacetsDto();
+        for (MemoCountRow row : rows) {
+            if (filter.matchesVisibility(row.visibility())) {
+                facets.categories.merge(row.memoCategory(), row.count(), Long::sum);
+            }
+            if (filter.matchesCategory(row.memoCategory())) {
+                facets.visibilities.merge(row.visibility(), row.count(), Long::sum);
+            }
+        }
+        return facets;
+    }
+}
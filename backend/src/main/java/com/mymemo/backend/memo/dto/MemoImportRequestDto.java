@@ -0,0 +1,65 @@
+package com.mymemo.backend.memo.dto;
+
+import com.mymemo.backend.entity.Memo;
+import com.mymemo.backend.entity.User;
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 메모 가져오기(NDJSON) 한 줄에 해당하는 요청 DTO
+ *
+ * - 생성 요청과 같은 필드에 작성/수정 시각을 더한 형식이다. (GET /api/memos/export 의 출력을 그대로 받을 수 있다)
+ * - uuid, pinOrder 등 그 외 필드는 무시한다. (uuid 는 새로 발급, 고정 메모의 pinOrder 는 가져올 때 새로 할당)
+ */
+public class MemoImportRequestDto extends MemoCreateRequestDto {
+
+    private static final int TITLE_MAX_LENGTH = 255;        // memo.title 컬럼 길이 (문자 수)
+    private static final int CONTENT_MAX_BYTES = 65_535;    // memo.content TEXT 컬럼 길이 (바이트 수)
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public MemoImportRequestDto() {}
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * 생성 요청과 같은 검증(EMPTY_MEMO 등)을 거쳐 엔티티를 만들고 작성/수정 시각을 복원한다.
+     *
+     * @throws CustomException INVALID_IMPORT_RECORD: 제목이나 내용이 컬럼 길이를 넘는 경우 (배치 전체가 실패하지 않도록 미리 거른다)
+     */
+    @Override
+    public Memo toEntity(User user) {
+        if (getTitle() != null && getTitle().length() > TITLE_MAX_LENGTH) {
+            throw new CustomException(ErrorCode.INVALID_IMPORT_RECORD);
+        }
+        if (getContent() != null && exceedsBytes(getContent(), CONTENT_MAX_BYTES)) {
+            throw new CustomException(ErrorCode.INVALID_IMPORT_RECORD);
+        }
+        Memo memo = super.toEntity(user);
+        memo.restoreTimestamps(createdAt, updatedAt);
+        return memo;
+    }
+
+    // UTF-8 로 저장했을 때 max 바이트를 넘는지 (한 글자는 최대 4바이트이므로 짧은 문자열은 인코딩하지 않는다)
+    private static boolean exceedsBytes(String value, int max) {
+        return value.length() > max / 4 && value.getBytes(StandardCharsets.UTF_8).length > max;
+    }
+}
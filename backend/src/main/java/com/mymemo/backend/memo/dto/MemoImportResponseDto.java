@@ -0,0 +1,43 @@
+package com.mymemo.backend.memo.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 메모 가져오기 결과 요약 DTO
+ * - 실패한 줄은 앞에서부터 최대 개수(memo.import.max-reported-failures)까지만 담는다.
+ */
+@Getter
+public class MemoImportResponseDto {
+
+    private int totalCount;             // 읽은 레코드 수
+    private int importedCount;          // 저장된 메모 수
+    private int failedCount;            // 실패한 레코드 수
+    private boolean aborted;            // JSON 문법 오류로 도중에 중단했는지 (그 전까지 저장된 메모는 유지)
+    private List<Failure> failures;     // 실패한 줄 (앞에서부터 일부)
+    private boolean failuresTruncated;  // failures 가 잘렸는지
+
+    public MemoImportResponseDto(int totalCount, int importedCount, int failedCount, boolean aborted,
+                                 List<Failure> failures, boolean failuresTruncated) {
+        this.totalCount = totalCount;
+        this.importedCount = importedCount;
+        this.failedCount = failedCount;
+        this.aborted = aborted;
+        this.failures = failures;
+        this.failuresTruncated = failuresTruncated;
+    }
+
+    @Getter
+    public static class Failure {
+        private int line;           // 요청 본문에서의 줄 번호 (1부터)
+        private String code;        // ErrorCode 이름
+        private String message;
+
+        public Failure(int line, String code, String message) {
+            this.line = line;
+            this.code = code;
+            this.message = message;
+        }
+    }
+}
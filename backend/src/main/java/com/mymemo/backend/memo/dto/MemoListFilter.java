@@ -0,0 +1,122 @@
+package com.mymemo.backend.memo.dto;
+
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 메모 목록 필터 (GET /api/memos 의 category / visibility / pinned / createdFrom ~ updatedTo 파라미터)
+ *
+ * - 조건은 모두 AND 로 묶이고, categories 는 그중 하나에 속하면 된다. (비어 있으면 전체)
+ * - 기간은 from 이상 to 미만이다. 날짜만 주면(yyyy-MM-dd) 그날 0시로 본다.
+ * - 잘못된 값은 기본값으로 바꾸지 않고 INVALID_FILTER 로 거절한다. (요청과 다른 목록을 돌려주지 않도록)
+ */
+public record MemoListFilter(Set<MemoCategory> categories,
+                             Visibility visibility,
+                             Boolean pinned,
+                             LocalDateTime createdFrom,
+                             LocalDateTime createdTo,
+                             LocalDateTime updatedFrom,
+                             LocalDateTime updatedTo) {
+
+    public static final MemoListFilter NONE = new MemoListFilter(Set.of(), null, null, null, null, null, null);
+
+    /**
+     * 요청 파라미터로 필터를 만든다.
+     *
+     * @param categories 카테고리 이름 목록 (category=WORK&category=IDEA 또는 category=WORK,IDEA)
+     * @throws CustomException INVALID_FILTER: 알 수 없는 카테고리/공개 여부, true/false 가 아닌 pinned,
+     *                         날짜 형식 오류, 또는 from 이 to 보다 늦은 기간
+     */
+    public static MemoListFilter of(List<String> categories, String visibility, String pinned,
+                                    String createdFrom, String createdTo, String updatedFrom, String updatedTo) {
+        MemoListFilter filter = new MemoListFilter(
+                parseCategories(categories),
+                isBlank(visibility) ? null : parseEnum(Visibility.class, visibility),
+                parseBoolean(pinned),
+                parseDateTime(createdFrom),
+                parseDateTime(createdTo),
+                parseDateTime(updatedFrom),
+                parseDateTime(updatedTo)
+        );
+        if (!isRange(filter.createdFrom, filter.createdTo) || !isRange(filter.updatedFrom, filter.updatedTo)) {
+            throw new CustomException(ErrorCode.INVALID_FILTER);
+        }
+        return filter;
+    }
+
+    public boolean isEmpty() {
+        return categories.isEmpty() && visibility == null && pinned == null
+                && createdFrom == null && createdTo == null && updatedFrom == null && updatedTo == null;
+    }
+
+    public boolean matchesCategory(MemoCategory category) {
+        return categories.isEmpty() || categories.contains(category);
+    }
+
+    public boolean matchesVisibility(Visibility visibility) {
+        return this.visibility == null || this.visibility == visibility;
+    }
+
+    private static Set<MemoCategory> parseCategories(List<String> values) {
+        if (values == null) {
+            return Set.of();
+        }
+        Set<MemoCategory> categories = EnumSet.noneOf(MemoCategory.class);
+        for (String value : values) {
+            for (String name : value.split(",")) {
+                if (!name.isBlank()) {
+                    categories.add(parseEnum(MemoCategory.class, name));
+                }
+            }
+        }
+        return Set.copyOf(categories);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_FILTER);
+        }
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if (isBlank(value)) {
+            return null;
+        }
+        return switch (value.trim().toLowerCase()) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw new CustomException(ErrorCode.INVALID_FILTER);
+        };
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        if (isBlank(value)) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return trimmed.length() == 10 ? LocalDate.parse(trimmed).atStartOfDay() : LocalDateTime.parse(trimmed);
+        } catch (DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_FILTER);
+        }
+    }
+
+    private static boolean isRange(LocalDateTime from, LocalDateTime to) {
+        return from == null || to == null || from.isBefore(to);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
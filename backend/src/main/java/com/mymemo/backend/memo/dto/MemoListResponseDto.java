@@ -1,18 +1,27 @@
 package com.mymemo.backend.memo.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.mymemo.backend.entity.Memo;
 import com.mymemo.backend.entity.enums.MemoCategory;
 import com.mymemo.backend.entity.enums.Visibility;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
+/**
+ * 메모 목록 응답 DTO
+ * - 목록에서는 content(TEXT) 전체를 내려주지 않고, 쓰기 시점에 저장된 preview(100자)만 내려준다.
+ * - MemoRepository 의 목록 쿼리가 JPQL 생성자 표현식(SELECT new ...)으로 이 DTO를 직접 만든다. (엔티티 로딩 X)
+ * - 기본 생성자는 목록 캐시(MemoListCache)의 Redis 역직렬화용
+ */
 @Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MemoListResponseDto {
 
     private Long id;
     private String title;
-    private String content;
     private MemoCategory memoCategory;
     private Visibility visibility;
     private boolean isPinned;
@@ -21,33 +30,32 @@ public class MemoListResponseDto {
     private LocalDateTime updatedAt;
     private String preview;     // 메모 전체 조회할 때 100자까지만 미리보기
 
-    public MemoListResponseDto(Memo memo) {
-        this.id = memo.getId();
-        this.title = memo.getTitle();
-        this.content = memo.getContent();
-        this.memoCategory = memo.getMemoCategory();
-        this.visibility = memo.getVisibility();
-        this.isPinned = memo.isPinned();
-        this.uuid = memo.getUuid();
-        this.createdAt = memo.getCreatedAt();
-        this.updatedAt = memo.getUpdatedAt();
-        this.preview = generatePreview(content);
+    @JsonIgnore
+    private int pinOrder;       // 커서(nextCursor) 생성용 정렬 키 - 응답 JSON 에는 포함하지 않음
+
+    // JPQL 생성자 표현식에서 사용하는 생성자 (파라미터 순서 변경 시 MemoRepository.LIST_ITEM_SELECT 도 함께 수정)
+    public MemoListResponseDto(Long id, String title, MemoCategory memoCategory, Visibility visibility,
+                               boolean isPinned, int pinOrder, String uuid,
+                               LocalDateTime createdAt, LocalDateTime updatedAt, String preview) {
+        this.id = id;
+        this.title = title;
+        this.memoCategory = memoCategory;
+        this.visibility = visibility;
+        this.isPinned = isPinned;
+        this.pinOrder = pinOrder;
+        this.uuid = uuid;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.preview = preview;
     }
 
-    private String generatePreview(String content) {
-        if (content == null || content.isBlank()) {
-            return "";
-        }
-        String preview;
-        if (content.length() <= 100) {
-            preview = content;
-        } else {
-            preview = content.substring(0, 100) + "...";
-        }
-        return preview;
+    public MemoListResponseDto(Memo memo) {
+        this(memo.getId(), memo.getTitle(), memo.getMemoCategory(), memo.getVisibility(),
+                memo.isPinned(), memo.getPinOrder(), memo.getUuid(),
+                memo.getCreatedAt(), memo.getUpdatedAt(), memo.getPreview());
     }
 
     public static MemoListResponseDto from(Memo memo) {
         return new MemoListResponseDto(memo);
     }
-}
\ No newline at end of file
+}
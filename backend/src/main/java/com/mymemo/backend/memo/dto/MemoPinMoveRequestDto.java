@@ -0,0 +1,17 @@
+package com.mymemo.backend.memo.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+/**
+ * 고정 메모 순서 변경 요청 DTO (드래그 앤 드롭으로 놓은 위치의 위/아래 이웃)
+ */
+@Getter
+public class MemoPinMoveRequestDto {
+
+    @Schema(description = "옮긴 뒤 바로 위에 올 고정 메모 id (맨 위로 옮기면 null)", example = "12")
+    private Long prevId;
+
+    @Schema(description = "옮긴 뒤 바로 아래에 올 고정 메모 id (맨 아래로 옮기면 null)", example = "7")
+    private Long nextId;
+}
@@ -0,0 +1,11 @@
+package com.mymemo.backend.memo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정리(보관/영구 삭제) 대상 메모의 keyset 위치 (JPQL 생성자 표현식으로 생성)
+ * 청크의 마지막 값이 MemoPurgeService 의 체크포인트가 된다. (userId 는 영구 삭제 시 휴지통 카운터 감소용)
+ * changeSeq 는 사용자의 users.purged_change_seq 를 올리는 데 쓴다. (치운 메모의 툼스톤은 변경 피드에서 사라진다)
+ */
+public record MemoPurgeTarget(Long id, Long userId, LocalDateTime deletedAt, long changeSeq) {
+}
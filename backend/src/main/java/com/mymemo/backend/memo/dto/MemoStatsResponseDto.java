@@ -0,0 +1,36 @@
+package com.mymemo.backend.memo.dto;
+
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+import com.mymemo.backend.memo.counter.MemoCounts;
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 메모 수 통계 응답 DTO (GET /api/memos/stats)
+ * - total / pinned / categories / visibilities 는 삭제되지 않은 메모 기준, deleted 는 휴지통의 메모 수
+ * - categories / visibilities 는 메모가 없는 항목도 0 으로 모두 포함한다.
+ */
+@Getter
+public class MemoStatsResponseDto {
+
+    private final long total;
+    private final long pinned;
+    private final long deleted;
+    private final Map<MemoCategory, Long> categories = new EnumMap<>(MemoCategory.class);
+    private final Map<Visibility, Long> visibilities = new EnumMap<>(Visibility.class);
+
+    public MemoStatsResponseDto(MemoCounts counts) {
+        this.total = counts.total();
+        this.pinned = counts.pinned();
+        this.deleted = counts.deleted();
+        for (MemoCategory category : MemoCategory.values()) {
+            categories.put(category, counts.category(category));
+        }
+        for (Visibility visibility : Visibility.values()) {
+            visibilities.put(visibility, counts.visibility(visibility));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.mymemo.backend.memo.dto;
+
+import com.mymemo.backend.entity.enums.MemoCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 휴지통 목록 항목 (JPQL 생성자 표현식으로 생성)
+ *
+ * @param archived true 면 보존 기간이 지나 memo_archive 로 옮겨진 메모
+ */
+public record MemoTrashItemDto(
+        Long id,
+        String title,
+        String preview,
+        MemoCategory memoCategory,
+        LocalDateTime deletedAt,
+        boolean archived
+) {
+}
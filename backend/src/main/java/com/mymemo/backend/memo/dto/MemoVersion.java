@@ -0,0 +1,46 @@
+package com.mymemo.backend.memo.dto;
+
+import com.mymemo.backend.entity.enums.Visibility;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 메모 상세의 버전 정보 (JPQL 생성자 표현식으로 생성) - 본문/콜드 세그먼트를 읽지 않고 ETag 와 접근 권한만 확인할 때 사용한다.
+ *
+ * ETag 는 (id, updatedAt, 고정 여부)로 만든다. 고정 여부만 바꾸면 updatedAt 이 그대로이므로 (Memo.update 참고) 따로 넣는다.
+ */
+public record MemoVersion(Long id, Long userId, Visibility visibility, boolean pinned, LocalDateTime updatedAt) {
+
+    public String etag() {
+        return etag(id, updatedAt, pinned);
+    }
+
+    /**
+     * 메모 상세 ETag - "{id}-{updatedAt 마이크로초(36진수)}-{고정 여부}"
+     * updatedAt 은 DATETIME(6) 에 저장되는 마이크로초 단위까지만 쓴다.
+     */
+    public static String etag(Long id, LocalDateTime updatedAt, boolean pinned) {
+        long micros = ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), updatedAt);
+        return "\"" + id + "-" + Long.toString(micros, 36) + "-" + (pinned ? 1 : 0) + "\"";
+    }
+
+    /**
+     * If-Match/If-None-Match 헤더가 etag 와 일치하는지 확인한다. ("*" 는 항상 일치, 여러 값은 쉼표로 구분)
+     * 압축 프록시(nginx gzip 등)가 ETag 를 약한 ETag(W/)로 바꿔 내려보내는 경우가 있어 W/ 는 떼고 비교한다.
+     * (이 ETag 는 인코딩과 무관하게 메모 버전만으로 정해진다)
+     */
+    public static boolean matches(String ifMatch, String etag) {
+        for (String candidate : ifMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
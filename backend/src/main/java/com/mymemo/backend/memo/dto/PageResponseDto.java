@@ -1,17 +1,21 @@
 package com.mymemo.backend.memo.dto;
 
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.util.List;
 
 /**
  * 공통 페이징 응답 DTO
  * - 모든 페이징 API 응답에서 일관된 형태로 사용할 수 있도록 제네릭 타입으로 설계
+ * - 기본 생성자는 목록 캐시(MemoListCache)의 Redis 역직렬화용
  * @param <T> 페이지 내용의 DTO 타입
  */
 @Getter
 @AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PageResponseDto<T> {
     private List<T> content;        // 실제 응답 리스트
     private int page;               // 현재 페이지 번호 (0부터 시작)
@@ -0,0 +1,103 @@
+package com.mymemo.backend.memo.service;
+
+import com.mymemo.backend.entity.User;
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+import com.mymemo.backend.global.util.SecurityUtil;
+import com.mymemo.backend.memo.dto.MemoChangeCursor;
+import com.mymemo.backend.memo.dto.MemoChangeDto;
+import com.mymemo.backend.memo.dto.MemoChangesResponseDto;
+import com.mymemo.backend.repository.MemoRepository;
+import com.mymemo.backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 메모 변경 피드 (여러 기기의 로컬 사본 동기화)
+ *
+ * - 메모를 바꾸는 쓰기는 트랜잭션마다 사용자별 변경 순번(users.change_seq)을 하나 받아 바꾼 메모의 memo.change_seq 에 기록한다.
+ *   순번은 사용자 행 UPDATE 로 할당되어 커밋까지 잠기므로, 같은 사용자의 순번은 커밋 순서와 같다.
+ *   따라서 커서 이후만 읽어도 나중에 커밋되는 더 작은 순번을 놓치지 않는다.
+ * - 피드는 (change_seq, id) keyset 으로 읽으므로 비용은 전체 메모 수가 아니라 바뀐 메모 수에 비례한다.
+ * - 삭제(soft delete)된 메모는 툼스톤으로 내려간다. 정리 작업(MemoPurgeService)이 memo 테이블에서 치운 메모는 피드에서 사라지므로,
+ *   치운 메모보다 오래된 커서는 CHANGE_CURSOR_EXPIRED 로 거절하고 전체 동기화를 요구한다.
+ * - 콜드 티어 이동처럼 응답 내용이 바뀌지 않는 쓰기는 순번을 받지 않는다.
+ *
+ * 잠금 비용: 순번을 받는 쓰기는 사용자 행을 커밋까지 잡으므로 같은 사용자의 메모 쓰기는 서로 직렬화된다.
+ * (다른 사용자의 쓰기끼리는 영향이 없다) memo_counter 의 stripe 는 여전히 카운터 행 경합을 없애지만,
+ * 같은 사용자의 동시 쓰기 처리량은 이 잠금이 상한이 된다. 한 사용자의 동시 쓰기는 기기 몇 대 수준이라 이 비용을 받아들이고
+ * 커밋 순서 보장(끊김 없는 커서)을 택했다. 잠금을 줄이려면 순번을 트랜잭션 밖에서 받고, 아직 커밋되지 않은 순번 아래까지만
+ * 읽도록 하는 워터마크가 필요하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MemoChangeService {
+
+    private final UserRepository userRepository;
+    private final MemoRepository memoRepository;
+
+    /**
+     * 사용자의 다음 변경 순번을 할당한다. (호출한 트랜잭션 안에서 사용자 행이 커밋까지 잠긴다 - 클래스 설명의 잠금 비용 참고)
+     * 메모 행을 잠그기 전에 호출해서 잠금 순서를 사용자 행 -> 메모 행으로 맞춘다. (PinOrderService 와 같은 순서)
+     *
+     * @param userId 메모 소유자 id
+     * @return 이번 쓰기로 바뀌는 메모에 기록할 변경 순번
+     */
+    @Transactional
+    public long next(Long userId) {
+        userRepository.incrementChangeSeq(userId);
+        return userRepository.findChangeSeq(userId);
+    }
+
+    /**
+     * since 이후에 생성/수정/삭제된 메모를 변경 순서대로 최대 size 개 조회한다.
+     *
+     * - 같은 읽기 트랜잭션(스냅샷)에서 사용자의 현재 순번을 함께 읽어, 더 받을 변경이 없으면 그 순번까지 받은 커서를 내려준다.
+     *   (마지막 변경이 정리된 메모였더라도 커서가 뒤처지지 않는다)
+     *
+     * @param since 이전 응답의 nextCursor (처음 동기화면 null - 삭제된 메모도 툼스톤으로 함께 내려간다)
+     * @param size 최대 항목 수
+     * @throws CustomException INVALID_CURSOR: 형식이 잘못된 커서인 경우
+     * @throws CustomException CHANGE_CURSOR_EXPIRED: 커서 이후에 치운 메모가 있어 삭제를 놓칠 수 있는 경우
+     */
+    @Transactional(readOnly = true)
+    public MemoChangesResponseDto getChanges(String since, int size) {
+        Long userId = getCurrentUserId();
+
+        MemoChangeCursor cursor = MemoChangeCursor.START;
+        if (since != null && !since.isBlank()) {
+            cursor = MemoChangeCursor.decode(since);
+            if (cursor.isBefore(userRepository.findPurgedChangeSeq(userId))) {
+                throw new CustomException(ErrorCode.CHANGE_CURSOR_EXPIRED);
+            }
+        }
+        long currentSeq = userRepository.findChangeSeq(userId);
+
+        // 다음 변경 존재 여부 확인을 위해 1개 더 조회
+        List<MemoChangeDto> changes = memoRepository.findChanges(
+                userId, cursor.getChangeSeq(), cursor.getId(), PageRequest.ofSize(size + 1));
+
+        boolean hasMore = changes.size() > size;
+        if (hasMore) {
+            changes = changes.subList(0, size);
+        }
+        MemoChangeCursor next = hasMore
+                ? MemoChangeCursor.from(changes.get(changes.size() - 1))
+                : MemoChangeCursor.upTo(Math.max(currentSeq, cursor.getChangeSeq()));
+        return new MemoChangesResponseDto(changes, next.encode(), hasMore);
+    }
+
+    private Long getCurrentUserId() {
+        Long userId = SecurityUtil.getCurrentUserId();
+        if (userId != null) {
+            return userId;
+        }
+        return userRepository.findByEmail(SecurityUtil.getCurrentUserEmail())
+                .map(User::getId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+}
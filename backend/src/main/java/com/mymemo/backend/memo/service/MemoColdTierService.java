@@ -0,0 +1,268 @@
+package com.mymemo.backend.memo.service;
+
+import com.mymemo.backend.entity.JobCheckpoint;
+import com.mymemo.backend.entity.Memo;
+import com.mymemo.backend.entity.MemoArchive;
+import com.mymemo.backend.global.util.TransactionUtil;
+import com.mymemo.backend.memo.cold.ColdMemoStore;
+import com.mymemo.backend.memo.dto.ColdSegmentUsage;
+import com.mymemo.backend.repository.JobCheckpointRepository;
+import com.mymemo.backend.repository.MemoArchiveRepository;
+import com.mymemo.backend.repository.MemoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 오래 수정되지 않은 메모 내용을 콜드 세그먼트로 옮기는 작업
+ *
+ * - 마지막 수정 후 after-days 가 지난 메모를 (updatedAt, id) 순서로 segment-memos 개씩 골라 세그먼트 파일 하나로 쓰고,
+ *   같은 트랜잭션에서 DB 행의 content 를 비우고 세그먼트 번호를 기록한다.
+ * - 세그먼트 파일은 DB 커밋 전에 fsync 되므로, 커밋된 메모의 내용은 항상 파일에 있다.
+ *   커밋이 실패하면 아무도 참조하지 않는 세그먼트 파일만 남는다. (메모 유실 없음)
+ * - 대상 행은 잠근 상태로 읽으므로 세그먼트를 쓰는 동안 수정된 내용이 덮이지 않는다.
+ * - 진행 위치는 job_checkpoint 에 저장한다. 그 행의 잠금으로 노드 간 작업과 세그먼트 번호 할당이 직렬화된다.
+ *
+ * 세그먼트 정리(compact, enabled 와 무관하게 실행)
+ * - 세그먼트에 든 메모 수보다 DB(memo, memo_archive)의 참조가 적으면 버려진 내용이 남아 있는 것이다.
+ *   (수정되어 DB 로 돌아간 메모, 정리 작업이 영구 삭제한 메모) 이런 세그먼트들의 살아 있는 메모만 새 세그먼트로 옮겨 적고
+ *   참조를 옮긴 뒤 원본을 retire 한다. 삭제된 메모의 내용이 세그먼트 파일에 계속 남지 않게 한다.
+ * - 참조가 없는 세그먼트(정리 후 원본, 커밋되지 못한 세그먼트)는 retire 하고, retire-grace-ms 가 지나면 파일을 지운다.
+ *   그 전에 세그먼트 번호를 읽은 요청은 그동안 이전 파일에서 계속 읽을 수 있다.
+ * - 이동 작업과 같은 job_checkpoint 행을 잠가 세그먼트 번호 할당과 참조 계산이 서로 끼어들지 않게 한다.
+ */
+@Slf4j
+@Service
+public class MemoColdTierService {
+
+    static final String JOB_NAME = "memo-cold-tier";
+
+    private final MemoRepository memoRepository;
+    private final MemoArchiveRepository memoArchiveRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final ColdMemoStore coldMemoStore;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int afterDays;
+    private final int segmentMemos;
+    private final int maxSegmentsPerRun;
+    private final Duration retireGrace;
+
+    public MemoColdTierService(
+            MemoRepository memoRepository,
+            MemoArchiveRepository memoArchiveRepository,
+            JobCheckpointRepository jobCheckpointRepository,
+            ColdMemoStore coldMemoStore,
+            PlatformTransactionManager transactionManager,
+            @Value("${memo.cold.enabled:false}") boolean enabled,
+            @Value("${memo.cold.after-days:365}") int afterDays,
+            @Value("${memo.cold.segment-memos:5000}") int segmentMemos,
+            @Value("${memo.cold.max-segments-per-run:20}") int maxSegmentsPerRun,
+            @Value("${memo.cold.retire-grace-ms:3600000}") long retireGraceMs
+    ) {
+        this.memoRepository = memoRepository;
+        this.memoArchiveRepository = memoArchiveRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.coldMemoStore = coldMemoStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.afterDays = Math.max(1, afterDays);
+        this.segmentMemos = Math.max(1, segmentMemos);
+        this.maxSegmentsPerRun = Math.max(1, maxSegmentsPerRun);
+        this.retireGrace = Duration.ofMillis(Math.max(0, retireGraceMs));
+    }
+
+    /**
+     * 대상 메모가 없거나 max-segments-per-run 개를 만들 때까지 세그먼트를 만든다.
+     */
+    @Scheduled(fixedDelayString = "${memo.cold.interval-ms:3600000}",
+            initialDelayString = "${memo.cold.interval-ms:3600000}")
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime threshold = LocalDateTime.now().minusDays(afterDays);
+        long total = 0;
+        try {
+            for (int i = 0; i < maxSegmentsPerRun; i++) {
+                int moved = transactionTemplate.execute(status -> migrateSegment(threshold));
+                total += moved;
+                if (moved < segmentMemos) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("[MemoColdTierService] 콜드 티어 이동 중단 ({}건 처리 후)", total, e);
+        }
+        if (total > 0) {
+            log.info("[MemoColdTierService] 메모 {}건 콜드 티어로 이동", total);
+        }
+    }
+
+    /**
+     * 버려진 내용이 있는 세그먼트를 다시 쓰고, 참조가 없는 세그먼트를 retire / 삭제한다.
+     * 한 번에 새로 쓰는 세그먼트는 max-segments-per-run 개까지다.
+     */
+    @Scheduled(fixedDelayString = "${memo.cold.interval-ms:3600000}",
+            initialDelayString = "${memo.cold.interval-ms:3600000}")
+    public void compact() {
+        int compacted = 0;
+        try {
+            List<List<Integer>> groups = transactionTemplate.execute(status -> sweep());
+            for (List<Integer> sources : groups) {
+                compacted += transactionTemplate.execute(status -> compactSegments(sources));
+            }
+        } catch (RuntimeException e) {
+            log.warn("[MemoColdTierService] 콜드 세그먼트 정리 중단 ({}개 정리 후)", compacted, e);
+        }
+        if (compacted > 0) {
+            log.info("[MemoColdTierService] 콜드 세그먼트 {}개 정리", compacted);
+        }
+    }
+
+    // 참조가 없는 세그먼트를 retire / 삭제하고, 다시 쓸 세그먼트를 묶어 반환한다. (하나의 트랜잭션)
+    List<List<Integer>> sweep() {
+        lockCheckpoint();
+        Map<Integer, Long> live = liveCounts();
+        try {
+            for (int segmentId : coldMemoStore.retiredBefore(Instant.now().minus(retireGrace))) {
+                if (!live.containsKey(segmentId)) {
+                    coldMemoStore.delete(segmentId);
+                }
+            }
+
+            // 살아 있는 메모 수가 segment-memos 에 찰 때까지 여러 세그먼트를 하나로 묶는다
+            List<List<Integer>> groups = new ArrayList<>();
+            List<Integer> group = new ArrayList<>();
+            long groupMemos = 0;
+            for (int segmentId : coldMemoStore.segmentIds()) {
+                long count = live.getOrDefault(segmentId, 0L);
+                if (count == 0) {
+                    coldMemoStore.retire(segmentId);
+                } else if (groups.size() < maxSegmentsPerRun && count < recordCount(segmentId)) {
+                    group.add(segmentId);
+                    groupMemos += count;
+                    if (groupMemos >= segmentMemos) {
+                        groups.add(group);
+                        group = new ArrayList<>();
+                        groupMemos = 0;
+                    }
+                }
+            }
+            if (!group.isEmpty() && groups.size() < maxSegmentsPerRun) {
+                groups.add(group);
+            }
+            return groups;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 원본 세그먼트들의 살아 있는 메모를 새 세그먼트 하나로 옮겨 적고 참조를 옮긴다. (하나의 트랜잭션)
+    int compactSegments(List<Integer> sources) {
+        lockCheckpoint();
+
+        // 참조 행을 잠근 뒤 다시 모은다 - sweep 이후 DB 로 돌아간 메모는 빠진다
+        Map<Integer, List<Long>> live = new TreeMap<>();
+        for (Memo memo : memoRepository.findByColdSegmentsForUpdate(sources)) {
+            live.computeIfAbsent(memo.getColdSegment(), segment -> new ArrayList<>()).add(memo.getId());
+        }
+        for (MemoArchive archived : memoArchiveRepository.findByColdSegmentsForUpdate(sources)) {
+            live.computeIfAbsent(archived.getColdSegment(), segment -> new ArrayList<>()).add(archived.getId());
+        }
+
+        if (!live.isEmpty()) {
+            try {
+                int segmentId = nextSegmentId();
+                coldMemoStore.compact(segmentId, live);
+                memoRepository.moveColdSegments(sources, segmentId);
+                memoArchiveRepository.moveColdSegments(sources, segmentId);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // 커밋되면 원본은 더 이상 참조되지 않는다 (실패하면 다음 sweep 이 retire 한다)
+        TransactionUtil.afterCommit(() -> sources.forEach(this::retire));
+        return sources.size();
+    }
+
+    // 체크포인트 이후의 대상 메모로 세그먼트 하나를 만든다. (하나의 트랜잭션)
+    private int migrateSegment(LocalDateTime threshold) {
+        JobCheckpoint checkpoint = lockCheckpoint();
+
+        List<Memo> memos = memoRepository.findColdCandidates(
+                threshold, checkpoint.getLastTimestamp(), checkpoint.getLastId(), PageRequest.of(0, segmentMemos));
+        if (memos.isEmpty()) {
+            return 0;
+        }
+
+        Memo last = memos.get(memos.size() - 1);
+        checkpoint.advance(last.getUpdatedAt(), last.getId());
+
+        try {
+            int segmentId = nextSegmentId();
+            coldMemoStore.write(segmentId, memos);
+            memos.forEach(memo -> memo.moveToColdTier(segmentId));     // 커밋 시 배치 UPDATE
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return memos.size();
+    }
+
+    // 이동 / 정리 작업을 노드 간에 직렬화한다 (커밋까지 유지)
+    private JobCheckpoint lockCheckpoint() {
+        return jobCheckpointRepository.findForUpdate(JOB_NAME)
+                .orElseGet(() -> jobCheckpointRepository.save(new JobCheckpoint(JOB_NAME)));
+    }
+
+    private int nextSegmentId() throws IOException {
+        Integer maxReferenced = memoRepository.findMaxColdSegment();
+        return coldMemoStore.nextSegmentId(maxReferenced == null ? 1 : maxReferenced + 1);
+    }
+
+    // 세그먼트별 참조 행 수 (memo + memo_archive)
+    private Map<Integer, Long> liveCounts() {
+        Map<Integer, Long> live = new HashMap<>();
+        for (ColdSegmentUsage usage : memoRepository.countByColdSegment()) {
+            live.merge(usage.segment(), usage.count(), Long::sum);
+        }
+        for (ColdSegmentUsage usage : memoArchiveRepository.countByColdSegment()) {
+            live.merge(usage.segment(), usage.count(), Long::sum);
+        }
+        return live;
+    }
+
+    // 읽을 수 없는 세그먼트는 건너뛴다 (다른 세그먼트 정리는 계속)
+    private long recordCount(int segmentId) {
+        try {
+            return coldMemoStore.recordCount(segmentId);
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("[MemoColdTierService] 세그먼트 {} 메모 수 확인 실패, 정리 건너뜀: {}", segmentId, e.getMessage());
+            return 0;
+        }
+    }
+
+    private void retire(int segmentId) {
+        try {
+            coldMemoStore.retire(segmentId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
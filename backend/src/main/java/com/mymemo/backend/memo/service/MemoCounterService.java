@@ -0,0 +1,207 @@
+package com.mymemo.backend.memo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mymemo.backend.entity.JobCheckpoint;
+import com.mymemo.backend.global.util.TransactionUtil;
+import com.mymemo.backend.memo.cache.MemoListCache;
+import com.mymemo.backend.memo.counter.MemoCounterDelta;
+import com.mymemo.backend.memo.counter.MemoCounts;
+import com.mymemo.backend.repository.JobCheckpointRepository;
+import com.mymemo.backend.repository.MemoArchiveRepository;
+import com.mymemo.backend.repository.MemoCounterRepository;
+import com.mymemo.backend.repository.MemoRepository;
+import com.mymemo.backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 사용자별 메모 수 카운터 (목록 totalElements, GET /api/memos/stats)
+ *
+ * - 메모 쓰기는 같은 트랜잭션에서 apply() 로 증감량을 memo_counter 의 임의의 stripe 행에 더한다.
+ *   그래서 목록 조회마다 COUNT(*) 를 실행하지 않고 stripe 합계(PK 범위 스캔)만 읽는다.
+ * - 합계는 노드별 힙 캐시(cache-ttl-seconds)에 둔다. 쓴 노드는 커밋 직후 무효화하고, 다른 노드는 TTL 동안 이전 값을 볼 수 있다.
+ * - 카운터가 한 번도 맞춰지지 않은 사용자(배포 이전 가입자, 신규 가입자)는 처음 읽을 때 실제 메모 수로 초기화한다.
+ * - 증감 누락(직접 수정한 데이터, 동시 일괄 처리 경합 등)은 주기 작업 reconcileUsers 가 사용자 id 순으로 돌며 바로잡는다.
+ */
+@Slf4j
+@Service
+public class MemoCounterService {
+
+    static final String JOB_NAME = "memo-counter-reconcile";
+
+    private record Reconciliation(MemoCounts counts, boolean repaired) {
+    }
+
+    private final MemoCounterRepository memoCounterRepository;
+    private final MemoRepository memoRepository;
+    private final MemoArchiveRepository memoArchiveRepository;
+    private final UserRepository userRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final MemoListCache memoListCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<Long, MemoCounts> cache;
+    private final Counter drift;
+    private final int stripes;
+    private final boolean reconcileEnabled;
+    private final int usersPerRun;
+
+    public MemoCounterService(
+            MemoCounterRepository memoCounterRepository,
+            MemoRepository memoRepository,
+            MemoArchiveRepository memoArchiveRepository,
+            UserRepository userRepository,
+            JobCheckpointRepository jobCheckpointRepository,
+            MemoListCache memoListCache,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${memo.counter.stripes:4}") int stripes,
+            @Value("${memo.counter.cache-max-size:10000}") long cacheMaxSize,
+            @Value("${memo.counter.cache-ttl-seconds:5}") long cacheTtlSeconds,
+            @Value("${memo.counter.reconcile.enabled:true}") boolean reconcileEnabled,
+            @Value("${memo.counter.reconcile.users-per-run:500}") int usersPerRun
+    ) {
+        this.memoCounterRepository = memoCounterRepository;
+        this.memoRepository = memoRepository;
+        this.memoArchiveRepository = memoArchiveRepository;
+        this.userRepository = userRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.memoListCache = memoListCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+        this.stripes = Math.max(1, stripes);
+        this.reconcileEnabled = reconcileEnabled;
+        this.usersPerRun = Math.max(1, usersPerRun);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "memo.counter.cache");
+        this.drift = Counter.builder("memo.counter.reconcile.repaired")
+                .description("재계산에서 저장된 카운터가 실제 메모 수와 달라 바로잡은 사용자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 메모 쓰기의 증감량을 카운터에 더한다. 메모 쓰기와 같은 트랜잭션에서 호출해야 한다.
+     *
+     * @param userId 메모 소유자 id
+     * @param delta 카운터별 증감량 (비어 있으면 아무것도 하지 않음)
+     */
+    @Transactional
+    public void apply(Long userId, MemoCounterDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        int stripe = ThreadLocalRandom.current().nextInt(stripes);
+        memoCounterRepository.addAll(userId, stripe, delta.values());
+        TransactionUtil.afterCommit(() -> cache.invalidate(userId));
+    }
+
+    /**
+     * 사용자의 메모 수 (힙 캐시 - 다른 노드의 쓰기는 cache-ttl-seconds 까지 늦게 보일 수 있다)
+     */
+    public MemoCounts countsOf(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    /**
+     * 사용자의 메모 수를 힙 캐시를 거치지 않고 읽는다. (결과를 더 오래 캐시하는 목록 캐시에서 사용)
+     */
+    public MemoCounts currentCounts(Long userId) {
+        return load(userId);
+    }
+
+    /**
+     * 카운터를 확인할 사용자를 체크포인트 이후 id 순으로 users-per-run 명 골라 실제 메모 수와 맞춘다. (사용자마다 별도 트랜잭션)
+     * 마지막 사용자까지 확인하면 다음 실행은 처음부터 다시 돈다.
+     */
+    @Scheduled(fixedDelayString = "${memo.counter.reconcile.interval-ms:3600000}",
+            initialDelayString = "${memo.counter.reconcile.interval-ms:3600000}")
+    public void reconcileUsers() {
+        if (!reconcileEnabled) {
+            return;
+        }
+        List<Long> userIds = transactionTemplate.execute(status -> nextUsers());
+        int repaired = 0;
+        for (Long userId : userIds) {
+            try {
+                Reconciliation result = transactionTemplate.execute(status -> reconcile(userId));
+                if (result.repaired()) {
+                    repaired++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("[MemoCounterService] userId={} 카운터 재계산 실패", userId, e);     // 다음 바퀴에서 다시 시도
+            }
+        }
+        if (repaired > 0) {
+            log.info("[MemoCounterService] 카운터 재계산 {}명 중 {}명 보정", userIds.size(), repaired);
+        }
+    }
+
+    // 체크포인트 이후의 사용자 id 를 고르고 체크포인트를 옮긴다 (노드 간에 같은 사용자를 나눠 갖지 않도록 잠근 채로)
+    private List<Long> nextUsers() {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findForUpdate(JOB_NAME)
+                .orElseGet(() -> jobCheckpointRepository.save(new JobCheckpoint(JOB_NAME)));
+
+        List<Long> userIds = userRepository.findIdsAfter(checkpoint.getLastId(), PageRequest.of(0, usersPerRun));
+        long next = userIds.size() < usersPerRun ? 0 : userIds.get(userIds.size() - 1);
+        checkpoint.advance(JobCheckpoint.INITIAL_POSITION, next);
+        return userIds;
+    }
+
+    // 저장된 합계를 읽고, 초기화되지 않은 사용자면 실제 메모 수로 초기화한다
+    private MemoCounts load(Long userId) {
+        MemoCounts counts = MemoCounts.of(memoCounterRepository.sumByUserId(userId));
+        if (counts.isInitialized()) {
+            return counts;
+        }
+        return transactionTemplate.execute(status -> reconcile(userId)).counts();
+    }
+
+    /**
+     * 사용자의 카운터를 실제 메모 수로 다시 쓴다. (호출한 트랜잭션 안에서)
+     *
+     * - 사용자 행을 먼저 잠가 같은 사용자의 재계산끼리 직렬화하고, 카운터 행을 잠가 동시 쓰기의 증감을 재계산 뒤로 미룬다.
+     *   카운터 행을 잠근 뒤에 세므로 이미 카운터를 갱신한 쓰기는 커밋된 뒤의 메모 수로 센다.
+     * - 저장된 값이 이미 맞으면 쓰지 않는다.
+     */
+    private Reconciliation reconcile(Long userId) {
+        userRepository.lockPinCounter(userId);
+        MemoCounts stored = MemoCounts.ofRows(memoCounterRepository.findAllForUpdate(userId));
+
+        long deleted = memoRepository.countDeleted(userId) + memoArchiveRepository.countByUserId(userId);
+        MemoCounts actual = MemoCounts.of(memoRepository.countActiveGroups(userId), deleted);
+        if (actual.equals(stored)) {
+            return new Reconciliation(actual, false);
+        }
+
+        boolean repaired = stored.isInitialized();      // 처음 초기화하는 경우는 보정으로 세지 않음
+        if (repaired) {
+            drift.increment();
+            log.info("[MemoCounterService] userId={} 카운터 보정 {} -> {}", userId, stored.values(), actual.values());
+        }
+        memoCounterRepository.deleteCounters(userId);
+        memoCounterRepository.addAll(userId, 0, actual.values());
+        // 목록 캐시/ETag 는 세대 단위로 전체 개수와 패싯을 유지하므로 함께 무효화한다
+        TransactionUtil.afterCommit(() -> {
+            cache.invalidate(userId);
+            memoListCache.invalidate(userId);
+        });
+        return new Reconciliation(actual, repaired);
+    }
+}
@@ -0,0 +1,123 @@
+package com.mymemo.backend.memo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mymemo.backend.entity.User;
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+import com.mymemo.backend.global.util.SecurityUtil;
+import com.mymemo.backend.memo.cold.ColdMemoStore;
+import com.mymemo.backend.memo.dto.MemoExportDto;
+import com.mymemo.backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 사용자의 전체 메모를 NDJSON(한 줄에 메모 하나)으로 내보내는 서비스
+ *
+ * - 메모를 List 로 모으지 않고 DB 커서에서 한 건씩 읽어 응답 스트림에 바로 쓴다. 메모 수와 무관하게 힙 사용량이 일정하다.
+ * - 엔티티가 아닌 DTO 프로젝션으로 읽으므로 영속성 컨텍스트에 쌓이는 객체가 없다. (clear/detach 불필요)
+ * - fetch-size 기본값(Integer.MIN_VALUE)은 MySQL 드라이버의 행 단위 스트리밍 모드이다. 다른 DB 는 양수(예: 500)로 설정한다.
+ * - 스트리밍하는 동안 DB 커넥션 하나를 계속 사용한다.
+ */
+@Service
+public class MemoExportService {
+
+    // 파라미터 순서는 MemoExportDto 생성자와 같아야 한다
+    static final String EXPORT_QUERY = "SELECT new com.mymemo.backend.memo.dto.MemoExportDto(" +
+            "m.uuid, m.title, m.content, m.memoCategory, m.visibility, m.isPinned, m.pinOrder, m.createdAt, m.updatedAt, " +
+            "m.id, m.coldSegment) " +
+            "FROM Memo AS m WHERE m.user.id = :userId AND m.isDeleted = false ORDER BY m.id";
+
+    private static final int FLUSH_INTERVAL = 100;      // 이 개수마다 응답 버퍼를 내보낸다
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final ColdMemoStore coldMemoStore;
+    private final ObjectWriter ndjsonWriter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+
+    public MemoExportService(
+            UserRepository userRepository,
+            EntityManager entityManager,
+            ColdMemoStore coldMemoStore,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${memo.export.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize
+    ) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.coldMemoStore = coldMemoStore;
+        this.ndjsonWriter = objectMapper.writer()
+                .withRootValueSeparator("")                             // 값 사이 기본 구분자(공백) 대신 직접 줄바꿈을 쓴다
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE); // 한 건마다 flush 하지 않음
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 현재 사용자의 메모(삭제되지 않은 것)를 내보내는 응답 본문을 만든다.
+     * 사용자 확인은 호출 시점(요청 스레드)에 하고, 실제 조회/쓰기는 응답을 쓰는 시점에 수행된다.
+     *
+     * @param gzip true 면 gzip 으로 압축해서 쓴다
+     * @return 응답 스트림에 NDJSON 을 쓰는 StreamingResponseBody
+     * @throws CustomException USER_NOT_FOUND: 이메일로 사용자를 찾을 수 없는 경우
+     */
+    public StreamingResponseBody exportMemos(boolean gzip) {
+        Long userId = getCurrentUserId();
+
+        return out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 8192) : out;
+            try (JsonGenerator generator = ndjsonWriter.createGenerator(target)) {    // close 시 gzip 마무리까지 수행
+                readOnlyTransaction.executeWithoutResult(status -> write(userId, generator));
+            }
+        };
+    }
+
+    private void write(Long userId, JsonGenerator generator) {
+        try (Stream<MemoExportDto> memos = entityManager.createQuery(EXPORT_QUERY, MemoExportDto.class)
+                .setParameter("userId", userId)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream()) {
+
+            int written = 0;
+            for (MemoExportDto memo : (Iterable<MemoExportDto>) memos::iterator) {
+                if (memo.coldSegment() != null) {
+                    memo = memo.withContent(coldMemoStore.read(memo.coldSegment(), memo.id()));
+                }
+                ndjsonWriter.writeValue(generator, memo);
+                generator.writeRaw('\n');
+                if (++written % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);      // 클라이언트가 연결을 끊은 경우 등 - 트랜잭션 롤백 후 커넥션 반환
+        }
+    }
+
+    private Long getCurrentUserId() {
+        Long userId = SecurityUtil.getCurrentUserId();
+        if (userId != null) {
+            return userId;
+        }
+        return userRepository.findByEmail(SecurityUtil.getCurrentUserEmail())
+                .map(User::getId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+}
@@ -0,0 +1,248 @@
+package com.mymemo.backend.memo.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mymemo.backend.entity.Memo;
+import com.mymemo.backend.entity.User;
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+import com.mymemo.backend.global.util.SecurityUtil;
+import com.mymemo.backend.global.util.TransactionUtil;
+import com.mymemo.backend.memo.cache.MemoListCache;
+import com.mymemo.backend.memo.counter.MemoCounterDelta;
+import com.mymemo.backend.memo.dto.MemoImportRequestDto;
+import com.mymemo.backend.memo.dto.MemoImportResponseDto;
+import com.mymemo.backend.repository.MemoRepository;
+import com.mymemo.backend.repository.UserRepository;
+import com.mymemo.backend.search.MemoSearchIndex;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * NDJSON(한 줄에 메모 하나) 요청 본문을 읽어 메모를 가져오는 서비스
+ *
+ * - 본문 전체를 바인딩하지 않고 JsonParser 로 레코드를 하나씩 읽는다.
+ * - batch-size 개씩 모아 별도 트랜잭션으로 저장(배치 INSERT)하고, 저장이 끝나야 다음 레코드를 읽는다.
+ *   DB 가 느리면 본문을 읽지 않으므로 TCP 흐름 제어로 업로드 속도가 함께 느려진다. (메모리는 배치 크기만큼만 사용)
+ * - 레코드마다 MemoCreateRequestDto.toEntity 와 같은 검증을 거치고, 실패한 레코드는 건너뛰고 결과에 줄 번호를 남긴다.
+ * - JSON 문법 오류가 나면 이후 내용은 해석할 수 없으므로 중단한다. 이미 커밋된 배치는 유지된다.
+ */
+@Slf4j
+@Service
+public class MemoImportService {
+
+    private record PendingRecord(int line, MemoImportRequestDto dto) {
+    }
+
+    private final UserRepository userRepository;
+    private final MemoRepository memoRepository;
+    private final MemoSearchIndex memoSearchIndex;
+    private final MemoListCache memoListCache;
+    private final MemoCounterService memoCounterService;
+    private final MemoChangeService memoChangeService;
+    private final PinOrderService pinOrderService;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxReportedFailures;
+
+    public MemoImportService(
+            UserRepository userRepository,
+            MemoRepository memoRepository,
+            MemoSearchIndex memoSearchIndex,
+            MemoListCache memoListCache,
+            MemoCounterService memoCounterService,
+            MemoChangeService memoChangeService,
+            PinOrderService pinOrderService,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${memo.import.batch-size:500}") int batchSize,
+            @Value("${memo.import.max-reported-failures:100}") int maxReportedFailures
+    ) {
+        this.userRepository = userRepository;
+        this.memoRepository = memoRepository;
+        this.memoSearchIndex = memoSearchIndex;
+        this.memoListCache = memoListCache;
+        this.memoCounterService = memoCounterService;
+        this.memoChangeService = memoChangeService;
+        this.pinOrderService = pinOrderService;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxReportedFailures = maxReportedFailures;
+    }
+
+    /**
+     * 현재 사용자의 메모로 NDJSON 본문의 레코드를 가져온다.
+     *
+     * @param body 요청 본문 (한 줄에 JSON 객체 하나)
+     * @param gzip true 면 gzip 으로 압축된 본문 (Content-Encoding: gzip)
+     * @return 읽은/저장한/실패한 레코드 수와 실패한 줄 목록
+     * @throws CustomException USER_NOT_FOUND: 이메일로 사용자를 찾을 수 없는 경우
+     */
+    public MemoImportResponseDto importMemos(InputStream body, boolean gzip) {
+        Long userId = getCurrentUserId();
+        Result result = new Result(maxReportedFailures);
+
+        try (JsonParser parser = objectMapper.createParser(gzip ? new GZIPInputStream(body, 8192) : body)) {
+            List<PendingRecord> batch = new ArrayList<>(batchSize);
+
+            while (true) {
+                JsonNode node;
+                int line = parser.currentLocation().getLineNr();
+                try {
+                    JsonToken token = parser.nextToken();
+                    if (token == null) {
+                        break;      // 본문 끝
+                    }
+                    line = parser.currentTokenLocation().getLineNr();
+                    if (token != JsonToken.START_OBJECT) {
+                        throw new JsonParseException(parser, "JSON 객체가 아닌 레코드");
+                    }
+                    node = parser.readValueAsTree();
+                } catch (StreamReadException e) {
+                    result.total++;
+                    result.fail(line, ErrorCode.INVALID_IMPORT_RECORD);
+                    result.aborted = true;
+                    break;
+                }
+
+                result.total++;
+                try {
+                    batch.add(new PendingRecord(line, objectMapper.treeToValue(node, MemoImportRequestDto.class)));
+                } catch (IOException | IllegalArgumentException e) {     // 잘못된 enum 값, 날짜 형식 등
+                    result.fail(line, ErrorCode.INVALID_IMPORT_RECORD);
+                }
+
+                if (batch.size() == batchSize) {
+                    saveBatch(userId, batch, result);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                saveBatch(userId, batch, result);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);      // 업로드 중 연결 끊김 등 - 이미 커밋된 배치는 유지된다
+        }
+
+        log.info("[MemoImportService] userId={} 가져오기 완료 (전체 {}, 저장 {}, 실패 {}, 중단 {})",
+                userId, result.total, result.imported, result.failed, result.aborted);
+        return result.toResponse();
+    }
+
+    // 배치 하나를 트랜잭션 하나로 저장한다. 검증에 실패한 레코드만 빼고 저장하며, 저장 자체가 실패하면 배치 전체를 실패로 기록한다.
+    private void saveBatch(Long userId, List<PendingRecord> batch, Result result) {
+        List<Integer> invalidLines = new ArrayList<>();
+        List<ErrorCode> invalidCodes = new ArrayList<>();
+        List<Integer> validLines = new ArrayList<>(batch.size());
+
+        try {
+            Integer saved = transactionTemplate.execute(status -> {
+                User user = userRepository.getReferenceById(userId);
+                List<Memo> memos = new ArrayList<>(batch.size());
+                for (PendingRecord record : batch) {
+                    try {
+                        memos.add(record.dto().toEntity(user));
+                        validLines.add(record.line());
+                    } catch (CustomException e) {
+                        invalidLines.add(record.line());
+                        invalidCodes.add(e.getErrorCode());
+                    }
+                }
+                if (!memos.isEmpty()) {
+                    long changeSeq = memoChangeService.next(userId);     // 배치 하나가 변경 순번 하나
+                    memos.forEach(memo -> memo.markChanged(changeSeq));
+                }
+
+                // 고정 메모는 MemoService.createMemos 와 같이 배치 안의 순서대로 위에서부터 배치 (카운터 UPDATE 한 번)
+                List<Memo> pinned = memos.stream().filter(Memo::isPinned).toList();
+                if (!pinned.isEmpty()) {
+                    int first = pinOrderService.allocate(userId, pinned.size());
+                    for (int i = 0; i < pinned.size(); i++) {
+                        pinned.get(i).updatePinOrder(first + PinOrderService.GAP * i);
+                    }
+                }
+
+                memoRepository.saveAll(memos);
+                memoRepository.flush();
+                entityManager.clear();      // 다음 배치까지 엔티티가 쌓이지 않도록 영속성 컨텍스트를 비운다
+
+                MemoCounterDelta delta = new MemoCounterDelta();
+                memos.forEach(delta::added);
+                memoCounterService.apply(userId, delta);
+
+                TransactionUtil.afterCommit(() -> {
+                    memos.forEach(memo ->
+                            memoSearchIndex.index(userId, memo.getId(), memo.getTitle(), memo.getContent()));
+                    memoListCache.invalidate(userId);
+                });
+                return memos.size();
+            });
+            result.imported += saved == null ? 0 : saved;
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("[MemoImportService] userId={} 배치 저장 실패 ({}건)", userId, validLines.size(), e);
+            validLines.forEach(line -> result.fail(line, ErrorCode.IMPORT_SAVE_FAILED));
+        }
+        for (int i = 0; i < invalidLines.size(); i++) {
+            result.fail(invalidLines.get(i), invalidCodes.get(i));
+        }
+    }
+
+    private Long getCurrentUserId() {
+        Long userId = SecurityUtil.getCurrentUserId();
+        if (userId != null) {
+            return userId;
+        }
+        return userRepository.findByEmail(SecurityUtil.getCurrentUserEmail())
+                .map(User::getId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    // 가져오기 진행 상황 집계 (실패 목록은 앞에서부터 maxReported 개까지만 보관)
+    private static class Result {
+
+        private final int maxReported;
+        private final List<MemoImportResponseDto.Failure> failures = new ArrayList<>();
+        private int total;
+        private int imported;
+        private int failed;
+        private boolean aborted;
+
+        Result(int maxReported) {
+            this.maxReported = maxReported;
+        }
+
+        void fail(int line, ErrorCode code) {
+            failed++;
+            if (failures.size() < maxReported) {
+                failures.add(new MemoImportResponseDto.Failure(line, code.name(), code.getMessage()));
+            }
+        }
+
+        MemoImportResponseDto toResponse() {
+            failures.sort((a, b) -> Integer.compare(a.getLine(), b.getLine()));
+            return new MemoImportResponseDto(total, imported, failed, aborted, failures, failed > failures.size());
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.mymemo.backend.memo.service;
+
+import com.mymemo.backend.entity.JobCheckpoint;
+import com.mymemo.backend.memo.counter.MemoCounterDelta;
+import com.mymemo.backend.memo.dto.MemoPurgeTarget;
+import com.mymemo.backend.repository.JobCheckpointRepository;
+import com.mymemo.backend.repository.MemoArchiveRepository;
+import com.mymemo.backend.repository.MemoRepository;
+import com.mymemo.backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 삭제된 메모 정리 작업
+ *
+ * - 삭제(soft delete)된 지 retention-days 가 지난 메모를 memo_archive 로 옮기거나(mode=archive) 영구 삭제한다(mode=delete).
+ *   memo 테이블의 목록 인덱스(user_id, is_deleted, ...)와 버퍼 풀에 삭제된 행이 계속 쌓이지 않도록 한다.
+ * - (deletedAt, id) 순서의 keyset 청크(chunk-size)마다 짧은 트랜잭션 하나로 처리하므로 긴 잠금이나 큰 복제 지연을 만들지 않는다.
+ * - 청크 사이에 잠시 쉬어 초당 처리 행 수를 rows-per-second 이하로 제한한다.
+ * - 진행 위치는 job_checkpoint 에 청크마다 저장되어 재시작해도 이어서 처리한다.
+ *   deletedAt 은 시간이 지날수록 커지므로 체크포인트는 되돌릴 필요 없이 계속 앞으로만 간다.
+ * - 콜드 티어에 있던 메모는 행만 지워지고 내용은 세그먼트 파일에 남는다. 영구 삭제된 메모의 내용은
+ *   MemoColdTierService.compact 가 세그먼트를 다시 쓰면서 지운다. (보관된 메모는 복원할 수 있도록 그대로 둔다)
+ */
+@Slf4j
+@Service
+public class MemoPurgeService {
+
+    static final String JOB_NAME = "memo-purge";
+
+    private final MemoRepository memoRepository;
+    private final UserRepository userRepository;
+    private final MemoArchiveRepository memoArchiveRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final MemoCounterService memoCounterService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final boolean archive;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final int rowsPerSecond;
+
+    public MemoPurgeService(
+            MemoRepository memoRepository,
+            UserRepository userRepository,
+            MemoArchiveRepository memoArchiveRepository,
+            JobCheckpointRepository jobCheckpointRepository,
+            MemoCounterService memoCounterService,
+            PlatformTransactionManager transactionManager,
+            @Value("${memo.purge.enabled:true}") boolean enabled,
+            @Value("${memo.purge.mode:archive}") String mode,
+            @Value("${memo.purge.retention-days:30}") int retentionDays,
+            @Value("${memo.purge.chunk-size:200}") int chunkSize,
+            @Value("${memo.purge.rows-per-second:1000}") int rowsPerSecond
+    ) {
+        this.memoRepository = memoRepository;
+        this.userRepository = userRepository;
+        this.memoArchiveRepository = memoArchiveRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.memoCounterService = memoCounterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.archive = !"delete".equalsIgnoreCase(mode);
+        this.retentionDays = Math.max(0, retentionDays);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.rowsPerSecond = Math.max(1, rowsPerSecond);
+    }
+
+    /**
+     * 보존 기간이 지난 삭제 메모를 더 이상 없을 때까지 청크 단위로 정리한다.
+     * 청크 처리에 실패하면 해당 청크만 롤백되고 다음 주기에 체크포인트부터 다시 시도한다.
+     */
+    @Scheduled(fixedDelayString = "${memo.purge.interval-ms:600000}",
+            initialDelayString = "${memo.purge.interval-ms:600000}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long total = 0;
+        try {
+            int processed;
+            do {
+                long start = System.currentTimeMillis();
+                processed = transactionTemplate.execute(status -> purgeChunk(cutoff));
+                total += processed;
+                throttle(processed, System.currentTimeMillis() - start);
+            } while (processed == chunkSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();     // 종료 중 - 다음 실행에서 체크포인트부터 이어서 처리
+        } catch (RuntimeException e) {
+            log.warn("[MemoPurgeService] 삭제 메모 정리 중단 ({}건 처리 후)", total, e);
+        }
+        if (total > 0) {
+            log.info("[MemoPurgeService] 삭제 메모 {}건 {}", total, archive ? "보관" : "영구 삭제");
+        }
+    }
+
+    // 체크포인트 이후의 청크 하나를 보관(또는 삭제)하고 체크포인트를 옮긴다. (하나의 트랜잭션)
+    private int purgeChunk(LocalDateTime cutoff) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findForUpdate(JOB_NAME)
+                .orElseGet(() -> jobCheckpointRepository.save(new JobCheckpoint(JOB_NAME)));
+
+        List<MemoPurgeTarget> targets = memoRepository.findPurgeTargets(
+                cutoff, checkpoint.getLastTimestamp(), checkpoint.getLastId(), PageRequest.of(0, chunkSize));
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        // 체크포인트를 먼저 옮긴다 - 아래 벌크 DELETE 가 실행 전에 flush 하고 영속성 컨텍스트를 비운다
+        MemoPurgeTarget last = targets.get(targets.size() - 1);
+        checkpoint.advance(last.deletedAt(), last.id());
+
+        // 치운 메모의 툼스톤은 변경 피드에서 사라지므로, 그 이전 커서는 만료(410)되도록 사용자별 순번을 남긴다
+        // (사용자 id 순으로 users 행을 먼저 잠가 쓰기 경로와 같은 잠금 순서를 지킨다)
+        targets.stream()
+                .collect(Collectors.toMap(MemoPurgeTarget::userId, MemoPurgeTarget::changeSeq, Math::max, TreeMap::new))
+                .forEach(userRepository::raisePurgedChangeSeq);
+
+        List<Long> ids = targets.stream().map(MemoPurgeTarget::id).toList();
+        int copied = archive ? memoArchiveRepository.copyFromMemo(ids, LocalDateTime.now()) : 0;
+        int deleted = memoRepository.hardDeleteAll(ids);
+        if (archive && copied != deleted) {
+            // 복사와 삭제 사이에 복원된 메모가 있으면 보관본 없이 지워질 수 있으므로 청크 전체를 롤백한다
+            throw new IllegalStateException("보관 " + copied + "건과 삭제 " + deleted + "건이 다릅니다.");
+        }
+        if (!archive) {
+            // 영구 삭제된 메모는 휴지통에서도 빠진다 (보관된 메모는 휴지통에 남으므로 그대로)
+            targets.stream()
+                    .collect(Collectors.groupingBy(MemoPurgeTarget::userId, Collectors.counting()))
+                    .forEach((userId, count) -> memoCounterService.apply(userId, new MemoCounterDelta().trashed(-count)));
+        }
+        return targets.size();
+    }
+
+    // 처리한 행 수만큼의 시간(rows / rowsPerSecond)이 지나기 전이면 남은 시간만큼 쉰다
+    private void throttle(int processed, long elapsedMs) throws InterruptedException {
+        long budgetMs = processed * 1000L / rowsPerSecond;
+        if (budgetMs > elapsedMs) {
+            Thread.sleep(budgetMs - elapsedMs);
+        }
+    }
+}
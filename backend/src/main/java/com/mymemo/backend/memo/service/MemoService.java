@@ -2,48 +2,162 @@ package com.mymemo.backend.memo.service;
 
 import com.mymemo.backend.entity.Memo;
 import com.mymemo.backend.entity.User;
+import com.mymemo.backend.entity.enums.MemoCategory;
 import com.mymemo.backend.entity.enums.Visibility;
 import com.mymemo.backend.global.exception.CustomException;
 import com.mymemo.backend.global.exception.ErrorCode;
 import com.mymemo.backend.global.util.SecurityUtil;
+import com.mymemo.backend.global.util.TransactionUtil;
+import com.mymemo.backend.global.util.UuidV7;
+import com.mymemo.backend.memo.cache.MemoListCache;
+import com.mymemo.backend.memo.cache.PublicMemoCache;
+import com.mymemo.backend.memo.cold.ColdMemoStore;
+import com.mymemo.backend.memo.counter.MemoCounterDelta;
+import com.mymemo.backend.memo.counter.MemoCounts;
 import com.mymemo.backend.memo.dto.*;
 import com.mymemo.backend.repository.MemoRepository;
 import com.mymemo.backend.repository.UserRepository;
+import com.mymemo.backend.search.MemoSearchIndex;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MemoService {
 
     private final UserRepository userRepository;
     private final MemoRepository memoRepository;
+    private final MemoSearchIndex memoSearchIndex;
+    private final PublicMemoCache publicMemoCache;
+    private final PinOrderService pinOrderService;
+    private final ColdMemoStore coldMemoStore;
+    private final MemoListCache memoListCache;
+    private final MemoCounterService memoCounterService;
+    private final MemoChangeService memoChangeService;
+
+    public static final int BULK_CREATE_MAX_SIZE = 1000;    // 일괄 생성 최대 개수
+    public static final int BATCH_MAX_SIZE = 1000;          // 일괄 처리(삭제/고정/카테고리/공개 여부) 최대 개수
+    public static final int LIST_DEFAULT_PAGE_SIZE = 10;    // 목록 기본 페이지 크기 (MemoController 의 @PageableDefault 와 맞춤)
+
+    /**
+     * 현재 로그인한 사용자를 반환한다.
+     *
+     * - Access Token 에 uid 클레임이 있으면 getReferenceById 로 id 만 가진 프록시를 만든다. (users SELECT 없음)
+     *   메모 조회/저장 쿼리는 user_id 만 사용하므로 프록시가 초기화되지 않는다.
+     * - uid 클레임이 없는 이전 토큰(배포 전 발급분)은 기존처럼 이메일로 조회한다.
+     *
+     * @return 현재 사용자 (프록시 또는 엔티티)
+     * @throws CustomException USER_NOT_FOUND: 이메일로 사용자를 찾을 수 없는 경우
+     */
+    private User getCurrentUser() {
+        Long userId = SecurityUtil.getCurrentUserId();
+        if (userId != null) {
+            return userRepository.getReferenceById(userId);
+        }
+        return userRepository.findByEmail(SecurityUtil.getCurrentUserEmail())
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
 
     @Transactional
     public MemoCreateResponseDto createMemo(MemoCreateRequestDto dto) {
 
-        String email = SecurityUtil.getCurrentUserEmail();
+        User user = getCurrentUser();   // SELECT 없이 id 만 가진 참조(프록시)
+
+        Memo memo = dto.toEntity(user);
+        memo.markChanged(memoChangeService.next(user.getId()));
+        if (memo.isPinned()) {
+            memo.updatePinOrder(pinOrderService.allocate(user.getId(), 1));     // 고정 메모 맨 위
+        }
+        memoRepository.save(memo);
+        memoCounterService.apply(user.getId(), new MemoCounterDelta().added(memo));
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new CustomException(ErrorCode.EMAIL_NOT_FOUND));
+        // 커밋 이후 검색 인덱스에 반영 (롤백된 메모가 검색되지 않도록) + 목록 캐시 무효화
+        TransactionUtil.afterCommit(() -> {
+            memoSearchIndex.index(user.getId(), memo.getId(), memo.getTitle(), memo.getContent());
+            memoListCache.invalidate(user.getId());
+        });
 
-        Memo memo = memoRepository.save(dto.toEntity(user));
         return new MemoCreateResponseDto(memo);
     }
 
     /**
-     * Memo 엔티티 페이지 객체를 MemoListResponseDto로 변환하고,
-     * 커스텀 PageResponseDto로 래핑하여 반환한다.
+     * 여러 메모를 한 번에 생성한다. (다른 도구에서 가져오기 등)
+     *
+     * - 모든 항목을 먼저 엔티티로 만들어 검증한 뒤 저장하므로, 하나라도 잘못되면 아무것도 저장되지 않는다.
+     * - Memo 의 id 는 pooled 테이블 생성기로 미리 할당되므로 INSERT 가 hibernate.jdbc.batch_size 단위로 묶여
+     *   (rewriteBatchedStatements 사용 시 multi-row INSERT 로) 전송된다.
      *
-     * @param memoPage Memo 엔티티 페이지 객체
+     * @param dtos 생성할 메모 목록 (1 ~ BULK_CREATE_MAX_SIZE 개)
+     * @return 요청 순서대로 생성된 메모의 id / uuid
+     * @throws CustomException INVALID_BULK_SIZE: 목록이 비었거나 최대 개수를 넘은 경우
+     * @throws CustomException EMPTY_MEMO: 제목과 내용이 모두 빈 항목이 있는 경우
+     */
+    @Transactional
+    public MemoBulkCreateResponseDto createMemos(List<MemoCreateRequestDto> dtos) {
+        if (dtos == null || dtos.isEmpty() || dtos.size() > BULK_CREATE_MAX_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_BULK_SIZE);
+        }
+
+        User user = getCurrentUser();
+
+        List<Memo> memos = new ArrayList<>(dtos.size());
+        for (MemoCreateRequestDto dto : dtos) {
+            memos.add(dto.toEntity(user));      // 검증 (EMPTY_MEMO 등) - 저장 전에 전부 수행
+        }
+        long changeSeq = memoChangeService.next(user.getId());     // 한 번에 생성한 메모는 같은 변경 순번
+        memos.forEach(memo -> memo.markChanged(changeSeq));
+
+        // 고정 메모는 요청 순서대로 위에서부터 배치 (카운터 UPDATE 한 번)
+        List<Memo> pinned = memos.stream().filter(Memo::isPinned).toList();
+        if (!pinned.isEmpty()) {
+            int first = pinOrderService.allocate(user.getId(), pinned.size());
+            for (int i = 0; i < pinned.size(); i++) {
+                pinned.get(i).updatePinOrder(first + PinOrderService.GAP * i);
+            }
+        }
+
+        memoRepository.saveAll(memos);
+        memoRepository.flush();     // 배치 INSERT 실행 (id 는 이미 할당되어 있음)
+
+        MemoCounterDelta delta = new MemoCounterDelta();
+        memos.forEach(delta::added);
+        memoCounterService.apply(user.getId(), delta);
+
+        TransactionUtil.afterCommit(() -> {
+            memos.forEach(memo ->
+                    memoSearchIndex.index(user.getId(), memo.getId(), memo.getTitle(), memo.getContent()));
+            memoListCache.invalidate(user.getId());
+        });
+
+        return new MemoBulkCreateResponseDto(memos);
+    }
+
+    /**
+     * 목록 DTO 페이지 객체를 커스텀 PageResponseDto로 래핑하여 반환한다.
+     *
+     * @param dtoPage 목록 프로젝션(MemoListResponseDto) 페이지 객체
      * @return 변환된 PageResponseDto<MemoListResponseDto>
      */
-    private PageResponseDto<MemoListResponseDto> toPageResponse(Page<Memo> memoPage) {
-        // Memo 엔티티 MemoListResponseDto로 매핑
-        Page<MemoListResponseDto> dtoPage = memoPage.map(MemoListResponseDto::from);
+    private PageResponseDto<MemoListResponseDto> toPageResponse(Page<MemoListResponseDto> dtoPage) {
         // 커스텀 Page 응답 객체로 변환하여 반환
         return new PageResponseDto<>(
                 dtoPage.getContent(),       // 현재 페이지의 데이터 리스트
@@ -57,43 +171,235 @@ public class MemoService {
 
     /**
      * 페이징 처리된 메모 목록을 조회
+     *
+     * 필터가 없으면 앞쪽 페이지는 MemoListCache(힙 + Redis)를 먼저 확인하고, 캐시 적중 시에는 트랜잭션/DB 커넥션을 사용하지 않는다.
+     * 목록에 영향을 주는 쓰기는 커밋 이후 사용자의 캐시 세대를 올린다. 패싯은 사용자 카운터 값을 그대로 쓴다. (함께 캐시)
+     * 필터가 있으면 캐시를 거치지 않고 목록 쿼리 + 패싯 GROUP BY 쿼리로 조회한다. (COUNT 쿼리 없음)
+     *
      * @param pageable 페이징 및 정렬 정보를 포함한 객체
-     * @return PageResponseDto<MemoListResponseDto> 응답 DTO로 감싼 페이징 결과
+     * @param filter 목록 필터 (없으면 MemoListFilter.NONE)
+     * @return FacetedPageResponseDto<MemoListResponseDto> 패싯을 포함한 페이징 결과
      */
-    @Transactional(readOnly = true)
-    public PageResponseDto<MemoListResponseDto> getMemos(Pageable pageable) {
-        // 현재 로그인한 사용자 이메일 확인
-        String email = SecurityUtil.getCurrentUserEmail();
+    public FacetedPageResponseDto<MemoListResponseDto> getMemos(Pageable pageable, MemoListFilter filter) {
+        // 현재 로그인한 사용자 (토큰의 uid 로 만든 참조 - users 테이블 조회 없음)
+        User user = getCurrentUser();
 
-        // 사용자 조회 (없는 경우 예외 발생)
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        MemoSortOption sort = MemoSortOption.of(pageable);      // 허용되지 않은 정렬은 캐시 확인 전에 거절
+        if (!filter.isEmpty()) {
+            return loadFilteredPage(user.getId(), filter, MemoSortOption.resolve(pageable));
+        }
 
-        // 삭제되지 않은 메모들을 최신순으로 페이징 조회
-        Page<Memo> memoPage = memoRepository.findByUserAndIsDeletedFalseOrderByIsPinnedDescPinOrderAscUpdatedAtDesc(user, pageable);
+        // 전체 개수와 패싯은 카운터 힙 캐시를 거치지 않고 읽는다 (목록 캐시와 ETag 가 이 값을 세대 단위로 오래 유지하므로)
+        if (!memoListCache.supports(pageable)) {
+            return loadMemoPage(user, pageable, memoCounterService.currentCounts(user.getId()));
+        }
+        return memoListCache.get(user.getId(), sort.name(), pageable,
+                () -> loadMemoPage(user, pageable, memoCounterService.currentCounts(user.getId())));
+    }
 
-        return toPageResponse(memoPage);
+    /**
+     * 현재 사용자의 목록 ETag (GET /api/memos, /api/memos/cursor 의 If-None-Match 비교용)
+     * 목록 캐시 세대로 만들므로 Redis 조회 한 번이면 되고, 목록/카운터는 읽지 않는다.
+     *
+     * @return ETag 값, Redis 를 쓸 수 없으면 null
+     */
+    public String getMemosEtag() {
+        return memoListCache.etag(getCurrentUser().getId());
+    }
+
+    /**
+     * 로그인 직후 첫 페이지(기본 정렬, 기본 크기)를 목록 캐시에 미리 채운다. (AuthService.login 에서 비동기 호출)
+     * 이미 캐시되어 있으면 아무것도 조회하지 않는다.
+     *
+     * @param userId 로그인한 사용자 id
+     */
+    @Async
+    public void warmListCache(Long userId) {
+        try {
+            User user = userRepository.getReferenceById(userId);
+            Pageable firstPage = PageRequest.of(0, LIST_DEFAULT_PAGE_SIZE);
+            memoListCache.get(userId, MemoSortOption.of(firstPage).name(), firstPage,
+                    () -> loadMemoPage(user, firstPage, memoCounterService.currentCounts(userId)));
+        } catch (RuntimeException e) {
+            log.warn("[MemoService] 목록 캐시 예열 실패 userId={}: {}", userId, e.getMessage());   // 로그인에는 영향 X
+        }
+    }
+
+    // 캐시 미스 시 DB 조회 (리포지토리 메서드 자체의 읽기 트랜잭션 안에서 실행) - 전체 개수는 COUNT 대신 카운터 값
+    private FacetedPageResponseDto<MemoListResponseDto> loadMemoPage(User user, Pageable pageable, MemoCounts counts) {
+        // 삭제되지 않은 메모들을 고정 메모 우선 + 선택한 정렬 기준으로 한 페이지 조회
+        Pageable resolved = MemoSortOption.resolve(pageable);
+        List<MemoListResponseDto> content = memoRepository.findListPage(user, resolved);
+
+        // PageImpl 은 마지막 페이지에서 카운터와 실제 행 수가 다르면 offset + 행 수로 보정한다
+        return new FacetedPageResponseDto<>(toPageResponse(new PageImpl<>(content, resolved, counts.total())), MemoFacetsDto.of(counts));
+    }
+
+    // 필터 목록 조회 - 패싯 쿼리 결과로 전체 개수를 계산하고, 범위를 벗어난 페이지는 목록 쿼리를 생략한다
+    private FacetedPageResponseDto<MemoListResponseDto> loadFilteredPage(Long userId, MemoListFilter filter, Pageable pageable) {
+        List<MemoCountRow> rows = memoRepository.countFacets(userId, filter);
+        long total = rows.stream()
+                .filter(row -> filter.matchesCategory(row.memoCategory()) && filter.matchesVisibility(row.visibility()))
+                .mapToLong(MemoCountRow::count)
+                .sum();
+
+        List<MemoListResponseDto> content = pageable.getOffset() < total
+                ? memoRepository.findFilteredListPage(userId, filter, pageable)
+                : List.of();
+        return new FacetedPageResponseDto<>(toPageResponse(new PageImpl<>(content, pageable, total)), MemoFacetsDto.of(rows, filter));
+    }
+
+    /**
+     * 현재 사용자의 메모 수 통계 (전체 / 고정 / 휴지통 / 카테고리별 / 공개 여부별)
+     * 사용자 카운터의 값이므로 COUNT 쿼리를 실행하지 않는다.
+     */
+    public MemoStatsResponseDto getStats() {
+        return new MemoStatsResponseDto(memoCounterService.countsOf(getCurrentUser().getId()));
     }
 
     /**
-     * 페이징 처리된, 키워드를 제목에서 검색한 메모 목록 조회
-     * @param keyword 검색할 키워드 (제목 기준)
+     * 페이징 처리된, 키워드를 제목과 내용에서 검색한 메모 목록 조회
+     *
+     * - 두 글자 이상의 검색어는 사용자별 역색인(MemoSearchIndex)으로 찾고, 관련도 순으로 정렬한다.
+     *   (이 경우 sort 파라미터는 사용하지 않는다)
+     * - 한 글자짜리 검색어는 바이그램 인덱스로 처리할 수 없으므로 기존처럼 제목 LIKE 검색을 사용한다.
+     *
+     * @param keyword 검색할 키워드 (제목 + 내용 기준)
      * @param pageable 페이징 및 정렬 정보를 포함한 객체
      * @return PageResponseDto<MemoListResponseDto> 응답 DTO로 감싼 페이징 결과
      */
     @Transactional(readOnly = true)
     public PageResponseDto<MemoListResponseDto> getKeywordMemo(String keyword, Pageable pageable) {
-        // 현재 로그인한 사용자 이메일 확인
-        String email = SecurityUtil.getCurrentUserEmail();
+        // 현재 로그인한 사용자
+        User user = getCurrentUser();
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        if (MemoSearchIndex.supports(keyword)) {
+            long[] rankedIds = memoSearchIndex.search(user.getId(), keyword);
+            return toPageResponse(toRankedPage(user.getId(), rankedIds, pageable));
+        }
 
-        Page<Memo> memoPage = memoRepository.findByUserAndTitleContainingIgnoreCaseAndIsDeletedFalseOrderByIsPinnedDescPinOrderAscUpdatedAtDesc(user, keyword, pageable);
+        Page<MemoListResponseDto> memoPage = memoRepository.findListItemsByKeyword(user, keyword, MemoSortOption.resolve(pageable));
 
         return toPageResponse(memoPage);
     }
 
+    /**
+     * 관련도 순으로 정렬된 검색 결과 id 중 요청한 페이지 구간만 조회하여 같은 순서로 반환한다.
+     *
+     * @param userId 검색한 사용자 id
+     * @param rankedIds 관련도 순 메모 id 전체
+     * @param pageable 페이지 번호/크기
+     * @return 검색 결과 페이지 (전체 개수 = 검색된 메모 수)
+     */
+    private Page<MemoListResponseDto> toRankedPage(Long userId, long[] rankedIds, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), rankedIds.length);
+        int to = Math.min(from + pageable.getPageSize(), rankedIds.length);
+
+        List<Long> pageIds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            pageIds.add(rankedIds[i]);
+        }
+
+        List<MemoListResponseDto> content = new ArrayList<>(pageIds.size());
+        if (!pageIds.isEmpty()) {
+            Map<Long, MemoListResponseDto> byId = new HashMap<>();
+            for (MemoListResponseDto item : memoRepository.findListItemsByIds(userId, pageIds)) {
+                byId.put(item.getId(), item);
+            }
+            for (Long id : pageIds) {
+                MemoListResponseDto item = byId.get(id);
+                if (item != null) {     // 인덱스 반영 직전에 삭제된 메모는 건너뜀
+                    content.add(item);
+                }
+            }
+        }
+
+        return new PageImpl<>(content, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()), rankedIds.length);
+    }
+
+    /**
+     * size + 1 개로 조회한 결과를 커서 페이지 응답으로 변환한다.
+     * 초과로 조회된 1개가 있으면 다음 페이지가 존재하는 것으로 판단하고 잘라낸다.
+     *
+     * @param memos size + 1 개까지 조회된 메모 목록 프로젝션
+     * @param size 요청한 페이지 크기
+     * @return CursorPageResponseDto<MemoListResponseDto>
+     */
+    private CursorPageResponseDto<MemoListResponseDto> toCursorPageResponse(List<MemoListResponseDto> memos, int size) {
+        boolean hasNext = memos.size() > size;
+        List<MemoListResponseDto> content = hasNext ? memos.subList(0, size) : memos;
+
+        // 다음 페이지가 있을 때만 마지막 메모의 위치를 커서로 내려준다
+        String nextCursor = hasNext ? MemoCursor.from(content.get(size - 1)).encode() : null;
+
+        return new CursorPageResponseDto<>(content, size, nextCursor, hasNext);
+    }
+
+    /**
+     * 커서(keyset) 기반으로 메모 목록을 조회
+     * - COUNT 쿼리와 OFFSET 이 없으므로 몇 번째 페이지든 첫 페이지와 같은 비용으로 조회된다.
+     *
+     * @param after 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return CursorPageResponseDto<MemoListResponseDto> 커서 페이징 결과
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<MemoListResponseDto> getMemosByCursor(String after, int size) {
+        User user = getCurrentUser();
+
+        Pageable limit = PageRequest.ofSize(size + 1);     // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+
+        List<MemoListResponseDto> memos;
+        if (after == null || after.isBlank()) {
+            memos = memoRepository.findCursorFirstPage(user, limit);
+        } else {
+            MemoCursor cursor = MemoCursor.decode(after);
+            memos = memoRepository.findCursorNextPage(
+                    user, cursor.isPinned(), cursor.getPinOrder(), cursor.getUpdatedAt(), cursor.getId(), limit);
+        }
+
+        return toCursorPageResponse(memos, size);
+    }
+
+    /**
+     * 커서(keyset) 기반으로 키워드가 포함된 메모 목록을 조회
+     *
+     * - 검색 대상은 getKeywordMemo 와 같다. 두 글자 이상의 검색어는 같은 역색인(MemoSearchIndex)으로 제목 + 내용에서 찾고,
+     *   한 글자짜리 검색어는 제목 LIKE 검색을 사용한다.
+     * - 순서는 관련도가 아닌 목록 순서(고정 메모 우선, 수정 시각 최신순)이다. (keyset 커서가 이 순서를 따른다)
+     *
+     * @param keyword 검색할 키워드
+     * @param after 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기
+     * @return CursorPageResponseDto<MemoListResponseDto> 커서 페이징 결과
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponseDto<MemoListResponseDto> getKeywordMemoByCursor(String keyword, String after, int size) {
+        User user = getCurrentUser();
+
+        Pageable limit = PageRequest.ofSize(size + 1);
+        MemoCursor cursor = (after == null || after.isBlank()) ? null : MemoCursor.decode(after);
+
+        if (MemoSearchIndex.supports(keyword)) {
+            List<Long> ids = Arrays.stream(memoSearchIndex.search(user.getId(), keyword)).boxed().toList();
+            if (ids.isEmpty()) {
+                return toCursorPageResponse(List.of(), size);
+            }
+            List<MemoListResponseDto> memos = cursor == null
+                    ? memoRepository.findIdsCursorFirstPage(user.getId(), ids, limit)
+                    : memoRepository.findIdsCursorNextPage(user.getId(), ids,
+                            cursor.isPinned(), cursor.getPinOrder(), cursor.getUpdatedAt(), cursor.getId(), limit);
+            return toCursorPageResponse(memos, size);
+        }
+
+        List<MemoListResponseDto> memos = cursor == null
+                ? memoRepository.findKeywordCursorFirstPage(user, keyword, limit)
+                : memoRepository.findKeywordCursorNextPage(
+                        user, keyword, cursor.isPinned(), cursor.getPinOrder(), cursor.getUpdatedAt(), cursor.getId(), limit);
+
+        return toCursorPageResponse(memos, size);
+    }
+
     /**
      * 특정 ID의 메모를 상세 조회
      *
@@ -112,11 +418,9 @@ public class MemoService {
         Memo memo = memoRepository.findByIdAndIsDeletedFalse(memoId)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMO_NOT_FOUND));
 
-        String currentUserEmail = SecurityUtil.getCurrentUserEmail();   // 로그인 여부
-
         // 소유자인 경우 -> 바로 반환
-        if (currentUserEmail != null && memo.getUser().getEmail().equals(currentUserEmail)) {
-            return new MemoDetailResponseDto(memo);
+        if (isOwner(memo)) {
+            return new MemoDetailResponseDto(memo, coldMemoStore.contentOf(memo));
         }
 
         // 비회원 또는 타인의 경우 -> PUBLIC 메모만 조회 가능
@@ -124,24 +428,84 @@ public class MemoService {
             throw new CustomException(ErrorCode.MEMO_PRIVATE_ACCESS_DENIED);
         }
 
-        return new MemoDetailResponseDto(memo);
+        return new MemoDetailResponseDto(memo, coldMemoStore.contentOf(memo));
     }
 
-    @Transactional
-    public MemoUpdateResponseDto updateMemo(Long memoId, MemoUpdateRequestDto requestDto) {
-        String email = SecurityUtil.getCurrentUserEmail();
+    /**
+     * 상세 조회의 ETag (GET /api/memos/{id} 의 If-None-Match 비교용)
+     * getMemoDetail 과 같은 접근 권한을 확인하지만, 메모 본문과 콜드 세그먼트는 읽지 않는다.
+     *
+     * @param memoId 조회할 메모의 고유 ID
+     * @return ETag 값 (MemoVersion.etag)
+     * @throws CustomException MEMO_NOT_FOUND: 메모가 존재하지 않거나 삭제된 경우
+     * @throws CustomException MEMO_PRIVATE_ACCESS_DENIED: 비공개 메모에 대한 접근 시도
+     */
+    public String getMemoDetailEtag(Long memoId) {
+        MemoVersion version = memoRepository.findVersion(memoId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMO_NOT_FOUND));
 
-        // 현재 로그인한 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        boolean owner = isOwner(version.userId(),
+                () -> userRepository.findById(version.userId()).map(User::getEmail).orElse(null));
+        if (!owner && version.visibility() != Visibility.PUBLIC) {
+            throw new CustomException(ErrorCode.MEMO_PRIVATE_ACCESS_DENIED);
+        }
+        return version.etag();
+    }
+
+    /**
+     * 현재 로그인한 사용자가 메모의 작성자인지 확인한다.
+     * 토큰에 uid 가 있으면 memo.getUser().getId() 와 비교하므로 작성자(User) 프록시를 초기화하지 않는다.
+     */
+    private boolean isOwner(Memo memo) {
+        return isOwner(memo.getUser().getId(), () -> memo.getUser().getEmail());
+    }
+
+    // ownerEmail 은 uid 없는 이전 토큰일 때만 조회한다
+    private boolean isOwner(Long ownerId, Supplier<String> ownerEmail) {
+        Long currentUserId = SecurityUtil.getCurrentUserId();
+        if (currentUserId != null) {
+            return currentUserId.equals(ownerId);
+        }
+        String currentUserEmail = SecurityUtil.getCurrentUserEmail();   // 로그인 여부 (uid 없는 이전 토큰)
+        return currentUserEmail != null && currentUserEmail.equals(ownerEmail.get());
+    }
+
+    /**
+     * 메모 수정
+     *
+     * ifMatch 가 있으면 메모 행을 잠근 뒤 현재 ETag 와 비교하고, 다르면 수정하지 않는다. (다른 기기에서 먼저 수정한 내용을 덮어쓰지 않도록)
+     *
+     * @param memoId 수정할 메모의 ID
+     * @param requestDto 수정할 내용
+     * @param ifMatch If-Match 헤더 (없으면 null - 무조건 수정)
+     * @throws CustomException MEMO_NOT_FOUND: 메모가 없거나 본인의 메모가 아닌 경우
+     * @throws CustomException MEMO_VERSION_MISMATCH: If-Match 가 현재 ETag 와 다른 경우
+     */
+    @Transactional
+    public MemoUpdateResponseDto updateMemo(Long memoId, MemoUpdateRequestDto requestDto, String ifMatch) {
+        // 현재 로그인한 사용자
+        User user = getCurrentUser();
+        long changeSeq = memoChangeService.next(user.getId());     // 메모 행보다 사용자 행을 먼저 잠근다
 
         // 메모 조회 (작성자 본인의 메모인지 확인)
-        Memo memo = memoRepository.findByIdAndUserAndIsDeletedFalse(memoId, user)
+        Memo memo = (ifMatch == null
+                ? memoRepository.findByIdAndUserAndIsDeletedFalse(memoId, user)
+                : memoRepository.findByIdForUpdate(memoId, user.getId()))
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMO_NOT_FOUND));
 
+        if (ifMatch != null && !MemoVersion.matches(ifMatch, MemoVersion.etag(memo.getId(), memo.getUpdatedAt(), memo.isPinned()))) {
+            throw new CustomException(ErrorCode.MEMO_VERSION_MISMATCH);
+        }
+        memo.markChanged(changeSeq);
+
+        // 콜드 티어에 있는 메모는 내용을 DB 로 되돌린 뒤 수정한다 (핫 티어로 복귀)
+        coldMemoStore.warm(memo);
+
         // pinned 상태 변경 여부 판단
         boolean wasPinned = memo.isPinned();
         boolean nowPinned = requestDto.isPinned();
+        MemoCategory previousCategory = memo.getMemoCategory();
+        Visibility previousVisibility = memo.getVisibility();
 
         // 메모 수정
         memo.update(
@@ -154,48 +518,267 @@ public class MemoService {
 
         // pinned 상태 변경이 있었다면 pinOrder 업데이트
         if (!wasPinned && nowPinned) {
-            // 새로 고정되었을 경우 -> 최대 pinOrder + 1 부여
-            int minPinOrder = memoRepository.findMinPinOrderByUser(user);
-            int newPinOrder = (minPinOrder <= Integer.MIN_VALUE + 1) ? Integer.MIN_VALUE : minPinOrder - 1;     // 극단적인 케이스 처리
-            memo.updatePinOrder(newPinOrder);
+            // 새로 고정되었을 경우 -> 사용자 카운터에서 맨 위 순서를 할당 (MIN 집계 없음)
+            memo.updatePinOrder(pinOrderService.allocate(user.getId(), 1));
         } else if (wasPinned && !nowPinned) {
             // 고정 해제될 경우 -> pinOrder 초기화
             memo.updatePinOrder(0);
         }
 
+        memoCounterService.apply(user.getId(), new MemoCounterDelta()
+                .category(previousCategory, memo.getMemoCategory())
+                .visibility(previousVisibility, memo.getVisibility())
+                .pinned((memo.isPinned() ? 1 : 0) - (wasPinned ? 1 : 0)));
+
+        // 커밋 이후 검색 인덱스에 수정 내용 반영 + 공개 메모 캐시 무효화 (비공개 전환 포함) + 목록 캐시 무효화
+        TransactionUtil.afterCommit(() -> {
+            memoSearchIndex.index(user.getId(), memo.getId(), memo.getTitle(), memo.getContent());
+            publicMemoCache.invalidate(memo.getUuid());
+            memoListCache.invalidate(user.getId());
+        });
+
         // 응답 반환
         return new MemoUpdateResponseDto(memo);
     }
 
     @Transactional
     public void deleteMemo(Long memoId) {
-        // 1. 현재 로그인한 사용자 이메일 확인
-        String email = SecurityUtil.getCurrentUserEmail();
+        // 1. 현재 로그인한 사용자 (토큰의 uid 로 만든 참조)
+        User user = getCurrentUser();
+        long changeSeq = memoChangeService.next(user.getId());
 
-        // 2. 사용자 정보 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        // 3. 삭제되지 않은 메모인지 확인하며 조회
-        Memo memo = memoRepository.findByIdAndUserAndIsDeletedFalse(memoId, user)
+        // 2. 삭제되지 않은 메모인지 확인하며 잠가 조회 (일괄 삭제가 먼저 커밋했으면 최신 값으로 MEMO_NOT_FOUND - 카운터 중복 감소 방지)
+        Memo memo = memoRepository.findByIdForUpdate(memoId, user.getId())
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMO_NOT_FOUND));
 
-        // 4. soft delete 처리
+        // 3. soft delete 처리 (변경 피드에는 툼스톤으로 내려간다)
         memo.softDelete();
+        memo.markChanged(changeSeq);
+        memoCounterService.apply(user.getId(), new MemoCounterDelta().removed(memo).trashed(1));
+
+        // 4. 커밋 이후 검색 인덱스에서 제거 + 공개 메모 캐시 / 목록 캐시 무효화
+        TransactionUtil.afterCommit(() -> {
+            memoSearchIndex.remove(user.getId(), memo.getId());
+            publicMemoCache.invalidate(memo.getUuid());
+            memoListCache.invalidate(user.getId());
+        });
     }
 
-    // 읽기 전용 트랜잭션은 flush가 발생하지 않고, 엔티티 변경 감지를 하지 않아 성능상 유리하다.
-    // 이는 데이터 변경이 없는 메서드에만 사용하는 것이 바람직하다.
-    // 읽기 전용 트랜잭션은 스냅샷 저장, 더티체킹 등을 생략하기 때문에 약간 더 가볍고 빠르다. 그리고 데이터 변경을 하지 않는다는 점 명시.
-    @Transactional(readOnly = true)
-    public MemoDetailResponseDto getMemoDetailByUuid(String uuid) {
-        Memo memo = memoRepository.findByUuidAndIsDeletedFalse(uuid)
+    /**
+     * 고정 메모의 순서를 바꾼다. (드래그 앤 드롭 - 옮기는 메모 한 행만 수정)
+     * 고정 순서만 바뀌므로 updatedAt 은 그대로 둔다.
+     *
+     * @param memoId 옮길 고정 메모 id
+     * @param dto prevId: 옮긴 뒤 바로 위 메모 (null 이면 맨 위), nextId: 바로 아래 메모 (null 이면 맨 아래)
+     * @throws CustomException MEMO_NOT_FOUND: 메모가 없거나 본인 메모가 아닌 경우
+     * @throws CustomException MEMO_NOT_PINNED: 고정되지 않은 메모인 경우
+     * @throws CustomException INVALID_PIN_POSITION: 이웃 메모가 잘못된 경우
+     */
+    @Transactional
+    public void movePinnedMemo(Long memoId, MemoPinMoveRequestDto dto) {
+        User user = getCurrentUser();
+        long changeSeq = memoChangeService.next(user.getId());
+        Memo memo = memoRepository.findByIdAndUserAndIsDeletedFalse(memoId, user)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMO_NOT_FOUND));
+        memo.markChanged(changeSeq);
 
-        if (memo.getVisibility() != Visibility.PUBLIC) {
-            throw new CustomException(ErrorCode.MEMO_PRIVATE_ACCESS_DENIED);
+        pinOrderService.move(user.getId(), memo, dto.getPrevId(), dto.getNextId());
+
+        TransactionUtil.afterCommit(() -> memoListCache.invalidate(user.getId()));
+    }
+
+    /**
+     * 여러 메모를 한 번에 삭제(soft delete)한다.
+     * 대상 확인 SELECT 한 번과 UPDATE 한 번으로 처리한다. (메모마다 조회 + dirty checking 하지 않음)
+     * 변경 순번(사용자 행 잠금)을 먼저 받고 대상을 잠가 읽으므로, 그 사이 커밋된 단건 삭제/수정이 카운터에 두 번 반영되지 않는다.
+     *
+     * @param dto 삭제할 메모 id 목록
+     * @return 요청 수 / 실제 삭제된 수 (본인 메모가 아니거나 이미 삭제된 메모는 제외)
+     * @throws CustomException INVALID_BATCH_SIZE: id 목록이 비었거나 최대 개수를 넘은 경우
+     */
+    @Transactional
+    public MemoBatchResponseDto deleteMemos(MemoBatchRequestDto dto) {
+        List<Long> ids = batchIds(dto);
+        Long userId = getCurrentUser().getId();
+
+        long changeSeq = memoChangeService.next(userId);      // 사용자 행 -> 메모 행 순서로 잠근다 (단건 쓰기와 같은 순서)
+        List<MemoBatchTarget> targets = memoRepository.findBatchTargets(userId, ids);
+        int affected = targets.isEmpty() ? 0
+                : memoRepository.softDeleteAll(userId, ids, LocalDateTime.now(), changeSeq);
+
+        MemoCounterDelta delta = new MemoCounterDelta().trashed(targets.size());
+        targets.forEach(target -> delta.removed(target.memoCategory(), target.visibility(), target.pinned()));
+        memoCounterService.apply(userId, delta);
+
+        // 커밋 이후 검색 인덱스에서 제거 + 공개 메모 캐시 / 목록 캐시 무효화
+        TransactionUtil.afterCommit(() -> {
+            targets.forEach(target -> {
+                memoSearchIndex.remove(userId, target.id());
+                publicMemoCache.invalidate(target.uuid());
+            });
+            invalidateListIfAffected(userId, affected);
+        });
+
+        return new MemoBatchResponseDto(ids.size(), affected);
+    }
+
+    /**
+     * 여러 메모를 한 번에 고정하거나 고정 해제한다.
+     *
+     * - 고정: 새로 고정되는 메모들에 사용자 카운터에서 할당한 pinOrder 를 요청 순서대로 한 번에 부여한다. (첫 번째가 맨 위)
+     * - 고정 해제: pinOrder 를 0 으로 초기화한다.
+     * - updateMemo 와 같이 고정 여부만 바뀌면 updatedAt 은 바꾸지 않는다.
+     *
+     * @param dto 대상 메모 id 목록과 고정 여부
+     * @return 요청 수 / 실제로 고정 상태가 바뀐 수
+     * @throws CustomException INVALID_BATCH_SIZE: id 목록이 비었거나 최대 개수를 넘은 경우
+     */
+    @Transactional
+    public MemoBatchResponseDto pinMemos(MemoBatchRequestDto dto) {
+        List<Long> ids = batchIds(dto);
+        Long userId = getCurrentUser().getId();
+
+        long changeSeq = memoChangeService.next(userId);
+        // 고정 상태가 실제로 바뀌는 메모만 (잠가 읽었으므로 UPDATE 대상과 같다)
+        List<MemoBatchTarget> changed = memoRepository.findBatchTargets(userId, ids).stream()
+                .filter(target -> target.pinned() != dto.isPinned())
+                .toList();
+        int affected;
+        if (changed.isEmpty()) {
+            affected = 0;
+        } else if (dto.isPinned()) {
+            Set<Long> unpinned = new HashSet<>();
+            changed.forEach(target -> unpinned.add(target.id()));
+            List<Long> toPin = ids.stream().filter(unpinned::contains).toList();      // 요청 순서 유지
+
+            int firstPinOrder = pinOrderService.allocate(userId, toPin.size());
+            affected = memoRepository.pinAllInOrder(userId, toPin, firstPinOrder, PinOrderService.GAP, changeSeq);
+        } else {
+            affected = memoRepository.unpinAll(userId, ids, changeSeq);
+        }
+        memoCounterService.apply(userId, new MemoCounterDelta().pinned(dto.isPinned() ? changed.size() : -changed.size()));
+
+        TransactionUtil.afterCommit(() -> {
+            changed.forEach(target -> publicMemoCache.invalidate(target.uuid()));
+            invalidateListIfAffected(userId, affected);
+        });
+
+        return new MemoBatchResponseDto(ids.size(), affected);
+    }
+
+    /**
+     * 여러 메모의 카테고리를 한 번에 변경한다. (카테고리가 실제로 바뀐 메모만 updatedAt 갱신)
+     *
+     * @throws CustomException INVALID_BATCH_SIZE: id 목록이 비었거나 최대 개수를 넘은 경우
+     * @throws CustomException ILLEGAL_ARGUMENT: 카테고리가 없는 경우
+     */
+    @Transactional
+    public MemoBatchResponseDto changeCategory(MemoBatchRequestDto dto) {
+        List<Long> ids = batchIds(dto);
+        if (dto.getMemoCategory() == null) {
+            throw new CustomException(ErrorCode.ILLEGAL_ARGUMENT);
+        }
+        Long userId = getCurrentUser().getId();
+
+        long changeSeq = memoChangeService.next(userId);
+        List<MemoBatchTarget> changed = memoRepository.findBatchTargets(userId, ids).stream()
+                .filter(target -> target.memoCategory() != dto.getMemoCategory())
+                .toList();
+        int affected = changed.isEmpty() ? 0
+                : memoRepository.updateCategoryAll(userId, ids, dto.getMemoCategory(), LocalDateTime.now(), changeSeq);
+
+        MemoCounterDelta delta = new MemoCounterDelta();
+        changed.forEach(target -> delta.category(target.memoCategory(), dto.getMemoCategory()));
+        memoCounterService.apply(userId, delta);
+
+        TransactionUtil.afterCommit(() -> {
+            changed.forEach(target -> publicMemoCache.invalidate(target.uuid()));
+            invalidateListIfAffected(userId, affected);
+        });
+
+        return new MemoBatchResponseDto(ids.size(), affected);
+    }
+
+    /**
+     * 여러 메모의 공개 여부를 한 번에 변경한다. (공개 여부가 실제로 바뀐 메모만 updatedAt 갱신)
+     *
+     * @throws CustomException INVALID_BATCH_SIZE: id 목록이 비었거나 최대 개수를 넘은 경우
+     * @throws CustomException ILLEGAL_ARGUMENT: 공개 여부가 없는 경우
+     */
+    @Transactional
+    public MemoBatchResponseDto changeVisibility(MemoBatchRequestDto dto) {
+        List<Long> ids = batchIds(dto);
+        if (dto.getVisibility() == null) {
+            throw new CustomException(ErrorCode.ILLEGAL_ARGUMENT);
+        }
+        Long userId = getCurrentUser().getId();
+
+        long changeSeq = memoChangeService.next(userId);
+        List<MemoBatchTarget> changed = memoRepository.findBatchTargets(userId, ids).stream()
+                .filter(target -> target.visibility() != dto.getVisibility())
+                .toList();
+        int affected = changed.isEmpty() ? 0
+                : memoRepository.updateVisibilityAll(userId, ids, dto.getVisibility(), LocalDateTime.now(), changeSeq);
+
+        MemoCounterDelta delta = new MemoCounterDelta();
+        changed.forEach(target -> delta.visibility(target.visibility(), dto.getVisibility()));
+        memoCounterService.apply(userId, delta);
+
+        // 비공개 전환 시 공유 링크가 캐시에서 계속 보이지 않도록 무효화
+        TransactionUtil.afterCommit(() -> {
+            changed.forEach(target -> publicMemoCache.invalidate(target.uuid()));
+            invalidateListIfAffected(userId, affected);
+        });
+
+        return new MemoBatchResponseDto(ids.size(), affected);
+    }
+
+    // 실제로 바뀐 메모가 있을 때만 목록 캐시 세대를 올린다
+    private void invalidateListIfAffected(Long userId, int affected) {
+        if (affected > 0) {
+            memoListCache.invalidate(userId);
+        }
+    }
+
+    // 일괄 처리 요청의 id 목록 검증 (null 제거, 중복 제거 - 순서 유지)
+    private List<Long> batchIds(MemoBatchRequestDto dto) {
+        if (dto == null || dto.getIds() == null) {
+            throw new CustomException(ErrorCode.INVALID_BATCH_SIZE);
         }
+        List<Long> ids = dto.getIds().stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty() || ids.size() > BATCH_MAX_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_BATCH_SIZE);
+        }
+        return ids;
+    }
+
+    /**
+     * 공개 메모를 uuid 로 조회한다. (비회원 접근 가능)
+     *
+     * 공유 링크는 같은 uuid 로 짧은 시간에 많은 요청이 몰리므로 PublicMemoCache(힙 + Redis)를 먼저 확인하고,
+     * 캐시 적중 시에는 트랜잭션/DB 커넥션을 사용하지 않는다. 없는 메모/비공개 메모라는 결과도 캐시된다.
+     *
+     * @throws CustomException MEMO_NOT_FOUND: 없거나 삭제된 메모
+     * @throws CustomException MEMO_PRIVATE_ACCESS_DENIED: 비공개 메모
+     */
+    public MemoDetailResponseDto getMemoDetailByUuid(String uuid) {
+        if (!UuidV7.isValid(uuid)) {
+            throw new CustomException(ErrorCode.MEMO_NOT_FOUND);     // UUID 형식이 아니면 캐시/DB 조회 없이 거절
+        }
+        PublicMemoCache.Entry entry = publicMemoCache.get(uuid, this::loadPublicMemo);
+        if (entry.isNegative()) {
+            throw new CustomException(entry.error());
+        }
+        return entry.memo();
+    }
 
-        return new MemoDetailResponseDto(memo);
+    // 캐시 미스 시 DB 조회 - 트랜잭션은 findByUuidAndIsDeletedFalse 한 번에만 열린다.
+    // 이후 공개 여부 확인, 콜드 세그먼트 읽기, DTO 변환은 트랜잭션 밖에서 분리된 엔티티로 한다. (지연 로딩 연관은 쓰지 않음)
+    private PublicMemoCache.Entry loadPublicMemo(String uuid) {
+        return memoRepository.findByUuidAndIsDeletedFalse(uuid)
+                .map(memo -> memo.getVisibility() == Visibility.PUBLIC
+                        ? PublicMemoCache.Entry.of(new MemoDetailResponseDto(memo, coldMemoStore.contentOf(memo)))
+                        : PublicMemoCache.Entry.failure(ErrorCode.MEMO_PRIVATE_ACCESS_DENIED))
+                .orElseGet(() -> PublicMemoCache.Entry.failure(ErrorCode.MEMO_NOT_FOUND));
     }
-}
\ No newline at end of file
+}
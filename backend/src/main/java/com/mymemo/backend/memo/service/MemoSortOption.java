@@ -0,0 +1,80 @@
+package com.mymemo.backend.memo.service;
+
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 메모 목록에서 클라이언트가 선택할 수 있는 정렬 옵션 (화이트리스트)
+ *
+ * - 모든 옵션은 "고정 메모 우선(isPinned DESC, pinOrder ASC)" 뒤에 옵션별 기준과 id DESC 를 붙인 형태이며,
+ *   Memo 엔티티의 복합 인덱스 순서와 정확히 일치하도록 구성되어 있다. (filesort 발생 X)
+ * - 여기에 없는 필드나 방향으로 정렬을 요청하면 INVALID_SORT 예외가 발생한다.
+ */
+public enum MemoSortOption {
+
+    UPDATED_AT("updatedAt"),    // 최근 수정순 (기본값) - idx_memo_user_list
+    CREATED_AT("createdAt");    // 최근 작성순 - idx_memo_user_created
+
+    private final String property;
+    private final Sort sort;
+
+    MemoSortOption(String property) {
+        this.property = property;
+        this.sort = Sort.by(
+                Sort.Order.desc("isPinned"),
+                Sort.Order.asc("pinOrder"),
+                Sort.Order.desc(property),
+                Sort.Order.desc("id")
+        );
+    }
+
+    public Sort getSort() {
+        return sort;
+    }
+
+    /**
+     * 클라이언트가 보낸 sort 파라미터를 인덱스로 처리 가능한 정렬로 치환한다.
+     *
+     * @param pageable 컨트롤러에서 바인딩된 페이징 정보 (sort=updatedAt,desc 등)
+     * @return 페이지 번호/크기는 그대로 두고 정렬만 화이트리스트 정렬로 바꾼 Pageable
+     * @throws CustomException INVALID_SORT: 허용되지 않은 필드, 방향, 또는 다중 정렬인 경우
+     */
+    public static Pageable resolve(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), from(pageable.getSort()).getSort());
+    }
+
+    /**
+     * 클라이언트가 보낸 sort 파라미터에 해당하는 정렬 옵션 (캐시 키 등)
+     *
+     * @throws CustomException INVALID_SORT: 허용되지 않은 필드, 방향, 또는 다중 정렬인 경우
+     */
+    public static MemoSortOption of(Pageable pageable) {
+        return from(pageable.getSort());
+    }
+
+    private static MemoSortOption from(Sort requested) {
+        if (requested.isUnsorted()) {
+            return UPDATED_AT;
+        }
+
+        // 보조 정렬을 덧붙이면 인덱스 순서와 달라지므로 정렬 기준은 하나만 허용
+        if (requested.stream().count() != 1) {
+            throw new CustomException(ErrorCode.INVALID_SORT);
+        }
+
+        Sort.Order order = requested.iterator().next();
+        if (order.isAscending()) {
+            throw new CustomException(ErrorCode.INVALID_SORT);
+        }
+
+        for (MemoSortOption option : values()) {
+            if (option.property.equals(order.getProperty())) {
+                return option;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_SORT);
+    }
+}
@@ -0,0 +1,149 @@
+package com.mymemo.backend.memo.service;
+
+import com.mymemo.backend.entity.Memo;
+import com.mymemo.backend.entity.User;
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+import com.mymemo.backend.global.util.SecurityUtil;
+import com.mymemo.backend.global.util.TransactionUtil;
+import com.mymemo.backend.memo.cache.MemoListCache;
+import com.mymemo.backend.memo.cache.PublicMemoCache;
+import com.mymemo.backend.memo.cold.ColdMemoStore;
+import com.mymemo.backend.memo.counter.MemoCounterDelta;
+import com.mymemo.backend.memo.dto.MemoTrashItemDto;
+import com.mymemo.backend.memo.dto.PageResponseDto;
+import com.mymemo.backend.repository.MemoArchiveRepository;
+import com.mymemo.backend.repository.MemoRepository;
+import com.mymemo.backend.repository.UserRepository;
+import com.mymemo.backend.search.MemoSearchIndex;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 휴지통 조회/복원
+ *
+ * - 휴지통은 memo 테이블에 남아 있는 최근 삭제 메모와, 보존 기간이 지나 memo_archive 로 옮겨진 메모를 합친 것이다.
+ * - 목록은 삭제 시각 최신순이며, 보관된 메모는 항상 memo 테이블의 삭제 메모보다 먼저 삭제된 것이므로
+ *   memo 테이블 쪽을 먼저 채우고 이어서 memo_archive 쪽을 이어 붙인다.
+ * - 복원하면 같은 id / uuid 의 메모로 돌아온다. (고정 메모였다면 맨 위에 다시 고정)
+ */
+@Service
+@RequiredArgsConstructor
+public class MemoTrashService {
+
+    private static final String DELETED_QUERY = "SELECT new com.mymemo.backend.memo.dto.MemoTrashItemDto(" +
+            "m.id, m.title, m.preview, m.memoCategory, m.deletedAt, false) " +
+            "FROM Memo AS m WHERE m.user.id = :userId AND m.isDeleted = true " +
+            "ORDER BY m.deletedAt DESC, m.id DESC";
+
+    private static final String ARCHIVED_QUERY = "SELECT new com.mymemo.backend.memo.dto.MemoTrashItemDto(" +
+            "a.id, a.title, a.preview, a.memoCategory, a.deletedAt, true) " +
+            "FROM MemoArchive AS a WHERE a.userId = :userId " +
+            "ORDER BY a.deletedAt DESC, a.id DESC";
+
+    private final UserRepository userRepository;
+    private final MemoRepository memoRepository;
+    private final MemoArchiveRepository memoArchiveRepository;
+    private final MemoSearchIndex memoSearchIndex;
+    private final PublicMemoCache publicMemoCache;
+    private final MemoListCache memoListCache;
+    private final PinOrderService pinOrderService;
+    private final ColdMemoStore coldMemoStore;
+    private final MemoCounterService memoCounterService;
+    private final MemoChangeService memoChangeService;
+    private final EntityManager entityManager;
+
+    /**
+     * 현재 사용자의 휴지통 목록을 삭제 시각 최신순으로 페이징 조회한다.
+     *
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     * @return PageResponseDto<MemoTrashItemDto>
+     */
+    @Transactional(readOnly = true)
+    public PageResponseDto<MemoTrashItemDto> getTrash(int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new CustomException(ErrorCode.ILLEGAL_ARGUMENT);
+        }
+        Long userId = getCurrentUserId();
+        long deletedCount = memoRepository.countDeleted(userId);
+        long archivedCount = memoArchiveRepository.countByUserId(userId);
+
+        long offset = (long) page * size;
+        List<MemoTrashItemDto> content = new ArrayList<>(size);
+        if (offset < deletedCount) {
+            content.addAll(findPage(DELETED_QUERY, userId, offset, size));
+        }
+        if (content.size() < size && offset + content.size() >= deletedCount) {
+            long archivedOffset = offset + content.size() - deletedCount;
+            content.addAll(findPage(ARCHIVED_QUERY, userId, archivedOffset, size - content.size()));
+        }
+
+        long total = deletedCount + archivedCount;
+        int totalPages = (int) ((total + size - 1) / size);
+        return new PageResponseDto<>(content, page, size, total, totalPages, page + 1 >= totalPages);
+    }
+
+    /**
+     * 휴지통의 메모를 복원한다.
+     * memo 테이블에 남아 있으면 삭제 표시만 해제하고, 이미 보관되었으면 memo_archive 에서 memo 로 되돌린다.
+     *
+     * @param memoId 복원할 메모 id
+     * @throws CustomException MEMO_NOT_FOUND: 휴지통에 없는 메모이거나 본인 메모가 아닌 경우
+     */
+    @Transactional
+    public void restore(Long memoId) {
+        Long userId = getCurrentUserId();
+        long changeSeq = memoChangeService.next(userId);      // 메모 / 보관 행보다 사용자 행을 먼저 잠근다
+
+        if (memoRepository.restoreDeleted(userId, memoId) == 0) {
+            // 이미 정리 작업이 보관한 메모 - 보관 행을 잠그고 되돌린다 (정리 작업과 같은 순서로 복사 후 삭제)
+            memoArchiveRepository.findForRestore(userId, memoId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.MEMO_NOT_FOUND));
+            memoArchiveRepository.copyToMemo(userId, memoId);
+            memoArchiveRepository.deleteArchived(userId, memoId);
+        }
+
+        User user = userRepository.getReferenceById(userId);
+        Memo memo = memoRepository.findByIdAndUserAndIsDeletedFalse(memoId, user)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMO_NOT_FOUND));
+        memo.markChanged(changeSeq);      // 툼스톤을 받은 기기도 다시 살아난 메모를 받는다
+
+        // 삭제되어 있는 동안 재배치로 카운터가 올라갔을 수 있으므로 고정 메모는 새 순서를 받는다 (맨 위)
+        if (memo.isPinned()) {
+            memo.updatePinOrder(pinOrderService.allocate(userId, 1));
+        }
+        memoCounterService.apply(userId, new MemoCounterDelta().added(memo).trashed(-1));
+
+        // 커밋 이후 검색 인덱스에 다시 반영 + 공개 메모 캐시(삭제 시점의 "없음" 결과) / 목록 캐시 무효화
+        String content = coldMemoStore.contentOf(memo);
+        TransactionUtil.afterCommit(() -> {
+            memoSearchIndex.index(userId, memo.getId(), memo.getTitle(), content);
+            publicMemoCache.invalidate(memo.getUuid());
+            memoListCache.invalidate(userId);
+        });
+    }
+
+    private List<MemoTrashItemDto> findPage(String query, Long userId, long offset, int limit) {
+        return entityManager.createQuery(query, MemoTrashItemDto.class)
+                .setParameter("userId", userId)
+                .setFirstResult((int) Math.min(offset, Integer.MAX_VALUE))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private Long getCurrentUserId() {
+        Long userId = SecurityUtil.getCurrentUserId();
+        if (userId != null) {
+            return userId;
+        }
+        return userRepository.findByEmail(SecurityUtil.getCurrentUserEmail())
+                .map(User::getId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+}
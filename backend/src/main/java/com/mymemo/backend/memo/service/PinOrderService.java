@@ -0,0 +1,163 @@
+package com.mymemo.backend.memo.service;
+
+import com.mymemo.backend.entity.Memo;
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+import com.mymemo.backend.global.util.TransactionUtil;
+import com.mymemo.backend.memo.cache.MemoListCache;
+import com.mymemo.backend.repository.MemoRepository;
+import com.mymemo.backend.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 고정 메모 순서(pinOrder) 관리
+ *
+ * - 목록은 pinOrder 오름차순이므로 값이 작을수록 위에 표시된다.
+ * - 새로 고정하는 메모는 사용자별 카운터(users.pin_counter)를 GAP 만큼 줄인 값을 받는다.
+ *   MIN 집계 없이 사용자 행 UPDATE 한 번으로 끝나고, 같은 사용자의 동시 고정은 행 잠금으로 직렬화되어 값이 겹치지 않는다.
+ * - 순서 변경(드래그 앤 드롭)은 위/아래 이웃의 pinOrder 중간값을 주므로 옮기는 메모 한 행만 바뀐다.
+ * - 중간값을 만들 간격이 없거나 카운터가 바닥나면 해당 사용자의 고정 메모를 GAP 간격으로 다시 매긴다. (재배치)
+ *   카운터가 REBALANCE_THRESHOLD 아래로 내려간 사용자는 주기 작업에서 미리 재배치한다.
+ * - 카운터는 항상 고정 메모의 최소 pinOrder 이하로 유지된다. (고정 해제된 메모의 0 은 이 규칙과 무관)
+ */
+@Slf4j
+@Service
+public class PinOrderService {
+
+    public static final int GAP = 1024;     // 이웃한 고정 메모 사이의 기본 간격 (중간 삽입 약 10번까지 재배치 없이 가능)
+    static final int REBALANCE_THRESHOLD = Integer.MIN_VALUE / 2;
+
+    private final UserRepository userRepository;
+    private final MemoRepository memoRepository;
+    private final MemoListCache memoListCache;
+    private final MemoChangeService memoChangeService;
+    private final TransactionTemplate transactionTemplate;
+
+    public PinOrderService(UserRepository userRepository, MemoRepository memoRepository, MemoListCache memoListCache,
+                           MemoChangeService memoChangeService, PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.memoRepository = memoRepository;
+        this.memoListCache = memoListCache;
+        this.memoChangeService = memoChangeService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 새로 고정할 메모 count 개의 pinOrder 를 할당한다. (호출한 트랜잭션 안에서 사용자 행이 잠긴다)
+     *
+     * @param userId 메모 소유자 id
+     * @param count 고정할 메모 수 (1 이상)
+     * @return 맨 위에 둘 메모의 pinOrder - i 번째 메모는 반환값 + GAP * i
+     * @throws CustomException PIN_LIMIT_EXCEEDED: 다시 매긴 뒤에도 count 개를 더 고정할 범위가 없는 경우
+     */
+    @Transactional
+    public int allocate(Long userId, int count) {
+        int amount = Math.multiplyExact(GAP, count);
+        int floor = Integer.MIN_VALUE + amount;
+
+        if (userRepository.decrementPinCounter(userId, amount, floor) == 0) {
+            rebalance(userId);      // 카운터가 바닥남 - 다시 매긴 뒤 재시도
+            if (userRepository.decrementPinCounter(userId, amount, floor) == 0) {
+                throw new CustomException(ErrorCode.PIN_LIMIT_EXCEEDED);     // 다시 매겨도 고정 메모가 pinOrder 범위를 넘음
+            }
+        }
+        return userRepository.findPinCounter(userId);
+    }
+
+    /**
+     * 고정된 메모를 prevId 와 nextId 사이로 옮긴다. (드래그 앤 드롭)
+     *
+     * @param userId 메모 소유자 id
+     * @param memo 옮길 메모 (사용자의 고정된 메모)
+     * @param prevId 옮긴 뒤 바로 위에 올 고정 메모 id (null 이면 맨 위)
+     * @param nextId 옮긴 뒤 바로 아래에 올 고정 메모 id (null 이면 맨 아래)
+     * @throws CustomException MEMO_NOT_PINNED: 옮길 메모가 고정되어 있지 않은 경우
+     * @throws CustomException INVALID_PIN_POSITION: 이웃 메모가 고정 메모가 아니거나 순서가 맞지 않는 경우
+     */
+    @Transactional
+    public void move(Long userId, Memo memo, Long prevId, Long nextId) {
+        if (!memo.isPinned()) {
+            throw new CustomException(ErrorCode.MEMO_NOT_PINNED);
+        }
+        if (memo.getId().equals(prevId) || memo.getId().equals(nextId)) {
+            throw new CustomException(ErrorCode.INVALID_PIN_POSITION);
+        }
+        if (prevId == null && nextId == null) {
+            return;     // 고정 메모가 하나뿐
+        }
+        if (prevId == null) {
+            memo.updatePinOrder(allocate(userId, 1));       // 맨 위: 카운터는 항상 최소 pinOrder 이하
+            return;
+        }
+
+        userRepository.lockPinCounter(userId);      // 재배치와 겹치지 않도록 사용자 단위로 직렬화
+        Integer newPinOrder = between(userId, prevId, nextId);
+        if (newPinOrder == null) {
+            rebalance(userId);
+            newPinOrder = between(userId, prevId, nextId);
+            if (newPinOrder == null) {
+                throw new CustomException(ErrorCode.INVALID_PIN_POSITION);
+            }
+        }
+        memo.updatePinOrder(newPinOrder);
+    }
+
+    /**
+     * 사용자의 고정 메모를 현재 순서 그대로 GAP 간격으로 다시 매기고 카운터를 맨 위 값으로 맞춘다.
+     * (맨 위 -GAP * n, ..., 맨 아래 -GAP)
+     */
+    @Transactional
+    public void rebalance(Long userId) {
+        userRepository.lockPinCounter(userId);
+        long changeSeq = memoChangeService.next(userId);        // 다시 매긴 고정 메모는 변경 피드에 다시 내려간다
+        List<Long> pinnedIds = memoRepository.findPinnedIdsInOrder(userId);
+        int first = Math.multiplyExact(-GAP, Math.max(1, pinnedIds.size()));
+
+        int chunk = 500;    // CASE 식이 너무 길어지지 않도록 나눠서 UPDATE
+        for (int from = 0; from < pinnedIds.size(); from += chunk) {
+            List<Long> ids = pinnedIds.subList(from, Math.min(pinnedIds.size(), from + chunk));
+            memoRepository.renumberPinned(userId, ids, first + GAP * from, GAP, changeSeq);
+        }
+        userRepository.updatePinCounter(userId, pinnedIds.isEmpty() ? 0 : first);
+        TransactionUtil.afterCommit(() -> memoListCache.invalidate(userId));     // 순서는 같지만 캐시된 pinOrder 가 달라진다
+        log.debug("[PinOrderService] userId={} 고정 메모 {}개 재배치", userId, pinnedIds.size());
+    }
+
+    /**
+     * 카운터가 바닥에 가까워진 사용자를 미리 재배치한다. (사용자마다 별도 트랜잭션)
+     */
+    @Scheduled(fixedDelayString = "${memo.pin.rebalance-interval-ms:3600000}",
+            initialDelayString = "${memo.pin.rebalance-interval-ms:3600000}")
+    public void rebalanceExhausted() {
+        List<Long> userIds = userRepository.findIdsByPinCounterLessThan(REBALANCE_THRESHOLD);
+        for (Long userId : userIds) {
+            transactionTemplate.executeWithoutResult(status -> rebalance(userId));
+        }
+        if (!userIds.isEmpty()) {
+            log.info("[PinOrderService] 고정 순서 재배치 {}명", userIds.size());
+        }
+    }
+
+    // prev 와 next 사이의 pinOrder (간격이 없으면 null)
+    private Integer between(Long userId, Long prevId, Long nextId) {
+        long prev = memoRepository.findPinOrder(userId, prevId)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_PIN_POSITION));
+        if (nextId == null) {
+            long candidate = prev + GAP;        // 맨 아래
+            return candidate <= Integer.MAX_VALUE ? (int) candidate : null;
+        }
+        long next = memoRepository.findPinOrder(userId, nextId)
+                .orElseThrow(() -> new CustomException(ErrorCode.INVALID_PIN_POSITION));
+        if (next - prev < 2) {
+            return null;        // 간격 없음 (또는 이전 방식의 같은 값) - 재배치 필요
+        }
+        return (int) (prev + (next - prev) / 2);
+    }
+}
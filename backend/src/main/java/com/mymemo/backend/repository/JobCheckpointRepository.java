@@ -0,0 +1,18 @@
+package com.mymemo.backend.repository;
+
+import com.mymemo.backend.entity.JobCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+
+    // 작업 체크포인트를 SELECT ... FOR UPDATE 로 조회 - 같은 작업의 청크 처리를 노드 간에 직렬화한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM JobCheckpoint AS c WHERE c.name = :name")
+    Optional<JobCheckpoint> findForUpdate(@Param("name") String name);
+}
@@ -0,0 +1,70 @@
+package com.mymemo.backend.repository;
+
+import com.mymemo.backend.entity.MemoArchive;
+import com.mymemo.backend.memo.dto.ColdSegmentUsage;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MemoArchiveRepository extends JpaRepository<MemoArchive, Long> {
+
+    /**
+     * 삭제된 메모를 memo 테이블에서 그대로 복사한다. (메모 행을 엔티티로 읽지 않고 INSERT ... SELECT 한 번)
+     * 같은 트랜잭션에서 MemoRepository.hardDeleteAll 로 원본을 지운다.
+     *
+     * @return 복사된 행 수 (그 사이 복원된 메모는 is_deleted 조건으로 제외)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO memo_archive (id, user_id, title, content, preview, is_pinned, visibility, category, " +
+            "pin_order, created_at, updated_at, deleted_at, archived_at, cold_segment, uuid) " +
+            "SELECT id, user_id, title, content, preview, is_pinned, visibility, category, " +
+            "pin_order, created_at, updated_at, deleted_at, :now, cold_segment, uuid " +
+            "FROM memo WHERE id IN :ids AND is_deleted = true", nativeQuery = true)
+    int copyFromMemo(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 보관된 메모를 memo 테이블로 되돌린다. (삭제되지 않은 상태, 같은 id / uuid)
+     * 같은 트랜잭션에서 deleteArchived 로 보관 행을 지운다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO memo (id, user_id, title, content, preview, is_pinned, is_deleted, visibility, category, " +
+            "pin_order, created_at, updated_at, deleted_at, cold_segment, uuid) " +
+            "SELECT id, user_id, title, content, preview, is_pinned, false, visibility, category, " +
+            "pin_order, created_at, updated_at, NULL, cold_segment, uuid " +
+            "FROM memo_archive WHERE id = :id AND user_id = :userId", nativeQuery = true)
+    int copyToMemo(@Param("userId") Long userId, @Param("id") Long id);
+
+    // 복원할 보관 메모를 잠그고 조회 - 같은 메모를 동시에 복원해도 한 번만 옮겨진다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM MemoArchive AS a WHERE a.id = :id AND a.userId = :userId")
+    Optional<MemoArchive> findForRestore(@Param("userId") Long userId, @Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MemoArchive AS a WHERE a.id = :id AND a.userId = :userId")
+    int deleteArchived(@Param("userId") Long userId, @Param("id") Long id);
+
+    long countByUserId(Long userId);
+
+    // 콜드 세그먼트별 참조 보관 메모 수 - idx_memo_archive_cold
+    @Query("SELECT new com.mymemo.backend.memo.dto.ColdSegmentUsage(a.coldSegment, COUNT(a)) " +
+            "FROM MemoArchive AS a WHERE a.coldSegment IS NOT NULL GROUP BY a.coldSegment")
+    List<ColdSegmentUsage> countByColdSegment();
+
+    // 세그먼트를 다시 쓰는 동안 복원되지 않도록 참조 보관 메모를 잠그고 조회한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM MemoArchive AS a WHERE a.coldSegment IN :segments ORDER BY a.id ASC")
+    List<MemoArchive> findByColdSegmentsForUpdate(@Param("segments") Collection<Integer> segments);
+
+    // 다시 쓴 세그먼트로 참조를 옮긴다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MemoArchive AS a SET a.coldSegment = :target WHERE a.coldSegment IN :sources")
+    int moveColdSegments(@Param("sources") Collection<Integer> sources, @Param("target") int target);
+}
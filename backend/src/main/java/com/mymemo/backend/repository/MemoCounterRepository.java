@@ -0,0 +1,29 @@
+package com.mymemo.backend.repository;
+
+import com.mymemo.backend.entity.MemoCounter;
+import com.mymemo.backend.memo.dto.MemoCounterSum;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MemoCounterRepository extends JpaRepository<MemoCounter, MemoCounter.Key>, MemoCounterRepositoryCustom {
+
+    // 사용자의 카운터별 합계 (PK (user_id, name, stripe) 범위 스캔)
+    @Query("SELECT new com.mymemo.backend.memo.dto.MemoCounterSum(c.key.name, SUM(c.amount)) " +
+            "FROM MemoCounter AS c WHERE c.key.userId = :userId GROUP BY c.key.name")
+    List<MemoCounterSum> sumByUserId(@Param("userId") Long userId);
+
+    // 재계산 중에는 사용자의 카운터 행(과 빈 구간)을 잠가 동시 쓰기의 증감을 재계산 뒤로 미룬다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM MemoCounter AS c WHERE c.key.userId = :userId")
+    List<MemoCounter> findAllForUpdate(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MemoCounter AS c WHERE c.key.userId = :userId")
+    int deleteCounters(@Param("userId") Long userId);
+}
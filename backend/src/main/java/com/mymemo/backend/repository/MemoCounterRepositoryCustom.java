@@ -0,0 +1,19 @@
+package com.mymemo.backend.repository;
+
+import java.util.Map;
+
+/**
+ * 네이티브 SQL 을 동적으로 만들어야 하는 MemoCounterRepository 메서드 (구현: MemoCounterRepositoryImpl)
+ */
+public interface MemoCounterRepositoryCustom {
+
+    /**
+     * 사용자의 카운터들에 증감량을 더한다. stripe 행이 없으면 만든다. (multi-row INSERT ... ON DUPLICATE KEY UPDATE 한 번)
+     *
+     * @param userId 메모 소유자 id
+     * @param stripe 더할 stripe 번호
+     * @param deltas 카운터 이름별 증감량
+     * @return 영향받은 행 수 (MySQL 기준 - 새 행 1, 갱신된 행 2)
+     */
+    int addAll(Long userId, int stripe, Map<String, Long> deltas);
+}
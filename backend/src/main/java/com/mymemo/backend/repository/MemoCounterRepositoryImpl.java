@@ -0,0 +1,39 @@
+package com.mymemo.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class MemoCounterRepositoryImpl implements MemoCounterRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    // INSERT INTO memo_counter (...) VALUES (?, ?, ?, ?), ... ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount)
+    @Override
+    public int addAll(Long userId, int stripe, Map<String, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder("INSERT INTO memo_counter (user_id, name, stripe, amount) VALUES ");
+        for (int i = 0; i < deltas.size(); i++) {
+            sql.append(i == 0 ? "" : ", ")
+                    .append("(:userId, :name").append(i).append(", :stripe, :amount").append(i).append(")");
+        }
+        sql.append(" ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount)");
+
+        Query query = entityManager.createNativeQuery(sql.toString())
+                .setParameter("userId", userId)
+                .setParameter("stripe", stripe);
+        int i = 0;
+        for (Map.Entry<String, Long> delta : deltas.entrySet()) {
+            query.setParameter("name" + i, delta.getKey());
+            query.setParameter("amount" + i, delta.getValue());
+            i++;
+        }
+        return query.executeUpdate();
+    }
+}
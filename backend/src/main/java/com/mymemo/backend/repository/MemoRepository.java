@@ -2,16 +2,37 @@ package com.mymemo.backend.repository;
 
 import com.mymemo.backend.entity.Memo;
 import com.mymemo.backend.entity.User;
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+import com.mymemo.backend.memo.dto.ColdSegmentUsage;
+import com.mymemo.backend.memo.dto.MemoBatchTarget;
+import com.mymemo.backend.memo.dto.MemoChangeDto;
+import com.mymemo.backend.memo.dto.MemoCountRow;
+import com.mymemo.backend.memo.dto.MemoListResponseDto;
+import com.mymemo.backend.memo.dto.MemoPurgeTarget;
+import com.mymemo.backend.memo.dto.MemoVersion;
+import com.mymemo.backend.search.MemoSearchDocument;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface MemoRepository extends JpaRepository<Memo, Long> {
+public interface MemoRepository extends JpaRepository<Memo, Long>, MemoRepositoryCustom {
+
+    // 목록 조회용 프로젝션 - content(TEXT) 컬럼을 읽지 않고 MemoListResponseDto 를 바로 생성한다.
+    String LIST_ITEM_SELECT = "SELECT new com.mymemo.backend.memo.dto.MemoListResponseDto(" +
+            "m.id, m.title, m.memoCategory, m.visibility, m.isPinned, m.pinOrder, m.uuid, m.createdAt, m.updatedAt, m.preview) " +
+            "FROM Memo AS m ";
 
     /**
      * 이 인터페이스를 선언하는 것만으로도 Spring Data JPA는 다음과 같은 메서드를 자동으로 제공한다.
@@ -27,27 +48,248 @@ public interface MemoRepository extends JpaRepository<Memo, Long> {
     // 해당 사용자의 모든 메모를 최신순으로 조회 (삭제되지 않은 메모만 포함, 페이징 없음) - 현재 사용 X
     List<Memo> findAllByUserAndIsDeletedFalseOrderByUpdatedAtDesc(User user);
 
-    // 해당 사용자의 메모를 페이징 처리하여 최신순으로 조회 (삭제되지 않은 메모만 포함)
-    Page<Memo> findByUserAndIsDeletedFalseOrderByIsPinnedDescPinOrderAscUpdatedAtDesc(User user, Pageable pageable);
+    /**
+     * 해당 사용자의 메모 목록 한 페이지를 조회 (삭제되지 않은 메모만 포함)
+     * 정렬은 MemoSortOption 으로 검증된 Pageable 의 Sort 를 그대로 사용한다. (인덱스 순서와 일치)
+     * 전체 개수는 COUNT 쿼리 대신 사용자 카운터(MemoCounterService)에서 읽는다.
+     */
+    @Query(LIST_ITEM_SELECT + "WHERE m.user = :user AND m.isDeleted = false")
+    List<MemoListResponseDto> findListPage(@Param("user") User user, Pageable pageable);
 
     // 해당 사용자가 작성한 전체 메모 개수를 반환 (삭제 여부와 무관)
     long countByUser(User user);
 
     /**
-     * 특정 사용자의 메모 중 삭제되지 않았고, 제목에 키워드가 포함된 메모들을 최신순으로 페이징 조회
+     * 특정 사용자의 메모 중 삭제되지 않았고, 제목에 키워드가 포함된 메모들을 페이징 조회
      * @param user 조회 대상 사용자
      * @param keyword 검색 키워드 (제목 기준, 대소문자 무시)
-     * @param pageable 페이징 및 정렬 정보
-     * @return 키워드가 포함된 메모 페이지 객체
+     * @param pageable 페이징 및 정렬 정보 (MemoSortOption 으로 검증된 정렬)
+     * @return 키워드가 포함된 메모 목록 페이지 객체
+     */
+    @Query(value = LIST_ITEM_SELECT + "WHERE m.user = :user AND m.isDeleted = false " +
+            "AND LOWER(m.title) LIKE LOWER(CONCAT('%', :keyword, '%'))",
+            countQuery = "SELECT COUNT(m) FROM Memo AS m WHERE m.user = :user AND m.isDeleted = false " +
+                    "AND LOWER(m.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<MemoListResponseDto> findListItemsByKeyword(@Param("user") User user, @Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * 커서 기반 페이징 - 첫 페이지 조회 (COUNT 쿼리 없음)
+     * 정렬 키가 유일하도록 id DESC 를 마지막 기준으로 추가한다.
+     * @param pageable 조회 개수 제한용 (size + 1 로 전달하여 다음 페이지 존재 여부 판단)
      */
-    Page<Memo> findByUserAndTitleContainingIgnoreCaseAndIsDeletedFalseOrderByIsPinnedDescPinOrderAscUpdatedAtDesc(User user, String keyword, Pageable pageable);
+    @Query(LIST_ITEM_SELECT + "WHERE m.user = :user AND m.isDeleted = false " +
+            "ORDER BY m.isPinned DESC, m.pinOrder ASC, m.updatedAt DESC, m.id DESC")
+    List<MemoListResponseDto> findCursorFirstPage(@Param("user") User user, Pageable pageable);
+
+    /**
+     * 커서 기반 페이징 - 커서 이후 페이지 조회 (COUNT 쿼리 없음, OFFSET 없음)
+     * (isPinned, pinOrder, updatedAt, id) 튜플이 커서보다 "뒤"에 있는 메모만 조회한다.
+     */
+    @Query(LIST_ITEM_SELECT + "WHERE m.user = :user AND m.isDeleted = false " +
+            "AND ((:pinned = true AND m.isPinned = false) " +
+            "  OR (m.isPinned = :pinned AND (m.pinOrder > :pinOrder " +
+            "    OR (m.pinOrder = :pinOrder AND (m.updatedAt < :updatedAt " +
+            "      OR (m.updatedAt = :updatedAt AND m.id < :id)))))) " +
+            "ORDER BY m.isPinned DESC, m.pinOrder ASC, m.updatedAt DESC, m.id DESC")
+    List<MemoListResponseDto> findCursorNextPage(@Param("user") User user,
+                                                 @Param("pinned") boolean pinned,
+                                                 @Param("pinOrder") int pinOrder,
+                                                 @Param("updatedAt") LocalDateTime updatedAt,
+                                                 @Param("id") long id,
+                                                 Pageable pageable);
+
+    // 키워드 검색 + 커서 기반 페이징 - 첫 페이지
+    @Query(LIST_ITEM_SELECT + "WHERE m.user = :user AND m.isDeleted = false " +
+            "AND LOWER(m.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "ORDER BY m.isPinned DESC, m.pinOrder ASC, m.updatedAt DESC, m.id DESC")
+    List<MemoListResponseDto> findKeywordCursorFirstPage(@Param("user") User user, @Param("keyword") String keyword, Pageable pageable);
+
+    // 키워드 검색 + 커서 기반 페이징 - 커서 이후 페이지
+    @Query(LIST_ITEM_SELECT + "WHERE m.user = :user AND m.isDeleted = false " +
+            "AND LOWER(m.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "AND ((:pinned = true AND m.isPinned = false) " +
+            "  OR (m.isPinned = :pinned AND (m.pinOrder > :pinOrder " +
+            "    OR (m.pinOrder = :pinOrder AND (m.updatedAt < :updatedAt " +
+            "      OR (m.updatedAt = :updatedAt AND m.id < :id)))))) " +
+            "ORDER BY m.isPinned DESC, m.pinOrder ASC, m.updatedAt DESC, m.id DESC")
+    List<MemoListResponseDto> findKeywordCursorNextPage(@Param("user") User user,
+                                                        @Param("keyword") String keyword,
+                                                        @Param("pinned") boolean pinned,
+                                                        @Param("pinOrder") int pinOrder,
+                                                        @Param("updatedAt") LocalDateTime updatedAt,
+                                                        @Param("id") long id,
+                                                        Pageable pageable);
+
+    // 검색 결과(메모 id 목록) + 커서 기반 페이징 - 첫 페이지 (/search/cursor 가 /search 와 같은 검색 결과를 목록 순서로 내려줄 때)
+    @Query(LIST_ITEM_SELECT + "WHERE m.user.id = :userId AND m.id IN :ids AND m.isDeleted = false " +
+            "ORDER BY m.isPinned DESC, m.pinOrder ASC, m.updatedAt DESC, m.id DESC")
+    List<MemoListResponseDto> findIdsCursorFirstPage(@Param("userId") Long userId, @Param("ids") Collection<Long> ids, Pageable pageable);
+
+    // 검색 결과(메모 id 목록) + 커서 기반 페이징 - 커서 이후 페이지
+    @Query(LIST_ITEM_SELECT + "WHERE m.user.id = :userId AND m.id IN :ids AND m.isDeleted = false " +
+            "AND ((:pinned = true AND m.isPinned = false) " +
+            "  OR (m.isPinned = :pinned AND (m.pinOrder > :pinOrder " +
+            "    OR (m.pinOrder = :pinOrder AND (m.updatedAt < :updatedAt " +
+            "      OR (m.updatedAt = :updatedAt AND m.id < :id)))))) " +
+            "ORDER BY m.isPinned DESC, m.pinOrder ASC, m.updatedAt DESC, m.id DESC")
+    List<MemoListResponseDto> findIdsCursorNextPage(@Param("userId") Long userId,
+                                                    @Param("ids") Collection<Long> ids,
+                                                    @Param("pinned") boolean pinned,
+                                                    @Param("pinOrder") int pinOrder,
+                                                    @Param("updatedAt") LocalDateTime updatedAt,
+                                                    @Param("id") long id,
+                                                    Pageable pageable);
+
+    // 검색 결과(메모 id 목록)에 해당하는 목록 프로젝션 조회 - 순서는 호출 측에서 관련도 순으로 맞춘다
+    @Query(LIST_ITEM_SELECT + "WHERE m.user.id = :userId AND m.id IN :ids AND m.isDeleted = false")
+    List<MemoListResponseDto> findListItemsByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // 검색 인덱스 구축용 - 사용자의 삭제되지 않은 메모 제목/내용을 id 오름차순으로 스트리밍 조회 (트랜잭션 안에서 사용)
+    @Query("SELECT new com.mymemo.backend.search.MemoSearchDocument(m.id, m.title, m.content, m.coldSegment) " +
+            "FROM Memo AS m WHERE m.user.id = :userId AND m.isDeleted = false ORDER BY m.id")
+    Stream<MemoSearchDocument> streamSearchDocuments(@Param("userId") Long userId);
 
     Optional<Memo> findByIdAndUserAndIsDeletedFalse(Long id, User user);
 
-    @Query("SELECT COALESCE(MIN(m.pinOrder), 0) FROM Memo AS m WHERE m.user = :user AND m.isPinned = true AND m.isDeleted = false")
-    int findMinPinOrderByUser(@Param("user") User user);
+    // 조건부 수정(If-Match)용 - 버전 확인부터 수정까지 다른 수정이 끼어들지 않도록 메모 행을 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Memo AS m WHERE m.id = :id AND m.user.id = :userId AND m.isDeleted = false")
+    Optional<Memo> findByIdForUpdate(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * 변경 피드 - 사용자의 메모 중 (changeSeq, id) 가 커서보다 뒤인 것을 순서대로 조회한다. (삭제된 메모 포함 - 툼스톤)
+     * idx_memo_user_change (user_id, change_seq, id) 범위 스캔으로 처리되므로 비용은 바뀐 메모 수에 비례한다.
+     */
+    @Query("SELECT new com.mymemo.backend.memo.dto.MemoChangeDto(" +
+            "m.id, m.isDeleted, m.title, m.memoCategory, m.visibility, m.isPinned, m.pinOrder, m.uuid, " +
+            "m.createdAt, m.updatedAt, m.preview, m.changeSeq) " +
+            "FROM Memo AS m WHERE m.user.id = :userId " +
+            "AND (m.changeSeq > :changeSeq OR (m.changeSeq = :changeSeq AND m.id > :id)) " +
+            "ORDER BY m.changeSeq ASC, m.id ASC")
+    List<MemoChangeDto> findChanges(@Param("userId") Long userId, @Param("changeSeq") long changeSeq,
+                                    @Param("id") long id, Pageable pageable);
+
+    // 상세 조회 ETag 용 - 본문 없이 소유자, 공개 여부, 버전만 조회 (PK 조회)
+    @Query("SELECT new com.mymemo.backend.memo.dto.MemoVersion(m.id, m.user.id, m.visibility, m.isPinned, m.updatedAt) " +
+            "FROM Memo AS m WHERE m.id = :id AND m.isDeleted = false")
+    Optional<MemoVersion> findVersion(@Param("id") Long id);
+
+    // 고정 메모 재배치용 - 현재 화면 순서(pinOrder ASC, updatedAt DESC, id DESC)대로 고정 메모 id 조회
+    @Query("SELECT m.id FROM Memo AS m WHERE m.user.id = :userId AND m.isPinned = true AND m.isDeleted = false " +
+            "ORDER BY m.pinOrder ASC, m.updatedAt DESC, m.id DESC")
+    List<Long> findPinnedIdsInOrder(@Param("userId") Long userId);
+
+    // 고정 순서 변경 시 이웃 메모의 pinOrder 조회 (사용자의 고정된 메모가 아니면 empty)
+    @Query("SELECT m.pinOrder FROM Memo AS m WHERE m.id = :id AND m.user.id = :userId AND m.isPinned = true AND m.isDeleted = false")
+    Optional<Integer> findPinOrder(@Param("userId") Long userId, @Param("id") Long id);
 
     Optional<Memo> findByIdAndIsDeletedFalse(Long id);
 
+    /**
+     * 일괄 처리 대상 조회 - 사용자의 삭제되지 않은 메모 중 ids 에 해당하는 것의 id / uuid / 고정 여부 / 카테고리 / 공개 여부
+     * 뒤이은 UPDATE 까지 다른 쓰기가 바꾸지 못하도록 잠그고(FOR UPDATE) 최신 커밋 값을 읽는다. (카운터 증감량을 이 결과로 계산)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.mymemo.backend.memo.dto.MemoBatchTarget(m.id, m.uuid, m.isPinned, m.memoCategory, m.visibility) " +
+            "FROM Memo AS m WHERE m.user.id = :userId AND m.id IN :ids AND m.isDeleted = false")
+    List<MemoBatchTarget> findBatchTargets(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * 일괄 처리 (UPDATE 한 번) - 모두 소유자(userId)의 삭제되지 않은 메모만 대상으로 하며,
+     * 이미 같은 상태인 메모는 변경하지 않는다. 반환값은 변경된 메모 수.
+     * 카테고리/공개 여부 변경은 Memo.update 와 같이 updatedAt 을 갱신하고, 고정 해제는 갱신하지 않는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Memo AS m SET m.isDeleted = true, m.deletedAt = :now, m.changeSeq = :changeSeq " +
+            "WHERE m.user.id = :userId AND m.id IN :ids AND m.isDeleted = false")
+    int softDeleteAll(@Param("userId") Long userId, @Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now,
+                      @Param("changeSeq") long changeSeq);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Memo AS m SET m.isPinned = false, m.pinOrder = 0, m.changeSeq = :changeSeq " +
+            "WHERE m.user.id = :userId AND m.id IN :ids AND m.isDeleted = false AND m.isPinned = true")
+    int unpinAll(@Param("userId") Long userId, @Param("ids") Collection<Long> ids, @Param("changeSeq") long changeSeq);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Memo AS m SET m.memoCategory = :category, m.updatedAt = :now, m.changeSeq = :changeSeq " +
+            "WHERE m.user.id = :userId AND m.id IN :ids AND m.isDeleted = false AND m.memoCategory <> :category")
+    int updateCategoryAll(@Param("userId") Long userId, @Param("ids") Collection<Long> ids,
+                          @Param("category") MemoCategory category, @Param("now") LocalDateTime now,
+                          @Param("changeSeq") long changeSeq);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Memo AS m SET m.visibility = :visibility, m.updatedAt = :now, m.changeSeq = :changeSeq " +
+            "WHERE m.user.id = :userId AND m.id IN :ids AND m.isDeleted = false AND m.visibility <> :visibility")
+    int updateVisibilityAll(@Param("userId") Long userId, @Param("ids") Collection<Long> ids,
+                            @Param("visibility") Visibility visibility, @Param("now") LocalDateTime now,
+                            @Param("changeSeq") long changeSeq);
+
     Optional<Memo> findByUuidAndIsDeletedFalse(String uuid);
-}
\ No newline at end of file
+
+    // 휴지통 복원 - 사용자의 삭제된 메모를 되살린다 (0 이면 memo 테이블에 없음: 이미 보관되었거나 삭제되지 않은 메모)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Memo AS m SET m.isDeleted = false, m.deletedAt = null " +
+            "WHERE m.user.id = :userId AND m.id = :id AND m.isDeleted = true")
+    int restoreDeleted(@Param("userId") Long userId, @Param("id") Long id);
+
+    @Query("SELECT COUNT(m) FROM Memo AS m WHERE m.user.id = :userId AND m.isDeleted = true")
+    long countDeleted(@Param("userId") Long userId);
+
+    // 카운터 재계산용 - 삭제되지 않은 메모의 (카테고리, 공개 여부, 고정 여부) 조합별 개수
+    @Query("SELECT new com.mymemo.backend.memo.dto.MemoCountRow(m.memoCategory, m.visibility, m.isPinned, COUNT(m)) " +
+            "FROM Memo AS m WHERE m.user.id = :userId AND m.isDeleted = false " +
+            "GROUP BY m.memoCategory, m.visibility, m.isPinned")
+    List<MemoCountRow> countActiveGroups(@Param("userId") Long userId);
+
+    /**
+     * 정리 대상 조회 - cutoff 이전에 삭제된 메모 중 체크포인트 (deletedAt, id) 이후의 것을 keyset 순서로 조회한다.
+     * idx_memo_purge (is_deleted, deleted_at, id) 범위 스캔으로 처리된다. (deletedAt >= 조건은 스캔 시작 위치 지정용)
+     */
+    @Query("SELECT new com.mymemo.backend.memo.dto.MemoPurgeTarget(m.id, m.user.id, m.deletedAt, m.changeSeq) " +
+            "FROM Memo AS m WHERE m.isDeleted = true AND m.deletedAt < :cutoff AND m.deletedAt >= :lastDeletedAt " +
+            "AND (m.deletedAt > :lastDeletedAt OR m.id > :lastId) " +
+            "ORDER BY m.deletedAt ASC, m.id ASC")
+    List<MemoPurgeTarget> findPurgeTargets(@Param("cutoff") LocalDateTime cutoff,
+                                           @Param("lastDeletedAt") LocalDateTime lastDeletedAt,
+                                           @Param("lastId") long lastId,
+                                           Pageable pageable);
+
+    // 정리 대상 영구 삭제 (보관 모드에서는 memo_archive 로 복사한 뒤 같은 트랜잭션에서 호출)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Memo AS m WHERE m.id IN :ids AND m.isDeleted = true")
+    int hardDeleteAll(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 콜드 티어 이동 대상 조회 - threshold 이전에 마지막으로 수정된 (DB 에 내용이 있는) 메모를
+     * 체크포인트 (updatedAt, id) 이후부터 keyset 순서로 잠그고 조회한다. (세그먼트를 쓰는 동안 수정되지 않도록)
+     * idx_memo_tier (cold_segment, updated_at, id) 범위 스캔으로 처리된다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Memo AS m WHERE m.coldSegment IS NULL AND m.isDeleted = false " +
+            "AND m.updatedAt < :threshold AND m.updatedAt >= :lastUpdatedAt " +
+            "AND (m.updatedAt > :lastUpdatedAt OR m.id > :lastId) " +
+            "ORDER BY m.updatedAt ASC, m.id ASC")
+    List<Memo> findColdCandidates(@Param("threshold") LocalDateTime threshold,
+                                  @Param("lastUpdatedAt") LocalDateTime lastUpdatedAt,
+                                  @Param("lastId") long lastId,
+                                  Pageable pageable);
+
+    // 메모가 참조하는 가장 큰 콜드 세그먼트 번호 (없으면 null)
+    @Query("SELECT MAX(m.coldSegment) FROM Memo AS m")
+    Integer findMaxColdSegment();
+
+    // 콜드 세그먼트별 참조 메모 수 (삭제된 메모 포함) - idx_memo_tier 앞부분으로 처리된다
+    @Query("SELECT new com.mymemo.backend.memo.dto.ColdSegmentUsage(m.coldSegment, COUNT(m)) " +
+            "FROM Memo AS m WHERE m.coldSegment IS NOT NULL GROUP BY m.coldSegment")
+    List<ColdSegmentUsage> countByColdSegment();
+
+    // 세그먼트를 다시 쓰는 동안 내용을 DB 로 되돌리지 못하도록 참조 메모를 잠그고 조회한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Memo AS m WHERE m.coldSegment IN :segments ORDER BY m.id ASC")
+    List<Memo> findByColdSegmentsForUpdate(@Param("segments") Collection<Integer> segments);
+
+    // 다시 쓴 세그먼트로 참조를 옮긴다 (수정 시각은 바꾸지 않는다)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Memo AS m SET m.coldSegment = :target WHERE m.coldSegment IN :sources")
+    int moveColdSegments(@Param("sources") Collection<Integer> sources, @Param("target") int target);
+}
@@ -0,0 +1,50 @@
+package com.mymemo.backend.repository;
+
+import com.mymemo.backend.memo.dto.MemoCountRow;
+import com.mymemo.backend.memo.dto.MemoListFilter;
+import com.mymemo.backend.memo.dto.MemoListResponseDto;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * JPQL 을 동적으로 만들어야 하는 MemoRepository 메서드 (구현: MemoRepositoryImpl)
+ */
+public interface MemoRepositoryCustom {
+
+    /**
+     * 메모들을 UPDATE 한 번으로 고정하고, ids 순서대로 firstPinOrder, firstPinOrder + step, ... 을 부여한다.
+     * 사용자의 삭제되지 않은, 고정되지 않은 메모만 변경한다.
+     *
+     * @param userId 메모 소유자 id
+     * @param ids 고정할 메모 id (이 순서대로 위에 배치)
+     * @param firstPinOrder 첫 번째 메모의 pinOrder
+     * @param step 이웃한 메모 사이의 pinOrder 간격
+     * @param changeSeq 변경된 메모에 기록할 변경 순번 (MemoChangeService.next)
+     * @return 변경된 메모 수
+     */
+    int pinAllInOrder(Long userId, List<Long> ids, int firstPinOrder, int step, long changeSeq);
+
+    /**
+     * 이미 고정된 메모들의 pinOrder 를 ids 순서대로 firstPinOrder, firstPinOrder + step, ... 으로 다시 매긴다. (재배치)
+     *
+     * @return 변경된 메모 수
+     */
+    int renumberPinned(Long userId, List<Long> ids, int firstPinOrder, int step, long changeSeq);
+
+    /**
+     * 필터를 적용한 메모 목록 한 페이지 조회 (COUNT 쿼리 없음 - 전체 개수는 countFacets 결과로 계산)
+     * 필터 조건은 값이 있는 것만 WHERE 절에 붙는다.
+     *
+     * @param userId 메모 소유자 id
+     * @param filter 목록 필터
+     * @param pageable 페이징 및 정렬 정보 (MemoSortOption 으로 검증된 정렬)
+     */
+    List<MemoListResponseDto> findFilteredListPage(Long userId, MemoListFilter filter, Pageable pageable);
+
+    /**
+     * 패싯 계산용 - 카테고리/공개 여부를 뺀 나머지 필터(고정 여부, 기간)를 적용한
+     * 삭제되지 않은 메모의 (카테고리, 공개 여부, 고정 여부) 조합별 개수 (GROUP BY 한 번)
+     */
+    List<MemoCountRow> countFacets(Long userId, MemoListFilter filter);
+}
@@ -0,0 +1,145 @@
+package com.mymemo.backend.repository;
+
+import com.mymemo.backend.memo.dto.MemoCountRow;
+import com.mymemo.backend.memo.dto.MemoListFilter;
+import com.mymemo.backend.memo.dto.MemoListResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MemoRepositoryImpl implements MemoRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int pinAllInOrder(Long userId, List<Long> ids, int firstPinOrder, int step, long changeSeq) {
+        return assignPinOrders(userId, ids, firstPinOrder, step, false, changeSeq);
+    }
+
+    @Override
+    public int renumberPinned(Long userId, List<Long> ids, int firstPinOrder, int step, long changeSeq) {
+        return assignPinOrders(userId, ids, firstPinOrder, step, true, changeSeq);
+    }
+
+    // UPDATE memo SET is_pinned = true, change_seq = ?, pin_order = CASE id WHEN ? THEN ? ... END WHERE ...
+    private int assignPinOrders(Long userId, List<Long> ids, int firstPinOrder, int step, boolean pinned, long changeSeq) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder jpql = new StringBuilder("UPDATE Memo AS m SET m.isPinned = true, m.changeSeq = :changeSeq, m.pinOrder = CASE m.id");
+        for (int i = 0; i < ids.size(); i++) {
+            jpql.append(" WHEN :id").append(i).append(" THEN :order").append(i);
+        }
+        jpql.append(" ELSE m.pinOrder END" +
+                " WHERE m.user.id = :userId AND m.id IN :ids AND m.isDeleted = false AND m.isPinned = :pinned");
+
+        Query query = entityManager.createQuery(jpql.toString())
+                .setParameter("userId", userId)
+                .setParameter("ids", ids)
+                .setParameter("pinned", pinned)
+                .setParameter("changeSeq", changeSeq);
+        for (int i = 0; i < ids.size(); i++) {
+            query.setParameter("id" + i, ids.get(i));
+            query.setParameter("order" + i, Math.toIntExact((long) firstPinOrder + (long) step * i));
+        }
+        return query.executeUpdate();
+    }
+
+    /*
+     * user_id, is_deleted, is_pinned 는 정렬 인덱스(idx_memo_user_list / idx_memo_user_created)의 앞쪽 컬럼이라
+     * pinned 조건을 붙여도 인덱스 순서대로 읽고 filesort 가 없다.
+     * 정렬 컬럼과 같은 기간 조건(updatedAt 정렬의 updated_at 등)은 인덱스 단계에서 걸러진다. (Index Condition Pushdown)
+     * 카테고리를 좁게 고른 경우에는 옵티마이저가 idx_memo_user_facet 을 고를 수 있다.
+     */
+    @Override
+    public List<MemoListResponseDto> findFilteredListPage(Long userId, MemoListFilter filter, Pageable pageable) {
+        StringBuilder jpql = new StringBuilder(MemoRepository.LIST_ITEM_SELECT)
+                .append("WHERE m.user.id = :userId AND m.isDeleted = false");
+        appendFilter(jpql, filter, true);
+
+        // 정렬 속성은 MemoSortOption 이 허용한 것만 들어오므로 그대로 붙여도 안전하다
+        String separator = " ORDER BY ";
+        for (Sort.Order order : pageable.getSort()) {
+            jpql.append(separator).append("m.").append(order.getProperty()).append(order.isAscending() ? " ASC" : " DESC");
+            separator = ", ";
+        }
+
+        TypedQuery<MemoListResponseDto> query = entityManager.createQuery(jpql.toString(), MemoListResponseDto.class)
+                .setParameter("userId", userId);
+        bindFilter(query, filter, true);
+        return query.setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    // 카테고리/공개 여부 조건은 빼고 GROUP BY 로 묶는다 (idx_memo_user_facet 만으로 처리 가능한 형태)
+    @Override
+    public List<MemoCountRow> countFacets(Long userId, MemoListFilter filter) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT new com.mymemo.backend.memo.dto.MemoCountRow(m.memoCategory, m.visibility, m.isPinned, COUNT(m)) " +
+                "FROM Memo AS m WHERE m.user.id = :userId AND m.isDeleted = false");
+        appendFilter(jpql, filter, false);
+        jpql.append(" GROUP BY m.memoCategory, m.visibility, m.isPinned");
+
+        TypedQuery<MemoCountRow> query = entityManager.createQuery(jpql.toString(), MemoCountRow.class)
+                .setParameter("userId", userId);
+        bindFilter(query, filter, false);
+        return query.getResultList();
+    }
+
+    private void appendFilter(StringBuilder jpql, MemoListFilter filter, boolean facetDimensions) {
+        if (facetDimensions && !filter.categories().isEmpty()) {
+            jpql.append(" AND m.memoCategory IN :categories");
+        }
+        if (facetDimensions && filter.visibility() != null) {
+            jpql.append(" AND m.visibility = :visibility");
+        }
+        if (filter.pinned() != null) {
+            jpql.append(" AND m.isPinned = :pinned");
+        }
+        if (filter.createdFrom() != null) {
+            jpql.append(" AND m.createdAt >= :createdFrom");
+        }
+        if (filter.createdTo() != null) {
+            jpql.append(" AND m.createdAt < :createdTo");
+        }
+        if (filter.updatedFrom() != null) {
+            jpql.append(" AND m.updatedAt >= :updatedFrom");
+        }
+        if (filter.updatedTo() != null) {
+            jpql.append(" AND m.updatedAt < :updatedTo");
+        }
+    }
+
+    // appendFilter 와 같은 조건으로 파라미터를 바인딩한다
+    private void bindFilter(Query query, MemoListFilter filter, boolean facetDimensions) {
+        if (facetDimensions && !filter.categories().isEmpty()) {
+            query.setParameter("categories", filter.categories());
+        }
+        if (facetDimensions && filter.visibility() != null) {
+            query.setParameter("visibility", filter.visibility());
+        }
+        if (filter.pinned() != null) {
+            query.setParameter("pinned", filter.pinned());
+        }
+        if (filter.createdFrom() != null) {
+            query.setParameter("createdFrom", filter.createdFrom());
+        }
+        if (filter.createdTo() != null) {
+            query.setParameter("createdTo", filter.createdTo());
+        }
+        if (filter.updatedFrom() != null) {
+            query.setParameter("updatedFrom", filter.updatedFrom());
+        }
+        if (filter.updatedTo() != null) {
+            query.setParameter("updatedTo", filter.updatedTo());
+        }
+    }
+}
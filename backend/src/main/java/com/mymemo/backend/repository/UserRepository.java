@@ -1,8 +1,13 @@
 package com.mymemo.backend.repository;
 
 import com.mymemo.backend.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -11,5 +16,51 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmail(String email);
 
+    /**
+     * 고정 순서 카운터를 amount 만큼 줄인다. 카운터가 floor 보다 작으면(오버플로 직전) 변경하지 않고 0 을 반환한다.
+     * UPDATE 가 사용자 행을 잠그므로 같은 사용자의 동시 고정은 커밋 순서대로 직렬화된다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User AS u SET u.pinCounter = u.pinCounter - :amount WHERE u.id = :userId AND u.pinCounter >= :floor")
+    int decrementPinCounter(@Param("userId") Long userId, @Param("amount") int amount, @Param("floor") int floor);
+
+    @Query("SELECT u.pinCounter FROM User AS u WHERE u.id = :userId")
+    int findPinCounter(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User AS u SET u.pinCounter = :pinCounter WHERE u.id = :userId")
+    int updatePinCounter(@Param("userId") Long userId, @Param("pinCounter") int pinCounter);
+
+    // 값은 그대로 두고 사용자 행만 잠근다 (고정 순서 변경/재배치를 같은 사용자 안에서 직렬화)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User AS u SET u.pinCounter = u.pinCounter WHERE u.id = :userId")
+    int lockPinCounter(@Param("userId") Long userId);
+
+    /**
+     * 메모 변경 순번을 1 올린다. UPDATE 가 사용자 행을 커밋까지 잠그므로 같은 사용자의 순번은 커밋 순서대로 할당된다.
+     * (순번 N 이 보이는 시점에는 N 보다 작은 순번의 쓰기가 모두 커밋되어 있다)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User AS u SET u.changeSeq = u.changeSeq + 1 WHERE u.id = :userId")
+    int incrementChangeSeq(@Param("userId") Long userId);
+
+    @Query("SELECT u.changeSeq FROM User AS u WHERE u.id = :userId")
+    long findChangeSeq(@Param("userId") Long userId);
+
+    @Query("SELECT u.purgedChangeSeq FROM User AS u WHERE u.id = :userId")
+    long findPurgedChangeSeq(@Param("userId") Long userId);
+
+    // 정리 작업이 memo 테이블에서 치운 메모의 변경 순번 중 최댓값을 기록한다 (줄어들지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User AS u SET u.purgedChangeSeq = :changeSeq WHERE u.id = :userId AND u.purgedChangeSeq < :changeSeq")
+    int raisePurgedChangeSeq(@Param("userId") Long userId, @Param("changeSeq") long changeSeq);
+
+    // 주기적 재배치 대상 - 카운터가 threshold 아래로 내려간 사용자
+    @Query("SELECT u.id FROM User AS u WHERE u.pinCounter < :threshold")
+    List<Long> findIdsByPinCounterLessThan(@Param("threshold") int threshold);
+
+    // 사용자 id keyset 조회 (카운터 재계산 작업이 id 순으로 돈다)
+    @Query("SELECT u.id FROM User AS u WHERE u.id > :lastId ORDER BY u.id ASC")
+    List<Long> findIdsAfter(@Param("lastId") long lastId, Pageable pageable);
 
 }
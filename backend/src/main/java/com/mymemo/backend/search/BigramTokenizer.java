@@ -0,0 +1,117 @@
+package com.mymemo.backend.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 한국어 위주의 메모 텍스트를 바이그램(2-gram) 단위로 자르는 토크나이저.
+ *
+ * - 형태소 분석 없이도 "부분 문자열 검색"을 인덱스로 처리할 수 있도록, 글자/숫자가 연속된 구간(run)마다
+ *   인접한 두 글자 쌍을 모두 term 으로 만든다. (예: "메모장" -> "메모", "모장")
+ * - 한 글자짜리 구간은 유니그램으로 색인한다.
+ * - NFKC 정규화 + 소문자 변환으로 전각/반각, 대소문자 차이를 없앤다.
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {}
+
+    /**
+     * 문서 텍스트를 term -> 등장 횟수 로 변환한다.
+     *
+     * @param text 제목 또는 내용
+     * @param counts 결과를 누적할 맵 (term -> 등장 횟수 * weight)
+     * @param weight 등장 1회당 더할 가중치 (제목은 내용보다 크게 준다)
+     */
+    public static void countTerms(String text, Map<String, Integer> counts, int weight) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        countNormalizedTerms(normalize(text), counts, weight);
+    }
+
+    /**
+     * 이미 normalize() 를 거친 텍스트를 term -> 등장 횟수 로 변환한다. (정규화된 텍스트를 보관하는 인덱스용)
+     */
+    static void countNormalizedTerms(String normalized, Map<String, Integer> counts, int weight) {
+        int length = normalized.length();
+        int runStart = -1;
+
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && runStart < 0) {
+                runStart = i;
+            } else if (!wordChar && runStart >= 0) {
+                emitRun(normalized, runStart, i, counts, weight);
+                runStart = -1;
+            }
+        }
+    }
+
+    public static Map<String, Integer> countTerms(String text) {
+        Map<String, Integer> counts = new HashMap<>();
+        countTerms(text, counts, 1);
+        return counts;
+    }
+
+    /**
+     * 검색어를 중복 없는 바이그램 term 집합으로 변환한다.
+     * 검색어가 인덱스로 처리할 수 없는 경우(isIndexable == false) 빈 집합을 반환한다.
+     */
+    public static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (!isIndexable(query)) {
+            return terms;
+        }
+        Map<String, Integer> counts = new HashMap<>();
+        countTerms(query, counts, 1);
+        terms.addAll(counts.keySet());
+        return terms;
+    }
+
+    /**
+     * 바이그램 인덱스로 부분 문자열 검색이 가능한 검색어인지 판단한다.
+     * 한 글자짜리 구간이 섞여 있으면 (예: "a", "메 모") 바이그램만으로는 부분 일치를 보장할 수 없으므로 false.
+     */
+    public static boolean isIndexable(String query) {
+        if (query == null || query.isBlank()) {
+            return false;
+        }
+        String normalized = normalize(query);
+        int runLength = 0;
+        boolean hasRun = false;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar) {
+                runLength++;
+            } else if (runLength > 0) {
+                if (runLength < 2) {
+                    return false;
+                }
+                hasRun = true;
+                runLength = 0;
+            }
+        }
+        return hasRun;
+    }
+
+    /**
+     * 색인/검색에 쓰는 정규화 (NFKC + 소문자). 부분 문자열 확인도 양쪽을 이 형태로 맞춰 비교한다.
+     */
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static void emitRun(String text, int start, int end, Map<String, Integer> counts, int weight) {
+        if (end - start == 1) {
+            counts.merge(text.substring(start, end), weight, Integer::sum);
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            counts.merge(text.substring(i, i + 2), weight, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.mymemo.backend.search;
+
+/**
+ * 검색 인덱스 구축 시 DB 에서 읽어오는 메모 한 건 (JPQL 생성자 표현식으로 생성)
+ *
+ * @param coldSegment 내용이 콜드 세그먼트에 있으면 그 번호 (이때 content 는 빈 문자열)
+ */
+public record MemoSearchDocument(Long id, String title, String content, Integer coldSegment) {
+}
@@ -0,0 +1,142 @@
+package com.mymemo.backend.search;
+
+import com.mymemo.backend.memo.cold.ColdMemoStore;
+import com.mymemo.backend.repository.MemoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 사용자별 메모 전문 검색 인덱스 (프로세스 내 역색인)
+ *
+ * - 사용자의 첫 검색 시 DB 에서 제목/내용을 읽어 인덱스를 구축하고, 이후에는 MemoService 의
+ *   생성/수정/삭제가 커밋될 때마다 해당 메모만 증분 반영한다.
+ * - 인덱스는 노드(프로세스)마다 따로 존재한다. 다른 노드에서 일어난 변경은 ttl 이 지나 재구축될 때 반영된다.
+ * - 메모리 상한(max-users 명, 또는 인덱스 힙 크기 합 max-bytes)을 넘으면 가장 오래 검색되지 않은 사용자의 인덱스부터 제거한다.
+ *   힙 크기에는 posting 과 함께 후보 확인용으로 보관하는 정규화된 제목/내용도 들어간다. (UserSearchIndex.heapBytes)
+ */
+@Slf4j
+@Component
+public class MemoSearchIndex {
+
+    private final MemoRepository memoRepository;
+    private final ColdMemoStore coldMemoStore;
+    private final Map<Long, UserSearchIndex> indexes = new ConcurrentHashMap<>();
+    private final int maxUsers;
+    private final long maxBytes;
+    private final long ttlMs;
+
+    public MemoSearchIndex(
+            MemoRepository memoRepository,
+            ColdMemoStore coldMemoStore,
+            @Value("${search.index.max-users:1000}") int maxUsers,
+            @Value("${search.index.max-bytes:268435456}") long maxBytes,
+            @Value("${search.index.ttl-minutes:10}") long ttlMinutes
+    ) {
+        this.memoRepository = memoRepository;
+        this.coldMemoStore = coldMemoStore;
+        this.maxUsers = maxUsers;
+        this.maxBytes = maxBytes;
+        this.ttlMs = ttlMinutes * 60_000L;
+    }
+
+    /**
+     * 바이그램 인덱스로 처리할 수 있는 검색어인지 확인한다. (false 면 호출 측에서 LIKE 검색으로 대체)
+     */
+    public static boolean supports(String keyword) {
+        return BigramTokenizer.isIndexable(keyword);
+    }
+
+    /**
+     * 사용자의 메모 중 제목 또는 내용에 검색어를 (부분 문자열로, 대소문자 무시) 포함하는 메모 id 를 관련도 순으로 반환한다.
+     * 인덱스가 없거나 ttl 이 지났으면 DB 에서 구축한다. (읽기 트랜잭션 안에서 호출해야 한다)
+     *
+     * @param userId 검색하는 사용자 id
+     * @param keyword 검색어 (제목 + 내용 대상)
+     * @return 관련도 내림차순 메모 id 배열
+     */
+    public long[] search(Long userId, String keyword) {
+        Set<String> terms = BigramTokenizer.queryTerms(keyword);
+        UserSearchIndex index = indexes.computeIfAbsent(userId, id -> new UserSearchIndex());
+
+        if (build(userId, index)) {
+            evictIfNecessary(userId);
+        }
+        return index.search(keyword, terms);
+    }
+
+    /**
+     * 생성/수정된 메모를 색인에 반영한다. (해당 사용자 인덱스가 메모리에 있을 때만)
+     */
+    public void index(Long userId, Long memoId, String title, String content) {
+        UserSearchIndex index = indexes.get(userId);
+        if (index != null) {
+            index.upsert(memoId, title, content);
+        }
+    }
+
+    /**
+     * 삭제된 메모를 색인에서 제거한다.
+     */
+    public void remove(Long userId, Long memoId) {
+        UserSearchIndex index = indexes.get(userId);
+        if (index != null) {
+            index.remove(memoId);
+        }
+    }
+
+    private boolean build(Long userId, UserSearchIndex index) {
+        long start = System.currentTimeMillis();
+        boolean rebuilt = index.rebuildIfStale(ttlMs, sink -> {
+            try (Stream<MemoSearchDocument> documents = memoRepository.streamSearchDocuments(userId)) {
+                documents.map(this::withContent).forEach(sink);
+            }
+        });
+        if (rebuilt) {
+            log.debug("[MemoSearchIndex] userId={} 인덱스 구축 완료 ({} ms, 약 {} bytes)",
+                    userId, System.currentTimeMillis() - start, index.heapBytes());
+        }
+        return rebuilt;
+    }
+
+    // 내용이 콜드 세그먼트에 있는 메모는 세그먼트에서 읽은 내용으로 색인한다
+    private MemoSearchDocument withContent(MemoSearchDocument doc) {
+        if (doc.coldSegment() == null) {
+            return doc;
+        }
+        return new MemoSearchDocument(doc.id(), doc.title(), coldMemoStore.read(doc.coldSegment(), doc.id()), null);
+    }
+
+    // 방금 구축한 사용자(current)는 남긴다 - 혼자 max-bytes 를 넘어도 검색할 때마다 다시 구축하지 않도록
+    private void evictIfNecessary(Long current) {
+        int users = indexes.size();
+        long bytes = 0;
+        for (UserSearchIndex index : indexes.values()) {
+            bytes += index.heapBytes();
+        }
+        if (users <= maxUsers && bytes <= maxBytes) {
+            return;
+        }
+
+        List<Map.Entry<Long, UserSearchIndex>> oldestFirst = indexes.entrySet().stream()
+                .filter(e -> !e.getKey().equals(current))
+                .sorted(Comparator.comparingLong(e -> e.getValue().getLastAccessedAt()))
+                .toList();
+        for (Map.Entry<Long, UserSearchIndex> entry : oldestFirst) {
+            if (users <= maxUsers && bytes <= maxBytes) {
+                break;
+            }
+            if (indexes.remove(entry.getKey(), entry.getValue())) {
+                users--;
+                bytes -= entry.getValue().heapBytes();
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.mymemo.backend.search;
+
+import java.util.Arrays;
+
+/**
+ * 하나의 term 이 등장하는 메모 목록 (posting list)
+ *
+ * - (docId, tf) 쌍을 docId 오름차순으로 저장한다.
+ * - docId 는 이전 docId 와의 차이(delta)로, tf 는 그대로 varint(7bit) 인코딩하여 byte[] 에 이어 붙인다.
+ *   메모 id 는 대부분 증가하는 순서로 추가되므로 delta 가 작아 문서 1건당 2~3바이트 정도만 사용한다.
+ * - 동기화는 UserSearchIndex 의 락에 맡긴다. (이 클래스 자체는 thread-safe 하지 않음)
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;         // data 중 실제 사용 중인 바이트 수
+    private int docCount;
+    private long lastDocId;     // 마지막(가장 큰) docId - 다음 append 의 delta 기준
+
+    int docCount() {
+        return docCount;
+    }
+
+    boolean isEmpty() {
+        return docCount == 0;
+    }
+
+    /**
+     * 문서를 추가한다. 기존 마지막 docId 보다 크면 끝에 이어 붙이고(O(1)),
+     * 그렇지 않으면 (기존 문서 재색인 등) 정렬 순서를 유지하도록 전체를 다시 인코딩한다.
+     */
+    void add(long docId, int tf) {
+        if (docCount == 0 || docId > lastDocId) {
+            append(docId, tf);
+            return;
+        }
+        Decoded decoded = decode();
+        int pos = Arrays.binarySearch(decoded.docIds, 0, decoded.size, docId);
+        if (pos >= 0) {
+            decoded.tfs[pos] = tf;
+            reencode(decoded.docIds, decoded.tfs, decoded.size);
+            return;
+        }
+        int insertAt = -pos - 1;
+        long[] docIds = new long[decoded.size + 1];
+        int[] tfs = new int[decoded.size + 1];
+        System.arraycopy(decoded.docIds, 0, docIds, 0, insertAt);
+        System.arraycopy(decoded.tfs, 0, tfs, 0, insertAt);
+        docIds[insertAt] = docId;
+        tfs[insertAt] = tf;
+        System.arraycopy(decoded.docIds, insertAt, docIds, insertAt + 1, decoded.size - insertAt);
+        System.arraycopy(decoded.tfs, insertAt, tfs, insertAt + 1, decoded.size - insertAt);
+        reencode(docIds, tfs, docIds.length);
+    }
+
+    /**
+     * 문서를 제거한다. (해당 docId 가 없으면 아무 것도 하지 않음)
+     */
+    void remove(long docId) {
+        Decoded decoded = decode();
+        int pos = Arrays.binarySearch(decoded.docIds, 0, decoded.size, docId);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(decoded.docIds, pos + 1, decoded.docIds, pos, decoded.size - pos - 1);
+        System.arraycopy(decoded.tfs, pos + 1, decoded.tfs, pos, decoded.size - pos - 1);
+        reencode(decoded.docIds, decoded.tfs, decoded.size - 1);
+    }
+
+    /**
+     * 전체 (docId, tf) 목록을 배열로 풀어낸다. docIds 는 오름차순.
+     */
+    Decoded decode() {
+        long[] docIds = new long[docCount];
+        int[] tfs = new int[docCount];
+        int pos = 0;
+        long docId = 0;
+        for (int i = 0; i < docCount; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            int tf = 0;
+            shift = 0;
+            do {
+                b = data[pos++];
+                tf |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            docId += delta;
+            docIds[i] = docId;
+            tfs[i] = tf;
+        }
+        return new Decoded(docIds, tfs, docCount);
+    }
+
+    /**
+     * 인코딩된 바이트 수 (메모리 사용량 측정용)
+     */
+    int sizeInBytes() {
+        return length;
+    }
+
+    private void append(long docId, int tf) {
+        writeVarLong(docId - lastDocId);
+        writeVarLong(tf);
+        lastDocId = docId;
+        docCount++;
+    }
+
+    private void reencode(long[] docIds, int[] tfs, int size) {
+        data = new byte[Math.max(8, size * 3)];
+        length = 0;
+        docCount = 0;
+        lastDocId = 0;
+        for (int i = 0; i < size; i++) {
+            append(docIds[i], tfs[i]);
+        }
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+
+    record Decoded(long[] docIds, int[] tfs, int size) {
+    }
+}
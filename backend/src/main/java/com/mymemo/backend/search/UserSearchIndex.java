@@ -0,0 +1,266 @@
+package com.mymemo.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 한 사용자의 메모에 대한 역색인 (term -> PostingList)
+ *
+ * - 제목은 TITLE_WEIGHT 배, 내용은 1배의 가중치로 term 빈도를 합산해 하나의 posting 에 저장한다.
+ * - 문서별 정규화된 제목/내용을 함께 보관한다. 수정/삭제 시에는 여기서 term 을 다시 계산해 posting 에서 빼내고,
+ *   검색 시에는 바이그램 교집합으로 얻은 후보가 검색어를 실제로 포함하는지 확인한다.
+ *   (바이그램이 모두 있어도 "ab..bc" 처럼 떨어져 있거나 제목/내용에 나뉘어 있으면 부분 문자열이 아니다)
+ * - 검색은 읽기 락, 색인/재구축은 쓰기 락으로 보호한다.
+ * - 차지하는 힙 크기(posting + 보관 텍스트)를 색인/제거할 때마다 어림해 둔다. (MemoSearchIndex 의 max-bytes 판단용)
+ */
+final class UserSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int TERM_OVERHEAD_BYTES = 96;     // HashMap 노드 + term 문자열 + PostingList 객체
+    private static final int DOC_OVERHEAD_BYTES = 112;     // HashMap 노드 + Long + String[2] + 문자열 헤더 2개
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, String[]> docTexts = new HashMap<>();     // memoId -> [정규화된 제목, 정규화된 내용]
+
+    private volatile boolean built;         // DB 로부터 최초 구축이 끝났는지 여부
+    private volatile long builtAt;          // 마지막 구축 시각 (ms) - ttl 판단용
+    private volatile long lastAccessedAt;   // 마지막 검색 시각 (ms) - 메모리 상한 초과 시 제거 대상 선정용
+    private volatile long heapBytes;        // 어림한 힙 크기 (쓰기 락 안에서만 바뀐다)
+
+    long getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    /**
+     * 인덱스가 차지하는 대략적인 힙 바이트 수 (posting + 후보 확인용으로 보관하는 정규화 텍스트)
+     */
+    long heapBytes() {
+        return heapBytes;
+    }
+
+    /**
+     * 인덱스가 아직 없거나 ttl 이 지났으면 비우고 주어진 문서들로 다시 구축한다.
+     * 여러 요청이 동시에 들어와도 쓰기 락 안에서 다시 확인하므로 구축은 한 번만 일어난다.
+     *
+     * @param ttlMs 구축 후 재구축 없이 사용할 수 있는 시간 (ms)
+     * @param loader 문서들을 하나씩 넘겨주는 함수 (id 오름차순이면 posting 을 끝에 이어 붙이기만 하므로 가장 빠르다)
+     * @return 이번 호출에서 구축했으면 true
+     */
+    boolean rebuildIfStale(long ttlMs, Consumer<Consumer<MemoSearchDocument>> loader) {
+        if (isFresh(ttlMs)) {
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            if (isFresh(ttlMs)) {
+                return false;
+            }
+            postings.clear();
+            docTexts.clear();
+            heapBytes = 0;
+            loader.accept(doc -> addInternal(doc.id(), doc.title(), doc.content()));
+            built = true;
+            builtAt = System.currentTimeMillis();
+            lastAccessedAt = builtAt;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isFresh(long ttlMs) {
+        return built && System.currentTimeMillis() - builtAt <= ttlMs;
+    }
+
+    /**
+     * 메모를 색인한다. (이미 있으면 기존 term 을 제거하고 다시 색인)
+     * 아직 구축되지 않은 인덱스는 다음 검색 때 DB 에서 통째로 구축되므로 무시한다.
+     */
+    void upsert(long memoId, String title, String content) {
+        lock.writeLock().lock();
+        try {
+            if (!built) {
+                return;
+            }
+            removeInternal(memoId);
+            addInternal(memoId, title, content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long memoId) {
+        lock.writeLock().lock();
+        try {
+            if (built) {
+                removeInternal(memoId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목 또는 내용에 검색어를 포함하는 메모를 점수(TF-IDF) 내림차순으로 반환한다.
+     * 모든 term 의 posting 교집합으로 후보를 구한 뒤, 후보만 부분 문자열을 확인한다.
+     * 비용은 검색어 term 들의 posting 길이와 후보 수에만 비례하고, 사용자의 전체 메모 수와는 무관하다.
+     *
+     * @param query 검색어 (정규화 전)
+     * @param terms 검색어 바이그램 집합
+     * @return 점수 순으로 정렬된 메모 id 배열 (동점이면 최신(id 큰) 순)
+     */
+    long[] search(String query, Collection<String> terms) {
+        lastAccessedAt = System.currentTimeMillis();
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty()) {
+                return new long[0];
+            }
+
+            List<PostingList> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null || list.isEmpty()) {
+                    return new long[0];     // 하나라도 없는 term 이 있으면 교집합은 공집합
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 posting 부터 교집합을 구해 후보를 빠르게 줄인다
+            lists.sort(Comparator.comparingInt(PostingList::docCount));
+
+            int totalDocs = Math.max(1, docTexts.size());
+            PostingList.Decoded first = lists.get(0).decode();
+            long[] candidates = first.docIds();
+            double[] scores = new double[first.size()];
+            int size = first.size();
+            double firstIdf = idf(totalDocs, lists.get(0).docCount());
+            for (int i = 0; i < size; i++) {
+                scores[i] = first.tfs()[i] * firstIdf;
+            }
+
+            for (int t = 1; t < lists.size() && size > 0; t++) {
+                PostingList.Decoded next = lists.get(t).decode();
+                double idf = idf(totalDocs, lists.get(t).docCount());
+                int kept = 0;
+                int j = 0;
+                for (int i = 0; i < size && j < next.size(); ) {
+                    long a = candidates[i];
+                    long b = next.docIds()[j];
+                    if (a == b) {
+                        candidates[kept] = a;
+                        scores[kept] = scores[i] + next.tfs()[j] * idf;
+                        kept++;
+                        i++;
+                        j++;
+                    } else if (a < b) {
+                        i++;
+                    } else {
+                        j++;
+                    }
+                }
+                size = kept;
+            }
+
+            // 바이그램이 모두 있어도 검색어가 이어져 있지 않을 수 있으므로 실제 포함 여부로 거른다
+            String normalizedQuery = BigramTokenizer.normalize(query);
+            int matched = 0;
+            for (int i = 0; i < size; i++) {
+                String[] texts = docTexts.get(candidates[i]);
+                if (texts != null && (texts[0].contains(normalizedQuery) || texts[1].contains(normalizedQuery))) {
+                    candidates[matched] = candidates[i];
+                    scores[matched] = scores[i];
+                    matched++;
+                }
+            }
+
+            return rank(candidates, scores, matched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(long memoId, String title, String content) {
+        String[] texts = {
+                title == null ? "" : BigramTokenizer.normalize(title),
+                content == null ? "" : BigramTokenizer.normalize(content)
+        };
+        long bytes = heapBytes + textBytes(texts);
+        for (Map.Entry<String, Integer> entry : countTerms(texts).entrySet()) {
+            PostingList list = postings.get(entry.getKey());
+            if (list == null) {
+                list = new PostingList();
+                postings.put(entry.getKey(), list);
+                bytes += TERM_OVERHEAD_BYTES + 2L * entry.getKey().length();
+            }
+            bytes -= list.sizeInBytes();
+            list.add(memoId, entry.getValue());
+            bytes += list.sizeInBytes();
+        }
+        docTexts.put(memoId, texts);
+        heapBytes = bytes;
+    }
+
+    private void removeInternal(long memoId) {
+        String[] texts = docTexts.remove(memoId);
+        if (texts == null) {
+            return;
+        }
+        long bytes = heapBytes - textBytes(texts);
+        for (String term : countTerms(texts).keySet()) {     // 색인할 때와 같은 텍스트에서 다시 계산하므로 같은 term 들이다
+            PostingList list = postings.get(term);
+            if (list == null) {
+                continue;
+            }
+            bytes -= list.sizeInBytes();
+            list.remove(memoId);
+            bytes += list.sizeInBytes();
+            if (list.isEmpty()) {
+                postings.remove(term);
+                bytes -= TERM_OVERHEAD_BYTES + 2L * term.length();
+            }
+        }
+        heapBytes = bytes;
+    }
+
+    // 보관하는 [제목, 내용] 의 어림 크기 (한글 등은 문자당 2바이트)
+    private static long textBytes(String[] texts) {
+        return DOC_OVERHEAD_BYTES + 2L * (texts[0].length() + texts[1].length());
+    }
+
+    // 정규화된 [제목, 내용] -> term 빈도 (제목은 TITLE_WEIGHT 배)
+    private static Map<String, Integer> countTerms(String[] texts) {
+        Map<String, Integer> counts = new HashMap<>();
+        BigramTokenizer.countNormalizedTerms(texts[0], counts, TITLE_WEIGHT);
+        BigramTokenizer.countNormalizedTerms(texts[1], counts, 1);
+        return counts;
+    }
+
+    private static double idf(int totalDocs, int docFreq) {
+        return Math.log(1.0 + (double) totalDocs / docFreq);
+    }
+
+    private static long[] rank(long[] candidates, double[] scores, int size) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (x, y) -> {
+            int byScore = Double.compare(scores[y], scores[x]);
+            return byScore != 0 ? byScore : Long.compare(candidates[y], candidates[x]);
+        });
+
+        long[] ranked = new long[size];
+        for (int i = 0; i < size; i++) {
+            ranked[i] = candidates[order[i]];
+        }
+        return ranked;
+    }
+}
@@ -0,0 +1,10 @@
+-- 메모 목록 캐시 세대 증가 (MemoListCache.invalidate)
+-- KEYS[1] = "MG:" + userId (세대), ARGV[1] = 세대 키 TTL (ms)
+-- 키가 없으면 INCR 이 1 부터 다시 시작하지 않도록 서버 시각(마이크로초)에서 증가한다.
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    local t = redis.call('TIME')
+    redis.call('SET', KEYS[1], t[1] .. string.format('%06d', tonumber(t[2])))
+end
+local v = redis.call('INCR', KEYS[1])
+redis.call('PEXPIRE', KEYS[1], ARGV[1])
+return v
@@ -0,0 +1,11 @@
+-- 메모 목록 캐시 세대 조회 (MemoListCache.readGeneration)
+-- KEYS[1] = "MG:" + userId (세대), ARGV[1] = 세대 키 TTL (ms)
+-- 키가 없으면(TTL 만료, eviction, FLUSH) 서버 시각(마이크로초)으로 새로 시작한다.
+-- 0 같은 고정값에서 다시 시작하면 이전 세대의 페이지와 ETag 가 다시 유효해지기 때문이다.
+local v = redis.call('GET', KEYS[1])
+if not v then
+    local t = redis.call('TIME')
+    v = t[1] .. string.format('%06d', tonumber(t[2]))
+    redis.call('SET', KEYS[1], v, 'PX', ARGV[1])
+end
+return v
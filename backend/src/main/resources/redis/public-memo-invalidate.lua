@@ -0,0 +1,7 @@
+-- 공개 메모 캐시 무효화 (PublicMemoCache.invalidate)
+-- KEYS[1] = "PM:" + uuid (캐시 값), KEYS[2] = "PMV:" + uuid (버전)
+-- ARGV[1] = 버전 키 TTL (ms) - 조회 한 번보다 충분히 길게 (redis-ttl)
+-- 버전 증가와 TTL 설정, 값 삭제를 한 번에 실행해 TTL 없는 버전 키가 남지 않게 한다.
+redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[1])
+return redis.call('DEL', KEYS[1])
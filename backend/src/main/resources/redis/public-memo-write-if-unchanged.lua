@@ -0,0 +1,9 @@
+-- 공개 메모 캐시 채우기 (PublicMemoCache.writeRedis)
+-- KEYS[1] = "PM:" + uuid (캐시 값), KEYS[2] = "PMV:" + uuid (버전)
+-- ARGV[1] = DB 조회 전에 읽은 버전 (없으면 ""), ARGV[2] = 캐시 값, ARGV[3] = TTL (ms)
+-- 그 사이 무효화로 버전이 바뀌었으면 쓰지 않는다. (읽은 값이 이미 오래됐을 수 있다)
+if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then
+    return 0
+end
+redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+return 1
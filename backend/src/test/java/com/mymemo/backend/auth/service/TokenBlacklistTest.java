@@ -0,0 +1,54 @@
+package com.mymemo.backend.auth.service;
+
+import com.mymemo.backend.auth.util.TokenDigest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TokenBlacklist blacklist;
+
+    @BeforeEach
+    void setUp() {
+        blacklist = new TokenBlacklist(redisTemplate, 1000, 0.001);
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);      // 필터가 "있을 수도 있음"이라고 하면 Redis 는 있다고 답한다
+    }
+
+    @Test
+    void 재구축_SCAN_도중_등록된_토큰도_교체된_필터에_남는다() {
+        String scanned = TokenDigest.of("scanned-token");
+        String revoked = TokenDigest.of("revoked-during-scan");
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation -> {
+            blacklist.add(revoked, 60_000);     // SCAN 이 이 키를 지나간 뒤에 로그아웃된 경우
+            return new ArrayList<>(List.of("BL:" + scanned));
+        });
+
+        blacklist.rebuild();
+
+        assertThat(blacklist.isBlacklisted(scanned)).isTrue();
+        assertThat(blacklist.isBlacklisted(revoked)).isTrue();
+        assertThat(blacklist.isBlacklisted(TokenDigest.of("never-revoked"))).isFalse();     // 필터가 Redis 조회를 막는다
+    }
+}
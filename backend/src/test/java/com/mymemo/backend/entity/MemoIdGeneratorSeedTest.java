@@ -0,0 +1,66 @@
+package com.mymemo.backend.entity;
+
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.PooledOptimizer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * docs/migrations/003 의 id_generator 초기값(COALESCE(MAX(id), 0) + N)이 기존 id 와 겹치지 않는지 확인한다.
+ * Hibernate 의 pooled 최적화기에 테이블 생성기와 같은 방식(읽은 값을 돌려주고 allocationSize 만큼 올림)으로 값을 넣어 본다.
+ */
+class MemoIdGeneratorSeedTest {
+
+    private static final Path MIGRATION = Path.of("..", "docs", "migrations", "003-memo-id-generator.sql");
+    private static final Pattern SEED = Pattern.compile("COALESCE\\(MAX\\(id\\), 0\\) \\+ (\\d+)");
+
+    @Test
+    void 초기값_오프셋은_할당_크기와_같다() throws IOException {
+        assertThat(seedOffset()).isEqualTo(Memo.ID_ALLOCATION_SIZE);
+    }
+
+    @Test
+    void 첫_할당_구간은_기존_최대_id_바로_다음부터_시작한다() throws IOException {
+        long maxId = 12_345;
+        AtomicLong nextVal = new AtomicLong(maxId + seedOffset());
+        PooledOptimizer optimizer = new PooledOptimizer(Long.class, Memo.ID_ALLOCATION_SIZE);
+        AccessCallback table = new AccessCallback() {
+            @Override
+            public IntegralDataTypeHolder getNextValue() {
+                long value = nextVal.getAndAdd(Memo.ID_ALLOCATION_SIZE);
+                return IdentifierGeneratorHelper.getIntegralDataTypeHolder(Long.class).initialize(value);
+            }
+
+            @Override
+            public String getTenantIdentifier() {
+                return null;
+            }
+        };
+
+        long first = ((Number) optimizer.generate(table)).longValue();
+        long last = first;
+        for (int i = 1; i < Memo.ID_ALLOCATION_SIZE * 2; i++) {     // 두 번째 구간까지 이어지는지
+            long id = ((Number) optimizer.generate(table)).longValue();
+            assertThat(id).isEqualTo(last + 1);
+            last = id;
+        }
+
+        assertThat(first).isEqualTo(maxId + 1);
+    }
+
+    private static long seedOffset() throws IOException {
+        Matcher matcher = SEED.matcher(Files.readString(MIGRATION));
+        assertThat(matcher.find()).as("003 마이그레이션의 next_val 초기값").isTrue();
+        return Long.parseLong(matcher.group(1));
+    }
+}
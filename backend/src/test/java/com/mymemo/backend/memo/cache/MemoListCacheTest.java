@@ -0,0 +1,84 @@
+package com.mymemo.backend.memo.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemoListCacheTest {
+
+    private static final long USER_ID = 1L;
+    private static final List<String> GENERATION_KEY = List.of("MG:1");
+    private static final String GENERATION_TTL_MS = String.valueOf(Duration.ofDays(7).toMillis());
+    private static final long SEED = 1_700_000_000_000_000L;       // Redis TIME (마이크로초)
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private MemoListCache memoListCache;
+
+    @BeforeEach
+    void setUp() {
+        memoListCache = new MemoListCache(redisTemplate, new ObjectMapper(), new SimpleMeterRegistry(),
+                100, 60, 600, 1, 50);
+    }
+
+    @Test
+    void 세대_조회_결과로_ETag_를_만든다() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(GENERATION_KEY), eq(GENERATION_TTL_MS)))
+                .thenReturn(String.valueOf(SEED));
+
+        assertThat(memoListCache.etag(USER_ID)).isEqualTo("\"l1-" + SEED + "\"");
+    }
+
+    @Test
+    void Redis_를_쓸_수_없으면_ETag_없이_조회한다() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(GENERATION_KEY), eq(GENERATION_TTL_MS)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(memoListCache.etag(USER_ID)).isNull();
+    }
+
+    @Test
+    void 세대_스크립트는_키가_없으면_고정값이_아닌_서버_시각에서_시작한다() throws IOException {
+        when(redisTemplate.execute(any(RedisScript.class), eq(GENERATION_KEY), eq(GENERATION_TTL_MS)))
+                .thenReturn(String.valueOf(SEED));
+        memoListCache.etag(USER_ID);
+        memoListCache.invalidate(USER_ID);
+
+        ArgumentCaptor<RedisScript<?>> scripts = ArgumentCaptor.forClass(RedisScript.class);
+        verify(redisTemplate, times(2))
+                .execute(scripts.capture(), eq(GENERATION_KEY), eq(GENERATION_TTL_MS));
+
+        String read = scripts.getAllValues().get(0).getScriptAsString();
+        String increment = scripts.getAllValues().get(1).getScriptAsString();
+        assertThat(read).isEqualTo(resource("redis/memo-list-generation-read.lua")).contains("'TIME'");
+        assertThat(increment).isEqualTo(resource("redis/memo-list-generation-increment.lua"))
+                .contains("'TIME'", "'PEXPIRE'");
+    }
+
+    private static String resource(String path) throws IOException {
+        return new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,84 @@
+package com.mymemo.backend.memo.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mymemo.backend.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PublicMemoCacheTest {
+
+    private static final String UUID = "0190b6f0-0000-7000-8000-000000000001";
+    private static final String OTHER_UUID = "0190b6f0-0000-7000-8000-000000000002";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private PublicMemoCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PublicMemoCache(redisTemplate, new ObjectMapper(), new SimpleMeterRegistry(), 100, 60, 600, 30);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(List.of("PM:" + UUID, "PMV:" + UUID))).thenReturn(Arrays.asList(null, "3"));
+    }
+
+    @Test
+    void 조회_도중_다른_메모가_무효화돼도_힙과_Redis_를_채운다() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(UUID, uuid -> {
+            loads.incrementAndGet();
+            cache.invalidate(OTHER_UUID);
+            return PublicMemoCache.Entry.failure(ErrorCode.MEMO_NOT_FOUND);
+        });
+        cache.get(UUID, uuid -> {
+            loads.incrementAndGet();
+            return PublicMemoCache.Entry.failure(ErrorCode.MEMO_NOT_FOUND);
+        });
+
+        assertThat(loads).hasValue(1);     // 두 번째는 힙 적중
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("PM:" + UUID, "PMV:" + UUID)),
+                eq("3"), eq("!MEMO_NOT_FOUND"), eq("30000"));
+    }
+
+    @Test
+    void 조회_도중_같은_메모가_무효화되면_읽은_값을_캐시에_넣지_않는다() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(UUID, uuid -> {
+            loads.incrementAndGet();
+            cache.invalidate(UUID);
+            return PublicMemoCache.Entry.failure(ErrorCode.MEMO_NOT_FOUND);
+        });
+        cache.get(UUID, uuid -> {
+            loads.incrementAndGet();
+            return PublicMemoCache.Entry.failure(ErrorCode.MEMO_NOT_FOUND);
+        });
+
+        assertThat(loads).hasValue(2);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), eq("3"), any(), any());
+    }
+}
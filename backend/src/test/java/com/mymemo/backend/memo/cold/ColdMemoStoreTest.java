@@ -0,0 +1,75 @@
+package com.mymemo.backend.memo.cold;
+
+import com.mymemo.backend.entity.Memo;
+import com.mymemo.backend.global.exception.CustomException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ColdMemoStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private ColdMemoStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ColdMemoStore(new SimpleMeterRegistry(), dir.toString(), 1024, 1024 * 1024);
+    }
+
+    @Test
+    void 정리하면_지정한_메모만_새_세그먼트로_옮긴다() throws IOException {
+        store.write(1, List.of(memo(1L, "하나"), memo(2L, "둘")));
+        store.write(2, List.of(memo(3L, "셋")));
+
+        store.compact(3, Map.of(1, List.of(2L), 2, List.of(3L)));
+
+        assertThat(store.recordCount(3)).isEqualTo(2);
+        assertThat(store.read(3, 2L)).isEqualTo("둘");
+        assertThat(store.read(3, 3L)).isEqualTo("셋");
+        assertThatThrownBy(() -> store.read(3, 1L)).isInstanceOf(CustomException.class);
+        assertThat(store.read(1, 1L)).isEqualTo("하나");      // 원본은 retire / delete 전까지 그대로
+    }
+
+    @Test
+    void retire_한_세그먼트는_유예_시간이_지난_뒤에만_지우고_번호는_다시_쓰지_않는다() throws IOException {
+        store.write(1, List.of(memo(1L, "하나")));
+        store.write(2, List.of(memo(2L, "둘")));
+        assertThat(store.read(2, 2L)).isEqualTo("둘");
+
+        store.retire(2);
+        assertThat(store.segmentIds()).containsExactly(1);
+        assertThat(store.retiredBefore(Instant.now().minusSeconds(60))).isEmpty();
+
+        Files.setLastModifiedTime(dir.resolve("segment-2.retired"), FileTime.from(Instant.now().minusSeconds(3600)));
+        assertThat(store.retiredBefore(Instant.now().minusSeconds(60))).containsExactly(2);
+
+        store.delete(2);
+        assertThat(Files.exists(dir.resolve("segment-2.seg"))).isFalse();
+        assertThat(store.retiredBefore(Instant.now())).isEmpty();
+        assertThatThrownBy(() -> store.read(2, 2L)).isInstanceOf(CustomException.class);
+        assertThat(store.nextSegmentId(1)).isEqualTo(3);
+    }
+
+    private static Memo memo(long id, String content) {
+        Memo memo = mock(Memo.class);
+        when(memo.getId()).thenReturn(id);
+        when(memo.getContent()).thenReturn(content);
+        return memo;
+    }
+}
@@ -0,0 +1,75 @@
+package com.mymemo.backend.memo.cold;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColdSegmentTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void 블록을_압축_해제해_메모_내용을_찾는다() throws IOException {
+        Path path = write(dir.resolve("segment-1.seg"));
+
+        ColdSegment segment = ColdSegment.open(1, path);
+        byte[] raw = segment.readBlock(segment.blockOf(2L));
+
+        assertThat(ColdSegment.find(raw, 2L)).isEqualTo("두 번째");
+        assertThat(ColdSegment.find(raw, 3L)).isNull();
+    }
+
+    @Test
+    void 메모_수는_헤더에서_읽고_version_1_세그먼트는_블록을_풀어_센다() throws IOException {
+        Path path = write(dir.resolve("segment-1.seg"));
+        assertThat(ColdSegment.open(1, path).records()).isEqualTo(2);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).putInt(0, 1).putInt(4, 0), 4);     // version 1, 헤더의 메모 수 없음
+        }
+
+        assertThat(ColdSegment.open(1, path).records()).isEqualTo(2);
+    }
+
+    @Test
+    @Timeout(5)
+    void 압축_데이터가_잘린_블록은_멈추지_않고_IOException() throws IOException {
+        Path path = write(dir.resolve("segment-1.seg"));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 첫 블록의 compressedLength 를 절반으로 - inflate 는 입력이 더 필요하다며 0 을 반환한다
+            ByteBuffer length = ByteBuffer.allocate(4);
+            channel.read(length, ColdSegmentWriter.HEADER_BYTES + 4);
+            channel.write(ByteBuffer.allocate(4).putInt(0, length.getInt(0) / 2), ColdSegmentWriter.HEADER_BYTES + 4);
+        }
+
+        ColdSegment segment = ColdSegment.open(1, path);
+
+        assertThatThrownBy(() -> segment.readBlock(0)).isInstanceOf(IOException.class);
+    }
+
+    private static Path write(Path path) throws IOException {
+        // 잘 압축되지 않는 내용으로 블록을 채운다 (잘라낼 압축 데이터가 충분히 길도록)
+        StringBuilder noise = new StringBuilder();
+        Random random = new Random(42);
+        for (int i = 0; i < 4096; i++) {
+            noise.append((char) ('a' + random.nextInt(26)));
+        }
+        try (ColdSegmentWriter writer = new ColdSegmentWriter(path, 1024 * 1024)) {
+            writer.append(1L, noise.toString());
+            writer.append(2L, "두 번째");
+            writer.finish();
+        }
+        return path;
+    }
+}
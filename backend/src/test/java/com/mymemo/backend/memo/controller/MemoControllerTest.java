@@ -0,0 +1,141 @@
+package com.mymemo.backend.memo.controller;
+
+import com.mymemo.backend.entity.Memo;
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+import com.mymemo.backend.memo.dto.MemoDetailResponseDto;
+import com.mymemo.backend.memo.dto.MemoVersion;
+import com.mymemo.backend.memo.service.MemoChangeService;
+import com.mymemo.backend.memo.service.MemoExportService;
+import com.mymemo.backend.memo.service.MemoImportService;
+import com.mymemo.backend.memo.service.MemoService;
+import com.mymemo.backend.memo.service.MemoTrashService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 조건부 조회(If-None-Match) 처리
+ * - 목록: 잘못된 요청은 ETag 가 일치해도 304 가 아닌 400 이어야 한다.
+ * - 상세: 200 응답의 ETag 는 실제로 내려준 본문의 버전이어야 한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class MemoControllerTest {
+
+    private static final String ETAG = "\"l1-1700000000000000\"";
+    private static final long MEMO_ID = 7L;
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 10, 1, 12, 0, 0, 123_456_000);
+
+    @Mock private MemoService memoService;
+    @Mock private MemoExportService memoExportService;
+    @Mock private MemoImportService memoImportService;
+    @Mock private MemoTrashService memoTrashService;
+    @Mock private MemoChangeService memoChangeService;
+
+    private MemoController memoController;
+    private MockHttpServletResponse response;
+    private ServletWebRequest webRequest;
+
+    @BeforeEach
+    void setUp() {
+        memoController = new MemoController(memoService, memoExportService, memoImportService, memoTrashService,
+                memoChangeService);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/memos");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+        response = new MockHttpServletResponse();
+        webRequest = new ServletWebRequest(request, response);
+    }
+
+    @Test
+    void 지원하지_않는_정렬은_ETag_가_일치해도_400() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("title"));
+
+        assertThatThrownBy(() -> getMemos(pageable))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_SORT);
+        verifyNoInteractions(memoService);
+    }
+
+    @Test
+    void 잘못된_커서는_ETag_가_일치해도_400() {
+        assertThatThrownBy(() -> memoController.getMemosByCursor("not-a-cursor", 10, webRequest))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+        verifyNoInteractions(memoService);
+    }
+
+    @Test
+    void 올바른_요청의_ETag_가_일치하면_목록을_읽지_않고_304() {
+        when(memoService.getMemosEtag()).thenReturn(ETAG);
+
+        assertThat(getMemos(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "updatedAt")))).isNull();
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        verify(memoService, never()).getMemos(any(), any());
+        verify(memoService, never()).getMemosByCursor(any(), anyInt());
+    }
+
+    @Test
+    void 상세_ETag_가_일치하면_본문을_읽지_않고_304() {
+        String etag = MemoVersion.etag(MEMO_ID, UPDATED_AT, false);
+        when(memoService.getMemoDetailEtag(MEMO_ID)).thenReturn(etag);
+
+        ResponseEntity<MemoDetailResponseDto> result = memoController.getMemoById(MEMO_ID, "W/" + etag);
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(result.getHeaders().get(HttpHeaders.ETAG)).containsExactly(etag);
+        assertThat(result.getBody()).isNull();
+        verify(memoService, never()).getMemoDetail(any());
+    }
+
+    @Test
+    void 버전_조회와_본문_조회_사이에_수정되면_ETag_는_본문의_버전이다() {
+        String before = MemoVersion.etag(MEMO_ID, UPDATED_AT, false);
+        LocalDateTime updatedAt = UPDATED_AT.plusSeconds(1);
+        MemoDetailResponseDto modified = detail(updatedAt);        // 그 사이 다른 기기에서 수정됨
+        when(memoService.getMemoDetailEtag(MEMO_ID)).thenReturn(before);
+        when(memoService.getMemoDetail(MEMO_ID)).thenReturn(modified);
+
+        ResponseEntity<MemoDetailResponseDto> result = memoController.getMemoById(MEMO_ID, "\"7-old-0\"");
+
+        assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(result.getHeaders().get(HttpHeaders.ETAG))
+                .containsExactly(MemoVersion.etag(MEMO_ID, updatedAt, false));
+        assertThat(result.getBody().getUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    private static MemoDetailResponseDto detail(LocalDateTime updatedAt) {
+        Memo memo = mock(Memo.class);
+        when(memo.getId()).thenReturn(MEMO_ID);
+        when(memo.getUpdatedAt()).thenReturn(updatedAt);
+        return new MemoDetailResponseDto(memo, "본문");
+    }
+
+    private Object getMemos(PageRequest pageable) {
+        return memoController.getMemos(pageable, null, null, null, null, null, null, null, webRequest);
+    }
+}
@@ -0,0 +1,43 @@
+package com.mymemo.backend.memo.dto;
+
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemoChangeCursorTest {
+
+    @Test
+    void 인코딩한_커서는_같은_위치로_복원된다() {
+        MemoChangeCursor cursor = MemoChangeCursor.decode(new MemoChangeCursor(42, 1234).encode());
+
+        assertThat(cursor.getChangeSeq()).isEqualTo(42);
+        assertThat(cursor.getId()).isEqualTo(1234);
+    }
+
+    @Test
+    void 형식이_잘못된_토큰은_INVALID_CURSOR() {
+        String missingId = Base64.getUrlEncoder().withoutPadding().encodeToString("42".getBytes(StandardCharsets.UTF_8));
+
+        for (String token : new String[]{"***", missingId, MemoChangeCursor.upTo(1).encode() + "x"}) {
+            assertThatThrownBy(() -> MemoChangeCursor.decode(token))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    @Test
+    void 치운_순번보다_앞선_커서만_만료된다() {
+        assertThat(new MemoChangeCursor(9, 1).isBefore(10)).isTrue();
+        assertThat(new MemoChangeCursor(10, 1).isBefore(10)).isTrue();        // 같은 순번의 나머지 메모가 치워졌을 수 있다
+        assertThat(MemoChangeCursor.upTo(10).isBefore(10)).isFalse();         // 10 까지 모두 받았다
+        assertThat(new MemoChangeCursor(11, 1).isBefore(10)).isFalse();
+        assertThat(MemoChangeCursor.START.isBefore(0)).isFalse();            // 아직 치운 메모 없음
+    }
+}
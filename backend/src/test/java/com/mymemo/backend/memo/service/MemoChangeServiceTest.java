@@ -0,0 +1,149 @@
+package com.mymemo.backend.memo.service;
+
+import com.mymemo.backend.auth.principal.AuthUser;
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+import com.mymemo.backend.memo.dto.MemoChangeCursor;
+import com.mymemo.backend.memo.dto.MemoChangeDto;
+import com.mymemo.backend.memo.dto.MemoChangesResponseDto;
+import com.mymemo.backend.repository.MemoRepository;
+import com.mymemo.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemoChangeServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MemoRepository memoRepository;
+
+    @InjectMocks
+    private MemoChangeService memoChangeService;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new AuthUser(USER_ID, "a@b.c"), null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 처음_동기화는_처음부터_읽고_정리_여부를_확인하지_않는다() {
+        when(userRepository.findChangeSeq(USER_ID)).thenReturn(7L);
+        when(memoRepository.findChanges(USER_ID, 0L, 0L, PageRequest.ofSize(3)))
+                .thenReturn(List.of(change(1, 3), tombstone(2, 7)));
+
+        MemoChangesResponseDto response = memoChangeService.getChanges(null, 2);
+
+        assertThat(response.getChanges()).extracting(MemoChangeDto::getId).containsExactly(1L, 2L);
+        assertThat(response.getChanges().get(1).getTitle()).isNull();        // 툼스톤은 id 와 삭제 여부만
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(decode(response)).extracting(MemoChangeCursor::getChangeSeq, MemoChangeCursor::getId)
+                .containsExactly(7L, Long.MAX_VALUE);
+        verify(userRepository, never()).findPurgedChangeSeq(any());
+    }
+
+    @Test
+    void 남은_변경이_있으면_마지막으로_내려준_변경_바로_뒤에서_이어_읽는다() {
+        when(userRepository.findPurgedChangeSeq(USER_ID)).thenReturn(0L);
+        when(userRepository.findChangeSeq(USER_ID)).thenReturn(20L);
+        // 일괄 처리로 같은 순번(12)을 받은 메모 여러 개 - 커서는 (순번, id) 로 그 사이에서 이어진다
+        when(memoRepository.findChanges(USER_ID, 12L, 30L, PageRequest.ofSize(3)))
+                .thenReturn(List.of(change(31, 12), change(35, 12), change(4, 13)));
+
+        MemoChangesResponseDto response = memoChangeService.getChanges(new MemoChangeCursor(12, 30).encode(), 2);
+
+        assertThat(response.getChanges()).extracting(MemoChangeDto::getId).containsExactly(31L, 35L);
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(decode(response)).extracting(MemoChangeCursor::getChangeSeq, MemoChangeCursor::getId)
+                .containsExactly(12L, 35L);
+    }
+
+    @Test
+    void 받을_변경이_없으면_커서가_뒤로_가지_않는다() {
+        when(userRepository.findPurgedChangeSeq(USER_ID)).thenReturn(0L);
+        when(userRepository.findChangeSeq(USER_ID)).thenReturn(5L);       // 커서보다 작은 값을 읽어도 (복제 지연 등)
+        when(memoRepository.findChanges(USER_ID, 9L, Long.MAX_VALUE, PageRequest.ofSize(11))).thenReturn(List.of());
+
+        MemoChangesResponseDto response = memoChangeService.getChanges(MemoChangeCursor.upTo(9).encode(), 10);
+
+        assertThat(response.getChanges()).isEmpty();
+        assertThat(decode(response)).extracting(MemoChangeCursor::getChangeSeq, MemoChangeCursor::getId)
+                .containsExactly(9L, Long.MAX_VALUE);
+    }
+
+    @Test
+    void 정리된_메모보다_오래된_커서는_410_으로_전체_동기화를_요구한다() {
+        when(userRepository.findPurgedChangeSeq(USER_ID)).thenReturn(10L);
+
+        assertThatThrownBy(() -> memoChangeService.getChanges(new MemoChangeCursor(10, 3).encode(), 10))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CHANGE_CURSOR_EXPIRED);
+        verify(memoRepository, never()).findChanges(any(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void 정리된_순번까지_모두_받은_커서는_계속_쓸_수_있다() {
+        when(userRepository.findPurgedChangeSeq(USER_ID)).thenReturn(10L);
+        when(userRepository.findChangeSeq(USER_ID)).thenReturn(11L);
+        when(memoRepository.findChanges(USER_ID, 10L, Long.MAX_VALUE, PageRequest.ofSize(11)))
+                .thenReturn(List.of(change(8, 11)));
+
+        MemoChangesResponseDto response = memoChangeService.getChanges(MemoChangeCursor.upTo(10).encode(), 10);
+
+        assertThat(response.getChanges()).extracting(MemoChangeDto::getId).containsExactly(8L);
+        assertThat(decode(response).getChangeSeq()).isEqualTo(11L);
+    }
+
+    @Test
+    void 형식이_잘못된_커서는_INVALID_CURSOR() {
+        assertThatThrownBy(() -> memoChangeService.getChanges("***", 10))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+    }
+
+    private static MemoChangeCursor decode(MemoChangesResponseDto response) {
+        return MemoChangeCursor.decode(response.getNextCursor());
+    }
+
+    private static MemoChangeDto change(long id, long changeSeq) {
+        return new MemoChangeDto(id, false, "title-" + id, MemoCategory.ETC, Visibility.PRIVATE, false, 0,
+                "uuid-" + id, null, null, "preview", changeSeq);
+    }
+
+    private static MemoChangeDto tombstone(long id, long changeSeq) {
+        return new MemoChangeDto(id, true, "title-" + id, MemoCategory.ETC, Visibility.PRIVATE, false, 0,
+                "uuid-" + id, null, null, "preview", changeSeq);
+    }
+}
@@ -0,0 +1,117 @@
+package com.mymemo.backend.memo.service;
+
+import com.mymemo.backend.entity.JobCheckpoint;
+import com.mymemo.backend.entity.Memo;
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.memo.cold.ColdMemoStore;
+import com.mymemo.backend.memo.dto.ColdSegmentUsage;
+import com.mymemo.backend.repository.JobCheckpointRepository;
+import com.mymemo.backend.repository.MemoArchiveRepository;
+import com.mymemo.backend.repository.MemoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 콜드 세그먼트 정리 - 영구 삭제되거나 DB 로 돌아간 메모의 내용이 세그먼트 파일에 남지 않아야 한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class MemoColdTierServiceTest {
+
+    @TempDir
+    Path dir;
+
+    @Mock private MemoRepository memoRepository;
+    @Mock private MemoArchiveRepository memoArchiveRepository;
+    @Mock private JobCheckpointRepository jobCheckpointRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private ColdMemoStore coldMemoStore;
+    private MemoColdTierService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        coldMemoStore = new ColdMemoStore(new SimpleMeterRegistry(), dir.toString(), 1024, 1024 * 1024);
+        service = new MemoColdTierService(memoRepository, memoArchiveRepository, jobCheckpointRepository, coldMemoStore,
+                transactionManager, true, 365, 5000, 20, 60_000);
+        when(jobCheckpointRepository.findForUpdate(MemoColdTierService.JOB_NAME))
+                .thenReturn(Optional.of(new JobCheckpoint(MemoColdTierService.JOB_NAME)));
+
+        coldMemoStore.write(1, List.of(memo(1L, "하나", null), memo(2L, "영구 삭제된 내용", null)));
+        coldMemoStore.write(2, List.of(memo(3L, "셋", null)));
+    }
+
+    @Test
+    void 버려진_내용이_있는_세그먼트만_묶고_참조가_없는_세그먼트는_retire_한다() throws IOException {
+        coldMemoStore.write(3, List.of(memo(4L, "넷", null)));
+        when(memoRepository.countByColdSegment()).thenReturn(List.of(
+                new ColdSegmentUsage(1, 1L),        // 메모 2 는 영구 삭제됨
+                new ColdSegmentUsage(3, 1L)));      // 그대로
+        when(memoArchiveRepository.countByColdSegment()).thenReturn(List.of());
+
+        List<List<Integer>> groups = service.sweep();
+
+        assertThat(groups).containsExactly(List.of(1));
+        assertThat(coldMemoStore.segmentIds()).containsExactly(1, 3);      // 세그먼트 2 는 retire
+    }
+
+    @Test
+    void 정리하면_살아_있는_메모만_새_세그먼트로_옮기고_원본을_retire_한다() throws IOException {
+        Memo memo = memo(1L, null, 1);
+        when(memoRepository.findByColdSegmentsForUpdate(List.of(1))).thenReturn(List.of(memo));
+        when(memoArchiveRepository.findByColdSegmentsForUpdate(List.of(1))).thenReturn(List.of());
+        when(memoRepository.findMaxColdSegment()).thenReturn(2);
+
+        service.compactSegments(List.of(1));
+
+        verify(memoRepository).moveColdSegments(List.of(1), 3);
+        verify(memoArchiveRepository).moveColdSegments(List.of(1), 3);
+        assertThat(coldMemoStore.read(3, 1L)).isEqualTo("하나");
+        assertThatThrownBy(() -> coldMemoStore.read(3, 2L)).isInstanceOf(CustomException.class);
+        assertThat(coldMemoStore.segmentIds()).containsExactly(2, 3);
+    }
+
+    @Test
+    void retire_후_유예_시간이_지나면_세그먼트_파일을_지운다() throws IOException {
+        coldMemoStore.retire(1);
+        Files.setLastModifiedTime(dir.resolve("segment-1.retired"), FileTime.from(Instant.now().minusSeconds(3600)));
+        when(memoRepository.countByColdSegment()).thenReturn(List.of(new ColdSegmentUsage(2, 1L)));
+        when(memoArchiveRepository.countByColdSegment()).thenReturn(List.of());
+
+        service.sweep();
+
+        assertThat(Files.exists(dir.resolve("segment-1.seg"))).isFalse();
+        assertThat(Files.exists(dir.resolve("segment-2.seg"))).isTrue();
+    }
+
+    private static Memo memo(long id, String content, Integer coldSegment) {
+        Memo memo = mock(Memo.class);
+        when(memo.getId()).thenReturn(id);
+        if (content != null) {
+            when(memo.getContent()).thenReturn(content);
+        }
+        if (coldSegment != null) {
+            when(memo.getColdSegment()).thenReturn(coldSegment);
+        }
+        return memo;
+    }
+}
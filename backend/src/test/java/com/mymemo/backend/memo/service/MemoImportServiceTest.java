@@ -0,0 +1,122 @@
+package com.mymemo.backend.memo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mymemo.backend.auth.principal.AuthUser;
+import com.mymemo.backend.entity.Memo;
+import com.mymemo.backend.entity.User;
+import com.mymemo.backend.global.exception.ErrorCode;
+import com.mymemo.backend.memo.cache.MemoListCache;
+import com.mymemo.backend.memo.dto.MemoImportResponseDto;
+import com.mymemo.backend.repository.MemoRepository;
+import com.mymemo.backend.repository.UserRepository;
+import com.mymemo.backend.search.MemoSearchIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemoImportServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    @Mock private UserRepository userRepository;
+    @Mock private MemoRepository memoRepository;
+    @Mock private MemoSearchIndex memoSearchIndex;
+    @Mock private MemoListCache memoListCache;
+    @Mock private MemoCounterService memoCounterService;
+    @Mock private MemoChangeService memoChangeService;
+    @Mock private PinOrderService pinOrderService;
+    @Mock private EntityManager entityManager;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @Captor private ArgumentCaptor<Iterable<Memo>> saved;
+
+    private MemoImportService memoImportService;
+
+    @BeforeEach
+    void setUp() {
+        memoImportService = new MemoImportService(userRepository, memoRepository, memoSearchIndex, memoListCache,
+                memoCounterService, memoChangeService, pinOrderService, entityManager,
+                new ObjectMapper().findAndRegisterModules(), transactionManager, 500, 100);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new AuthUser(USER_ID, "a@b.c"), null, List.of()));
+        when(userRepository.getReferenceById(USER_ID))
+                .thenReturn(new User("password", "nickname", "a@b.c", LocalDate.of(2000, 1, 1)));
+        when(memoChangeService.next(USER_ID)).thenReturn(42L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 고정_메모는_배치_순서대로_한_번에_할당받은_pinOrder_를_받는다() {
+        when(pinOrderService.allocate(USER_ID, 2)).thenReturn(-4096);
+
+        MemoImportResponseDto response = importMemos(
+                "{\"title\":\"a\",\"pinned\":true}",
+                "{\"title\":\"b\"}",
+                "{\"title\":\"c\",\"pinned\":true}");
+
+        assertThat(response.getImportedCount()).isEqualTo(3);
+        assertThat(savedMemos())
+                .extracting(Memo::getTitle, Memo::isPinned, Memo::getPinOrder, Memo::getChangeSeq)
+                .containsExactly(
+                        tuple("a", true, -4096, 42L),
+                        tuple("b", false, 0, 42L),
+                        tuple("c", true, -4096 + PinOrderService.GAP, 42L));
+        verify(memoListCache).invalidate(USER_ID);
+    }
+
+    @Test
+    void 내용이_컬럼_바이트_수를_넘는_레코드만_실패하고_고정_순서도_받지_않는다() {
+        when(pinOrderService.allocate(USER_ID, 1)).thenReturn(-1024);
+
+        MemoImportResponseDto response = importMemos(
+                "{\"title\":\"kept\",\"pinned\":true}",
+                "{\"title\":\"oversized\",\"pinned\":true,\"content\":\"" + "가".repeat(30_000) + "\"}",     // 90,000 바이트
+                "{\"title\":\"limit\",\"content\":\"" + "a".repeat(65_535) + "\"}");
+
+        assertThat(response.getTotalCount()).isEqualTo(3);
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getFailures())
+                .extracting(MemoImportResponseDto.Failure::getLine, MemoImportResponseDto.Failure::getCode)
+                .containsExactly(tuple(2, ErrorCode.INVALID_IMPORT_RECORD.name()));
+        assertThat(savedMemos())
+                .extracting(Memo::getTitle, Memo::getPinOrder)
+                .containsExactly(tuple("kept", -1024), tuple("limit", 0));
+    }
+
+    private MemoImportResponseDto importMemos(String... lines) {
+        byte[] body = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        return memoImportService.importMemos(new ByteArrayInputStream(body), false);
+    }
+
+    private List<Memo> savedMemos() {
+        verify(memoRepository).saveAll(saved.capture());
+        List<Memo> memos = new ArrayList<>();
+        saved.getValue().forEach(memos::add);
+        return memos;
+    }
+}
@@ -0,0 +1,152 @@
+package com.mymemo.backend.memo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mymemo.backend.auth.principal.AuthUser;
+import com.mymemo.backend.entity.User;
+import com.mymemo.backend.entity.enums.MemoCategory;
+import com.mymemo.backend.entity.enums.Visibility;
+import com.mymemo.backend.global.exception.CustomException;
+import com.mymemo.backend.global.exception.ErrorCode;
+import com.mymemo.backend.memo.cache.MemoListCache;
+import com.mymemo.backend.memo.cache.PublicMemoCache;
+import com.mymemo.backend.memo.cold.ColdMemoStore;
+import com.mymemo.backend.memo.counter.MemoCounterDelta;
+import com.mymemo.backend.memo.counter.MemoCounts;
+import com.mymemo.backend.memo.dto.MemoBatchRequestDto;
+import com.mymemo.backend.memo.dto.MemoBatchResponseDto;
+import com.mymemo.backend.memo.dto.MemoBatchTarget;
+import com.mymemo.backend.repository.MemoRepository;
+import com.mymemo.backend.repository.UserRepository;
+import com.mymemo.backend.search.MemoSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 일괄 처리와 단건 쓰기가 겹칠 때 메모 수 카운터가 틀어지지 않는지 확인한다.
+ * (사용자 행 잠금 -> 메모 행 잠금 순서, 잠가 읽은 행으로만 증감량 계산)
+ */
+@ExtendWith(MockitoExtension.class)
+class MemoServiceTest {
+
+    private static final long USER_ID = 1L;
+    private static final long CHANGE_SEQ = 42L;
+
+    @Mock private UserRepository userRepository;
+    @Mock private MemoRepository memoRepository;
+    @Mock private MemoSearchIndex memoSearchIndex;
+    @Mock private PublicMemoCache publicMemoCache;
+    @Mock private PinOrderService pinOrderService;
+    @Mock private ColdMemoStore coldMemoStore;
+    @Mock private MemoListCache memoListCache;
+    @Mock private MemoCounterService memoCounterService;
+    @Mock private MemoChangeService memoChangeService;
+
+    @Captor private ArgumentCaptor<MemoCounterDelta> delta;
+
+    @InjectMocks
+    private MemoService memoService;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new AuthUser(USER_ID, "a@b.c"), null, List.of()));
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(USER_ID);
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(user);
+        when(memoChangeService.next(USER_ID)).thenReturn(CHANGE_SEQ);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 일괄_삭제_직전에_단건_삭제가_커밋되면_그_메모는_카운터에서_다시_빼지_않는다() throws Exception {
+        // 메모 2 는 다른 요청이 먼저 삭제하고 커밋했다 - 사용자 행 잠금 이후의 잠금 읽기에는 메모 1 만 남는다
+        when(memoRepository.findBatchTargets(USER_ID, List.of(1L, 2L)))
+                .thenReturn(List.of(target(1L, MemoCategory.WORK, Visibility.PRIVATE)));
+        when(memoRepository.softDeleteAll(eq(USER_ID), eq(List.of(1L, 2L)), any(), eq(CHANGE_SEQ))).thenReturn(1);
+
+        MemoBatchResponseDto response = memoService.deleteMemos(request("{\"ids\":[1,2]}"));
+
+        InOrder order = inOrder(memoChangeService, memoRepository);
+        order.verify(memoChangeService).next(USER_ID);
+        order.verify(memoRepository).findBatchTargets(USER_ID, List.of(1L, 2L));
+        order.verify(memoRepository).softDeleteAll(eq(USER_ID), eq(List.of(1L, 2L)), any(), eq(CHANGE_SEQ));
+
+        assertThat(response.getAffectedCount()).isEqualTo(1);
+        verify(memoCounterService).apply(eq(USER_ID), delta.capture());
+        assertThat(delta.getValue().values()).isEqualTo(Map.of(
+                MemoCounts.TOTAL, -1L,
+                MemoCounts.categoryName(MemoCategory.WORK), -1L,
+                MemoCounts.visibilityName(Visibility.PRIVATE), -1L,
+                MemoCounts.DELETED, 1L));
+    }
+
+    @Test
+    void 일괄_삭제가_먼저_커밋되면_단건_삭제는_잠금_읽기에서_메모를_찾지_못한다() {
+        when(memoRepository.findByIdForUpdate(2L, USER_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> memoService.deleteMemo(2L))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.MEMO_NOT_FOUND);
+
+        InOrder order = inOrder(memoChangeService, memoRepository);
+        order.verify(memoChangeService).next(USER_ID);
+        order.verify(memoRepository).findByIdForUpdate(2L, USER_ID);
+        verify(memoCounterService, never()).apply(anyLong(), any());
+    }
+
+    @Test
+    void 카테고리_일괄_변경은_실제로_바뀌는_메모만_카운터에_반영한다() throws Exception {
+        when(memoRepository.findBatchTargets(USER_ID, List.of(1L, 2L))).thenReturn(List.of(
+                target(1L, MemoCategory.ETC, Visibility.PRIVATE),
+                target(2L, MemoCategory.WORK, Visibility.PRIVATE)));        // 이미 WORK
+        when(memoRepository.updateCategoryAll(eq(USER_ID), eq(List.of(1L, 2L)), eq(MemoCategory.WORK), any(),
+                eq(CHANGE_SEQ))).thenReturn(1);
+
+        memoService.changeCategory(request("{\"ids\":[1,2],\"memoCategory\":\"WORK\"}"));
+
+        verify(memoCounterService).apply(eq(USER_ID), delta.capture());
+        assertThat(delta.getValue().values()).isEqualTo(Map.of(
+                MemoCounts.categoryName(MemoCategory.ETC), -1L,
+                MemoCounts.categoryName(MemoCategory.WORK), 1L));
+        verify(publicMemoCache).invalidate("uuid-1");
+        verify(publicMemoCache, never()).invalidate("uuid-2");
+    }
+
+    private static MemoBatchTarget target(long id, MemoCategory category, Visibility visibility) {
+        return new MemoBatchTarget(id, "uuid-" + id, false, category, visibility);
+    }
+
+    private static MemoBatchRequestDto request(String json) throws Exception {
+        return new ObjectMapper().readValue(json, MemoBatchRequestDto.class);
+    }
+}
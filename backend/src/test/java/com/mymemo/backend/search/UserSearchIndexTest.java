@@ -0,0 +1,23 @@
+package com.mymemo.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSearchIndexTest {
+
+    @Test
+    void 힙_크기에는_보관하는_본문도_들어가고_제거하면_되돌아온다() {
+        UserSearchIndex index = new UserSearchIndex();
+        index.rebuildIfStale(60_000, sink -> sink.accept(new MemoSearchDocument(1L, "제목", "짧은 내용", null)));
+        long base = index.heapBytes();
+
+        String longContent = "가".repeat(10_000);       // term 은 "가가" 하나뿐 - posting 은 작고 텍스트만 크다
+        index.upsert(2L, "제목", longContent);
+
+        assertThat(index.heapBytes() - base).isGreaterThanOrEqualTo(2L * longContent.length());
+
+        index.remove(2L);
+        assertThat(index.heapBytes()).isEqualTo(base);
+    }
+}
@@ -0,0 +1,110 @@
+-- =====================================================================
+-- memo 행 형식별 INSERT 처리량 비교 (MySQL 8.0+)
+--
+-- 같은 데이터를 두 가지 형식의 테이블에 넣고 걸린 시간과 테이블/인덱스 크기를 비교한다.
+-- - bench_memo_before: 기존 형식 (uuid VARCHAR(255) 무작위 v4, visibility/category VARCHAR(10))
+-- - bench_memo_after : 새 형식   (uuid BINARY(16) 시간순, visibility/category TINYINT)
+--
+-- 시간순 uuid 는 UUID_TO_BIN(UUID(), 1) (v1 의 시간 필드를 앞으로 옮긴 값) 로 UUIDv7 과 같은 삽입 패턴을 흉내 낸다.
+-- 무작위 v4 는 RANDOM_BYTES(16) 로 만든다.
+--
+-- 실행: mysql -u <user> -p <schema> < docs/benchmarks/memo-insert-throughput.sql
+-- 버퍼 풀보다 큰 데이터에서 차이가 커지므로 @rows 를 환경에 맞게 늘려서 실행한다.
+-- =====================================================================
+
+SET @rows = 1000000;
+SET @batch = 10000;
+SET SESSION cte_max_recursion_depth = 10000;
+
+DROP TABLE IF EXISTS bench_memo_before;
+DROP TABLE IF EXISTS bench_memo_after;
+
+CREATE TABLE bench_memo_before (
+    id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id     BIGINT       NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    preview     VARCHAR(103) NOT NULL,
+    is_pinned   BIT(1)       NOT NULL,
+    is_deleted  BIT(1)       NOT NULL,
+    visibility  VARCHAR(10)  NOT NULL,
+    category    VARCHAR(10)  NOT NULL,
+    pin_order   INT          NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    uuid        VARCHAR(255) NOT NULL,
+    UNIQUE KEY uk_uuid (uuid),
+    KEY idx_memo_user_list (user_id, is_deleted, is_pinned DESC, pin_order, updated_at DESC, id DESC)
+);
+
+CREATE TABLE bench_memo_after (
+    id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id     BIGINT       NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    preview     VARCHAR(103) NOT NULL,
+    is_pinned   BIT(1)       NOT NULL,
+    is_deleted  BIT(1)       NOT NULL,
+    visibility  TINYINT      NOT NULL,
+    category    TINYINT      NOT NULL,
+    pin_order   INT          NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    uuid        BINARY(16)   NOT NULL,
+    UNIQUE KEY uk_uuid (uuid),
+    KEY idx_memo_user_list (user_id, is_deleted, is_pinned DESC, pin_order, updated_at DESC, id DESC)
+);
+
+DROP PROCEDURE IF EXISTS bench_memo_insert;
+DELIMITER //
+CREATE PROCEDURE bench_memo_insert(IN compact BOOLEAN)
+BEGIN
+    DECLARE done INT DEFAULT 0;
+    DECLARE started DATETIME(6) DEFAULT NOW(6);
+
+    WHILE done < @rows DO
+        IF compact THEN
+            INSERT INTO bench_memo_after (user_id, title, preview, is_pinned, is_deleted, visibility, category,
+                                          pin_order, created_at, updated_at, uuid)
+            WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < @batch)
+            SELECT 1 + (done + n) % 1000, CONCAT('bench memo ', done + n), 'lorem ipsum', 0, 0,
+                   1 + (done + n) % 2, 1 + (done + n) % 7, 0, NOW(6), NOW(6),
+                   UUID_TO_BIN(UUID(), 1)
+            FROM seq;
+        ELSE
+            INSERT INTO bench_memo_before (user_id, title, preview, is_pinned, is_deleted, visibility, category,
+                                           pin_order, created_at, updated_at, uuid)
+            WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < @batch)
+            SELECT 1 + (done + n) % 1000, CONCAT('bench memo ', done + n), 'lorem ipsum', 0, 0,
+                   ELT(1 + (done + n) % 2, 'PUBLIC', 'PRIVATE'),
+                   ELT(1 + (done + n) % 7, 'WORK', 'HOBBY', 'PERSONAL', 'URGENT', 'STUDY', 'IDEA', 'ETC'),
+                   0, NOW(6), NOW(6),
+                   BIN_TO_UUID(RANDOM_BYTES(16))
+            FROM seq;
+        END IF;
+        SET done = done + @batch;
+    END WHILE;
+
+    SELECT IF(compact, 'after', 'before') AS format,
+           @rows AS inserted_rows,
+           TIMESTAMPDIFF(MICROSECOND, started, NOW(6)) / 1000 AS elapsed_ms,
+           ROUND(@rows / (TIMESTAMPDIFF(MICROSECOND, started, NOW(6)) / 1000000)) AS rows_per_sec;
+END //
+DELIMITER ;
+
+-- 1. INSERT 처리량
+CALL bench_memo_insert(FALSE);
+CALL bench_memo_insert(TRUE);
+
+-- 2. 테이블 / 인덱스 크기 (uuid unique 인덱스 크기 차이 확인)
+ANALYZE TABLE bench_memo_before, bench_memo_after;
+
+SELECT table_name, index_name,
+       ROUND(stat_value * @@innodb_page_size / 1024 / 1024, 1) AS size_mb
+FROM mysql.innodb_index_stats
+WHERE database_name = DATABASE()
+  AND table_name IN ('bench_memo_before', 'bench_memo_after')
+  AND stat_name = 'size'
+ORDER BY table_name, index_name;
+
+-- 3. 정리
+-- DROP PROCEDURE bench_memo_insert;
+-- DROP TABLE bench_memo_before, bench_memo_after;
@@ -0,0 +1,71 @@
+-- =====================================================================
+-- 메모 목록 조회 인덱스 벤치마크 (MySQL 8.0+)
+--
+-- 사용자 1명당 메모 100,000건을 만든 뒤, 목록/검색/커서 조회의 실행 계획을 비교한다.
+-- - 인덱스 적용 전: EXPLAIN 의 Extra 에 "Using filesort" 가 표시된다.
+-- - 인덱스 적용 후: idx_memo_user_list / idx_memo_user_created 를 사용하고 filesort 가 사라진다.
+--
+-- 실행: mysql -u <user> -p <schema> < docs/benchmarks/memo-list-explain.sql
+-- (애플리케이션을 한 번 실행해 Hibernate 가 memo / users 테이블을 만든 뒤 실행한다)
+-- =====================================================================
+
+SET SESSION cte_max_recursion_depth = 100000;
+
+-- 1. 벤치마크용 사용자
+INSERT INTO users (password, nickname, email, birth_date, created_at)
+VALUES ('{noop}bench', 'bench', 'bench-100k@example.com', '2000-01-01', NOW(6));
+SET @uid = LAST_INSERT_ID();
+
+-- 2. 메모 100,000건 (약 2% 고정, 1% 삭제, 최근 2년 사이 수정 시각 분포)
+INSERT INTO memo (user_id, title, content, is_pinned, is_deleted, visibility, category,
+                  pin_order, created_at, updated_at, uuid)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 100000)
+SELECT @uid,
+       CONCAT('bench memo ', n),
+       REPEAT('lorem ipsum ', 20),
+       (n % 50 = 0),
+       (n % 100 = 7),
+       IF(n % 3 = 0, 1, 2),        -- visibility 코드 (PUBLIC=1, PRIVATE=2)
+       1 + n % 7,                  -- category 코드 (WORK=1 ... ETC=7)
+       IF(n % 50 = 0, -n, 0),
+       NOW(6) - INTERVAL (n * 10) MINUTE,
+       NOW(6) - INTERVAL (n * 7) MINUTE,
+       UUID_TO_BIN(UUID(), 1)      -- BINARY(16), 시간순
+FROM seq;
+
+ANALYZE TABLE memo;
+
+-- 3. 인덱스 목록 확인
+SHOW INDEX FROM memo;
+
+-- 4. GET /api/memos?page=0&size=10 (기본 정렬: updatedAt,desc)
+EXPLAIN ANALYZE
+SELECT * FROM memo
+WHERE user_id = @uid AND is_deleted = false
+ORDER BY is_pinned DESC, pin_order, updated_at DESC, id DESC
+LIMIT 10;
+
+-- 5. GET /api/memos?page=500&size=10 (깊은 OFFSET - 인덱스로 정렬은 해결되지만 5000행을 건너뛴다)
+EXPLAIN ANALYZE
+SELECT * FROM memo
+WHERE user_id = @uid AND is_deleted = false
+ORDER BY is_pinned DESC, pin_order, updated_at DESC, id DESC
+LIMIT 10 OFFSET 5000;
+
+-- 6. GET /api/memos?sort=createdAt,desc
+EXPLAIN ANALYZE
+SELECT * FROM memo
+WHERE user_id = @uid AND is_deleted = false
+ORDER BY is_pinned DESC, pin_order, created_at DESC, id DESC
+LIMIT 10;
+
+-- 7. GET /api/memos/search?keyword=memo 1
+EXPLAIN ANALYZE
+SELECT * FROM memo
+WHERE user_id = @uid AND is_deleted = false AND LOWER(title) LIKE '%memo 1%'
+ORDER BY is_pinned DESC, pin_order, updated_at DESC, id DESC
+LIMIT 10;
+
+-- 8. 정리
+-- DELETE FROM memo WHERE user_id = @uid;
+-- DELETE FROM users WHERE id = @uid;
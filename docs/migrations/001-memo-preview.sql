@@ -0,0 +1,19 @@
+-- =====================================================================
+-- memo.preview 컬럼 추가 및 기존 데이터 백필 (MySQL 8.0+)
+--
+-- 목록 조회(GET /api/memos, /search, /cursor)는 content(TEXT)를 읽지 않고 preview 만 읽는다.
+-- 새로 저장/수정되는 메모는 Memo 생성자와 Memo.update 에서 preview 가 채워지므로,
+-- 기존 메모에 대해서만 한 번 실행하면 된다. (Memo.previewOf 와 같은 규칙: 100자 + "...")
+-- =====================================================================
+
+-- ddl-auto=update 환경에서는 Hibernate 가 컬럼을 추가하므로 생략 가능
+ALTER TABLE memo ADD COLUMN preview VARCHAR(103) NOT NULL DEFAULT '';
+
+-- 큰 테이블에서는 id 범위를 나눠서(예: 10,000건씩) 실행해 긴 락을 피한다.
+UPDATE memo
+SET preview = CASE
+        WHEN content IS NULL OR TRIM(content) = '' THEN ''
+        WHEN CHAR_LENGTH(content) <= 100 THEN content
+        ELSE CONCAT(LEFT(content, 100), '...')
+    END
+WHERE preview = '';
@@ -0,0 +1,58 @@
+-- =====================================================================
+-- memo 행 압축: uuid -> BINARY(16), visibility / category -> TINYINT 코드 (MySQL 8.0+)
+--
+-- - uuid: 문자열 형식은 그대로 유지된다. UUID_TO_BIN(uuid) (swap_flag 없음) 은
+--         UuidBinaryConverter 와 같은 바이트 순서이므로 기존 공유 링크가 그대로 동작한다.
+--         기존 v4 값은 그대로 두고, 새 메모부터 시간순 UUIDv7 이 발급된다.
+-- - 코드 매핑은 Visibility / MemoCategory enum 의 code 와 같아야 한다.
+--     visibility: PUBLIC=1, PRIVATE=2
+--     category  : WORK=1, HOBBY=2, PERSONAL=3, URGENT=4, STUDY=5, IDEA=6, ETC=7
+--
+-- 애플리케이션을 내린 상태에서 실행한다. (새 버전은 기존 VARCHAR 컬럼을 읽을 수 없다)
+-- =====================================================================
+
+-- 1. 새 컬럼 추가
+ALTER TABLE memo
+    ADD COLUMN uuid_bin BINARY(16) NULL,
+    ADD COLUMN visibility_code TINYINT NULL,
+    ADD COLUMN category_code TINYINT NULL;
+
+-- 2. 백필 (큰 테이블에서는 id 범위를 나눠서 실행한다. 예: WHERE id BETWEEN 1 AND 10000)
+UPDATE memo
+SET uuid_bin        = UUID_TO_BIN(uuid),
+    visibility_code = CASE visibility WHEN 'PUBLIC' THEN 1 WHEN 'PRIVATE' THEN 2 END,
+    category_code   = CASE category
+                          WHEN 'WORK' THEN 1
+                          WHEN 'HOBBY' THEN 2
+                          WHEN 'PERSONAL' THEN 3
+                          WHEN 'URGENT' THEN 4
+                          WHEN 'STUDY' THEN 5
+                          WHEN 'IDEA' THEN 6
+                          ELSE 7
+                      END
+WHERE uuid_bin IS NULL;
+
+-- 3. 누락 확인 (0 이어야 한다)
+SELECT COUNT(*) AS not_migrated
+FROM memo
+WHERE uuid_bin IS NULL OR visibility_code IS NULL OR category_code IS NULL;
+
+-- 4. 기존 컬럼 교체 - 한 ALTER 안의 MODIFY 는 원래 컬럼 이름으로 해석되므로 단계별로 나눠 실행한다.
+-- 4-1. 기존 컬럼 삭제 (uuid 의 unique 인덱스는 컬럼과 함께 삭제된다)
+ALTER TABLE memo
+    DROP COLUMN uuid,
+    DROP COLUMN visibility,
+    DROP COLUMN category;
+
+-- 4-2. 새 컬럼을 원래 이름으로 바꾸며 NOT NULL 지정
+ALTER TABLE memo
+    CHANGE COLUMN uuid_bin uuid BINARY(16) NOT NULL,
+    CHANGE COLUMN visibility_code visibility TINYINT NOT NULL,
+    CHANGE COLUMN category_code category TINYINT NOT NULL;
+
+-- 4-3. 새 uuid 컬럼에 unique 인덱스 다시 생성 (공개 링크 조회: WHERE uuid = ?)
+ALTER TABLE memo
+    ADD UNIQUE INDEX uk_memo_uuid (uuid);
+
+-- 5. 결과 확인
+-- SELECT id, BIN_TO_UUID(uuid) AS uuid, visibility, category FROM memo ORDER BY id DESC LIMIT 10;
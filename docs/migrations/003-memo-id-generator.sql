@@ -0,0 +1,22 @@
+-- =====================================================================
+-- memo id 생성 방식 변경: AUTO_INCREMENT(IDENTITY) -> pooled 테이블 생성기 (MySQL 8.0+)
+--
+-- Memo 의 id 는 id_generator 테이블에서 100개(Memo.ID_ALLOCATION_SIZE)씩 미리 할당받는다.
+-- 기존 id 와 겹치지 않도록 next_val 을 현재 최대 id + 100 으로 초기화한다.
+-- pooled 최적화기는 next_val 값 v 를 읽으면 (v - 99 ~ v) 구간을 쓰므로, 최대 id + 1 로 두면 첫 구간이 기존 id 와 겹친다.
+-- (SyntheticDataLoader.reserveMemoIds 와 같은 초기값)
+-- 애플리케이션을 내린 상태에서 실행한다.
+-- =====================================================================
+
+-- ddl-auto=update 환경에서는 Hibernate 가 테이블을 만들지만, 초기값은 기존 데이터를 고려하지 않으므로 직접 넣는다.
+CREATE TABLE IF NOT EXISTS id_generator (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val      BIGINT
+);
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'memo', COALESCE(MAX(id), 0) + 100 FROM memo
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+-- id 는 애플리케이션이 넣으므로 AUTO_INCREMENT 는 제거한다. (남겨 둬도 동작은 하지만 혼동 방지)
+ALTER TABLE memo MODIFY COLUMN id BIGINT NOT NULL;
@@ -0,0 +1,30 @@
+-- =====================================================================
+-- 고정 메모 순서: 사용자별 카운터(users.pin_counter) + 간격(1024) 있는 pinOrder (MySQL 8.0+)
+--
+-- 기존에는 고정할 때마다 MIN(pin_order) - 1 을 사용했다. (-1, -2, ... 간격 없음, 일괄 생성 시 0 중복)
+-- 기존 고정 메모를 현재 순서 그대로 1024 간격으로 다시 매기고, 카운터를 맨 위 값으로 맞춘다.
+-- (PinOrderService.rebalance 와 같은 결과) 애플리케이션을 내린 상태에서 실행한다.
+-- =====================================================================
+
+ALTER TABLE users ADD COLUMN pin_counter INT NOT NULL DEFAULT 0;
+
+-- 사용자별 고정 메모 순위 (1 = 맨 위): pin_order ASC, updated_at DESC, id DESC
+UPDATE memo m
+JOIN (
+    SELECT id,
+           ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY pin_order, updated_at DESC, id DESC) AS rn,
+           COUNT(*)     OVER (PARTITION BY user_id) AS cnt
+    FROM memo
+    WHERE is_pinned = true AND is_deleted = false
+) ranked ON ranked.id = m.id
+SET m.pin_order = -1024 * (ranked.cnt - ranked.rn + 1);
+
+-- 카운터 = 맨 위 고정 메모의 pin_order (고정 메모가 없으면 0)
+UPDATE users u
+JOIN (
+    SELECT user_id, MIN(pin_order) AS min_pin_order
+    FROM memo
+    WHERE is_pinned = true AND is_deleted = false
+    GROUP BY user_id
+) p ON p.user_id = u.id
+SET u.pin_counter = p.min_pin_order;
@@ -0,0 +1,42 @@
+-- =====================================================================
+-- 삭제된 메모 보관: memo.deleted_at + memo_archive + job_checkpoint (MySQL 8.0+)
+--
+-- MemoPurgeService 가 삭제된 지 memo.purge.retention-days 가 지난 메모를 memo_archive 로 옮긴다.
+-- 기존 삭제 메모는 삭제 시각을 알 수 없으므로 마지막 수정 시각을 삭제 시각으로 채운다.
+-- (deleted_at 이 NULL 인 삭제 메모는 정리 대상에서 빠진다)
+-- =====================================================================
+
+ALTER TABLE memo ADD COLUMN deleted_at DATETIME(6) NULL;
+
+UPDATE memo SET deleted_at = updated_at WHERE is_deleted = true AND deleted_at IS NULL;
+
+-- 정리 대상 keyset 조회: WHERE is_deleted = true AND deleted_at < ? ORDER BY deleted_at, id
+CREATE INDEX idx_memo_purge ON memo (is_deleted, deleted_at, id);
+
+-- 컬럼 이름/형식은 memo 와 같게 둔다 (INSERT ... SELECT 로 옮김)
+CREATE TABLE IF NOT EXISTS memo_archive (
+    id          BIGINT       NOT NULL PRIMARY KEY,
+    user_id     BIGINT       NOT NULL,
+    title       VARCHAR(255) NOT NULL,
+    content     TEXT         NOT NULL,
+    preview     VARCHAR(103) NOT NULL,
+    is_pinned   BIT          NOT NULL,
+    visibility  TINYINT      NOT NULL,
+    category    TINYINT      NOT NULL,
+    pin_order   INT          NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    deleted_at  DATETIME(6)  NOT NULL,
+    archived_at DATETIME(6)  NOT NULL,
+    uuid        BINARY(16)   NOT NULL,
+    CONSTRAINT uk_memo_archive_uuid UNIQUE (uuid),
+    INDEX idx_memo_archive_user (user_id, deleted_at DESC, id DESC)
+);
+
+-- 주기 작업의 진행 위치
+CREATE TABLE IF NOT EXISTS job_checkpoint (
+    name            VARCHAR(64) NOT NULL PRIMARY KEY,
+    last_deleted_at DATETIME(6) NOT NULL,
+    last_id         BIGINT      NOT NULL,
+    updated_at      DATETIME(6) NOT NULL
+);
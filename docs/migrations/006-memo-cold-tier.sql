@@ -0,0 +1,17 @@
+-- =====================================================================
+-- 콜드 티어: memo.cold_segment + memo_archive.cold_segment (MySQL 8.0+)
+--
+-- MemoColdTierService 가 오래 수정되지 않은 메모의 content 를 세그먼트 파일(memo.cold.dir)로 옮기고
+-- content 를 빈 문자열로, cold_segment 를 세그먼트 번호로 바꾼다. (NULL = 내용이 DB 에 있음)
+-- 세그먼트 파일은 DB 백업에 포함되지 않으므로 memo.cold.dir 도 함께 백업해야 한다.
+-- =====================================================================
+
+ALTER TABLE memo ADD COLUMN cold_segment INT NULL;
+
+-- 이동 대상 keyset 조회: WHERE cold_segment IS NULL AND updated_at < ? ORDER BY updated_at, id
+CREATE INDEX idx_memo_tier ON memo (cold_segment, updated_at, id);
+
+ALTER TABLE memo_archive ADD COLUMN cold_segment INT NULL;
+
+-- 체크포인트의 기준 시각 컬럼 이름을 작업 공용으로 변경 (정리 작업: deleted_at, 콜드 티어: updated_at)
+ALTER TABLE job_checkpoint RENAME COLUMN last_deleted_at TO last_timestamp;
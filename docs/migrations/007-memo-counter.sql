@@ -0,0 +1,17 @@
+-- =====================================================================
+-- 사용자별 메모 수 카운터: memo_counter (MySQL 8.0+)
+--
+-- MemoCounterService 가 메모 쓰기와 같은 트랜잭션에서 (user_id, name) 카운터의 임의의 stripe 행에 증감량을 더한다.
+-- 목록의 totalElements 와 GET /api/memos/stats 는 COUNT(*) 대신 stripe 합계를 읽는다.
+--
+-- 기존 사용자의 값은 따로 채우지 않는다. 'initialized' 행이 없는 사용자는 처음 읽을 때(또는 재계산 작업이 돌 때)
+-- 실제 메모 수로 초기화된다.
+-- =====================================================================
+
+CREATE TABLE IF NOT EXISTS memo_counter (
+    user_id BIGINT      NOT NULL,
+    name    VARCHAR(32) NOT NULL,     -- total, pinned, deleted, category:{code}, visibility:{code}, initialized
+    stripe  INT         NOT NULL,
+    amount  BIGINT      NOT NULL,
+    PRIMARY KEY (user_id, name, stripe)
+);
@@ -0,0 +1,17 @@
+-- =====================================================================
+-- 메모 목록 패싯용 인덱스: idx_memo_user_facet (MySQL 8.0+)
+--
+-- GET /api/memos 에 필터(category, visibility, pinned, 기간)가 있으면 카테고리별/공개 여부별 개수를
+-- 다음과 같은 GROUP BY 한 번으로 계산한다.
+--   SELECT category, visibility, is_pinned, COUNT(*) FROM memo
+--   WHERE user_id = ? AND is_deleted = false [AND is_pinned = ?] [AND created_at / updated_at 기간]
+--   GROUP BY category, visibility, is_pinned
+-- 기간 조건이 없으면 이 인덱스만 읽고 끝난다. (covering index, 임시 테이블 없음)
+-- 필터가 없는 목록은 memo_counter 값을 그대로 쓰므로 이 쿼리를 실행하지 않는다.
+--
+-- ALGORITHM=INPLACE, LOCK=NONE 으로 서비스 중에 추가할 수 있다.
+-- =====================================================================
+
+ALTER TABLE memo
+    ADD INDEX idx_memo_user_facet (user_id, is_deleted, category, visibility, is_pinned),
+    ALGORITHM = INPLACE, LOCK = NONE;
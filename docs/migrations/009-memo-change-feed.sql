@@ -0,0 +1,27 @@
+-- =====================================================================
+-- 메모 변경 피드: users.change_seq / users.purged_change_seq + memo.change_seq (MySQL 8.0+)
+--
+-- 메모를 쓸 때마다 같은 트랜잭션에서 사용자의 change_seq 를 1 올리고(users 행 잠금은 커밋까지 유지)
+-- 그 값을 바뀐 메모의 change_seq 에 기록한다. 같은 사용자의 순번은 커밋 순서와 같으므로
+-- GET /api/memos/changes 는 (change_seq, id) 커서로 빠짐없이 이어 읽을 수 있다.
+--   SELECT ... FROM memo WHERE user_id = ? AND (change_seq, id) > (?, ?) ORDER BY change_seq, id LIMIT ?
+-- 삭제된 메모도 행이 남아 있는 동안은 툼스톤으로 내려간다. 정리 작업(MemoPurgeService)이 치운 메모의
+-- 최대 순번은 purged_change_seq 에 남기고, 그 이전 커서는 410 으로 전체 재동기화를 요구한다.
+--
+-- users 행 잠금은 커밋까지 유지되므로 같은 사용자의 메모 쓰기는 서로 직렬화된다. (다른 사용자끼리는 영향 없음)
+-- 기존 메모는 모두 change_seq = 0 으로 시작한다. (since 없이 처음 동기화하면 함께 내려간다)
+-- 컬럼 추가는 ALGORITHM=INSTANT, 인덱스는 INPLACE / LOCK=NONE 으로 서비스 중에 실행할 수 있다.
+-- =====================================================================
+
+ALTER TABLE users
+    ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN purged_change_seq BIGINT NOT NULL DEFAULT 0,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE memo
+    ADD COLUMN change_seq BIGINT NOT NULL DEFAULT 0,
+    ALGORITHM = INSTANT;
+
+ALTER TABLE memo
+    ADD INDEX idx_memo_user_change (user_id, change_seq, id),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,14 @@
+-- =====================================================================
+-- 콜드 세그먼트 정리: memo_archive.cold_segment 인덱스 (MySQL 8.0+)
+--
+-- MemoColdTierService.compact 가 주기마다 세그먼트별 참조 행 수를 센다.
+--   SELECT cold_segment, COUNT(*) FROM memo         WHERE cold_segment IS NOT NULL GROUP BY cold_segment  (idx_memo_tier)
+--   SELECT cold_segment, COUNT(*) FROM memo_archive WHERE cold_segment IS NOT NULL GROUP BY cold_segment  (아래 인덱스)
+-- 세그먼트에 든 메모 수보다 참조가 적으면(DB 로 돌아간 메모, 영구 삭제된 메모) 살아 있는 메모만 새 세그먼트로 옮겨 적고,
+-- 참조가 없어진 세그먼트 파일은 memo.cold.retire-grace-ms 가 지난 뒤 지운다.
+--
+-- 세그먼트 파일 형식은 version 2 부터 헤더에 메모 수를 기록한다. 기존(version 1) 파일은 그대로 읽히며
+-- 메모 수는 처음 정리할 때 블록을 풀어 센다. 파일을 다시 만들 필요는 없다.
+-- =====================================================================
+
+CREATE INDEX idx_memo_archive_cold ON memo_archive (cold_segment);